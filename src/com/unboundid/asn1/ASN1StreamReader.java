@@ -26,6 +26,7 @@ import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.net.SocketTimeoutException;
@@ -57,6 +58,15 @@ import static com.unboundid.util.StaticUtils.*;
 public final class ASN1StreamReader
        implements Closeable
 {
+  /**
+   * The maximum size in bytes of the buffer that will be retained for reading
+   * wrapped SASL data.  Larger amounts of wrapped data will be read into a
+   * temporary buffer.
+   */
+  private static final int MAX_RETAINED_SASL_BUFFER_SIZE = 1048576;
+
+
+
   // Indicates whether socket timeout exceptions should be ignored for the
   // initial read of an element.
   private boolean ignoreInitialSocketTimeout;
@@ -65,9 +75,21 @@ public final class ASN1StreamReader
   // subsequent reads of an element.
   private boolean ignoreSubsequentSocketTimeout;
 
-  // The input stream that will be used for reading data after it has been
-  // unwrapped by SASL processing.
-  private volatile ByteArrayInputStream saslInputStream;
+  // The data that has been unwrapped by SASL processing.  Only the portion
+  // between saslDataPosition and saslDataLimit has not yet been read.
+  private byte[] saslData;
+
+  // A buffer that will be reused for holding wrapped data read from the
+  // underlying input stream before it is unwrapped by SASL processing.
+  private byte[] saslWrappedBuffer;
+
+  // The byte array from which data will be read if this reader was created to
+  // decode a buffered element, or null if data will be read from an arbitrary
+  // input stream.
+  private final byte[] buffer;
+
+  // The position in the buffer at which the buffered element begins.
+  private final int bufferOffset;
 
   // The input stream from which data will be read.
   private final InputStream inputStream;
@@ -75,6 +97,13 @@ public final class ASN1StreamReader
   // The maximum element size that will be allowed.
   private final int maxElementSize;
 
+  // The position in the unwrapped SASL data of the next byte to be read.
+  private int saslDataPosition;
+
+  // The position in the unwrapped SASL data immediately after the last byte
+  // of data that is available.
+  private int saslDataLimit;
+
   // The total number of bytes read from the underlying input stream.
   private long totalBytesRead;
 
@@ -140,7 +169,44 @@ public final class ASN1StreamReader
     ignoreInitialSocketTimeout    = false;
     ignoreSubsequentSocketTimeout = false;
     saslClient                    = null;
-    saslInputStream               = null;
+    saslData                      = NO_BYTES;
+    saslDataPosition              = 0;
+    saslDataLimit                 = 0;
+    saslWrappedBuffer             = null;
+    buffer                        = null;
+    bufferOffset                  = 0;
+  }
+
+
+
+  /**
+   * Creates a new ASN.1 stream reader that will read a buffered element from
+   * the provided byte array.
+   *
+   * @param  buffer          The byte array containing the buffered element.
+   * @param  offset          The position in the array at which the element
+   *                         begins.
+   * @param  length          The number of bytes in the encoded element.
+   * @param  maxElementSize  The maximum size in bytes of an ASN.1 element that
+   *                         may be read.
+   */
+  private ASN1StreamReader(final byte[] buffer, final int offset,
+                           final int length, final int maxElementSize)
+  {
+    this.buffer         = buffer;
+    this.maxElementSize = maxElementSize;
+
+    bufferOffset                  = offset;
+    inputStream                   = new ByteArrayInputStream(buffer, offset,
+                                                             length);
+    totalBytesRead                = 0L;
+    ignoreInitialSocketTimeout    = false;
+    ignoreSubsequentSocketTimeout = false;
+    saslClient                    = null;
+    saslData                      = NO_BYTES;
+    saslDataPosition              = 0;
+    saslDataLimit                 = 0;
+    saslWrappedBuffer             = null;
   }
 
 
@@ -289,24 +355,22 @@ public final class ASN1StreamReader
   public int peek()
          throws IOException
   {
-    final InputStream is;
-    if (saslClient == null)
-    {
-      is = inputStream;
-    }
-    else
+    if (saslClient != null)
     {
-      if (saslInputStream == null)
+      while (saslDataPosition >= saslDataLimit)
       {
-        readAndDecodeSASLData(-1);
+        if (! readAndDecodeSASLData(-1))
+        {
+          return -1;
+        }
       }
 
-      is = saslInputStream;
+      return (saslData[saslDataPosition] & 0xFF);
     }
 
-    is.mark(1);
+    inputStream.mark(1);
     final int byteRead = read(true);
-    is.reset();
+    inputStream.reset();
 
     return byteRead;
   }
@@ -515,6 +579,85 @@ public final class ASN1StreamReader
 
 
 
+  /**
+   * Reads the next complete element from the input stream into a single byte
+   * array and returns a new ASN.1 stream reader that may be used to decode that
+   * element from memory.  Octet string values and strings read from the
+   * returned reader with the {@link #readOctetString} and {@link #readString}
+   * methods will be obtained directly from that array without any additional
+   * intermediate copies, which can substantially reduce the number of objects
+   * allocated when decoding large elements with many components (like search
+   * result entries with many attribute values).
+   * <BR><BR>
+   * Note that any octet strings obtained from the returned reader will hold a
+   * reference to the array containing the entire element, so that array will
+   * remain in memory for as long as any of those octet strings are referenced.
+   *
+   * @return  An ASN.1 stream reader that may be used to decode the element that
+   *          was read, or {@code null} if the end of the input stream was
+   *          reached before any data could be read.  If {@code null} is
+   *          returned, then the input stream will have been closed.
+   *
+   * @throws  IOException  If a problem occurs while reading from the input
+   *                       stream, if the end of the input stream is reached in
+   *                       the middle of the element, or or if an attempt is
+   *                       made to read an element larger than the maximum
+   *                       allowed size.  Note that if a socket timeout is
+   *                       encountered after the first byte of the element has
+   *                       been read and subsequent socket timeouts are not to
+   *                       be ignored, the exception that is thrown will not be
+   *                       a {@code SocketTimeoutException}, since the element
+   *                       will have been only partially read.
+   */
+  public ASN1StreamReader readBufferedElement()
+         throws IOException
+  {
+    final int type = readType();
+    if (type < 0)
+    {
+      return null;
+    }
+
+    final byte[] elementBytes;
+    try
+    {
+      final int length = readLength();
+      final byte[] encodedLength = ASN1Element.encodeLength(length);
+      final int headerLength = 1 + encodedLength.length;
+
+      elementBytes = new byte[headerLength + length];
+      elementBytes[0] = (byte) type;
+      System.arraycopy(encodedLength, 0, elementBytes, 1,
+           encodedLength.length);
+
+      int pos = headerLength;
+      while (pos < elementBytes.length)
+      {
+        final int bytesRead = read(elementBytes, pos,
+             (elementBytes.length - pos));
+        if (bytesRead < 0)
+        {
+          throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
+        }
+
+        pos += bytesRead;
+      }
+
+      totalBytesRead += length;
+    }
+    catch (final InterruptedIOException iioe)
+    {
+      debugException(iioe);
+      throw new IOException(ERR_READ_TIMEOUT_IN_BUFFERED_ELEMENT.get(
+           getExceptionMessage(iioe)), iioe);
+    }
+
+    return new ASN1StreamReader(elementBytes, 0, elementBytes.length,
+         maxElementSize);
+  }
+
+
+
   /**
    * Reads an ASN.1 Boolean element from the input stream and returns the value
    * as a {@code Boolean}.
@@ -948,6 +1091,83 @@ public final class ASN1StreamReader
 
 
 
+  /**
+   * Reads an ASN.1 octet string element from the input stream.  If this reader
+   * was obtained from the {@link #readBufferedElement} method, then the
+   * returned octet string will reference the buffered element rather than a
+   * copy of its value.
+   *
+   * @return  The ASN.1 octet string element read, or {@code null} if the end
+   *          of the input stream was reached before any data could be read.  If
+   *          {@code null} is returned, then the input stream will have been
+   *          closed.
+   *
+   * @throws  IOException  If a problem occurs while reading from the input
+   *                       stream, if the end of the input stream is reached in
+   *                       the middle of the element, or or if an attempt is
+   *                       made to read an element larger than the maximum
+   *                       allowed size.
+   */
+  public ASN1OctetString readOctetString()
+         throws IOException
+  {
+    final int type = readType();
+    if (type < 0)
+    {
+      return null;
+    }
+
+    final int length = readLength();
+
+    final ASN1OctetString s;
+    if (buffer == null)
+    {
+      int valueBytesRead = 0;
+      int bytesRemaining = length;
+      final byte[] value = new byte[length];
+      while (valueBytesRead < length)
+      {
+        final int bytesRead = read(value, valueBytesRead, bytesRemaining);
+        if (bytesRead < 0)
+        {
+          throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
+        }
+
+        valueBytesRead += bytesRead;
+        bytesRemaining -= bytesRead;
+      }
+
+      totalBytesRead += length;
+      s = new ASN1OctetString((byte) type, value);
+    }
+    else
+    {
+      final int valueOffset = getBufferPosition();
+      skip(length);
+      s = new ASN1OctetString((byte) type, buffer, valueOffset, length);
+    }
+
+    debugASN1Read(s);
+    return s;
+  }
+
+
+
+  /**
+   * Retrieves the position in the buffer that corresponds to the next byte to
+   * be read.  This must only be called if this reader was obtained from the
+   * {@link #readBufferedElement} method.
+   *
+   * @return  The position in the buffer that corresponds to the next byte to be
+   *          read.
+   */
+  private int getBufferPosition()
+  {
+    return bufferOffset + (int) totalBytesRead;
+  }
+
+
+
   /**
    * Reads an ASN.1 octet string element from the input stream and returns the
    * value as a {@code String} using the UTF-8 encoding.
@@ -974,6 +1194,14 @@ public final class ASN1StreamReader
 
     final int length = readLength();
 
+    if (buffer != null)
+    {
+      final String s = toUTF8String(buffer, getBufferPosition(), length);
+      skip(length);
+      debugASN1Read(Level.INFO, "String", type, length, s);
+      return s;
+    }
+
     int valueBytesRead = 0;
     int bytesRemaining = length;
     final byte[] value = new byte[length];
@@ -1139,17 +1367,15 @@ public final class ASN1StreamReader
   {
     if (saslClient != null)
     {
-      if (saslInputStream != null)
+      while (saslDataPosition >= saslDataLimit)
       {
-        final int b = saslInputStream.read();
-        if (b >= 0)
+        if (! readAndDecodeSASLData(-1))
         {
-          return b;
+          return -1;
         }
       }
 
-      readAndDecodeSASLData(-1);
-      return saslInputStream.read();
+      return (saslData[saslDataPosition++] & 0xFF);
     }
 
     try
@@ -1164,7 +1390,7 @@ public final class ASN1StreamReader
         // This should only happen the first time after the SASL client has been
         // installed.
         readAndDecodeSASLData(b);
-        return saslInputStream.read();
+        return read(initial);
       }
     }
     catch (final SocketTimeoutException ste)
@@ -1214,17 +1440,19 @@ public final class ASN1StreamReader
   {
     if (saslClient != null)
     {
-      if (saslInputStream != null)
+      while (saslDataPosition >= saslDataLimit)
       {
-        final int bytesRead = saslInputStream.read(buffer, offset, length);
-        if (bytesRead > 0)
+        if (! readAndDecodeSASLData(-1))
         {
-          return bytesRead;
+          return -1;
         }
       }
 
-      readAndDecodeSASLData(-1);
-      return saslInputStream.read(buffer, offset, length);
+      final int bytesRead =
+           Math.min(length, (saslDataLimit - saslDataPosition));
+      System.arraycopy(saslData, saslDataPosition, buffer, offset, bytesRead);
+      saslDataPosition += bytesRead;
+      return bytesRead;
     }
 
     try
@@ -1273,18 +1501,25 @@ public final class ASN1StreamReader
 
   /**
    * Reads data from the underlying input stream, unwraps it using the
-   * configured SASL client, and makes the result available in a byte array
-   * input stream that will be used for subsequent reads.
+   * configured SASL client, and makes the result available for subsequent
+   * reads.  The buffer used to hold the wrapped data will generally be reused
+   * for subsequent calls, and the unwrapped data will be read directly from
+   * the array returned by the SASL client.  A single buffer of unwrapped data
+   * may contain any number of complete or partial ASN.1 elements.
    *
    * @param  firstByte  The first byte that has already been read.  This should
    *                    only be used if the value is greater than or equal to
    *                    zero.
    *
+   * @return  {@code true} if data was read and unwrapped (although the amount
+   *          of unwrapped data may be zero), or {@code false} if the end of the
+   *          input stream was reached before any data could be read.
+   *
    * @throws  IOException  If a problem is encountered while reading from the
    *                       underlying input stream or  decoding the data that
    *                       has been read.
    */
-  private void readAndDecodeSASLData(final int firstByte)
+  private boolean readAndDecodeSASLData(final int firstByte)
           throws IOException
   {
     // The first four bytes must be the number of bytes of data to unwrap.
@@ -1306,7 +1541,7 @@ public final class ASN1StreamReader
           // This means that we hit the end of the input stream without
           // reading any data.  This is fine and just means that the end of
           // the input stream has been reached.
-          saslInputStream = new ByteArrayInputStream(NO_BYTES);
+          return false;
         }
         else
         {
@@ -1328,9 +1563,24 @@ public final class ASN1StreamReader
            numWrappedBytes, maxElementSize));
     }
 
+    final byte[] wrappedData;
+    if (numWrappedBytes > MAX_RETAINED_SASL_BUFFER_SIZE)
+    {
+      wrappedData = new byte[numWrappedBytes];
+    }
+    else
+    {
+      if ((saslWrappedBuffer == null) ||
+          (saslWrappedBuffer.length < numWrappedBytes))
+      {
+        saslWrappedBuffer = new byte[numWrappedBytes];
+      }
+
+      wrappedData = saslWrappedBuffer;
+    }
+
     int wrappedDataPos = 0;
-    final byte[] wrappedData = new byte[numWrappedBytes];
-    while (true)
+    while (wrappedDataPos < numWrappedBytes)
     {
       final int numBytesRead = inputStream.read(wrappedData, wrappedDataPos,
            (numWrappedBytes - wrappedDataPos));
@@ -1341,15 +1591,13 @@ public final class ASN1StreamReader
       }
 
       wrappedDataPos += numBytesRead;
-      if (wrappedDataPos >= numWrappedBytes)
-      {
-        break;
-      }
     }
 
     final byte[] unwrappedData =
          saslClient.unwrap(wrappedData, 0, numWrappedBytes);
-    saslInputStream = new ByteArrayInputStream(unwrappedData, 0,
-         unwrappedData.length);
+    saslData         = unwrappedData;
+    saslDataPosition = 0;
+    saslDataLimit    = unwrappedData.length;
+    return true;
   }
 }
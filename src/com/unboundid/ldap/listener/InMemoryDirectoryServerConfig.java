@@ -119,6 +119,9 @@ public class InMemoryDirectoryServerConfig
   // the requests.
   private boolean includeRequestProcessingInCodeLog;
 
+  // Indicates whether to hold entries in a compact packed form.
+  private boolean useCompactEntryStorage;
+
   // The base DNs to use for the LDAP listener.
   private DN[] baseDNs;
 
@@ -253,6 +256,7 @@ public class InMemoryDirectoryServerConfig
     enforceAttributeSyntaxCompliance     = true;
     enforceSingleStructuralObjectClass   = true;
     generateOperationalAttributes        = true;
+    useCompactEntryStorage               = false;
     maxChangeLogEntries                  = 0;
     maxConnections                       = 0;
     maxSizeLimit                         = 0;
@@ -333,6 +337,7 @@ public class InMemoryDirectoryServerConfig
     enforceAttributeSyntaxCompliance   = cfg.enforceAttributeSyntaxCompliance;
     enforceSingleStructuralObjectClass = cfg.enforceSingleStructuralObjectClass;
     generateOperationalAttributes      = cfg.generateOperationalAttributes;
+    useCompactEntryStorage             = cfg.useCompactEntryStorage;
     accessLogHandler                   = cfg.accessLogHandler;
     ldapDebugLogHandler                = cfg.ldapDebugLogHandler;
     maxChangeLogEntries                = cfg.maxChangeLogEntries;
@@ -1070,6 +1075,45 @@ public class InMemoryDirectoryServerConfig
 
 
 
+  /**
+   * Indicates whether the server should hold entries in a compact packed form
+   * rather than as fully-decoded entry objects.  Compact storage dramatically
+   * reduces the amount of memory required to hold a large number of entries,
+   * with attribute names and object class values shared among all entries,
+   * but each entry must be decoded whenever it is accessed, so operations
+   * that need to examine a large number of entries (e.g., unindexed searches)
+   * will be slower.
+   *
+   * @return  {@code true} if the server should hold entries in a compact
+   *          packed form, or {@code false} if not.
+   */
+  public boolean useCompactEntryStorage()
+  {
+    return useCompactEntryStorage;
+  }
+
+
+
+  /**
+   * Specifies whether the server should hold entries in a compact packed form
+   * rather than as fully-decoded entry objects.  Compact storage dramatically
+   * reduces the amount of memory required to hold a large number of entries,
+   * but each entry must be decoded whenever it is accessed, so operations that
+   * need to examine a large number of entries (e.g., unindexed searches) will
+   * be slower.  Defining equality indexes for attributes that are frequently
+   * used in search filters can help minimize the number of entries that need
+   * to be decoded.
+   *
+   * @param  useCompactEntryStorage  Indicates whether the server should hold
+   *                                 entries in a compact packed form.
+   */
+  public void setUseCompactEntryStorage(final boolean useCompactEntryStorage)
+  {
+    this.useCompactEntryStorage = useCompactEntryStorage;
+  }
+
+
+
   /**
    * Retrieves the maximum number of changelog entries that the server should
    * maintain.
@@ -1782,6 +1826,8 @@ public class InMemoryDirectoryServerConfig
 
     buffer.append(", generateOperationalAttributes=");
     buffer.append(generateOperationalAttributes);
+    buffer.append(", useCompactEntryStorage=");
+    buffer.append(useCompactEntryStorage);
 
     if (maxChangeLogEntries > 0)
     {
@@ -23,9 +23,7 @@ package com.unboundid.ldap.listener;
 
 
 import java.io.Serializable;
-import java.util.Collections;
 import java.util.Map;
-import java.util.TreeMap;
 
 import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.ReadOnlyEntry;
@@ -67,7 +65,9 @@ public final class InMemoryDirectoryServerSnapshot
 
   /**
    * Creates a new in-memory directory server snapshot with the provided
-   * information.
+   * information.  If the provided map is an {@code InMemoryEntryMap}, then
+   * the snapshot will share its structure with that map rather than copying
+   * it, so creating the snapshot is a constant-time operation.
    *
    * @param  m                  A map of the entries contained in the server
    *                            (including changelog entries) at the time the
@@ -84,7 +84,16 @@ public final class InMemoryDirectoryServerSnapshot
     this.firstChangeNumber = firstChangeNumber;
     this.lastChangeNumber  = lastChangeNumber;
 
-    entryMap = Collections.unmodifiableMap(new TreeMap<DN,ReadOnlyEntry>(m));
+    if (m instanceof InMemoryEntryMap)
+    {
+      entryMap = ((InMemoryEntryMap) m).snapshot();
+    }
+    else
+    {
+      final InMemoryEntryMap map = new InMemoryEntryMap();
+      map.putAll(m);
+      entryMap = map.snapshot();
+    }
   }
 
 
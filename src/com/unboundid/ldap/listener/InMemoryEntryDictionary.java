@@ -0,0 +1,350 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.Serializable;
+import java.util.HashMap;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.matchingrules.MatchingRule;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides an append-only dictionary that is shared by all of the
+ * packed entries held in an {@link InMemoryEntryMap} (and in any snapshots of
+ * that map).  It assigns an integer identifier to each distinct combination of
+ * attribute name and matching rule, so that packed entries do not need to hold
+ * their own copies of attribute names, and it assigns identifiers to the
+ * values of object class attributes, which are typically repeated in a large
+ * number of entries.
+ * <BR><BR>
+ * Identifiers are never reassigned or removed, so a packed entry will always
+ * be decoded in the same way regardless of any changes made to the map after
+ * it was created.  Methods that add content to the dictionary must be
+ * externally synchronized (which is already required for updates to the
+ * entry map), but methods that retrieve content may be safely called
+ * concurrently with updates.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.MOSTLY_NOT_THREADSAFE)
+final class InMemoryEntryDictionary
+      implements Serializable
+{
+  /**
+   * The maximum number of shared values that will be held in the dictionary.
+   * Once this limit has been reached, any additional values will be stored in
+   * the packed entries themselves.
+   */
+  static final int MAX_SHARED_VALUES = 65536;
+
+
+
+  /**
+   * The maximum length in bytes of a value that may be shared.
+   */
+  static final int MAX_SHARED_VALUE_LENGTH = 256;
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 1843962739470918836L;
+
+
+
+  // The attribute descriptors that have been defined, indexed by identifier.
+  private volatile AttributeDescriptor[] descriptors;
+
+  // The shared values that have been defined, indexed by identifier.
+  private volatile ASN1OctetString[] sharedValues;
+
+  // A map of attribute descriptors to their identifiers.
+  private final HashMap<AttributeDescriptor,Integer> descriptorIDs;
+
+  // A map of shared values to their identifiers.
+  private final HashMap<ASN1OctetString,Integer> sharedValueIDs;
+
+  // The number of attribute descriptors that have been defined.
+  private int numDescriptors;
+
+  // The number of shared values that have been defined.
+  private int numSharedValues;
+
+
+
+  /**
+   * Creates a new, empty dictionary.
+   */
+  InMemoryEntryDictionary()
+  {
+    descriptors     = new AttributeDescriptor[16];
+    sharedValues    = new ASN1OctetString[16];
+    descriptorIDs   = new HashMap<AttributeDescriptor,Integer>(16);
+    sharedValueIDs  = new HashMap<ASN1OctetString,Integer>(16);
+    numDescriptors  = 0;
+    numSharedValues = 0;
+  }
+
+
+
+  /**
+   * Retrieves the identifier for the attribute descriptor with the name and
+   * matching rule of the provided attribute, defining a new descriptor if
+   * necessary.  This method must be externally synchronized.
+   *
+   * @param  attribute  The attribute for which to retrieve the descriptor
+   *                    identifier.
+   *
+   * @return  The identifier for the attribute descriptor.
+   */
+  int getDescriptorID(final Attribute attribute)
+  {
+    final AttributeDescriptor descriptor = new AttributeDescriptor(
+         attribute.getName(), attribute.getMatchingRule());
+    final Integer existingID = descriptorIDs.get(descriptor);
+    if (existingID != null)
+    {
+      return existingID;
+    }
+
+    final int id = numDescriptors;
+    AttributeDescriptor[] a = descriptors;
+    if (id == a.length)
+    {
+      final AttributeDescriptor[] newArray =
+           new AttributeDescriptor[a.length * 2];
+      System.arraycopy(a, 0, newArray, 0, a.length);
+      a = newArray;
+    }
+
+    a[id] = descriptor;
+    descriptors = a;
+    descriptorIDs.put(descriptor, id);
+    numDescriptors++;
+    return id;
+  }
+
+
+
+  /**
+   * Retrieves the attribute name for the specified descriptor.
+   *
+   * @param  descriptorID  The identifier of the descriptor.
+   *
+   * @return  The attribute name for the specified descriptor.
+   */
+  String getAttributeName(final int descriptorID)
+  {
+    return descriptors[descriptorID].name;
+  }
+
+
+
+  /**
+   * Retrieves the matching rule for the specified descriptor.
+   *
+   * @param  descriptorID  The identifier of the descriptor.
+   *
+   * @return  The matching rule for the specified descriptor.
+   */
+  MatchingRule getMatchingRule(final int descriptorID)
+  {
+    return descriptors[descriptorID].matchingRule;
+  }
+
+
+
+  /**
+   * Indicates whether values of the attribute with the specified descriptor
+   * may be held in the dictionary rather than in each entry.
+   *
+   * @param  descriptorID  The identifier of the descriptor.
+   *
+   * @return  {@code true} if values of the attribute may be held in the
+   *          dictionary, or {@code false} if not.
+   */
+  boolean sharesValues(final int descriptorID)
+  {
+    return descriptors[descriptorID].sharesValues;
+  }
+
+
+
+  /**
+   * Retrieves the identifier for the provided shared value, defining it if
+   * necessary and possible.  This method must be externally synchronized.
+   *
+   * @param  value  The value for which to retrieve the identifier.
+   *
+   * @return  The identifier for the provided value, or -1 if the value is not
+   *          held in the dictionary and cannot be added to it.
+   */
+  int getSharedValueID(final ASN1OctetString value)
+  {
+    final Integer existingID = sharedValueIDs.get(value);
+    if (existingID != null)
+    {
+      return existingID;
+    }
+
+    final int id = numSharedValues;
+    if ((id >= MAX_SHARED_VALUES) ||
+        (value.getValueLength() > MAX_SHARED_VALUE_LENGTH))
+    {
+      return -1;
+    }
+
+    ASN1OctetString[] a = sharedValues;
+    if (id == a.length)
+    {
+      final ASN1OctetString[] newArray = new ASN1OctetString[a.length * 2];
+      System.arraycopy(a, 0, newArray, 0, a.length);
+      a = newArray;
+    }
+
+    // Create a new value backed by its own array so that it can be safely
+    // shared by all of the entries that include it.
+    final ASN1OctetString sharedValue = new ASN1OctetString(value.getValue());
+    a[id] = sharedValue;
+    sharedValues = a;
+    sharedValueIDs.put(sharedValue, id);
+    numSharedValues++;
+    return id;
+  }
+
+
+
+  /**
+   * Retrieves the shared value with the specified identifier.
+   *
+   * @param  valueID  The identifier of the shared value to retrieve.
+   *
+   * @return  The shared value with the specified identifier.
+   */
+  ASN1OctetString getSharedValue(final int valueID)
+  {
+    return sharedValues[valueID];
+  }
+
+
+
+  /**
+   * Retrieves the number of attribute descriptors that have been defined.
+   *
+   * @return  The number of attribute descriptors that have been defined.
+   */
+  int getNumDescriptors()
+  {
+    return numDescriptors;
+  }
+
+
+
+  /**
+   * Retrieves the number of shared values that have been defined.
+   *
+   * @return  The number of shared values that have been defined.
+   */
+  int getNumSharedValues()
+  {
+    return numSharedValues;
+  }
+
+
+
+  /**
+   * This class defines the combination of attribute name (including any
+   * attribute options) and matching rule held for an attribute.
+   */
+  private static final class AttributeDescriptor
+          implements Serializable
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = -2904427735366093497L;
+
+
+
+    // Indicates whether values of this attribute may be shared.
+    private final boolean sharesValues;
+
+    // The matching rule for the attribute.
+    private final MatchingRule matchingRule;
+
+    // The name for the attribute.
+    private final String name;
+
+
+
+    /**
+     * Creates a new attribute descriptor with the provided information.
+     *
+     * @param  name          The name for the attribute.
+     * @param  matchingRule  The matching rule for the attribute.
+     */
+    private AttributeDescriptor(final String name,
+                                final MatchingRule matchingRule)
+    {
+      this.name         = name;
+      this.matchingRule = matchingRule;
+
+      final String baseName = Attribute.getBaseName(name);
+      sharesValues = (baseName.equalsIgnoreCase("objectClass") ||
+           baseName.equals("2.5.4.0"));
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public int hashCode()
+    {
+      return name.hashCode() ^ matchingRule.getClass().hashCode();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public boolean equals(final Object o)
+    {
+      if (! (o instanceof AttributeDescriptor))
+      {
+        return false;
+      }
+
+      final AttributeDescriptor d = (AttributeDescriptor) o;
+      return (name.equals(d.name) &&
+           (matchingRule.getClass() == d.matchingRule.getClass()));
+    }
+  }
+}
@@ -0,0 +1,892 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a sorted map of entries, keyed by DN, that is backed by
+ * a persistent treap.  Updates never alter existing tree nodes, but instead
+ * create copies of the nodes along the path to the change, so a point-in-time
+ * copy of the map can be obtained in constant time with the {@link #snapshot}
+ * method and will share all unchanged nodes with the map from which it was
+ * created.
+ * <BR><BR>
+ * The priority of each node is derived from the hash code of its DN rather
+ * than chosen at random, so the shape of the tree depends only on the set of
+ * DNs that it contains.  This maximizes the number of nodes that remain shared
+ * between two versions of the map and allows the {@link #getDifferences}
+ * method to find the entries that differ between two versions in time
+ * proportional to the number of differences rather than the size of the map.
+ * <BR><BR>
+ * Iteration is performed over the version of the map that existed at the time
+ * the iterator was created, so the map may be altered during iteration without
+ * causing a {@code ConcurrentModificationException}.  Instances that are not
+ * snapshots are not threadsafe and must be externally synchronized.
+ * <BR><BR>
+ * If the map is created to use compact storage, then entries will be held in
+ * the tree as {@link InMemoryPackedEntry} objects that share a single
+ * {@link InMemoryEntryDictionary}, and a {@code ReadOnlyEntry} will only be
+ * created for an entry when its value is retrieved from the map.  This
+ * greatly reduces the amount of memory needed to hold a large number of
+ * entries, at the cost of decoding each entry whenever it is accessed.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class InMemoryEntryMap
+      extends AbstractMap<DN,ReadOnlyEntry>
+      implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -3436384573858567082L;
+
+
+
+  // Indicates whether this map is a read-only snapshot.
+  private final boolean isSnapshot;
+
+  // The dictionary to use for packed entries, or null if entries should not be
+  // packed.
+  private final InMemoryEntryDictionary dictionary;
+
+  // The number of entries in this map.
+  private int size;
+
+  // The root of the tree, or null if the map is empty.
+  private Node root;
+
+
+
+  /**
+   * Creates a new, empty entry map that does not use compact storage.
+   */
+  InMemoryEntryMap()
+  {
+    this(false);
+  }
+
+
+
+  /**
+   * Creates a new, empty entry map.
+   *
+   * @param  useCompactStorage  Indicates whether entries should be held in a
+   *                            packed form rather than as
+   *                            {@code ReadOnlyEntry} objects.
+   */
+  InMemoryEntryMap(final boolean useCompactStorage)
+  {
+    this(null, 0, false,
+         (useCompactStorage ? new InMemoryEntryDictionary() : null));
+  }
+
+
+
+  /**
+   * Creates a new entry map with the provided information.
+   *
+   * @param  root        The root of the tree.
+   * @param  size        The number of entries in the tree.
+   * @param  isSnapshot  Indicates whether the map should be a read-only
+   *                     snapshot.
+   * @param  dictionary  The dictionary to use for packed entries, or
+   *                     {@code null} if entries should not be packed.
+   */
+  private InMemoryEntryMap(final Node root, final int size,
+                           final boolean isSnapshot,
+                           final InMemoryEntryDictionary dictionary)
+  {
+    this.root       = root;
+    this.size       = size;
+    this.isSnapshot = isSnapshot;
+    this.dictionary = dictionary;
+  }
+
+
+
+  /**
+   * Indicates whether this map holds entries in a packed form.
+   *
+   * @return  {@code true} if this map holds entries in a packed form, or
+   *          {@code false} if not.
+   */
+  boolean usesCompactStorage()
+  {
+    return (dictionary != null);
+  }
+
+
+
+  /**
+   * Creates a read-only point-in-time snapshot of this map.  This is a
+   * constant-time operation.
+   *
+   * @return  A read-only point-in-time snapshot of this map.
+   */
+  InMemoryEntryMap snapshot()
+  {
+    if (isSnapshot)
+    {
+      return this;
+    }
+
+    return new InMemoryEntryMap(root, size, true, dictionary);
+  }
+
+
+
+  /**
+   * Replaces the content of this map with the content of the provided
+   * snapshot.  This is a constant-time operation.  Entries restored from the
+   * snapshot will continue to be held in the form used by the snapshot, but
+   * any entries subsequently added to this map will be held in the form used
+   * by this map.
+   *
+   * @param  snapshot  The snapshot whose content should be used.
+   */
+  void restore(final InMemoryEntryMap snapshot)
+  {
+    ensureNotSnapshot();
+
+    root = snapshot.root;
+    size = snapshot.size;
+  }
+
+
+
+  /**
+   * Identifies the differences between this map and the provided map.  If an
+   * entry exists in both maps with the same DN but a different value, then
+   * the entry from this map will be added to the removed list and the entry
+   * from the other map will be added to the added list.
+   *
+   * @param  other    The map to compare against this map.
+   * @param  removed  A list to which entries will be added if they exist in
+   *                  this map but not in the other map.
+   * @param  added    A list to which entries will be added if they exist in
+   *                  the other map but not in this map.
+   */
+  void getDifferences(final InMemoryEntryMap other,
+                      final List<ReadOnlyEntry> removed,
+                      final List<ReadOnlyEntry> added)
+  {
+    getDifferences(root, other.root, removed, added);
+  }
+
+
+
+  /**
+   * Identifies the differences between the provided subtrees.
+   *
+   * @param  a        The first subtree.
+   * @param  b        The second subtree.
+   * @param  removed  A list to which entries will be added if they exist in
+   *                  the first subtree but not in the second.
+   * @param  added    A list to which entries will be added if they exist in
+   *                  the second subtree but not in the first.
+   */
+  private static void getDifferences(final Node a, final Node b,
+                                     final List<ReadOnlyEntry> removed,
+                                     final List<ReadOnlyEntry> added)
+  {
+    if (a == b)
+    {
+      return;
+    }
+    else if (a == null)
+    {
+      addAll(b, added);
+      return;
+    }
+    else if (b == null)
+    {
+      addAll(a, removed);
+      return;
+    }
+
+    final Node[] split = split(b, a.dn);
+    getDifferences(a.left, split[0], removed, added);
+
+    final Node match = split[1];
+    if (match == null)
+    {
+      removed.add(a.getValue());
+    }
+    else if (match.value != a.value)
+    {
+      removed.add(a.getValue());
+      added.add(match.getValue());
+    }
+
+    getDifferences(a.right, split[2], removed, added);
+  }
+
+
+
+  /**
+   * Adds all entries in the provided subtree to the given list.
+   *
+   * @param  n     The subtree whose entries should be added.
+   * @param  list  The list to which the entries should be added.
+   */
+  private static void addAll(final Node n, final List<ReadOnlyEntry> list)
+  {
+    if (n != null)
+    {
+      addAll(n.left, list);
+      list.add(n.getValue());
+      addAll(n.right, list);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public int size()
+  {
+    return size;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean containsKey(final Object key)
+  {
+    return (getNode(key) != null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public ReadOnlyEntry get(final Object key)
+  {
+    final Node n = getNode(key);
+    if (n == null)
+    {
+      return null;
+    }
+
+    return n.getValue();
+  }
+
+
+
+  /**
+   * Retrieves the node for the entry with the specified DN.
+   *
+   * @param  key  The DN of the entry for which to retrieve the node.
+   *
+   * @return  The node for the entry with the specified DN, or {@code null} if
+   *          there is no such entry.
+   */
+  private Node getNode(final Object key)
+  {
+    if (! (key instanceof DN))
+    {
+      return null;
+    }
+
+    final DN dn = (DN) key;
+    Node n = root;
+    while (n != null)
+    {
+      final int c = dn.compareTo(n.dn);
+      if (c == 0)
+      {
+        return n;
+      }
+      else if (c < 0)
+      {
+        n = n.left;
+      }
+      else
+      {
+        n = n.right;
+      }
+    }
+
+    return null;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public ReadOnlyEntry put(final DN key, final ReadOnlyEntry value)
+  {
+    ensureNotSnapshot();
+    if (value == null)
+    {
+      throw new NullPointerException();
+    }
+
+    final Node previousNode = getNode(key);
+
+    final Object storedValue;
+    if (dictionary == null)
+    {
+      storedValue = value;
+    }
+    else
+    {
+      storedValue = InMemoryPackedEntry.pack(key, value, dictionary);
+    }
+
+    root = insert(root, key, storedValue, priority(key));
+    if (previousNode == null)
+    {
+      size++;
+      return null;
+    }
+
+    return previousNode.getValue();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public ReadOnlyEntry remove(final Object key)
+  {
+    ensureNotSnapshot();
+
+    final Node previousNode = getNode(key);
+    if (previousNode == null)
+    {
+      return null;
+    }
+
+    root = delete(root, (DN) key);
+    size--;
+    return previousNode.getValue();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void clear()
+  {
+    ensureNotSnapshot();
+
+    root = null;
+    size = 0;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public Set<Map.Entry<DN,ReadOnlyEntry>> entrySet()
+  {
+    return new AbstractSet<Map.Entry<DN,ReadOnlyEntry>>()
+    {
+      @Override()
+      public Iterator<Map.Entry<DN,ReadOnlyEntry>> iterator()
+      {
+        return new NodeIterator(root);
+      }
+
+      @Override()
+      public int size()
+      {
+        return size;
+      }
+    };
+  }
+
+
+
+  /**
+   * Ensures that this map is not a read-only snapshot.
+   *
+   * @throws  UnsupportedOperationException  If this map is a read-only
+   *                                         snapshot.
+   */
+  private void ensureNotSnapshot()
+  {
+    if (isSnapshot)
+    {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+
+
+  /**
+   * Computes the priority to use for a node with the given DN.
+   *
+   * @param  dn  The DN for which to compute the priority.
+   *
+   * @return  The priority to use for a node with the given DN.
+   */
+  private static int priority(final DN dn)
+  {
+    // Scramble the bits of the hash code so that DNs with similar hash codes
+    // do not get similar priorities.
+    int h = dn.hashCode();
+    h ^= (h >>> 16);
+    h *= 0x85EBCA6B;
+    h ^= (h >>> 13);
+    h *= 0xC2B2AE35;
+    h ^= (h >>> 16);
+    return h;
+  }
+
+
+
+  /**
+   * Indicates whether the first node should be placed above the second node
+   * in the tree.
+   *
+   * @param  a  The first node.
+   * @param  b  The second node.
+   *
+   * @return  {@code true} if the first node should be placed above the second
+   *          node, or {@code false} if not.
+   */
+  private static boolean isAbove(final Node a, final Node b)
+  {
+    if (a.priority != b.priority)
+    {
+      return (a.priority > b.priority);
+    }
+
+    return (a.dn.compareTo(b.dn) < 0);
+  }
+
+
+
+  /**
+   * Inserts the provided entry into the given subtree, replacing any existing
+   * entry with the same DN.
+   *
+   * @param  n         The root of the subtree.
+   * @param  dn        The DN of the entry to insert.
+   * @param  value     The value to insert for the entry.
+   * @param  priority  The priority for the entry.
+   *
+   * @return  The root of the updated subtree.
+   */
+  private static Node insert(final Node n, final DN dn, final Object value,
+                             final int priority)
+  {
+    if (n == null)
+    {
+      return new Node(dn, value, priority, null, null);
+    }
+
+    final int c = dn.compareTo(n.dn);
+    if (c == 0)
+    {
+      return new Node(n.dn, value, n.priority, n.left, n.right);
+    }
+    else if (c < 0)
+    {
+      final Node l = insert(n.left, dn, value, priority);
+      if (isAbove(l, n))
+      {
+        // Rotate right.
+        return new Node(l.dn, l.value, l.priority, l.left,
+             new Node(n.dn, n.value, n.priority, l.right, n.right));
+      }
+
+      return new Node(n.dn, n.value, n.priority, l, n.right);
+    }
+    else
+    {
+      final Node r = insert(n.right, dn, value, priority);
+      if (isAbove(r, n))
+      {
+        // Rotate left.
+        return new Node(r.dn, r.value, r.priority,
+             new Node(n.dn, n.value, n.priority, n.left, r.left), r.right);
+      }
+
+      return new Node(n.dn, n.value, n.priority, n.left, r);
+    }
+  }
+
+
+
+  /**
+   * Removes the entry with the given DN from the provided subtree.
+   *
+   * @param  n   The root of the subtree.
+   * @param  dn  The DN of the entry to remove.
+   *
+   * @return  The root of the updated subtree.
+   */
+  private static Node delete(final Node n, final DN dn)
+  {
+    if (n == null)
+    {
+      return null;
+    }
+
+    final int c = dn.compareTo(n.dn);
+    if (c == 0)
+    {
+      return join(n.left, n.right);
+    }
+    else if (c < 0)
+    {
+      return new Node(n.dn, n.value, n.priority, delete(n.left, dn), n.right);
+    }
+    else
+    {
+      return new Node(n.dn, n.value, n.priority, n.left, delete(n.right, dn));
+    }
+  }
+
+
+
+  /**
+   * Joins the provided subtrees, in which every DN in the first subtree is
+   * less than every DN in the second subtree.
+   *
+   * @param  a  The first subtree.
+   * @param  b  The second subtree.
+   *
+   * @return  The root of the joined subtree.
+   */
+  private static Node join(final Node a, final Node b)
+  {
+    if (a == null)
+    {
+      return b;
+    }
+    else if (b == null)
+    {
+      return a;
+    }
+    else if (isAbove(a, b))
+    {
+      return new Node(a.dn, a.value, a.priority, a.left, join(a.right, b));
+    }
+    else
+    {
+      return new Node(b.dn, b.value, b.priority, join(a, b.left), b.right);
+    }
+  }
+
+
+
+  /**
+   * Splits the provided subtree around the given DN.
+   *
+   * @param  n   The subtree to split.
+   * @param  dn  The DN around which to split the subtree.
+   *
+   * @return  A three-element array containing the subtree with all DNs less
+   *          than the given DN, the node with the given DN (or {@code null} if
+   *          there is none), and the subtree with all DNs greater than the
+   *          given DN.
+   */
+  private static Node[] split(final Node n, final DN dn)
+  {
+    if (n == null)
+    {
+      return new Node[3];
+    }
+
+    final int c = dn.compareTo(n.dn);
+    if (c == 0)
+    {
+      return new Node[] { n.left, n, n.right };
+    }
+    else if (c < 0)
+    {
+      final Node[] s = split(n.left, dn);
+      s[2] = new Node(n.dn, n.value, n.priority, s[2], n.right);
+      return s;
+    }
+    else
+    {
+      final Node[] s = split(n.right, dn);
+      s[0] = new Node(n.dn, n.value, n.priority, n.left, s[0]);
+      return s;
+    }
+  }
+
+
+
+  /**
+   * This class defines an immutable node in the tree.
+   */
+  private static final class Node
+          implements Map.Entry<DN,ReadOnlyEntry>, Serializable
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = 5394361788342014893L;
+
+
+
+    // The DN for this node.
+    private final DN dn;
+
+    // The priority for this node.
+    private final int priority;
+
+    // The left and right children for this node.
+    private final Node left;
+    private final Node right;
+
+    // The value for this node, which will be either a read-only entry or a
+    // packed entry.
+    private final Object value;
+
+
+
+    /**
+     * Creates a new node with the provided information.
+     *
+     * @param  dn        The DN for the node.
+     * @param  value     The value for the node, which must be either a
+     *                   read-only entry or a packed entry.
+     * @param  priority  The priority for the node.
+     * @param  left      The left child for the node.
+     * @param  right     The right child for the node.
+     */
+    private Node(final DN dn, final Object value, final int priority,
+                 final Node left, final Node right)
+    {
+      this.dn       = dn;
+      this.value    = value;
+      this.priority = priority;
+      this.left     = left;
+      this.right    = right;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public DN getKey()
+    {
+      return dn;
+    }
+
+
+
+    /**
+     * {@inheritDoc}  If the entry is held in a packed form, then a new
+     * read-only entry will be created from it each time this method is called.
+     */
+    @Override()
+    public ReadOnlyEntry getValue()
+    {
+      if (value instanceof ReadOnlyEntry)
+      {
+        return (ReadOnlyEntry) value;
+      }
+      else
+      {
+        return ((InMemoryPackedEntry) value).toEntry(dn);
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public ReadOnlyEntry setValue(final ReadOnlyEntry value)
+    {
+      throw new UnsupportedOperationException();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public int hashCode()
+    {
+      return dn.hashCode() ^ getValue().hashCode();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public boolean equals(final Object o)
+    {
+      if (! (o instanceof Map.Entry))
+      {
+        return false;
+      }
+
+      final Map.Entry<?,?> e = (Map.Entry<?,?>) o;
+      return dn.equals(e.getKey()) && getValue().equals(e.getValue());
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public String toString()
+    {
+      return dn + "=" + getValue();
+    }
+  }
+
+
+
+  /**
+   * This class provides an iterator that performs an in-order traversal of the
+   * tree as it existed when the iterator was created.
+   */
+  private final class NodeIterator
+          implements Iterator<Map.Entry<DN,ReadOnlyEntry>>
+  {
+    // The stack of nodes whose left subtrees are being traversed.
+    private final ArrayList<Node> stack;
+
+    // The node most recently returned by the next method.
+    private Node lastReturned;
+
+
+
+    /**
+     * Creates a new iterator for the provided tree.
+     *
+     * @param  root  The root of the tree to iterate.
+     */
+    private NodeIterator(final Node root)
+    {
+      stack = new ArrayList<Node>();
+      lastReturned = null;
+      pushLeft(root);
+    }
+
+
+
+    /**
+     * Pushes the provided node and all of its left descendants onto the stack.
+     *
+     * @param  n  The node to push.
+     */
+    private void pushLeft(final Node n)
+    {
+      Node node = n;
+      while (node != null)
+      {
+        stack.add(node);
+        node = node.left;
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public boolean hasNext()
+    {
+      return (! stack.isEmpty());
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public Map.Entry<DN,ReadOnlyEntry> next()
+    {
+      if (stack.isEmpty())
+      {
+        throw new NoSuchElementException();
+      }
+
+      final Node n = stack.remove(stack.size() - 1);
+      pushLeft(n.right);
+      lastReturned = n;
+      return n;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void remove()
+    {
+      if (lastReturned == null)
+      {
+        throw new IllegalStateException();
+      }
+
+      InMemoryEntryMap.this.remove(lastReturned.dn);
+      lastReturned = null;
+    }
+  }
+}
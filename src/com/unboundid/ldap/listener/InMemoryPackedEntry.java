@@ -0,0 +1,303 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.Serializable;
+import java.util.Collection;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.InternalSDKHelper;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.ByteStringBuffer;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a data structure that holds the content of an entry in
+ * a single packed byte array, which requires much less memory than a
+ * {@link ReadOnlyEntry} with its attribute map, attribute objects, and
+ * individual value objects.  Attribute names and commonly-repeated values are
+ * not held in the packed entry itself, but are instead referenced by their
+ * identifiers in a shared {@link InMemoryEntryDictionary}.  A
+ * {@code ReadOnlyEntry} is only created from the packed content when the
+ * entry is actually needed.
+ * <BR><BR>
+ * The packed content is encoded as follows, where each integer is encoded
+ * with seven bits per byte and the high-order bit set in all but the last
+ * byte:
+ * <UL>
+ *   <LI>A flag byte that indicates whether the DN of the entry is included.
+ *       If not, then the string representation of the DN with which the entry
+ *       is held in the map will be used.</LI>
+ *   <LI>If the DN is included, then the number of bytes in its UTF-8
+ *       representation followed by those bytes.</LI>
+ *   <LI>The number of attributes in the entry.</LI>
+ *   <LI>For each attribute, the identifier of its attribute descriptor and the
+ *       number of values, followed by each value.  A value is encoded as an
+ *       integer in which the lowest bit indicates whether it is a shared value.
+ *       For a shared value, the remaining bits hold the identifier of that
+ *       value in the dictionary.  Otherwise, the remaining bits hold the length
+ *       of the value, and they will be followed by the bytes of the
+ *       value.</LI>
+ * </UL>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryPackedEntry
+      implements Serializable
+{
+  /**
+   * The flag byte that indicates the DN of the entry is included in the packed
+   * content.
+   */
+  private static final byte FLAG_INCLUDES_DN = 0x01;
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 6240978134217760193L;
+
+
+
+  // The packed content for this entry.
+  private final byte[] data;
+
+  // The dictionary with which this entry was packed.
+  private final InMemoryEntryDictionary dictionary;
+
+  // The schema for this entry.
+  private final Schema schema;
+
+
+
+  /**
+   * Creates a new packed entry with the provided information.
+   *
+   * @param  data        The packed content for the entry.
+   * @param  dictionary  The dictionary with which the entry was packed.
+   * @param  schema      The schema for the entry.  It may be {@code null}.
+   */
+  private InMemoryPackedEntry(final byte[] data,
+                              final InMemoryEntryDictionary dictionary,
+                              final Schema schema)
+  {
+    this.data       = data;
+    this.dictionary = dictionary;
+    this.schema     = schema;
+  }
+
+
+
+  /**
+   * Creates a packed representation of the provided entry.  This method must
+   * be externally synchronized with any other updates to the dictionary.
+   *
+   * @param  dn          The DN with which the entry will be held in the map.
+   * @param  entry       The entry to be packed.
+   * @param  dictionary  The dictionary to use for attribute names and shared
+   *                     values.
+   *
+   * @return  The packed representation of the provided entry.
+   */
+  static InMemoryPackedEntry pack(final DN dn, final ReadOnlyEntry entry,
+                                  final InMemoryEntryDictionary dictionary)
+  {
+    final ByteStringBuffer buffer = new ByteStringBuffer(256);
+
+    final String dnString = entry.getDN();
+    if (dnString.equals(dn.toString()))
+    {
+      buffer.append((byte) 0x00);
+    }
+    else
+    {
+      final byte[] dnBytes = StaticUtils.getBytes(dnString);
+      buffer.append(FLAG_INCLUDES_DN);
+      appendInt(buffer, dnBytes.length);
+      buffer.append(dnBytes);
+    }
+
+    final Collection<Attribute> attributes = entry.getAttributes();
+    appendInt(buffer, attributes.size());
+    for (final Attribute a : attributes)
+    {
+      final int descriptorID = dictionary.getDescriptorID(a);
+      final boolean sharesValues = dictionary.sharesValues(descriptorID);
+      final ASN1OctetString[] values = a.getRawValues();
+
+      appendInt(buffer, descriptorID);
+      appendInt(buffer, values.length);
+      for (final ASN1OctetString v : values)
+      {
+        if (sharesValues)
+        {
+          final int valueID = dictionary.getSharedValueID(v);
+          if (valueID >= 0)
+          {
+            appendInt(buffer, (valueID << 1) | 0x01);
+            continue;
+          }
+        }
+
+        appendInt(buffer, v.getValueLength() << 1);
+        v.appendValueTo(buffer);
+      }
+    }
+
+    return new InMemoryPackedEntry(buffer.toByteArray(), dictionary,
+         InternalSDKHelper.getEntrySchema(entry));
+  }
+
+
+
+  /**
+   * Creates a read-only entry from the packed content.
+   *
+   * @param  dn  The DN with which the entry is held in the map.
+   *
+   * @return  The read-only entry created from the packed content.
+   */
+  ReadOnlyEntry toEntry(final DN dn)
+  {
+    final int[] pos = { 1 };
+
+    final String dnString;
+    if ((data[0] & FLAG_INCLUDES_DN) != 0)
+    {
+      final int dnLength = readInt(data, pos);
+      dnString = StaticUtils.toUTF8String(data, pos[0], dnLength);
+      pos[0] += dnLength;
+    }
+    else
+    {
+      dnString = null;
+    }
+
+    final Attribute[] attributes = new Attribute[readInt(data, pos)];
+    for (int i=0; i < attributes.length; i++)
+    {
+      final int descriptorID = readInt(data, pos);
+      final ASN1OctetString[] values = new ASN1OctetString[readInt(data, pos)];
+      for (int j=0; j < values.length; j++)
+      {
+        final int v = readInt(data, pos);
+        if ((v & 0x01) != 0)
+        {
+          values[j] = dictionary.getSharedValue(v >>> 1);
+        }
+        else
+        {
+          final int length = v >>> 1;
+          final byte[] valueBytes = new byte[length];
+          System.arraycopy(data, pos[0], valueBytes, 0, length);
+          pos[0] += length;
+          values[j] = new ASN1OctetString(valueBytes);
+        }
+      }
+
+      attributes[i] = new Attribute(dictionary.getAttributeName(descriptorID),
+           dictionary.getMatchingRule(descriptorID), values);
+    }
+
+    if (dnString == null)
+    {
+      return new ReadOnlyEntry(dn, schema, attributes);
+    }
+    else
+    {
+      return new ReadOnlyEntry(dnString, schema, attributes);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of bytes in the packed content for this entry.
+   *
+   * @return  The number of bytes in the packed content for this entry.
+   */
+  int getPackedLength()
+  {
+    return data.length;
+  }
+
+
+
+  /**
+   * Appends the provided non-negative integer to the given buffer, using seven
+   * bits per byte.
+   *
+   * @param  buffer  The buffer to which the integer should be appended.
+   * @param  i       The integer to append.
+   */
+  private static void appendInt(final ByteStringBuffer buffer, final int i)
+  {
+    int value = i;
+    while ((value & ~0x7F) != 0)
+    {
+      buffer.append((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+
+    buffer.append((byte) value);
+  }
+
+
+
+  /**
+   * Reads a non-negative integer encoded with seven bits per byte from the
+   * provided array.
+   *
+   * @param  data  The array from which to read the integer.
+   * @param  pos   A single-element array holding the position at which to
+   *               begin reading.  It will be updated to the position
+   *               immediately after the integer.
+   *
+   * @return  The integer that was read.
+   */
+  private static int readInt(final byte[] data, final int[] pos)
+  {
+    int value = 0;
+    int shift = 0;
+    while (true)
+    {
+      final byte b = data[pos[0]++];
+      value |= ((b & 0x7F) << shift);
+      if ((b & 0x80) == 0)
+      {
+        return value;
+      }
+
+      shift += 7;
+    }
+  }
+}
@@ -259,7 +259,7 @@ public final class InMemoryRequestHandler
   private final Set<String> referentialIntegrityAttributes;
 
   // The map of entries currently held in the server.
-  private final Map<DN,ReadOnlyEntry> entryMap;
+  private final InMemoryEntryMap entryMap;
 
 
 
@@ -301,7 +301,7 @@ public final class InMemoryRequestHandler
            ERR_MEM_HANDLER_NO_BASE_DNS.get());
     }
 
-    entryMap = new TreeMap<DN,ReadOnlyEntry>();
+    entryMap = new InMemoryEntryMap(config.useCompactEntryStorage());
 
     final LinkedHashSet<DN> baseDNSet =
          new LinkedHashSet<DN>(Arrays.asList(baseDNArray));
@@ -545,7 +545,9 @@ public final class InMemoryRequestHandler
   /**
    * Creates a point-in-time snapshot of the information contained in this
    * in-memory request handler.  If desired, it may be restored using the
-   * {@link #restoreSnapshot} method.
+   * {@link #restoreSnapshot} method.  The snapshot shares its structure with
+   * the data held in the server, so it can be created in constant time
+   * regardless of the number of entries.
    *
    * @return  The snapshot created based on the current content of this
    *          in-memory request handler.
@@ -563,7 +565,9 @@ public final class InMemoryRequestHandler
 
   /**
    * Updates the content of this in-memory request handler to match what it was
-   * at the time the snapshot was created.
+   * at the time the snapshot was created.  The time required to restore a
+   * snapshot is generally proportional to the number of changes made since it
+   * was created rather than to the total number of entries.
    *
    * @param  snapshot  The snapshot to be restored.  It must not be
    *                   {@code null}.
@@ -572,22 +576,70 @@ public final class InMemoryRequestHandler
   {
     synchronized (entryMap)
     {
-      entryMap.clear();
-      entryMap.putAll(snapshot.getEntryMap());
-
-      for (final InMemoryDirectoryServerEqualityAttributeIndex i :
-           equalityIndexes.values())
+      final Map<DN,ReadOnlyEntry> snapshotEntryMap = snapshot.getEntryMap();
+      if (snapshotEntryMap instanceof InMemoryEntryMap)
       {
-        i.clear();
-        for (final Entry e : entryMap.values())
+        final InMemoryEntryMap m = (InMemoryEntryMap) snapshotEntryMap;
+        if (! equalityIndexes.isEmpty())
         {
-          try
+          final ArrayList<ReadOnlyEntry> removedEntries =
+               new ArrayList<ReadOnlyEntry>();
+          final ArrayList<ReadOnlyEntry> addedEntries =
+               new ArrayList<ReadOnlyEntry>();
+          entryMap.getDifferences(m, removedEntries, addedEntries);
+
+          for (final InMemoryDirectoryServerEqualityAttributeIndex i :
+               equalityIndexes.values())
           {
-            i.processAdd(e);
+            for (final Entry e : removedEntries)
+            {
+              try
+              {
+                i.processDelete(e);
+              }
+              catch (final Exception ex)
+              {
+                Debug.debugException(ex);
+              }
+            }
+
+            for (final Entry e : addedEntries)
+            {
+              try
+              {
+                i.processAdd(e);
+              }
+              catch (final Exception ex)
+              {
+                Debug.debugException(ex);
+              }
+            }
           }
-          catch (final Exception ex)
+        }
+
+        entryMap.restore(m);
+      }
+      else
+      {
+        // The snapshot was serialized by an older version of the LDAP SDK, so
+        // its data must be copied and the indexes must be rebuilt.
+        entryMap.clear();
+        entryMap.putAll(snapshotEntryMap);
+
+        for (final InMemoryDirectoryServerEqualityAttributeIndex i :
+             equalityIndexes.values())
+        {
+          i.clear();
+          for (final Entry e : entryMap.values())
           {
-            Debug.debugException(ex);
+            try
+            {
+              i.processAdd(e);
+            }
+            catch (final Exception ex)
+            {
+              Debug.debugException(ex);
+            }
           }
         }
       }
@@ -3556,16 +3608,20 @@ findEntriesAndRefs:
         {
           for (final Map.Entry<DN,ReadOnlyEntry> me : entryMap.entrySet())
           {
+            // Check the scope before retrieving the entry so that entries
+            // held in a packed form will only be decoded if necessary.
             final DN dn = me.getKey();
-            final Entry entry = me.getValue();
             try
             {
-              if (dn.matchesBaseAndScope(baseDN, scope) &&
-                   filter.matchesEntry(entry, schema))
+              if (dn.matchesBaseAndScope(baseDN, scope))
               {
-                processSearchEntry(entry, includeSubEntries,
-                     includeNonSubEntries, includeChangeLog, hasManageDsaIT,
-                     fullEntryList, referenceList);
+                final Entry entry = me.getValue();
+                if (filter.matchesEntry(entry, schema))
+                {
+                  processSearchEntry(entry, includeSubEntries,
+                       includeNonSubEntries, includeChangeLog, hasManageDsaIT,
+                       fullEntryList, referenceList);
+                }
               }
             }
             catch (final Exception e)
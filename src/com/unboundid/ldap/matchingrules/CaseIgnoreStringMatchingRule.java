@@ -26,6 +26,7 @@ import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 
+import static com.unboundid.asn1.ASN1Constants.*;
 import static com.unboundid.util.StaticUtils.*;
 
 
@@ -219,59 +220,94 @@ public final class CaseIgnoreStringMatchingRule
   public boolean valuesMatch(final ASN1OctetString value1,
                              final ASN1OctetString value2)
   {
-    // Try to use a quick, no-copy determination if possible.  If this fails,
-    // then we'll fall back on a more thorough, but more costly, approach.
+    // Try to compare the values directly, skipping over any leading, trailing,
+    // and duplicate spaces and ignoring differences in the case of ASCII
+    // letters, so that no normalized copies of the values need to be created.
+    // If either value contains any non-ASCII characters, then we'll fall back
+    // on a more thorough, but more costly, approach.
     final byte[] value1Bytes = value1.getValue();
     final byte[] value2Bytes = value2.getValue();
-    if (value1Bytes.length == value2Bytes.length)
+    if ((value1Bytes.length == 0) || (value2Bytes.length == 0))
     {
-      for (int i=0; i< value1Bytes.length; i++)
+      return (value1Bytes.length == value2Bytes.length);
+    }
+
+    int pos1 = 0;
+    int end1 = value1Bytes.length;
+    while ((pos1 < end1) && (value1Bytes[pos1] == ' '))
+    {
+      pos1++;
+    }
+    while ((end1 > pos1) && (value1Bytes[end1-1] == ' '))
+    {
+      end1--;
+    }
+
+    int pos2 = 0;
+    int end2 = value2Bytes.length;
+    while ((pos2 < end2) && (value2Bytes[pos2] == ' '))
+    {
+      pos2++;
+    }
+    while ((end2 > pos2) && (value2Bytes[end2-1] == ' '))
+    {
+      end2--;
+    }
+
+    // A value comprised entirely of spaces will be normalized to a single
+    // space.
+    if ((pos1 == end1) || (pos2 == end2))
+    {
+      return ((pos1 == end1) && (pos2 == end2));
+    }
+
+    while ((pos1 < end1) && (pos2 < end2))
+    {
+      byte b1 = value1Bytes[pos1++];
+      byte b2 = value2Bytes[pos2++];
+      if (((b1 & 0x80) != 0) || ((b2 & 0x80) != 0))
       {
-        final byte b1 = value1Bytes[i];
-        final byte b2 = value2Bytes[i];
+        return normalize(value1).equals(normalize(value2));
+      }
 
-        if (((b1 & 0x7F) != (b1 & 0xFF)) ||
-            ((b2 & 0x7F) != (b2 & 0xFF)))
+      if (b1 == ' ')
+      {
+        if (b2 != ' ')
         {
-          return normalize(value1).equals(normalize(value2));
+          return false;
         }
-        else if (b1 != b2)
+
+        // Because trailing spaces have already been skipped, a space will
+        // always be followed by a non-space character before the end.
+        while (value1Bytes[pos1] == ' ')
         {
-          if ((b1 == ' ') || (b2 == ' '))
-          {
-            return normalize(value1).equals(normalize(value2));
-          }
-          else if (Character.isUpperCase((char) b1))
-          {
-            final char c = Character.toLowerCase((char) b1);
-            if (c != ((char) b2))
-            {
-              return false;
-            }
-          }
-          else if (Character.isUpperCase((char) b2))
-          {
-            final char c = Character.toLowerCase((char) b2);
-            if (c != ((char) b1))
-            {
-              return false;
-            }
-          }
-          else
-          {
-            return false;
-          }
+          pos1++;
+        }
+        while (value2Bytes[pos2] == ' ')
+        {
+          pos2++;
         }
       }
+      else if (b1 != b2)
+      {
+        if ((b1 >= 'A') && (b1 <= 'Z'))
+        {
+          b1 += ('a' - 'A');
+        }
 
-      // If we've gotten to this point, then the values must be equal.
-      return true;
-    }
-    else
-    {
-      return normalizeInternal(value1, false, (byte) 0x00).equals(
-                  normalizeInternal(value2, false, (byte) 0x00));
+        if ((b2 >= 'A') && (b2 <= 'Z'))
+        {
+          b2 += ('a' - 'A');
+        }
+
+        if (b1 != b2)
+        {
+          return false;
+        }
+      }
     }
+
+    return ((pos1 == end1) && (pos2 == end2));
   }
 
 
@@ -351,9 +387,10 @@ public final class CaseIgnoreStringMatchingRule
     }
 
     // Count the number of duplicate spaces in the value, and determine whether
-    // there are any non-space characters.  Also, see if there are any non-ASCII
-    // characters.
+    // there are any non-space or uppercase characters.  Also, see if there are
+    // any non-ASCII characters.
     boolean containsNonSpace = false;
+    boolean containsUppercase = false;
     boolean lastWasSpace = trimInitial;
     int numDuplicates = 0;
     for (final byte b : valueBytes)
@@ -363,6 +400,11 @@ public final class CaseIgnoreStringMatchingRule
         return normalizeNonASCII(value, trimInitial, trimFinal);
       }
 
+      if ((b >= 'A') && (b <= 'Z'))
+      {
+        containsUppercase = true;
+      }
+
       if (b == ' ')
       {
         if (lastWasSpace)
@@ -391,6 +433,20 @@ public final class CaseIgnoreStringMatchingRule
       numDuplicates++;
     }
 
+    // If the value is already in normalized form, then there is no need to
+    // create a new copy of it.
+    if ((numDuplicates == 0) && (! containsUppercase))
+    {
+      if (value.getType() == UNIVERSAL_OCTET_STRING_TYPE)
+      {
+        return value;
+      }
+      else
+      {
+        return new ASN1OctetString(valueBytes);
+      }
+    }
+
 
     // Create a new byte array to hold the normalized value.
     lastWasSpace = trimInitial;
@@ -22,6 +22,8 @@ package com.unboundid.ldap.matchingrules;
 
 
 
+import java.util.Arrays;
+
 import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.LDAPException;
@@ -29,6 +31,7 @@ import com.unboundid.ldap.sdk.ResultCode;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 
+import static com.unboundid.asn1.ASN1Constants.*;
 import static com.unboundid.ldap.matchingrules.MatchingRuleMessages.*;
 import static com.unboundid.util.Debug.*;
 import static com.unboundid.util.StaticUtils.*;
@@ -179,6 +182,16 @@ public final class DistinguishedNameMatchingRule
                              final ASN1OctetString value2)
          throws LDAPException
   {
+    final byte[] normalized1 = normalizeSimpleDN(value1.getValue());
+    if (normalized1 != null)
+    {
+      final byte[] normalized2 = normalizeSimpleDN(value2.getValue());
+      if (normalized2 != null)
+      {
+        return Arrays.equals(normalized1, normalized2);
+      }
+    }
+
     final DN dn1;
     try
     {
@@ -234,11 +247,24 @@ public final class DistinguishedNameMatchingRule
            le.getMessage(), le);
     }
 
+    final byte[] normalizedAssertionValue =
+         getBytes(assertionValueDN.toNormalizedString());
     for (final ASN1OctetString attributeValue : attributeValues)
     {
       try
       {
-        if (assertionValueDN.equals(new DN(attributeValue.stringValue())))
+        final byte[] normalizedAttributeValue =
+             normalizeSimpleDN(attributeValue.getValue());
+        if (normalizedAttributeValue != null)
+        {
+          if (Arrays.equals(normalizedAssertionValue,
+                   normalizedAttributeValue))
+          {
+            return true;
+          }
+        }
+        else if (assertionValueDN.equals(
+                      new DN(attributeValue.stringValue())))
         {
           return true;
         }
@@ -291,6 +317,21 @@ public final class DistinguishedNameMatchingRule
   public ASN1OctetString normalize(final ASN1OctetString value)
          throws LDAPException
   {
+    final byte[] valueBytes = value.getValue();
+    final byte[] normalizedBytes = normalizeSimpleDN(valueBytes);
+    if (normalizedBytes != null)
+    {
+      if ((normalizedBytes == valueBytes) &&
+          (value.getType() == UNIVERSAL_OCTET_STRING_TYPE))
+      {
+        return value;
+      }
+      else
+      {
+        return new ASN1OctetString(normalizedBytes);
+      }
+    }
+
     try
     {
       final DN dn = new DN(value.stringValue());
@@ -317,4 +358,184 @@ public final class DistinguishedNameMatchingRule
     throw new LDAPException(ResultCode.INAPPROPRIATE_MATCHING,
                             ERR_DN_SUBSTRING_MATCHING_NOT_SUPPORTED.get());
   }
+
+
+
+  /**
+   * Attempts to normalize the provided value in a single pass over its bytes,
+   * without parsing it as a DN.  This is only possible for simple DNs that are
+   * comprised entirely of ASCII characters, in which each RDN has a single
+   * component, each attribute name starts with a letter and contains only
+   * letters, digits, and hyphens, and each value is non-empty and does not
+   * contain any characters that would need to be escaped.  Because no schema
+   * is used when parsing DNs for this matching rule, each value will be
+   * normalized in the same way as with the case-ignore string matching rule.
+   *
+   * @param  valueBytes  The bytes that comprise the value to be normalized.
+   *
+   * @return  The normalized representation of the provided value (which will
+   *          be the provided array if the value was already normalized), or
+   *          {@code null} if the value is not a simple DN and must be
+   *          normalized by parsing it as a DN.
+   */
+  static byte[] normalizeSimpleDN(final byte[] valueBytes)
+  {
+    final int length = valueBytes.length;
+    final byte[] normalizedBytes = new byte[length];
+    int normalizedLength = 0;
+
+    int pos = 0;
+    while (true)
+    {
+      // Skip over any spaces before the attribute name.
+      while ((pos < length) && (valueBytes[pos] == ' '))
+      {
+        pos++;
+      }
+
+      // Read the attribute name, which must start with a letter and contain
+      // only letters, digits, and hyphens.
+      if ((pos >= length) || (! isLetter(valueBytes[pos])))
+      {
+        return null;
+      }
+
+      while (pos < length)
+      {
+        byte b = valueBytes[pos];
+        if ((b >= 'A') && (b <= 'Z'))
+        {
+          b += ('a' - 'A');
+        }
+        else if ((! isLetter(b)) && ((b < '0') || (b > '9')) && (b != '-'))
+        {
+          break;
+        }
+
+        normalizedBytes[normalizedLength++] = b;
+        pos++;
+      }
+
+      // Skip over any spaces between the name and the equal sign.
+      while ((pos < length) && (valueBytes[pos] == ' '))
+      {
+        pos++;
+      }
+
+      if ((pos >= length) || (valueBytes[pos] != '='))
+      {
+        return null;
+      }
+
+      pos++;
+      normalizedBytes[normalizedLength++] = '=';
+
+      // Skip over any spaces before the value.
+      while ((pos < length) && (valueBytes[pos] == ' '))
+      {
+        pos++;
+      }
+
+      // Read the value, converting ASCII letters to lowercase and collapsing
+      // multiple consecutive spaces into a single space.
+      boolean pendingSpace = false;
+      boolean emptyValue = true;
+      while (pos < length)
+      {
+        byte b = valueBytes[pos];
+        if (b == ',')
+        {
+          break;
+        }
+
+        pos++;
+        if (b == ' ')
+        {
+          pendingSpace = true;
+          continue;
+        }
+
+        if ((b < 0x21) || (b > 0x7E))
+        {
+          return null;
+        }
+
+        switch (b)
+        {
+          case '\\':
+          case '=':
+          case '"':
+          case '+':
+          case ';':
+          case '<':
+          case '>':
+          case '#':
+            return null;
+        }
+
+        if ((b >= 'A') && (b <= 'Z'))
+        {
+          b += ('a' - 'A');
+        }
+
+        if (pendingSpace)
+        {
+          normalizedBytes[normalizedLength++] = ' ';
+          pendingSpace = false;
+        }
+
+        normalizedBytes[normalizedLength++] = b;
+        emptyValue = false;
+      }
+
+      if (emptyValue)
+      {
+        return null;
+      }
+
+      if (pos >= length)
+      {
+        break;
+      }
+
+      // The value must have been followed by a comma, which must be followed
+      // by another RDN.
+      pos++;
+      normalizedBytes[normalizedLength++] = ',';
+    }
+
+    // Normalization can only remove spaces and change the case of letters, so
+    // if the length is the same and the bytes are the same, then the value was
+    // already normalized.
+    if (normalizedLength == length)
+    {
+      if (Arrays.equals(normalizedBytes, valueBytes))
+      {
+        return valueBytes;
+      }
+      else
+      {
+        return normalizedBytes;
+      }
+    }
+
+    final byte[] trimmedBytes = new byte[normalizedLength];
+    System.arraycopy(normalizedBytes, 0, trimmedBytes, 0, normalizedLength);
+    return trimmedBytes;
+  }
+
+
+
+  /**
+   * Indicates whether the provided byte represents an ASCII letter.
+   *
+   * @param  b  The byte for which to make the determination.
+   *
+   * @return  {@code true} if the provided byte represents an ASCII letter, or
+   *          {@code false} if not.
+   */
+  private static boolean isLetter(final byte b)
+  {
+    return (((b >= 'a') && (b <= 'z')) || ((b >= 'A') && (b <= 'Z')));
+  }
 }
@@ -26,7 +26,7 @@ import java.io.Serializable;
 
 import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.sdk.LDAPException;
-import com.unboundid.ldap.sdk.schema.AttributeTypeDefinition;
+import com.unboundid.ldap.sdk.schema.ResolvedAttributeType;
 import com.unboundid.ldap.sdk.schema.Schema;
 import com.unboundid.ldap.sdk.unboundidds.jsonfilter.
             JSONObjectExactMatchingRule;
@@ -452,25 +452,14 @@ public abstract class MatchingRule
       return getDefaultEqualityMatchingRule();
     }
 
-    final AttributeTypeDefinition attrType = schema.getAttributeType(attrName);
+    final ResolvedAttributeType attrType =
+         schema.getResolvedAttributeType(attrName);
     if (attrType == null)
     {
       return getDefaultEqualityMatchingRule();
     }
 
-    final String mrName = attrType.getEqualityMatchingRule(schema);
-    if (mrName != null)
-    {
-      return selectEqualityMatchingRule(mrName);
-    }
-
-    final String syntaxOID = attrType.getBaseSyntaxOID(schema);
-    if (syntaxOID != null)
-    {
-      return selectMatchingRuleForSyntax(syntaxOID);
-    }
-
-    return getDefaultEqualityMatchingRule();
+    return attrType.getEqualityMatchingRule();
   }
 
 
@@ -647,25 +636,14 @@ public abstract class MatchingRule
       return getDefaultOrderingMatchingRule();
     }
 
-    final AttributeTypeDefinition attrType = schema.getAttributeType(attrName);
+    final ResolvedAttributeType attrType =
+         schema.getResolvedAttributeType(attrName);
     if (attrType == null)
     {
       return getDefaultOrderingMatchingRule();
     }
 
-    final String mrName = attrType.getOrderingMatchingRule(schema);
-    if (mrName != null)
-    {
-      return selectOrderingMatchingRule(mrName);
-    }
-
-    final String syntaxOID = attrType.getBaseSyntaxOID(schema);
-    if (syntaxOID != null)
-    {
-      return selectMatchingRuleForSyntax(syntaxOID);
-    }
-
-    return getDefaultOrderingMatchingRule();
+    return attrType.getOrderingMatchingRule();
   }
 
 
@@ -803,25 +781,14 @@ public abstract class MatchingRule
       return getDefaultSubstringMatchingRule();
     }
 
-    final AttributeTypeDefinition attrType = schema.getAttributeType(attrName);
+    final ResolvedAttributeType attrType =
+         schema.getResolvedAttributeType(attrName);
     if (attrType == null)
     {
       return getDefaultSubstringMatchingRule();
     }
 
-    final String mrName = attrType.getSubstringMatchingRule(schema);
-    if (mrName != null)
-    {
-      return selectSubstringMatchingRule(mrName);
-    }
-
-    final String syntaxOID = attrType.getBaseSyntaxOID(schema);
-    if (syntaxOID != null)
-    {
-      return selectMatchingRuleForSyntax(syntaxOID);
-    }
-
-    return getDefaultSubstringMatchingRule();
+    return attrType.getSubstringMatchingRule();
   }
 
 
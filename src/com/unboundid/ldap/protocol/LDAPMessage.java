@@ -1139,11 +1139,64 @@ public final class LDAPMessage
                                   final Schema schema)
          throws LDAPException
   {
+    return readLDAPResponseFrom(reader, ignoreSocketTimeout, schema, false);
+  }
+
+
+
+  /**
+   * Reads {@link LDAPResponse} object from the provided ASN.1 stream reader.
+   *
+   * @param  reader               The ASN.1 stream reader from which the LDAP
+   *                              message should be read.
+   * @param  ignoreSocketTimeout  Indicates whether to ignore socket timeout
+   *                              exceptions caught during processing.  This
+   *                              should be {@code true} when the associated
+   *                              connection is operating in asynchronous mode,
+   *                              and {@code false} when operating in
+   *                              synchronous mode.  In either case, exceptions
+   *                              will not be ignored for the first read, since
+   *                              that will be handled by the connection reader.
+   * @param  schema               The schema to use to select the appropriate
+   *                              matching rule for attributes included in the
+   *                              response.
+   * @param  useMessageBuffer     Indicates whether to read the entire message
+   *                              into a single buffer before decoding it, so
+   *                              that attribute values and other octet strings
+   *                              in the response may reference that buffer
+   *                              rather than separately-allocated copies.
+   *
+   * @return  The decoded LDAP message, or {@code null} if the end of the input
+   *          stream has been reached..
+   *
+   * @throws  LDAPException  If an error occurs while attempting to read or
+   *                         decode the LDAP message.
+   */
+  public static LDAPResponse readLDAPResponseFrom(final ASN1StreamReader reader,
+                                  final boolean ignoreSocketTimeout,
+                                  final Schema schema,
+                                  final boolean useMessageBuffer)
+         throws LDAPException
+  {
+    final ASN1StreamReader messageReader;
     final ASN1StreamReaderSequence messageSequence;
     try
     {
       reader.setIgnoreSocketTimeout(false, ignoreSocketTimeout);
-      messageSequence = reader.beginSequence();
+      if (useMessageBuffer)
+      {
+        messageReader = reader.readBufferedElement();
+        if (messageReader == null)
+        {
+          return null;
+        }
+      }
+      else
+      {
+        messageReader = reader;
+      }
+
+      messageSequence = messageReader.beginSequence();
       if (messageSequence == null)
       {
         return null;
@@ -1170,10 +1223,11 @@ public final class LDAPMessage
 
     try
     {
-      reader.setIgnoreSocketTimeout(ignoreSocketTimeout, ignoreSocketTimeout);
-      final int messageID = reader.readInteger();
+      messageReader.setIgnoreSocketTimeout(ignoreSocketTimeout,
+           ignoreSocketTimeout);
+      final int messageID = messageReader.readInteger();
 
-      final byte protocolOpType = (byte) reader.peek();
+      final byte protocolOpType = (byte) messageReader.peek();
       switch (protocolOpType)
       {
         case PROTOCOL_OP_TYPE_ADD_RESPONSE:
@@ -1181,35 +1235,35 @@ public final class LDAPMessage
         case PROTOCOL_OP_TYPE_MODIFY_RESPONSE:
         case PROTOCOL_OP_TYPE_MODIFY_DN_RESPONSE:
           return InternalSDKHelper.readLDAPResultFrom(messageID,
-                      messageSequence, reader);
+                      messageSequence, messageReader);
 
         case PROTOCOL_OP_TYPE_BIND_RESPONSE:
           return InternalSDKHelper.readBindResultFrom(messageID,
-                      messageSequence, reader);
+                      messageSequence, messageReader);
 
         case PROTOCOL_OP_TYPE_COMPARE_RESPONSE:
           return InternalSDKHelper.readCompareResultFrom(messageID,
-                      messageSequence, reader);
+                      messageSequence, messageReader);
 
         case PROTOCOL_OP_TYPE_EXTENDED_RESPONSE:
           return InternalSDKHelper.readExtendedResultFrom(messageID,
-                      messageSequence, reader);
+                      messageSequence, messageReader);
 
         case PROTOCOL_OP_TYPE_SEARCH_RESULT_ENTRY:
           return InternalSDKHelper.readSearchResultEntryFrom(messageID,
-                      messageSequence, reader, schema);
+                      messageSequence, messageReader, schema);
 
         case PROTOCOL_OP_TYPE_SEARCH_RESULT_REFERENCE:
           return InternalSDKHelper.readSearchResultReferenceFrom(messageID,
-                      messageSequence, reader);
+                      messageSequence, messageReader);
 
         case PROTOCOL_OP_TYPE_SEARCH_RESULT_DONE:
           return InternalSDKHelper.readSearchResultFrom(messageID,
-                      messageSequence, reader);
+                      messageSequence, messageReader);
 
         case PROTOCOL_OP_TYPE_INTERMEDIATE_RESPONSE:
           return InternalSDKHelper.readIntermediateResponseFrom(messageID,
-                      messageSequence, reader);
+                      messageSequence, messageReader);
 
         case PROTOCOL_OP_TYPE_ABANDON_REQUEST:
         case PROTOCOL_OP_TYPE_ADD_REQUEST:
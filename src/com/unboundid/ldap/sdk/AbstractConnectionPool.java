@@ -101,6 +101,29 @@ public abstract class AbstractConnectionPool
 
 
 
+  /**
+   * Retrieves an LDAP connection from the pool for use in processing an
+   * operation of the specified type.  By default, this is equivalent to calling
+   * {@link #getConnection()}, but pool implementations may override it to
+   * take the operation type into account when deciding whether a connection
+   * may be checked out.
+   *
+   * @param  operationType  The type of operation to be processed using the
+   *                        connection.  It must not be {@code null}.
+   *
+   * @return  The LDAP connection taken from the pool.
+   *
+   * @throws  LDAPException  If no connection is available, or a problem occurs
+   *                         while creating a new connection to return.
+   */
+  LDAPConnection getConnection(final OperationType operationType)
+         throws LDAPException
+  {
+    return getConnection();
+  }
+
+
+
   /**
    * Releases the provided connection back to this pool.
    *
@@ -447,7 +470,7 @@ public abstract class AbstractConnectionPool
   public final RootDSE getRootDSE()
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnection(OperationType.SEARCH);
 
     try
     {
@@ -529,7 +552,7 @@ public abstract class AbstractConnectionPool
   public final Schema getSchema(final String entryDN)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnection(OperationType.SEARCH);
 
     try
     {
@@ -608,7 +631,7 @@ public abstract class AbstractConnectionPool
                                           final String... attributes)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnection(OperationType.SEARCH);
 
     try
     {
@@ -754,7 +777,7 @@ public abstract class AbstractConnectionPool
   public final LDAPResult add(final AddRequest addRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnection(OperationType.ADD);
 
     try
     {
@@ -858,7 +881,7 @@ public abstract class AbstractConnectionPool
   public final BindResult bind(final BindRequest bindRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnection(OperationType.BIND);
 
     try
     {
@@ -937,7 +960,7 @@ public abstract class AbstractConnectionPool
   public final CompareResult compare(final CompareRequest compareRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnection(OperationType.COMPARE);
 
     try
     {
@@ -1032,7 +1055,7 @@ public abstract class AbstractConnectionPool
   public final LDAPResult delete(final DeleteRequest deleteRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnection(OperationType.DELETE);
 
     try
     {
@@ -1169,7 +1192,7 @@ public abstract class AbstractConnectionPool
                               ERR_POOL_STARTTLS_NOT_ALLOWED.get());
     }
 
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnection(OperationType.EXTENDED);
 
     try
     {
@@ -1317,7 +1340,7 @@ public abstract class AbstractConnectionPool
   public final LDAPResult modify(final ModifyRequest modifyRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnection(OperationType.MODIFY);
 
     try
     {
@@ -1449,7 +1472,7 @@ public abstract class AbstractConnectionPool
   public final LDAPResult modifyDN(final ModifyDNRequest modifyDNRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnection(OperationType.MODIFY_DN);
 
     try
     {
@@ -2043,7 +2066,7 @@ public abstract class AbstractConnectionPool
     final LDAPConnection conn;
     try
     {
-      conn = getConnection();
+      conn = getConnection(OperationType.SEARCH);
     }
     catch (final LDAPException le)
     {
@@ -2412,7 +2435,7 @@ public abstract class AbstractConnectionPool
     final LDAPConnection conn;
     try
     {
-      conn = getConnection();
+      conn = getConnection(OperationType.SEARCH);
     }
     catch (final LDAPException le)
     {
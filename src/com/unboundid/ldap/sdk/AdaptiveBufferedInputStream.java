@@ -0,0 +1,552 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.InputStream;
+import java.io.IOException;
+
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a buffered input stream that is used to read data from
+ * the socket for an LDAP connection, and that will automatically resize its
+ * buffer based on the sizes of the LDAP messages that are read through it.
+ * The buffer will initially be {@link #INITIAL_BUFFER_SIZE} bytes, which is
+ * suitable for the small responses typically returned for interactive
+ * operations, but if the connection is used to retrieve larger messages (for
+ * example, entries with large binary attributes), then the buffer will grow
+ * (up to a configurable maximum) so that more of each message can be obtained
+ * from a single read from the socket.  If the messages later become smaller,
+ * then the buffer will shrink again so that idle connections do not hold on to
+ * an unnecessarily large buffer.
+ * <BR><BR>
+ * Any read into a caller-provided array that is at least as large as the
+ * buffer will bypass the buffer entirely when there is no buffered data and
+ * no mark has been set.  This stream supports the {@code mark} and
+ * {@code reset} methods so that an {@link com.unboundid.asn1.ASN1StreamReader}
+ * can use it directly rather than wrapping it in another buffered stream.
+ * This stream also maintains the number of reads and the number of bytes read
+ * in the associated {@link LDAPConnectionStatistics}.
+ */
+@InternalUseOnly()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class AdaptiveBufferedInputStream
+      extends InputStream
+{
+  /**
+   * The initial size, in bytes, for the buffer.  The buffer will never be
+   * smaller than this.
+   */
+  static final int INITIAL_BUFFER_SIZE = 4096;
+
+
+
+  /**
+   * The weight (expressed as a shift) to give to the size of each new message
+   * when updating the moving average message size.  A value of three means
+   * that each new message accounts for one eighth of the average.
+   */
+  private static final int AVERAGE_WEIGHT_SHIFT = 3;
+
+
+
+  // The buffer holding data read from the wrapped input stream.
+  private byte[] buffer;
+
+  // The input stream from which data will be read.
+  private final InputStream inputStream;
+
+  // The maximum size to which the buffer may grow.
+  private final int maxBufferSize;
+
+  // The size that should be used for the buffer the next time it is filled.
+  private int targetBufferSize;
+
+  // The position of the next byte to return from the buffer.
+  private int position;
+
+  // The position immediately after the last valid byte in the buffer.
+  private int limit;
+
+  // The maximum number of bytes that may be read after the mark before it
+  // may be invalidated.
+  private int markLimit;
+
+  // The position in the buffer at which the mark was set, or -1 if there is
+  // no valid mark.
+  private int markPosition;
+
+  // The statistics to update with information about reads.  It may be null.
+  private final LDAPConnectionStatistics statistics;
+
+  // The moving average size of the messages read through this stream.
+  private long averageMessageSize;
+
+  // The number of bytes that had been returned to callers when the end of the
+  // last message was reached.
+  private long bytesReturnedAtLastMessage;
+
+  // The total number of bytes that have been returned to callers.
+  private long totalBytesReturned;
+
+
+
+  /**
+   * Creates a new adaptive buffered input stream with the provided
+   * information.
+   *
+   * @param  inputStream    The input stream from which data will be read.
+   * @param  maxBufferSize  The maximum size to which the buffer may grow.  If
+   *                        this is less than or equal to the initial buffer
+   *                        size, then the buffer will not grow.
+   * @param  statistics     The statistics to update with information about
+   *                        reads.  It may be {@code null} if no statistics
+   *                        should be maintained.
+   */
+  AdaptiveBufferedInputStream(final InputStream inputStream,
+                              final int maxBufferSize,
+                              final LDAPConnectionStatistics statistics)
+  {
+    this.inputStream   = inputStream;
+    this.statistics    = statistics;
+    this.maxBufferSize = Math.max(INITIAL_BUFFER_SIZE, maxBufferSize);
+
+    buffer                     = new byte[INITIAL_BUFFER_SIZE];
+    targetBufferSize           = INITIAL_BUFFER_SIZE;
+    position                   = 0;
+    limit                      = 0;
+    markLimit                  = 0;
+    markPosition               = -1;
+    averageMessageSize         = 0L;
+    bytesReturnedAtLastMessage = 0L;
+    totalBytesReturned         = 0L;
+  }
+
+
+
+  /**
+   * Reads a single byte of data.
+   *
+   * @return  The byte that was read, or -1 if the end of the stream has been
+   *          reached.
+   *
+   * @throws  IOException  If a problem occurs while reading data.
+   */
+  @Override()
+  public int read()
+         throws IOException
+  {
+    if ((position >= limit) && (! fill()))
+    {
+      return -1;
+    }
+
+    totalBytesReturned++;
+    return (buffer[position++] & 0xFF);
+  }
+
+
+
+  /**
+   * Reads data into the provided array.
+   *
+   * @param  b  The array into which the data should be read.
+   *
+   * @return  The number of bytes read, or -1 if the end of the stream has been
+   *          reached.
+   *
+   * @throws  IOException  If a problem occurs while reading data.
+   */
+  @Override()
+  public int read(final byte[] b)
+         throws IOException
+  {
+    return read(b, 0, b.length);
+  }
+
+
+
+  /**
+   * Reads data into the specified portion of the provided array.
+   *
+   * @param  b       The array into which the data should be read.
+   * @param  offset  The position in the array at which to begin placing the
+   *                 data that is read.
+   * @param  length  The maximum number of bytes to read.
+   *
+   * @return  The number of bytes read, or -1 if the end of the stream has been
+   *          reached.
+   *
+   * @throws  IOException  If a problem occurs while reading data.
+   */
+  @Override()
+  public int read(final byte[] b, final int offset, final int length)
+         throws IOException
+  {
+    if (length == 0)
+    {
+      return 0;
+    }
+
+    if (position >= limit)
+    {
+      if ((length >= targetBufferSize) && (markPosition < 0))
+      {
+        // There is no point in copying the data through the buffer.
+        final int bytesRead = readFromStream(b, offset, length);
+        if (bytesRead > 0)
+        {
+          totalBytesReturned += bytesRead;
+        }
+
+        return bytesRead;
+      }
+
+      if (! fill())
+      {
+        return -1;
+      }
+    }
+
+    final int bytesToCopy = Math.min(length, (limit - position));
+    System.arraycopy(buffer, position, b, offset, bytesToCopy);
+    position += bytesToCopy;
+    totalBytesReturned += bytesToCopy;
+    return bytesToCopy;
+  }
+
+
+
+  /**
+   * Skips over the specified number of bytes.
+   *
+   * @param  n  The maximum number of bytes to skip.
+   *
+   * @return  The number of bytes actually skipped.
+   *
+   * @throws  IOException  If a problem occurs while reading data.
+   */
+  @Override()
+  public long skip(final long n)
+         throws IOException
+  {
+    if (n <= 0L)
+    {
+      return 0L;
+    }
+
+    if ((position >= limit) && (! fill()))
+    {
+      return 0L;
+    }
+
+    final int bytesToSkip = (int) Math.min(n, (limit - position));
+    position += bytesToSkip;
+    totalBytesReturned += bytesToSkip;
+    return bytesToSkip;
+  }
+
+
+
+  /**
+   * Retrieves the number of bytes that may be read without blocking.
+   *
+   * @return  The number of bytes that may be read without blocking.
+   *
+   * @throws  IOException  If a problem occurs while making the determination.
+   */
+  @Override()
+  public int available()
+         throws IOException
+  {
+    return (limit - position) + inputStream.available();
+  }
+
+
+
+  /**
+   * Indicates whether this input stream supports the use of the {@code mark}
+   * and {@code reset} methods.
+   *
+   * @return  {@code true}, since this input stream supports marking.
+   */
+  @Override()
+  public boolean markSupported()
+  {
+    return true;
+  }
+
+
+
+  /**
+   * Marks the current position in this input stream so that a subsequent call
+   * to {@code reset} will return to it.
+   *
+   * @param  readLimit  The maximum number of bytes that may be read before the
+   *                    mark may be invalidated.
+   */
+  @Override()
+  public void mark(final int readLimit)
+  {
+    markPosition = position;
+    markLimit    = readLimit;
+  }
+
+
+
+  /**
+   * Returns to the position at which the mark was last set.  Any bytes read
+   * since the mark will not be counted toward the size of the current message.
+   *
+   * @throws  IOException  If there is no valid mark.
+   */
+  @Override()
+  public void reset()
+         throws IOException
+  {
+    if (markPosition < 0)
+    {
+      throw new IOException(ERR_ADAPTIVE_INPUT_STREAM_RESET_WITHOUT_MARK.get());
+    }
+
+    totalBytesReturned -= (position - markPosition);
+    position = markPosition;
+  }
+
+
+
+  /**
+   * Closes this input stream and the wrapped input stream.
+   *
+   * @throws  IOException  If a problem occurs while closing the stream.
+   */
+  @Override()
+  public void close()
+         throws IOException
+  {
+    inputStream.close();
+  }
+
+
+
+  /**
+   * Indicates that the end of an LDAP message has been reached.  The size of
+   * the message will be determined from the number of bytes read since the end
+   * of the previous message, and it will be used to determine whether the
+   * buffer should be resized.  Any resize will take effect the next time the
+   * buffer needs to be filled.
+   */
+  void messageRead()
+  {
+    final long messageSize = totalBytesReturned - bytesReturnedAtLastMessage;
+    bytesReturnedAtLastMessage = totalBytesReturned;
+
+    if (statistics != null)
+    {
+      statistics.incrementNumMessagesRead();
+    }
+
+    if (averageMessageSize == 0L)
+    {
+      averageMessageSize = messageSize;
+    }
+    else
+    {
+      averageMessageSize +=
+           ((messageSize - averageMessageSize) >> AVERAGE_WEIGHT_SHIFT);
+    }
+
+    // Try to size the buffer so that it can hold about two average messages,
+    // using a power of two that is within the allowed range.
+    int desiredSize = INITIAL_BUFFER_SIZE;
+    while ((desiredSize < (averageMessageSize << 1)) &&
+           (desiredSize < maxBufferSize))
+    {
+      desiredSize <<= 1;
+    }
+    desiredSize = Math.min(desiredSize, maxBufferSize);
+
+    // Grow the buffer as soon as it appears to be too small, but only shrink it
+    // once it is at least eight times the average message size so that it
+    // won't keep flipping between two sizes.
+    if ((desiredSize > targetBufferSize) ||
+        ((desiredSize < targetBufferSize) &&
+         ((averageMessageSize << 3) <= targetBufferSize)))
+    {
+      targetBufferSize = desiredSize;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the moving average size of the messages read through this
+   * stream.
+   *
+   * @return  The moving average size of the messages read through this
+   *          stream, or zero if no messages have been read.
+   */
+  long getAverageMessageSize()
+  {
+    return averageMessageSize;
+  }
+
+
+
+  /**
+   * Retrieves the size of the buffer that is currently in use.
+   *
+   * @return  The size of the buffer that is currently in use.
+   */
+  int getBufferSize()
+  {
+    return buffer.length;
+  }
+
+
+
+  /**
+   * Retrieves the size that will be used for the buffer the next time it is
+   * filled.
+   *
+   * @return  The size that will be used for the buffer the next time it is
+   *          filled.
+   */
+  int getTargetBufferSize()
+  {
+    return targetBufferSize;
+  }
+
+
+
+  /**
+   * Retrieves the maximum size to which the buffer may grow.
+   *
+   * @return  The maximum size to which the buffer may grow.
+   */
+  int getMaxBufferSize()
+  {
+    return maxBufferSize;
+  }
+
+
+
+  /**
+   * Fills the buffer with data from the wrapped input stream, resizing it
+   * first if appropriate.  This must only be called when all of the data
+   * previously held in the buffer has been consumed.  If there is a valid
+   * mark, then any data read since the mark will be retained at the start of
+   * the buffer.
+   *
+   * @return  {@code true} if data was read into the buffer, or {@code false}
+   *          if the end of the stream has been reached.
+   *
+   * @throws  IOException  If a problem occurs while reading data.
+   */
+  private boolean fill()
+          throws IOException
+  {
+    int retained = 0;
+    if (markPosition >= 0)
+    {
+      retained = limit - markPosition;
+      if (retained >= markLimit)
+      {
+        markPosition = -1;
+        retained     = 0;
+      }
+    }
+
+    final int newSize = Math.max(targetBufferSize, (retained << 1));
+    if (buffer.length != newSize)
+    {
+      final byte[] newBuffer = new byte[newSize];
+      if (retained > 0)
+      {
+        System.arraycopy(buffer, markPosition, newBuffer, 0, retained);
+      }
+      buffer = newBuffer;
+    }
+    else if (retained > 0)
+    {
+      System.arraycopy(buffer, markPosition, buffer, 0, retained);
+    }
+
+    if (markPosition >= 0)
+    {
+      markPosition = 0;
+    }
+
+    position = retained;
+    limit    = retained;
+
+    int bytesRead;
+    do
+    {
+      bytesRead = readFromStream(buffer, retained, (buffer.length - retained));
+    }
+    while (bytesRead == 0);
+
+    if (bytesRead < 0)
+    {
+      return false;
+    }
+
+    limit = retained + bytesRead;
+    return true;
+  }
+
+
+
+  /**
+   * Reads data from the wrapped input stream and updates the statistics.
+   *
+   * @param  b       The array into which the data should be read.
+   * @param  offset  The position in the array at which to begin placing the
+   *                 data that is read.
+   * @param  length  The maximum number of bytes to read.
+   *
+   * @return  The number of bytes read, or -1 if the end of the stream has been
+   *          reached.
+   *
+   * @throws  IOException  If a problem occurs while reading data.
+   */
+  private int readFromStream(final byte[] b, final int offset,
+                             final int length)
+          throws IOException
+  {
+    final int bytesRead = inputStream.read(b, offset, length);
+    if ((bytesRead > 0) && (statistics != null))
+    {
+      statistics.incrementNumReads(bytesRead);
+    }
+
+    return bytesRead;
+  }
+}
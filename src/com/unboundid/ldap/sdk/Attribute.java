@@ -1489,7 +1489,7 @@ public final class Attribute
       final ASN1StreamReaderSet valueSet = reader.beginSet();
       while (valueSet.hasMoreElements())
       {
-        valueList.add(new ASN1OctetString(reader.readBytes()));
+        valueList.add(reader.readOctetString());
       }
 
       final ASN1OctetString[] values = new ASN1OctetString[valueList.size()];
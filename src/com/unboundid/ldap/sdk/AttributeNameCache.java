@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a global cache of attribute names (including any
+ * attribute options) that can be used to share a single string instance for
+ * each distinct name, and to obtain the lowercase representation of a name
+ * without creating a new string each time.  Because the number of distinct
+ * attribute names in use is generally small, nearly all lookups will be
+ * satisfied from the cache.  Each cache is limited in size, and will be
+ * cleared if it becomes full so that it cannot grow without bound if a large
+ * number of distinct names are encountered.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class AttributeNameCache
+{
+  /**
+   * The maximum number of names to hold in each cache.
+   */
+  static final int MAX_CACHED_NAMES = 1000;
+
+
+
+  /**
+   * The maximum length of a name that may be cached.
+   */
+  private static final int MAX_CACHED_NAME_LENGTH = 100;
+
+
+
+  /**
+   * A map of cached names, in which each name is mapped to itself.
+   */
+  private static final ConcurrentHashMap<String,String> INTERNED_NAMES =
+       new ConcurrentHashMap<String,String>(MAX_CACHED_NAMES);
+
+
+
+  /**
+   * A map of names, in the form in which they were provided, to their
+   * lowercase representations.
+   */
+  private static final ConcurrentHashMap<String,String> LOWERCASE_NAMES =
+       new ConcurrentHashMap<String,String>(MAX_CACHED_NAMES);
+
+
+
+  /**
+   * Prevents this utility class from being instantiated.
+   */
+  private AttributeNameCache()
+  {
+    // No implementation required.
+  }
+
+
+
+  /**
+   * Retrieves an internalized representation of the provided attribute name.
+   * It will be a cached name, so that the same string can be used for the same
+   * attribute name rather than multiple equivalent strings.
+   *
+   * @param  name  The name to be internalized.
+   *
+   * @return  The internalized representation of the provided name.
+   */
+  static String intern(final String name)
+  {
+    String s = INTERNED_NAMES.get(name);
+    if (s == null)
+    {
+      if (name.length() > MAX_CACHED_NAME_LENGTH)
+      {
+        return name;
+      }
+
+      if (INTERNED_NAMES.size() >= MAX_CACHED_NAMES)
+      {
+        INTERNED_NAMES.clear();
+      }
+
+      s = INTERNED_NAMES.putIfAbsent(name, name);
+      if (s == null)
+      {
+        s = name;
+      }
+    }
+
+    return s;
+  }
+
+
+
+  /**
+   * Retrieves an internalized lowercase representation of the provided
+   * attribute name.  If the name has been seen before, then no new string will
+   * be created.
+   *
+   * @param  name  The name for which to obtain the lowercase representation.
+   *
+   * @return  The lowercase representation of the provided name.
+   */
+  static String toLowerCase(final String name)
+  {
+    String lowerName = LOWERCASE_NAMES.get(name);
+    if (lowerName == null)
+    {
+      if (name.length() > MAX_CACHED_NAME_LENGTH)
+      {
+        return StaticUtils.toLowerCase(name);
+      }
+
+      lowerName = intern(StaticUtils.toLowerCase(name));
+
+      if (LOWERCASE_NAMES.size() >= MAX_CACHED_NAMES)
+      {
+        LOWERCASE_NAMES.clear();
+      }
+
+      LOWERCASE_NAMES.put(name, lowerName);
+    }
+
+    return lowerName;
+  }
+}
@@ -23,7 +23,6 @@ package com.unboundid.ldap.sdk;
 
 
 import java.io.Serializable;
-import java.util.concurrent.ConcurrentHashMap;
 
 import com.unboundid.util.NotMutable;
 import com.unboundid.util.ThreadSafety;
@@ -42,21 +41,6 @@ import static com.unboundid.util.StaticUtils.*;
 final class CompactAttribute
       implements Serializable
 {
-  /**
-   * The maximum number of cached names to maintain.
-   */
-  private static final int MAX_CACHED_NAMES = 1000;
-
-
-
-  /**
-   * A set of cached attribute names to conserve space.
-   */
-  private static final ConcurrentHashMap<String,String> cachedNames =
-       new ConcurrentHashMap<String,String>(MAX_CACHED_NAMES);
-
-
-
   /**
    * The serial version UID for this serializable class.
    */
@@ -79,40 +63,12 @@ final class CompactAttribute
    */
   CompactAttribute(final Attribute attribute)
   {
-    name = internName(attribute.getName());
+    name = AttributeNameCache.intern(attribute.getName());
     values = attribute.getValueByteArrays();
   }
 
 
 
-  /**
-   * Retrieves an internalized representation of the provided attribute name.
-   * It will be a cached name, so that the same string can be used for the same
-   * attribute name rather than multiple equivalent strings.
-   *
-   * @param  name  The name to be internalized.
-   *
-   * @return  The internalized representation of the provided name.
-   */
-  private static String internName(final String name)
-  {
-    String s = cachedNames.get(name);
-    if (s == null)
-    {
-      if (cachedNames.size() >= MAX_CACHED_NAMES)
-      {
-        cachedNames.clear();
-      }
-
-      cachedNames.put(name, name);
-      s = name;
-    }
-
-    return s;
-  }
-
-
-
   /**
    * Retrieves the name for this attribute.
    *
@@ -133,6 +133,9 @@ public final class DN
 
 
 
+  // The parent DN for this DN, if it was created by a DN cache.
+  private final transient DN sharedParentDN;
+
   // The set of RDN components that make up this DN.
   private final RDN[] rdns;
 
@@ -157,7 +160,8 @@ public final class DN
   {
     ensureNotNull(rdns);
 
-    this.rdns = rdns;
+    this.rdns      = rdns;
+    sharedParentDN = null;
     if (rdns.length == 0)
     {
       dnString         = "";
@@ -198,6 +202,8 @@ public final class DN
   {
     ensureNotNull(rdns);
 
+    sharedParentDN = null;
+
     if (rdns.isEmpty())
     {
       this.rdns        = NO_RDNS;
@@ -243,6 +249,8 @@ public final class DN
   {
     ensureNotNull(rdn, parentDN);
 
+    sharedParentDN = null;
+
     rdns = new RDN[parentDN.rdns.length + 1];
     rdns[0] = rdn;
     System.arraycopy(parentDN.rdns, 0, rdns, 1, parentDN.rdns.length);
@@ -303,8 +311,9 @@ public final class DN
   {
     ensureNotNull(dnString);
 
-    this.dnString = dnString;
-    this.schema   = schema;
+    this.dnString  = dnString;
+    this.schema    = schema;
+    sharedParentDN = null;
 
     final ArrayList<RDN> rdnList = new ArrayList<RDN>(5);
 
@@ -661,6 +670,50 @@ rdnLoop:
 
 
 
+  /**
+   * Creates a new DN with the provided information.
+   *
+   * @param  dnString        The string representation for this DN.
+   * @param  schema          The schema to use to generate the normalized string
+   *                         representation of this DN, if any.
+   * @param  rdns            The RDN components for this DN.
+   * @param  sharedParentDN  The parent DN for this DN.
+   */
+  private DN(final String dnString, final Schema schema, final RDN[] rdns,
+             final DN sharedParentDN)
+  {
+    this.dnString       = dnString;
+    this.schema         = schema;
+    this.rdns           = rdns;
+    this.sharedParentDN = sharedParentDN;
+  }
+
+
+
+  /**
+   * Creates a new DN with the same string representation and leaf RDN as the
+   * provided DN, but that shares the RDN components of the given parent DN.
+   * This is intended for use by the {@link DNCache} class, so that DNs with a
+   * common parent can share the same parent DN instance.
+   *
+   * @param  dn        The DN that was parsed from the string representation.
+   *                   It must have at least two RDN components.
+   * @param  parentDN  The parent DN to use for the new DN.  It must be
+   *                   equivalent to the parent of the provided DN, and must
+   *                   have the same string representation as that parent.
+   *
+   * @return  The DN that was created.
+   */
+  static DN createWithSharedParent(final DN dn, final DN parentDN)
+  {
+    final RDN[] rdns = new RDN[parentDN.rdns.length + 1];
+    rdns[0] = dn.rdns[0];
+    System.arraycopy(parentDN.rdns, 0, rdns, 1, parentDN.rdns.length);
+    return new DN(dn.dnString, dn.schema, rdns, parentDN);
+  }
+
+
+
   /**
    * Retrieves a trimmed version of the string representation of the RDN in the
    * specified portion of the provided DN string.  Only non-escaped trailing
@@ -879,6 +932,11 @@ rdnLoop:
    */
   public DN getParent()
   {
+    if (sharedParentDN != null)
+    {
+      return sharedParentDN;
+    }
+
     switch (rdns.length)
     {
       case 0:
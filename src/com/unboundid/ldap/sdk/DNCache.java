@@ -0,0 +1,301 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.util.Validator.*;
+
+
+
+/**
+ * This class provides a bounded cache of parsed DNs, keyed by their string
+ * representations.  It may be used by applications that need to parse the
+ * same DN strings many times (for example, when processing changelog entries
+ * or reading DNs from a file), so that each distinct DN string only needs to
+ * be parsed once.
+ * <BR><BR>
+ * The parent DN of each DN in the cache is also held in the cache, and the
+ * DNs returned by this cache share their parent DN instance (and the RDN
+ * components of that parent) with all other cached DNs that have the same
+ * parent.  This means that {@link DN#getParent} does not need to create a new
+ * DN object for a cached DN, and that the RDN comparisons performed by
+ * methods like {@link DN#isDescendantOf(DN,boolean)} and
+ * {@link DN#matchesBaseAndScope(DN,SearchScope)} can be satisfied by simple
+ * reference checks for the portion of the DNs that are shared.  Parent DNs are
+ * only shared when their string representations are identical, so a DN
+ * obtained from this cache will behave exactly the same as a DN created by
+ * parsing the same string.
+ * <BR><BR>
+ * If the cache becomes full, then it will be cleared so that it cannot grow
+ * without bound when a large number of distinct DNs are encountered.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for using a DN cache to
+ * parse DNs read from a file:
+ * <PRE>
+ * DNCache dnCache = new DNCache(100000);
+ * DNFileReader reader = new DNFileReader(dnFile, dnCache);
+ * while (true)
+ * {
+ *   DN dn = reader.readDN();
+ *   if (dn == null)
+ *   {
+ *     break;
+ *   }
+ *
+ *   if (dn.isDescendantOf(baseDN, true))
+ *   {
+ *     // Process the DN.
+ *   }
+ * }
+ * reader.close();
+ * </PRE>
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class DNCache
+{
+  // The number of requests that were satisfied from the cache.
+  private final AtomicLong cacheHits;
+
+  // The number of requests that required a DN to be parsed.
+  private final AtomicLong cacheMisses;
+
+  // The map of DN strings to the corresponding DNs.
+  private final ConcurrentHashMap<String,DN> dnMap;
+
+  // The maximum number of DNs to hold in the cache.
+  private final int maxSize;
+
+  // The schema to use when parsing DNs, if any.
+  private final Schema schema;
+
+
+
+  /**
+   * Creates a new DN cache that will hold up to the specified number of DNs,
+   * and that will not use a schema when parsing DNs.
+   *
+   * @param  maxSize  The maximum number of DNs to hold in the cache.  It must
+   *                  be greater than zero.
+   */
+  public DNCache(final int maxSize)
+  {
+    this(maxSize, null);
+  }
+
+
+
+  /**
+   * Creates a new DN cache that will hold up to the specified number of DNs.
+   *
+   * @param  maxSize  The maximum number of DNs to hold in the cache.  It must
+   *                  be greater than zero.
+   * @param  schema   The schema to use when parsing DNs.  It may be
+   *                  {@code null} if no schema should be used.
+   */
+  public DNCache(final int maxSize, final Schema schema)
+  {
+    ensureTrue((maxSize > 0), "DNCache.maxSize must be greater than zero.");
+
+    this.maxSize = maxSize;
+    this.schema  = schema;
+
+    dnMap       = new ConcurrentHashMap<String,DN>(Math.min(maxSize, 1024));
+    cacheHits   = new AtomicLong(0L);
+    cacheMisses = new AtomicLong(0L);
+  }
+
+
+
+  /**
+   * Retrieves the DN with the provided string representation, parsing it and
+   * adding it to the cache if necessary.
+   *
+   * @param  dnString  The string representation of the DN to retrieve.  It
+   *                   must not be {@code null}.
+   *
+   * @return  The DN with the provided string representation.
+   *
+   * @throws  LDAPException  If the provided string cannot be parsed as a valid
+   *                         DN.
+   */
+  public DN getDN(final String dnString)
+         throws LDAPException
+  {
+    ensureNotNull(dnString);
+
+    final DN cachedDN = dnMap.get(dnString);
+    if (cachedDN != null)
+    {
+      cacheHits.incrementAndGet();
+      return cachedDN;
+    }
+
+    cacheMisses.incrementAndGet();
+    return cache(dnString, new DN(dnString, schema));
+  }
+
+
+
+  /**
+   * Adds the provided DN to the cache with the given string representation,
+   * replacing its parent DN with the instance held in the cache.
+   *
+   * @param  dnString  The string representation with which to cache the DN.
+   * @param  dn        The DN to be cached.
+   *
+   * @return  The DN that was added to the cache, or a DN that was concurrently
+   *          added to the cache by another thread with the same string
+   *          representation.
+   */
+  private DN cache(final String dnString, final DN dn)
+  {
+    final DN dnToCache;
+    final RDN[] rdns = dn.getRDNs();
+    if (rdns.length < 2)
+    {
+      dnToCache = dn;
+    }
+    else
+    {
+      // Generate the string representation of the parent DN in the same way
+      // that DN.getParent would, so that the cached parent will be identical
+      // to the one that would otherwise have been created.
+      final StringBuilder buffer = new StringBuilder();
+      for (int i=1; i < rdns.length; i++)
+      {
+        if (i > 1)
+        {
+          buffer.append(',');
+        }
+        rdns[i].toString(buffer, false);
+      }
+
+      final String parentString = buffer.toString();
+      DN parentDN = dnMap.get(parentString);
+      if (parentDN == null)
+      {
+        parentDN = cache(parentString, dn.getParent());
+      }
+
+      dnToCache = DN.createWithSharedParent(dn, parentDN);
+    }
+
+    if (dnMap.size() >= maxSize)
+    {
+      dnMap.clear();
+    }
+
+    final DN existingDN = dnMap.putIfAbsent(dnString, dnToCache);
+    if (existingDN == null)
+    {
+      return dnToCache;
+    }
+    else
+    {
+      return existingDN;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of DNs that may be held in the cache.
+   *
+   * @return  The maximum number of DNs that may be held in the cache.
+   */
+  public int getMaxSize()
+  {
+    return maxSize;
+  }
+
+
+
+  /**
+   * Retrieves the number of DNs currently held in the cache, including the
+   * parent DNs of any DNs that have been requested.
+   *
+   * @return  The number of DNs currently held in the cache.
+   */
+  public int size()
+  {
+    return dnMap.size();
+  }
+
+
+
+  /**
+   * Retrieves the number of requests that have been satisfied by a DN that was
+   * already held in the cache.
+   *
+   * @return  The number of requests that have been satisfied by a DN that was
+   *          already held in the cache.
+   */
+  public long getCacheHits()
+  {
+    return cacheHits.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of requests that required a DN to be parsed.
+   *
+   * @return  The number of requests that required a DN to be parsed.
+   */
+  public long getCacheMisses()
+  {
+    return cacheMisses.get();
+  }
+
+
+
+  /**
+   * Removes all DNs from the cache.
+   */
+  public void clear()
+  {
+    dnMap.clear();
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this DN cache.
+   *
+   * @return  A string representation of this DN cache.
+   */
+  @Override()
+  public String toString()
+  {
+    return "DNCache(maxSize=" + maxSize + ", size=" + dnMap.size() +
+         ", cacheHits=" + cacheHits.get() + ", cacheMisses=" +
+         cacheMisses.get() + ')';
+  }
+}
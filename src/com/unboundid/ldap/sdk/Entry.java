@@ -39,7 +39,7 @@ import java.util.StringTokenizer;
 import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.matchingrules.MatchingRule;
 import com.unboundid.ldap.matchingrules.OctetStringMatchingRule;
-import com.unboundid.ldap.sdk.schema.AttributeTypeDefinition;
+import com.unboundid.ldap.sdk.schema.ResolvedAttributeType;
 import com.unboundid.ldap.sdk.schema.Schema;
 import com.unboundid.ldif.LDIFException;
 import com.unboundid.ldif.LDIFReader;
@@ -234,7 +234,7 @@ public class Entry
     this.attributes = new LinkedHashMap<String,Attribute>(attributes.length);
     for (final Attribute a : attributes)
     {
-      final String name = toLowerCase(a.getName());
+      final String name = AttributeNameCache.toLowerCase(a.getName());
       final Attribute attr = this.attributes.get(name);
       if (attr == null)
       {
@@ -283,7 +283,7 @@ public class Entry
     this.attributes = new LinkedHashMap<String,Attribute>(attributes.length);
     for (final Attribute a : attributes)
     {
-      final String name = toLowerCase(a.getName());
+      final String name = AttributeNameCache.toLowerCase(a.getName());
       final Attribute attr = this.attributes.get(name);
       if (attr == null)
       {
@@ -332,7 +332,7 @@ public class Entry
     this.attributes = new LinkedHashMap<String,Attribute>(attributes.size());
     for (final Attribute a : attributes)
     {
-      final String name = toLowerCase(a.getName());
+      final String name = AttributeNameCache.toLowerCase(a.getName());
       final Attribute attr = this.attributes.get(name);
       if (attr == null)
       {
@@ -382,7 +382,7 @@ public class Entry
     this.attributes = new LinkedHashMap<String,Attribute>(attributes.size());
     for (final Attribute a : attributes)
     {
-      final String name = toLowerCase(a.getName());
+      final String name = AttributeNameCache.toLowerCase(a.getName());
       final Attribute attr = this.attributes.get(name);
       if (attr == null)
       {
@@ -612,43 +612,14 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    if (attributes.containsKey(toLowerCase(attributeName)))
+    if (attributes.containsKey(AttributeNameCache.toLowerCase(attributeName)))
     {
       return true;
     }
 
     if (schema != null)
     {
-      final String baseName;
-      final String options;
-      final int semicolonPos = attributeName.indexOf(';');
-      if (semicolonPos > 0)
-      {
-        baseName = attributeName.substring(0, semicolonPos);
-        options  = toLowerCase(attributeName.substring(semicolonPos));
-      }
-      else
-      {
-        baseName = attributeName;
-        options  = "";
-      }
-
-      final AttributeTypeDefinition at = schema.getAttributeType(baseName);
-      if (at != null)
-      {
-        if (attributes.containsKey(toLowerCase(at.getOID()) + options))
-        {
-          return true;
-        }
-
-        for (final String name : at.getNames())
-        {
-          if (attributes.containsKey(toLowerCase(name) + options))
-          {
-            return true;
-          }
-        }
-      }
+      return (getAttributeWithAlternateName(attributeName, schema) != null);
     }
 
     return false;
@@ -671,7 +642,8 @@ public class Entry
   {
     ensureNotNull(attribute);
 
-    final String lowerName = toLowerCase(attribute.getName());
+    final String lowerName =
+         AttributeNameCache.toLowerCase(attribute.getName());
     final Attribute attr = attributes.get(lowerName);
     return ((attr != null) && attr.equals(attribute));
   }
@@ -695,7 +667,8 @@ public class Entry
   {
     ensureNotNull(attributeName, attributeValue);
 
-    final Attribute attr = attributes.get(toLowerCase(attributeName));
+    final Attribute attr =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     return ((attr != null) && attr.hasValue(attributeValue));
   }
 
@@ -721,7 +694,8 @@ public class Entry
   {
     ensureNotNull(attributeName, attributeValue);
 
-    final Attribute attr = attributes.get(toLowerCase(attributeName));
+    final Attribute attr =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     return ((attr != null) && attr.hasValue(attributeValue, matchingRule));
   }
 
@@ -744,7 +718,8 @@ public class Entry
   {
     ensureNotNull(attributeName, attributeValue);
 
-    final Attribute attr = attributes.get(toLowerCase(attributeName));
+    final Attribute attr =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     return ((attr != null) && attr.hasValue(attributeValue));
   }
 
@@ -770,7 +745,8 @@ public class Entry
   {
     ensureNotNull(attributeName, attributeValue);
 
-    final Attribute attr = attributes.get(toLowerCase(attributeName));
+    final Attribute attr =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     return ((attr != null) && attr.hasValue(attributeValue, matchingRule));
   }
 
@@ -837,47 +813,103 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    Attribute a = attributes.get(toLowerCase(attributeName));
+    final Attribute a =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     if ((a == null) && (schema != null))
     {
-      final String baseName;
-      final String options;
-      final int semicolonPos = attributeName.indexOf(';');
-      if (semicolonPos > 0)
-      {
-        baseName = attributeName.substring(0, semicolonPos);
-        options  = toLowerCase(attributeName.substring(semicolonPos));
-      }
-      else
-      {
-        baseName = attributeName;
-        options  = "";
-      }
+      return getAttributeWithAlternateName(attributeName, schema);
+    }
+    else
+    {
+      return a;
+    }
+  }
 
-      final AttributeTypeDefinition at = schema.getAttributeType(baseName);
-      if (at == null)
-      {
-        return null;
-      }
 
-      a = attributes.get(toLowerCase(at.getOID() + options));
-      if (a == null)
+
+  /**
+   * Retrieves the attribute in this entry whose attribute type matches that of
+   * the specified attribute but that is referenced by a different name (e.g.,
+   * the OID or another name for the attribute type), and that has the same set
+   * of attribute options.  The OID is checked first, followed by each of the
+   * names in the order that they are defined.
+   *
+   * @param  attributeName  The name of the attribute to retrieve.  It must not
+   *                        be {@code null}.
+   * @param  schema         The schema to use to determine the alternate names
+   *                        for the specified attribute.  It must not be
+   *                        {@code null}.
+   *
+   * @return  The requested attribute from this entry, or {@code null} if the
+   *          specified attribute type is not defined in the schema or if it is
+   *          not present in this entry with the same set of options.
+   */
+  private Attribute getAttributeWithAlternateName(final String attributeName,
+                                                  final Schema schema)
+  {
+    final String baseName;
+    final String lowerOptions;
+    final int semicolonPos = attributeName.indexOf(';');
+    if (semicolonPos > 0)
+    {
+      baseName     = attributeName.substring(0, semicolonPos);
+      lowerOptions = toLowerCase(attributeName.substring(semicolonPos));
+    }
+    else
+    {
+      baseName     = attributeName;
+      lowerOptions = null;
+    }
+
+    final ResolvedAttributeType type =
+         schema.getResolvedAttributeType(baseName);
+    if (type == null)
+    {
+      return null;
+    }
+
+    final Attribute a = attributes.get(getKey(type.getOID(), lowerOptions));
+    if (a != null)
+    {
+      return a;
+    }
+
+    for (final String name : type.getNames())
+    {
+      final Attribute nameAttr = attributes.get(getKey(name, lowerOptions));
+      if (nameAttr != null)
       {
-        for (final String name : at.getNames())
-        {
-          a = attributes.get(toLowerCase(name) + options);
-          if (a != null)
-          {
-            return a;
-          }
-        }
+        return nameAttr;
       }
+    }
 
-      return a;
+    return null;
+  }
+
+
+
+  /**
+   * Retrieves the key that would be used in the attribute map for an attribute
+   * with the given base name and set of options.
+   *
+   * @param  baseName      The base name for the attribute, without any
+   *                       options.
+   * @param  lowerOptions  The lowercase representation of the attribute options
+   *                       (including the leading semicolon), or {@code null} if
+   *                       there are no options.
+   *
+   * @return  The key that would be used in the attribute map.
+   */
+  private static String getKey(final String baseName, final String lowerOptions)
+  {
+    final String lowerBaseName = AttributeNameCache.toLowerCase(baseName);
+    if (lowerOptions == null)
+    {
+      return lowerBaseName;
     }
     else
     {
-      return a;
+      return lowerBaseName + lowerOptions;
     }
   }
 
@@ -953,7 +985,8 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    final Attribute a = attributes.get(toLowerCase(attributeName));
+    final Attribute a =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     if (a == null)
     {
       return null;
@@ -981,7 +1014,8 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    final Attribute a = attributes.get(toLowerCase(attributeName));
+    final Attribute a =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     if (a == null)
     {
       return null;
@@ -1012,7 +1046,8 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    final Attribute a = attributes.get(toLowerCase(attributeName));
+    final Attribute a =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     if (a == null)
     {
       return null;
@@ -1041,7 +1076,8 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    final Attribute a = attributes.get(toLowerCase(attributeName));
+    final Attribute a =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     if (a == null)
     {
       return null;
@@ -1070,7 +1106,8 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    final Attribute a = attributes.get(toLowerCase(attributeName));
+    final Attribute a =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     if (a == null)
     {
       return null;
@@ -1099,7 +1136,8 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    final Attribute a = attributes.get(toLowerCase(attributeName));
+    final Attribute a =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     if (a == null)
     {
       return null;
@@ -1128,7 +1166,8 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    final Attribute a = attributes.get(toLowerCase(attributeName));
+    final Attribute a =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     if (a == null)
     {
       return null;
@@ -1154,7 +1193,8 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    final Attribute a = attributes.get(toLowerCase(attributeName));
+    final Attribute a =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     if (a == null)
     {
       return null;
@@ -1181,7 +1221,8 @@ public class Entry
   {
     ensureNotNull(attributeName);
 
-    final Attribute a = attributes.get(toLowerCase(attributeName));
+    final Attribute a =
+         attributes.get(AttributeNameCache.toLowerCase(attributeName));
     if (a == null)
     {
       return null;
@@ -1234,7 +1275,8 @@ public class Entry
   {
     ensureNotNull(attribute);
 
-    final String lowerName = toLowerCase(attribute.getName());
+    final String lowerName =
+         AttributeNameCache.toLowerCase(attribute.getName());
     final Attribute attr = attributes.get(lowerName);
     if (attr == null)
     {
@@ -1371,7 +1413,8 @@ public class Entry
 
     if (schema == null)
     {
-      return (attributes.remove(toLowerCase(attributeName)) != null);
+      return (attributes.remove(
+           AttributeNameCache.toLowerCase(attributeName)) != null);
     }
     else
     {
@@ -1382,7 +1425,7 @@ public class Entry
       }
       else
       {
-        attributes.remove(toLowerCase(a.getName()));
+        attributes.remove(AttributeNameCache.toLowerCase(a.getName()));
         return true;
       }
     }
@@ -1442,7 +1485,7 @@ public class Entry
     }
     else
     {
-      final String lowerName = toLowerCase(attr.getName());
+      final String lowerName = AttributeNameCache.toLowerCase(attr.getName());
       final Attribute newAttr = Attribute.removeValues(attr,
            new Attribute(attributeName, attributeValue), matchingRule);
       if (newAttr.hasValue())
@@ -1512,7 +1555,7 @@ public class Entry
     }
     else
     {
-      final String lowerName = toLowerCase(attr.getName());
+      final String lowerName = AttributeNameCache.toLowerCase(attr.getName());
       final Attribute newAttr = Attribute.removeValues(attr,
            new Attribute(attributeName, attributeValue), matchingRule);
       if (newAttr.hasValue())
@@ -1556,7 +1599,7 @@ public class Entry
     }
     else
     {
-      final String lowerName = toLowerCase(attr.getName());
+      final String lowerName = AttributeNameCache.toLowerCase(attr.getName());
       final Attribute newAttr = Attribute.removeValues(attr,
            new Attribute(attributeName, attributeValues));
       if (newAttr.hasValue())
@@ -1600,7 +1643,7 @@ public class Entry
     }
     else
     {
-      final String lowerName = toLowerCase(attr.getName());
+      final String lowerName = AttributeNameCache.toLowerCase(attr.getName());
       final Attribute newAttr = Attribute.removeValues(attr,
            new Attribute(attributeName, attributeValues));
       if (newAttr.hasValue())
@@ -1633,11 +1676,11 @@ public class Entry
     final Attribute a = getAttribute(attribute.getName(), schema);
     if (a == null)
     {
-      lowerName = toLowerCase(attribute.getName());
+      lowerName = AttributeNameCache.toLowerCase(attribute.getName());
     }
     else
     {
-      lowerName = toLowerCase(a.getName());
+      lowerName = AttributeNameCache.toLowerCase(a.getName());
     }
 
     attributes.put(lowerName, attribute);
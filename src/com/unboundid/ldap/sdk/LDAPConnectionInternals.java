@@ -28,9 +28,9 @@ import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.Socket;
 import java.util.logging.Level;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import javax.net.SocketFactory;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
@@ -62,11 +62,23 @@ final class LDAPConnectionInternals
 
 
   /**
-   * A set of thread-local ASN.1 buffers used to prepare messages to be written.
+   * The maximum number of idle ASN.1 buffers that will be retained for reuse.
    */
-  private static final AtomicReference<ThreadLocal<ASN1Buffer>> ASN1_BUFFERS =
-       new AtomicReference<ThreadLocal<ASN1Buffer>>(
-            new ThreadLocal<ASN1Buffer>());
+  private static final int MAX_IDLE_ASN1_BUFFERS =
+       Math.max(4, (2 * Runtime.getRuntime().availableProcessors()));
+
+
+
+  /**
+   * A pool of ASN.1 buffers used to prepare messages to be written.  Buffers
+   * are borrowed from this pool only for the duration of a single send, so the
+   * number of buffers retained is bounded by {@link #MAX_IDLE_ASN1_BUFFERS}
+   * rather than by the number of threads that have used a connection, which
+   * keeps memory consumption in check for applications that send requests
+   * from a very large number of short-lived threads.
+   */
+  private static final ArrayBlockingQueue<ASN1Buffer> ASN1_BUFFERS =
+       new ArrayBlockingQueue<ASN1Buffer>(MAX_IDLE_ASN1_BUFFERS);
 
 
 
@@ -99,6 +111,9 @@ final class LDAPConnectionInternals
   // The SASL client used to provide communication security via QoP.
   private volatile SaslClient saslClient;
 
+  // The writer used to wrap outgoing messages with the SASL client.
+  private volatile SASLSecurityLayerWriter saslWriter;
+
   // The socket used to communicate with the directory server.
   private volatile Socket socket;
 
@@ -152,6 +167,7 @@ final class LDAPConnectionInternals
     nextMessageID   = new AtomicInteger(0);
     synchronousMode = options.useSynchronousMode();
     saslClient      = null;
+    saslWriter      = null;
     socket          = null;
 
     try
@@ -407,6 +423,7 @@ final class LDAPConnectionInternals
        throws LDAPException
   {
     this.saslClient = saslClient;
+    saslWriter = new SASLSecurityLayerWriter(saslClient, outputStream);
     connectionReader.applySASLQoP(saslClient);
   }
 
@@ -518,14 +535,46 @@ final class LDAPConnectionInternals
                               ERR_CONN_NOT_ESTABLISHED.get());
     }
 
-    ASN1Buffer buffer = ASN1_BUFFERS.get().get();
+    ASN1Buffer buffer = ASN1_BUFFERS.poll();
     if (buffer == null)
     {
       buffer = new ASN1Buffer();
-      ASN1_BUFFERS.get().set(buffer);
     }
 
-    buffer.clear();
+    try
+    {
+      sendMessage(message, buffer, sendTimeoutMillis, allowRetry);
+    }
+    finally
+    {
+      buffer.clear();
+      ASN1_BUFFERS.offer(buffer);
+    }
+  }
+
+
+
+  /**
+   * Sends the provided LDAP message to the directory server, using the given
+   * buffer to encode it.
+   *
+   * @param  message            The LDAP message to be sent.
+   * @param  buffer             The ASN.1 buffer to use to encode the message.
+   *                            It must be empty.
+   * @param  sendTimeoutMillis  The maximum length of time in milliseconds to
+   *                            block while trying to send the request.  If
+   *                            this is less than or equal to zero, then no send
+   *                            timeout will be enforced.
+   * @param  allowRetry         Indicates whether to allow retrying the send
+   *                            after a reconnect.
+   *
+   * @throws  LDAPException  If a problem occurs while sending the message.
+   */
+  private void sendMessage(final LDAPMessage message, final ASN1Buffer buffer,
+                           final long sendTimeoutMillis,
+                           final boolean allowRetry)
+          throws LDAPException
+  {
     try
     {
       message.writeTo(buffer);
@@ -556,28 +605,20 @@ final class LDAPConnectionInternals
 
     try
     {
-      final OutputStream os = outputStream;
-      if (saslClient == null)
+      final SASLSecurityLayerWriter writer = saslWriter;
+      if (writer == null)
       {
+        final OutputStream os = outputStream;
         buffer.writeTo(os);
+        os.flush();
       }
       else
       {
-        // We need to wrap the data that was read using the SASL client, but we
-        // also need to precede that wrapped data with four bytes that specify
-        // the number of bytes of wrapped data.
-        final byte[] clearBytes = buffer.toByteArray();
-        final byte[] saslBytes =
-             saslClient.wrap(clearBytes, 0, clearBytes.length);
-        final byte[] lengthBytes = new byte[4];
-        lengthBytes[0] = (byte) ((saslBytes.length >> 24) & 0xFF);
-        lengthBytes[1] = (byte) ((saslBytes.length >> 16) & 0xFF);
-        lengthBytes[2] = (byte) ((saslBytes.length >> 8) & 0xFF);
-        lengthBytes[3] = (byte) (saslBytes.length & 0xFF);
-        os.write(lengthBytes);
-        os.write(saslBytes);
+        // The writer will wrap the data with the SASL client (possibly along
+        // with messages sent concurrently by other threads) and precede it
+        // with four bytes that specify the number of bytes of wrapped data.
+        writer.write(buffer);
       }
-      os.flush();
     }
     catch (final IOException ioe)
     {
@@ -619,13 +660,6 @@ final class LDAPConnectionInternals
            ERR_CONN_ENCODE_ERROR.get(host + ':' + port, getExceptionMessage(e)),
            e);
     }
-    finally
-    {
-      if (buffer.zeroBufferOnClear())
-      {
-        buffer.clear();
-      }
-    }
   }
 
 
@@ -689,6 +723,7 @@ final class LDAPConnectionInternals
       finally
       {
         saslClient = null;
+        saslWriter = null;
       }
     }
 
@@ -705,7 +740,7 @@ final class LDAPConnectionInternals
          ACTIVE_CONNECTION_COUNT.decrementAndGet();
     if (remainingActiveConnections <= 0L)
     {
-      ASN1_BUFFERS.set(new ThreadLocal<ASN1Buffer>());
+      ASN1_BUFFERS.clear();
 
       if (remainingActiveConnections < 0L)
       {
@@ -133,6 +133,11 @@ import static com.unboundid.util.Validator.*;
  *       encounters a message that may be larger than the maximum allowed
  *       message size, then the SDK will terminate the connection to the
  *       server.</LI>
+ *   <LI>A value which specifies the maximum size to which the buffer used to
+ *       read data from the directory server may grow.  The buffer is resized
+ *       automatically based on the sizes of the messages received, starting at
+ *       4,096 bytes and growing to no more than 262,144 bytes (256KB) by
+ *       default.</LI>
  *   <LI>The {@link DisconnectHandler} that should be used to receive
  *       notification if connection is disconnected for any reason.  By default,
  *       no {@code DisconnectHandler} will be used.</LI>
@@ -519,6 +524,34 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "use message buffer decoding" behavior.  If this
+   * property is set at the time that this class is loaded, then its value must
+   * be either "true" or "false".  If this property is not set, then a default
+   * value of "false" will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.
+   * defaultUseMessageBufferDecoding".
+   */
+  public static final String PROPERTY_DEFAULT_USE_MESSAGE_BUFFER_DECODING =
+       PROPERTY_PREFIX + "defaultUseMessageBufferDecoding";
+
+
+
+  /**
+   * The default value for the setting that controls whether to read each
+   * response message into a single buffer before decoding it.  If the
+   * {@link #PROPERTY_DEFAULT_USE_MESSAGE_BUFFER_DECODING} system property is
+   * set at the time this class is loaded, then its value will be used.
+   * Otherwise, a default value of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_USE_MESSAGE_BUFFER_DECODING =
+       getSystemProperty(PROPERTY_DEFAULT_USE_MESSAGE_BUFFER_DECODING, false);
+
+
+
   /**
    * The name of a system property that can be used to specify the initial
    * default value for the "use synchronous mode" behavior.  If this property is
@@ -629,6 +662,35 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the maximum size, in bytes, to which the buffer used to
+   * read data from a directory server may grow.  If this property is set at
+   * the time that this class is loaded, then its value must be parseable as an
+   * integer.  If this property is not set, then a default value of "262144"
+   * (256 kilobytes) will be assumed.
+   * <BR><BR>
+   * The full name for this system property is "com.unboundid.ldap.sdk.
+   * LDAPConnectionOptions.defaultMaxReadBufferSizeBytes".
+   */
+  public static final String PROPERTY_DEFAULT_MAX_READ_BUFFER_SIZE_BYTES =
+       PROPERTY_PREFIX + "defaultMaxReadBufferSizeBytes";
+
+
+
+  /**
+   * The default value for the setting that controls the maximum size, in
+   * bytes, to which the buffer used to read data from a directory server may
+   * grow.  If the {@link #PROPERTY_DEFAULT_MAX_READ_BUFFER_SIZE_BYTES} system
+   * property is set at the time this class is loaded, then its value will be
+   * used.  Otherwise, a default value of 262,144 bytes (256 kilobytes) will be
+   * used.
+   */
+  private static final int DEFAULT_MAX_READ_BUFFER_SIZE_BYTES =
+       getSystemProperty(PROPERTY_DEFAULT_MAX_READ_BUFFER_SIZE_BYTES, 262_144);
+
+
+
   /**
    * The name of a system property that can be used to specify the initial
    * default value for the receive buffer size, in bytes.  If this property is
@@ -1118,6 +1180,10 @@ public final class LDAPConnectionOptions
   // the server.
   private boolean useSchema;
 
+  // Indicates whether to read each response message into a single buffer
+  // before decoding it.
+  private boolean useMessageBufferDecoding;
+
   // Indicates whether to use synchronous mode in which only a single operation
   // may be in progress on associated connections at any given time.
   private boolean useSynchronousMode;
@@ -1138,6 +1204,10 @@ public final class LDAPConnectionOptions
   // from a directory server.
   private int maxMessageSizeBytes;
 
+  // The maximum size in bytes to which the buffer used to read data from a
+  // directory server may grow.
+  private int maxReadBufferSizeBytes;
+
   // The socket receive buffer size to request.
   private int receiveBufferSizeBytes;
 
@@ -1185,11 +1255,13 @@ public final class LDAPConnectionOptions
     useReuseAddress                = DEFAULT_USE_REUSE_ADDRESS;
     usePooledSchema                = DEFAULT_USE_POOLED_SCHEMA;
     useSchema                      = DEFAULT_USE_SCHEMA;
+    useMessageBufferDecoding       = DEFAULT_USE_MESSAGE_BUFFER_DECODING;
     useSynchronousMode             = DEFAULT_USE_SYNCHRONOUS_MODE;
     useTCPNoDelay                  = DEFAULT_USE_TCP_NODELAY;
     connectTimeoutMillis           = DEFAULT_CONNECT_TIMEOUT_MILLIS;
     lingerTimeoutSeconds           = DEFAULT_LINGER_TIMEOUT_SECONDS;
     maxMessageSizeBytes            = DEFAULT_MAX_MESSAGE_SIZE_BYTES;
+    maxReadBufferSizeBytes         = DEFAULT_MAX_READ_BUFFER_SIZE_BYTES;
     referralHopLimit               = DEFAULT_REFERRAL_HOP_LIMIT;
     pooledSchemaTimeoutMillis      = DEFAULT_POOLED_SCHEMA_TIMEOUT_MILLIS;
     responseTimeoutMillis          = DEFAULT_RESPONSE_TIMEOUT_MILLIS;
@@ -1232,11 +1304,13 @@ public final class LDAPConnectionOptions
     o.useReuseAddress                 = useReuseAddress;
     o.usePooledSchema                 = usePooledSchema;
     o.useSchema                       = useSchema;
+    o.useMessageBufferDecoding        = useMessageBufferDecoding;
     o.useSynchronousMode              = useSynchronousMode;
     o.useTCPNoDelay                   = useTCPNoDelay;
     o.connectTimeoutMillis            = connectTimeoutMillis;
     o.lingerTimeoutSeconds            = lingerTimeoutSeconds;
     o.maxMessageSizeBytes             = maxMessageSizeBytes;
+    o.maxReadBufferSizeBytes          = maxReadBufferSizeBytes;
     o.pooledSchemaTimeoutMillis       = pooledSchemaTimeoutMillis;
     o.responseTimeoutMillis            = responseTimeoutMillis;
     o.referralConnector               = referralConnector;
@@ -1841,6 +1915,46 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * Indicates whether to read each response message from the server into a
+   * single buffer before decoding it.  When this is enabled, the DN, attribute
+   * values, and other octet strings in the decoded response will be taken
+   * directly from that buffer rather than from separately-allocated copies,
+   * which can significantly reduce the number of objects created (and the
+   * associated garbage collection overhead) when processing searches that
+   * return entries with a large number of attribute values.  However, the
+   * buffer will be retained in memory for as long as any attribute value
+   * obtained from it is referenced, which may increase memory consumption for
+   * applications that hold on to a small number of values from large entries.
+   *
+   * @return  {@code true} if response messages should be read into a single
+   *          buffer before they are decoded, or {@code false} if they should
+   *          be decoded directly from the input stream.
+   */
+  public boolean useMessageBufferDecoding()
+  {
+    return useMessageBufferDecoding;
+  }
+
+
+
+  /**
+   * Specifies whether to read each response message from the server into a
+   * single buffer before decoding it.  This setting will take effect for any
+   * response read after the option has been set on the associated connection.
+   *
+   * @param  useMessageBufferDecoding  Indicates whether to read each response
+   *                                   message into a single buffer before
+   *                                   decoding it.
+   */
+  public void setUseMessageBufferDecoding(
+                   final boolean useMessageBufferDecoding)
+  {
+    this.useMessageBufferDecoding = useMessageBufferDecoding;
+  }
+
+
+
   /**
    * Indicates whether to operate in synchronous mode, in which at most one
    * operation may be in progress at any time on a given connection, which may
@@ -2109,6 +2223,48 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * Retrieves the maximum size, in bytes, to which the buffer used to read
+   * data from a directory server may grow.  The buffer will initially be four
+   * kilobytes in size, but it will be automatically resized (up to this
+   * maximum) based on the sizes of the messages actually received on the
+   * connection, so that connections used to retrieve large numbers of large
+   * entries can read them with fewer calls to the underlying socket, while
+   * connections used to process small requests will continue to use a small
+   * buffer.
+   *
+   * @return  The maximum size, in bytes, to which the buffer used to read data
+   *          from a directory server may grow.
+   */
+  public int getMaxReadBufferSize()
+  {
+    return maxReadBufferSizeBytes;
+  }
+
+
+
+  /**
+   * Specifies the maximum size, in bytes, to which the buffer used to read
+   * data from a directory server may grow.  The buffer will initially be four
+   * kilobytes in size, but it will be automatically resized (up to this
+   * maximum) based on the sizes of the messages actually received on the
+   * connection.  This setting will only take effect for connections
+   * established after it has been set.
+   *
+   * @param  maxReadBufferSizeBytes  The maximum size, in bytes, to which the
+   *                                 buffer used to read data from a directory
+   *                                 server may grow.  A value that is less
+   *                                 than or equal to 4096 will prevent the
+   *                                 buffer from growing beyond its initial
+   *                                 size.
+   */
+  public void setMaxReadBufferSize(final int maxReadBufferSizeBytes)
+  {
+    this.maxReadBufferSizeBytes = Math.max(0, maxReadBufferSizeBytes);
+  }
+
+
+
   /**
    * Retrieves the socket receive buffer size, in bytes, that should be
    * requested when establishing a connection.
@@ -2505,6 +2661,8 @@ public final class LDAPConnectionOptions
     buffer.append(usePooledSchema);
     buffer.append(", pooledSchemaTimeoutMillis=");
     buffer.append(pooledSchemaTimeoutMillis);
+    buffer.append(", useMessageBufferDecoding=");
+    buffer.append(useMessageBufferDecoding);
     buffer.append(", useSynchronousMode=");
     buffer.append(useSynchronousMode);
     buffer.append(", useTCPNoDelay=");
@@ -2538,6 +2696,8 @@ public final class LDAPConnectionOptions
     buffer.append(abandonOnTimeout);
     buffer.append(", maxMessageSizeBytes=");
     buffer.append(maxMessageSizeBytes);
+    buffer.append(", maxReadBufferSizeBytes=");
+    buffer.append(maxReadBufferSizeBytes);
     buffer.append(", receiveBufferSizeBytes=");
     buffer.append(receiveBufferSizeBytes);
     buffer.append(", sendBufferSizeBytes=");
@@ -30,10 +30,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.unboundid.ldap.protocol.LDAPResponse;
 import com.unboundid.ldap.sdk.schema.Schema;
@@ -188,6 +191,56 @@ import static com.unboundid.util.Validator.*;
  * {@link #setMaxWaitTimeMillis(long)} method to specify a maximum wait time to
  * allow the pool to wait for a connection to become available rather than
  * throwing an exception if no connections are immediately available.
+ * <BR><BR>
+ * If the load on the pool varies significantly over time, then the
+ * {@link #setAdaptiveSizingEnabled(boolean)} method may be used to have the
+ * pool adjust the number of connections that it keeps available based on how
+ * often threads have had to wait for a connection or create a new one.  In
+ * this mode, connections needed to reach that goal, as well as connections
+ * created to replace those closed as defunct or expired, will be established
+ * by a background thread rather than by the threads using the pool.
+ * <BR><BR>
+ * <H2>Checkout Priorities</H2>
+ * If a single pool is shared by latency-sensitive requests and by background
+ * processing, then each checkout may be assigned a
+ * {@link LDAPConnectionPoolPriority} so that the background processing cannot
+ * consume all of the connections.  The {@link #getConnection()} method uses a
+ * priority of {@code NORMAL}, the {@link #getConnection(
+ * LDAPConnectionPoolPriority)} method may be used to specify a different
+ * priority, and the {@link #setCheckoutPriority} method may be used to
+ * indicate the priority that the pool's own operation methods (like
+ * {@code bind} or {@code search}) should use for each type of operation.
+ * Priorities affect checkouts in two ways:
+ * <UL>
+ *   <LI>The {@link #setReservedConnections} method may be used to reserve a
+ *       number of available connections for a given priority.  A checkout
+ *       with a lower priority will not be allowed to take a connection if
+ *       that would leave fewer available connections than have been reserved
+ *       for all higher priorities.  A checkout that is subject to a
+ *       reservation will never cause the pool to create a connection outside
+ *       of the pool (regardless of the {@link #setCreateIfNecessary} setting),
+ *       so reservations also limit the number of connections that
+ *       lower-priority checkouts may hold at any time.</LI>
+ *   <LI>If the pool is configured with a maximum wait time, then threads
+ *       waiting for a connection will be served in priority order, so that a
+ *       lower-priority checkout will not obtain a connection while there are
+ *       higher-priority checkouts waiting.</LI>
+ * </UL>
+ * A checkout that is refused because of a reservation will wait for a
+ * connection if the pool is configured with a maximum wait time, and will
+ * otherwise fail immediately.  The wait time
+ * statistics for each priority are available through the
+ * {@link LDAPConnectionPoolStatistics} object.  For example, the following
+ * code reserves two connections for binds so that they will not be delayed by
+ * searches:
+ * <PRE>
+ *   connectionPool.setMaxWaitTimeMillis(5000L);
+ *   connectionPool.setCheckoutPriority(OperationType.BIND,
+ *        LDAPConnectionPoolPriority.HIGH);
+ *   connectionPool.setCheckoutPriority(OperationType.SEARCH,
+ *        LDAPConnectionPoolPriority.LOW);
+ *   connectionPool.setReservedConnections(LDAPConnectionPoolPriority.HIGH, 2);
+ * </PRE>
  */
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 public final class LDAPConnectionPool
@@ -201,6 +254,33 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * The default interval that will be used to evaluate the load on the pool
+   * when operating in adaptive sizing mode, which is set to 1000 milliseconds
+   * (one second).
+   */
+  private static final long DEFAULT_ADAPTIVE_SIZING_INTERVAL = 1000L;
+
+
+
+  /**
+   * The number of consecutive adaptive sizing intervals without any contention
+   * and with surplus available connections that must elapse before the pool
+   * will decrease its available connection goal.
+   */
+  private static final int ADAPTIVE_SHRINK_IDLE_INTERVALS = 5;
+
+
+
+  /**
+   * The maximum length of time in milliseconds that a thread waiting for a
+   * connection with a priority lower than {@code HIGH} will block before
+   * re-evaluating whether it should yield to higher-priority checkouts.
+   */
+  private static final long PRIORITY_WAIT_INTERVAL_MILLIS = 10L;
+
+
+
   /**
    * The name of the connection property that may be used to indicate that a
    * particular connection should have a different maximum connection age than
@@ -217,6 +297,23 @@ public final class LDAPConnectionPool
   // included in the pool.
   private final AtomicInteger failedReplaceCount;
 
+  // The number of closed connections whose replacements should be created by
+  // the adaptive sizing thread rather than by the thread that closed them.
+  private final AtomicInteger pendingBackgroundReplacements;
+
+  // The number of available connections reserved for checkouts with each
+  // priority, indexed by priority.
+  private final AtomicIntegerArray reservedConnections;
+
+  // The number of threads currently waiting for a connection with each
+  // priority, indexed by priority.
+  private final AtomicIntegerArray waitingCheckouts;
+
+  // The checkout priority to use for each type of operation processed through
+  // the pool's operation methods, indexed by operation type.
+  private final AtomicReferenceArray<LDAPConnectionPoolPriority>
+       checkoutPriorities;
+
   // The types of operations that should be retried if they fail in a manner
   // that may be the result of a connection that is no longer valid.
   private final AtomicReference<Set<OperationType>> retryOperationTypes;
@@ -237,6 +334,10 @@ public final class LDAPConnectionPool
   // to detect closures and unsolicited notifications in a more timely manner.
   private volatile boolean trySynchronousReadDuringHealthCheck;
 
+  // Indicates whether periodic health checking should skip invoking the health
+  // check for connections that have been used within the health check interval.
+  private volatile boolean skipHealthCheckForRecentlyUsedConnections;
+
   // The bind request to use to perform authentication whenever a new connection
   // is established.
   private volatile BindRequest bindRequest;
@@ -244,10 +345,34 @@ public final class LDAPConnectionPool
   // The number of connections to be held in this pool.
   private final int numConnections;
 
+  // The maximum number of connections that may be checked concurrently during
+  // health check processing.
+  private volatile int healthCheckThreads;
+
   // The minimum number of connections that the health check mechanism should
   // try to keep available for immediate use.
   private volatile int minConnectionGoal;
 
+  // The number of connections that the adaptive sizing mechanism is currently
+  // trying to keep available for immediate use.
+  private volatile int adaptiveConnectionGoal;
+
+  // The number of consecutive adaptive sizing intervals in which there was no
+  // contention for connections but there were surplus available connections.
+  // This will only be accessed by the adaptive sizing thread.
+  private int adaptiveIdleIntervals;
+
+  // The values of the contention-related statistics at the time of the last
+  // adaptive sizing evaluation.  These will only be accessed by the adaptive
+  // sizing thread.
+  private long adaptiveLastCheckoutWaits;
+  private long adaptiveLastFailedCheckouts;
+  private long adaptiveLastNewConnectionCheckouts;
+
+  // The background thread used to manage the pool size when operating in
+  // adaptive sizing mode, if that mode is enabled.
+  private volatile LDAPConnectionPoolAdaptiveSizingThread adaptiveSizingThread;
+
   // The health check implementation that should be used for this connection
   // pool.
   private LDAPConnectionPoolHealthCheck healthCheck;
@@ -256,12 +381,20 @@ public final class LDAPConnectionPool
   // for this connection pool.
   private final LDAPConnectionPoolHealthCheckThread healthCheckThread;
 
+  // The mechanism used to check the available connections in parallel when
+  // multiple health check threads have been configured.
+  private final ParallelPoolHealthChecker parallelHealthChecker;
+
   // The statistics for this connection pool.
   private final LDAPConnectionPoolStatistics poolStatistics;
 
   // The set of connections that are currently available for use.
   private final LinkedBlockingQueue<LDAPConnection> availableConnections;
 
+  // The length of time in milliseconds between evaluations of the load on the
+  // pool when operating in adaptive sizing mode.
+  private volatile long adaptiveSizingInterval;
+
   // The length of time in milliseconds between periodic health checks against
   // the available connections in this pool.
   private volatile long healthCheckInterval;
@@ -754,7 +887,24 @@ public final class LDAPConnectionPool
     lastExpiredDisconnectTime          = 0L;
     maxWaitTime                        = 0L;
     closed                             = false;
+    pendingBackgroundReplacements      = new AtomicInteger(0);
+    adaptiveSizingThread               = null;
+    adaptiveSizingInterval             = DEFAULT_ADAPTIVE_SIZING_INTERVAL;
+    adaptiveConnectionGoal             = 0;
+    healthCheckThreads                 = 1;
+    skipHealthCheckForRecentlyUsedConnections = false;
+
+    final int numPriorities = LDAPConnectionPoolPriority.values().length;
+    reservedConnections = new AtomicIntegerArray(numPriorities);
+    waitingCheckouts    = new AtomicIntegerArray(numPriorities);
+    checkoutPriorities  = new AtomicReferenceArray<LDAPConnectionPoolPriority>(
+         OperationType.values().length);
+    for (int i=0; i < checkoutPriorities.length(); i++)
+    {
+      checkoutPriorities.set(i, LDAPConnectionPoolPriority.NORMAL);
+    }
 
+    parallelHealthChecker = new ParallelPoolHealthChecker(this);
     healthCheckThread = new LDAPConnectionPoolHealthCheckThread(this);
     healthCheckThread.start();
   }
@@ -1238,7 +1388,24 @@ public final class LDAPConnectionPool
     lastExpiredDisconnectTime          = 0L;
     maxWaitTime                        = 0L;
     closed                             = false;
+    pendingBackgroundReplacements      = new AtomicInteger(0);
+    adaptiveSizingThread               = null;
+    adaptiveSizingInterval             = DEFAULT_ADAPTIVE_SIZING_INTERVAL;
+    adaptiveConnectionGoal             = 0;
+    healthCheckThreads                 = 1;
+    skipHealthCheckForRecentlyUsedConnections = false;
+
+    final int numPriorities = LDAPConnectionPoolPriority.values().length;
+    reservedConnections = new AtomicIntegerArray(numPriorities);
+    waitingCheckouts    = new AtomicIntegerArray(numPriorities);
+    checkoutPriorities  = new AtomicReferenceArray<LDAPConnectionPoolPriority>(
+         OperationType.values().length);
+    for (int i=0; i < checkoutPriorities.length(); i++)
+    {
+      checkoutPriorities.set(i, LDAPConnectionPoolPriority.NORMAL);
+    }
 
+    parallelHealthChecker = new ParallelPoolHealthChecker(this);
     healthCheckThread = new LDAPConnectionPoolHealthCheckThread(this);
     healthCheckThread.start();
   }
@@ -1501,6 +1668,15 @@ public final class LDAPConnectionPool
     final boolean healthCheckThreadAlreadySignaled = closed;
     closed = true;
     healthCheckThread.stopRunning(! healthCheckThreadAlreadySignaled);
+    parallelHealthChecker.shutDown();
+
+    final LDAPConnectionPoolAdaptiveSizingThread sizingThread =
+         adaptiveSizingThread;
+    if (sizingThread != null)
+    {
+      adaptiveSizingThread = null;
+      sizingThread.stopRunning(true);
+    }
 
     if (numThreads > 1)
     {
@@ -1613,7 +1789,7 @@ public final class LDAPConnectionPool
   public BindResult bindAndRevertAuthentication(final BindRequest bindRequest)
          throws LDAPException
   {
-    LDAPConnection conn = getConnection();
+    LDAPConnection conn = getConnection(OperationType.BIND);
 
     try
     {
@@ -1719,12 +1895,51 @@ public final class LDAPConnectionPool
 
 
   /**
-   * {@inheritDoc}
+   * {@inheritDoc}  The connection will be checked out with a priority of
+   * {@link LDAPConnectionPoolPriority#NORMAL}.
    */
   @Override()
   public LDAPConnection getConnection()
          throws LDAPException
   {
+    return getConnection(LDAPConnectionPoolPriority.NORMAL);
+  }
+
+
+
+  /**
+   * {@inheritDoc}  The connection will be checked out with the priority
+   * configured for the specified operation type.
+   */
+  @Override()
+  LDAPConnection getConnection(final OperationType operationType)
+         throws LDAPException
+  {
+    return getConnection(getCheckoutPriority(operationType));
+  }
+
+
+
+  /**
+   * Retrieves an LDAP connection from the pool using the specified checkout
+   * priority.  The connection will not be taken from those reserved for
+   * higher priorities, and if it is necessary to wait for a connection to
+   * become available, then threads waiting with a higher priority will be
+   * given the first opportunity to obtain one.
+   *
+   * @param  priority  The priority to use for the checkout.  It must not be
+   *                   {@code null}.
+   *
+   * @return  The LDAP connection taken from the pool.
+   *
+   * @throws  LDAPException  If no connection is available, or a problem occurs
+   *                         while creating a new connection to return.
+   */
+  public LDAPConnection getConnection(final LDAPConnectionPoolPriority priority)
+         throws LDAPException
+  {
+    ensureNotNull(priority);
+
     if (closed)
     {
       poolStatistics.incrementNumFailedCheckouts();
@@ -1732,7 +1947,18 @@ public final class LDAPConnectionPool
                               ERR_POOL_CLOSED.get());
     }
 
-    LDAPConnection conn = availableConnections.poll();
+    final int reserved = getReservedForHigherPriorities(priority);
+
+    LDAPConnection conn;
+    if (checkoutPermitted(priority))
+    {
+      conn = availableConnections.poll();
+    }
+    else
+    {
+      conn = null;
+    }
+
     if (conn != null)
     {
       if (conn.isConnected())
@@ -1753,6 +1979,11 @@ public final class LDAPConnectionPool
       handleDefunctConnection(conn);
       for (int i=0; i < numConnections; i++)
       {
+        if (! checkoutPermitted(priority))
+        {
+          break;
+        }
+
         conn = availableConnections.poll();
         if (conn == null)
         {
@@ -1781,7 +2012,13 @@ public final class LDAPConnectionPool
       }
     }
 
-    if (failedReplaceCount.get() > 0)
+    // A checkout that is subject to a reservation may only fill an empty slot
+    // in the pool if enough connections would remain (either available or yet
+    // to be created) to satisfy the reservation.
+    if ((failedReplaceCount.get() > 0) &&
+        ((reserved <= 0) ||
+         ((availableConnections.size() + failedReplaceCount.get()) >
+              reserved)))
     {
       final int newReplaceCount = failedReplaceCount.getAndDecrement();
       if (newReplaceCount > 0)
@@ -1811,9 +2048,14 @@ public final class LDAPConnectionPool
 
     if (maxWaitTime > 0)
     {
+      final int priorityIndex = priority.ordinal();
+      waitingCheckouts.incrementAndGet(priorityIndex);
       try
       {
-        conn = availableConnections.poll(maxWaitTime, TimeUnit.MILLISECONDS);
+        final long waitStartTime = System.nanoTime();
+        conn = pollAvailableConnection(priority, maxWaitTime);
+        poolStatistics.recordCheckoutWait(priority,
+             System.nanoTime() - waitStartTime);
         if (conn != null)
         {
           try
@@ -1837,6 +2079,19 @@ public final class LDAPConnectionPool
         throw new LDAPException(ResultCode.LOCAL_ERROR,
              ERR_POOL_CHECKOUT_INTERRUPTED.get(), ie);
       }
+      finally
+      {
+        waitingCheckouts.decrementAndGet(priorityIndex);
+      }
+    }
+
+    if (reserved > 0)
+    {
+      // Creating a connection outside of the pool would allow a checkout that
+      // is subject to a reservation to bypass it.
+      poolStatistics.incrementNumFailedCheckouts();
+      throw new LDAPException(ResultCode.CONNECT_ERROR,
+           ERR_POOL_NO_CONNECTIONS_FOR_PRIORITY.get(priority.name()));
     }
 
     if (createIfNecessary)
@@ -1864,6 +2119,114 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * Retrieves the total number of connections reserved for all priorities
+   * higher than the specified priority.
+   *
+   * @param  priority  The priority of the checkout.
+   *
+   * @return  The total number of connections reserved for all priorities
+   *          higher than the specified priority.
+   */
+  private int getReservedForHigherPriorities(
+                   final LDAPConnectionPoolPriority priority)
+  {
+    int reserved = 0;
+    for (int i=0; i < priority.ordinal(); i++)
+    {
+      reserved += reservedConnections.get(i);
+    }
+
+    return reserved;
+  }
+
+
+
+  /**
+   * Indicates whether a checkout with the specified priority may take one of
+   * the currently available connections.  It will not be permitted if there
+   * are any threads waiting for a connection with a higher priority, or if it
+   * would leave fewer available connections than have been reserved for all
+   * higher priorities.
+   *
+   * @param  priority  The priority of the checkout.
+   *
+   * @return  {@code true} if the checkout may take an available connection, or
+   *          {@code false} if not.
+   */
+  private boolean checkoutPermitted(final LDAPConnectionPoolPriority priority)
+  {
+    int reserved = 0;
+    for (int i=0; i < priority.ordinal(); i++)
+    {
+      if (waitingCheckouts.get(i) > 0)
+      {
+        return false;
+      }
+
+      reserved += reservedConnections.get(i);
+    }
+
+    return ((reserved <= 0) || (availableConnections.size() > reserved));
+  }
+
+
+
+  /**
+   * Waits for a connection to become available for a checkout with the
+   * specified priority.  A high-priority checkout will simply block until a
+   * connection is released back to the pool, but a checkout with a lower
+   * priority will wait in short intervals so that it can yield to any
+   * higher-priority checkouts that begin waiting in the meantime.
+   *
+   * @param  priority    The priority of the checkout.
+   * @param  waitMillis  The maximum length of time in milliseconds to wait.
+   *
+   * @return  The connection that was obtained, or {@code null} if no
+   *          connection could be obtained within the specified length of time.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while waiting.
+   */
+  private LDAPConnection pollAvailableConnection(
+                              final LDAPConnectionPoolPriority priority,
+                              final long waitMillis)
+          throws InterruptedException
+  {
+    final long stopWaitingTime =
+         System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+    while (true)
+    {
+      final long remainingNanos = stopWaitingTime - System.nanoTime();
+      if (remainingNanos <= 0L)
+      {
+        return null;
+      }
+
+      if (priority == LDAPConnectionPoolPriority.HIGH)
+      {
+        return availableConnections.poll(remainingNanos, TimeUnit.NANOSECONDS);
+      }
+
+      final long intervalNanos = Math.min(remainingNanos,
+           TimeUnit.MILLISECONDS.toNanos(PRIORITY_WAIT_INTERVAL_MILLIS));
+      if (checkoutPermitted(priority))
+      {
+        final LDAPConnection conn =
+             availableConnections.poll(intervalNanos, TimeUnit.NANOSECONDS);
+        if (conn != null)
+        {
+          return conn;
+        }
+      }
+      else
+      {
+        TimeUnit.NANOSECONDS.sleep(intervalNanos);
+      }
+    }
+  }
+
+
+
   /**
    * Attempts to retrieve a connection from the pool that is established to the
    * specified server.  Note that this method will only attempt to return an
@@ -1948,6 +2311,19 @@ public final class LDAPConnectionPool
     connection.setConnectionPoolName(connectionPoolName);
     if (checkConnectionAgeOnRelease && connectionIsExpired(connection))
     {
+      if (adaptiveSizingThread != null)
+      {
+        // Let the adaptive sizing thread create the replacement so that the
+        // caller doesn't have to wait for it.
+        connection.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_EXPIRED,
+             null, null);
+        connection.terminate(null);
+        poolStatistics.incrementNumConnectionsClosedExpired();
+        lastExpiredDisconnectTime = System.currentTimeMillis();
+        scheduleBackgroundReplacement();
+        return;
+      }
+
       try
       {
         final LDAPConnection newConnection = createConnection();
@@ -2165,6 +2541,12 @@ public final class LDAPConnectionPool
       return null;
     }
 
+    if (adaptiveSizingThread != null)
+    {
+      scheduleBackgroundReplacement();
+      return null;
+    }
+
     try
     {
       final LDAPConnection conn = createConnection();
@@ -2766,6 +3148,86 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * Retrieves the maximum number of connections that may be checked
+   * concurrently during health check processing.  A value of one indicates
+   * that connections will be checked one at a time.  Regardless of the value,
+   * the number of available connections that are temporarily unavailable
+   * because they are being checked will never exceed this number.
+   *
+   * @return  The maximum number of connections that may be checked
+   *          concurrently during health check processing.
+   */
+  public int getHealthCheckThreads()
+  {
+    return healthCheckThreads;
+  }
+
+
+
+  /**
+   * Specifies the maximum number of connections that may be checked
+   * concurrently during health check processing.  Using multiple threads can
+   * significantly reduce the time required for a health check pass in a large
+   * pool, or when the health check involves communicating with a server that
+   * may be slow to respond.  Each thread will only examine one connection at a
+   * time, so this also limits the number of connections that will be
+   * unavailable for use while health checking is in progress.
+   *
+   * @param  healthCheckThreads  The maximum number of connections that may be
+   *                             checked concurrently during health check
+   *                             processing.  It must be greater than zero.
+   */
+  public void setHealthCheckThreads(final int healthCheckThreads)
+  {
+    ensureTrue(healthCheckThreads > 0,
+         "LDAPConnectionPool.healthCheckThreads must be greater than 0.");
+    this.healthCheckThreads = healthCheckThreads;
+  }
+
+
+
+  /**
+   * Indicates whether health check processing should skip invoking the
+   * {@link LDAPConnectionPoolHealthCheck#ensureConnectionValidForContinuedUse}
+   * method for connections that have been used to communicate with the server
+   * within the health check interval.  Such connections will still be checked
+   * to ensure that they are established and have not expired.
+   *
+   * @return  {@code true} if health check processing should skip the continued
+   *          use check for recently-used connections, or {@code false} if all
+   *          available connections should be checked.
+   */
+  public boolean skipHealthCheckForRecentlyUsedConnections()
+  {
+    return skipHealthCheckForRecentlyUsedConnections;
+  }
+
+
+
+  /**
+   * Specifies whether health check processing should skip invoking the
+   * {@link LDAPConnectionPoolHealthCheck#ensureConnectionValidForContinuedUse}
+   * method for connections that have been used to communicate with the server
+   * within the health check interval.  Because connections are only made
+   * available after they have been created or released back to the pool as
+   * valid, a connection that has communicated with the server recently does not
+   * typically need an additional check, and skipping it can substantially
+   * reduce the overhead of health checking in a busy pool.
+   *
+   * @param  skipHealthCheckForRecentlyUsedConnections
+   *              Indicates whether health check processing should skip the
+   *              continued use check for recently-used connections.
+   */
+  public void setSkipHealthCheckForRecentlyUsedConnections(
+                   final boolean skipHealthCheckForRecentlyUsedConnections)
+  {
+    this.skipHealthCheckForRecentlyUsedConnections =
+         skipHealthCheckForRecentlyUsedConnections;
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -2859,259 +3321,363 @@ public final class LDAPConnectionPool
     // Create a set used to hold connections that we've already examined.  If we
     // encounter the same connection twice, then we know that we don't need to
     // do any more work.
-    final HashSet<LDAPConnection> examinedConnections =
-         new HashSet<LDAPConnection>(numConnections);
-    int numExamined = 0;
-    int numDefunct = 0;
-    int numExpired = 0;
+    final Set<LDAPConnection> examinedConnections = Collections.newSetFromMap(
+         new ConcurrentHashMap<LDAPConnection,Boolean>(numConnections));
+    final AtomicInteger numExamined = new AtomicInteger(0);
+    final AtomicInteger numDefunct = new AtomicInteger(0);
+    final AtomicInteger numExpired = new AtomicInteger(0);
 
-    for (int i=0; i < numConnections; i++)
+    final int numThreads = Math.min(healthCheckThreads, numConnections);
+    if (numThreads > 1)
     {
-      LDAPConnection conn = availableConnections.poll();
-      if (conn == null)
-      {
-        break;
-      }
-      else if (examinedConnections.contains(conn))
+      parallelHealthChecker.checkConnections(hc, checkForExpiration,
+           examinedConnections, numExamined, numExpired, numDefunct,
+           numThreads);
+    }
+    else
+    {
+      final AtomicInteger remainingChecks = new AtomicInteger(numConnections);
+      while (checkNextAvailableConnection(hc, checkForExpiration,
+           examinedConnections, remainingChecks, numExamined, numExpired,
+           numDefunct))
       {
-        if (! availableConnections.offer(conn))
-        {
-          conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
-                                 null, null);
-          poolStatistics.incrementNumConnectionsClosedUnneeded();
-          conn.terminate(null);
-        }
-        break;
+        // No action is required.
       }
+    }
 
-      numExamined++;
-      if (! conn.isConnected())
+    if (checkMinConnectionGoal)
+    {
+      try
       {
-        numDefunct++;
-        poolStatistics.incrementNumConnectionsClosedDefunct();
-        conn = handleDefunctConnection(conn);
-        if (conn != null)
+        final int neededConnections =
+             minConnectionGoal - availableConnections.size();
+        for (int i=0; i < neededConnections; i++)
         {
-          examinedConnections.add(conn);
+          final LDAPConnection conn = createConnection(hc);
+          if (! availableConnections.offer(conn))
+          {
+            conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
+                                   null, null);
+            poolStatistics.incrementNumConnectionsClosedUnneeded();
+            conn.terminate(null);
+            break;
+          }
         }
       }
-      else
+      catch (final Exception e)
       {
-        if (checkForExpiration && connectionIsExpired(conn))
-        {
-          numExpired++;
+        debugException(e);
+      }
+    }
 
-          try
-          {
-            final LDAPConnection newConnection = createConnection();
-            if (availableConnections.offer(newConnection))
-            {
-              examinedConnections.add(newConnection);
-              conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_EXPIRED,
-                   null, null);
-              conn.terminate(null);
-              poolStatistics.incrementNumConnectionsClosedExpired();
-              lastExpiredDisconnectTime = System.currentTimeMillis();
-              continue;
-            }
-            else
-            {
-              newConnection.setDisconnectInfo(
-                   DisconnectType.POOLED_CONNECTION_UNNEEDED, null, null);
-              newConnection.terminate(null);
-              poolStatistics.incrementNumConnectionsClosedUnneeded();
-            }
-          }
-          catch (final LDAPException le)
-          {
-            debugException(le);
-          }
-        }
+    return new LDAPConnectionPoolHealthCheckResult(numExamined.get(),
+         numExpired.get(), numDefunct.get());
+  }
 
 
-        // If the connection is operating in synchronous mode, then try to read
-        // a message on it using an extremely short timeout.  This can help
-        // detect a connection closure or unsolicited notification in a more
-        // timely manner than if we had to wait for the client code to try to
-        // use the connection.
-        if (trySynchronousReadDuringHealthCheck && conn.synchronousMode())
-        {
-          int previousTimeout = Integer.MIN_VALUE;
-          Socket s = null;
-          try
-          {
-            s = conn.getConnectionInternals(true).getSocket();
-            previousTimeout = s.getSoTimeout();
-            InternalSDKHelper.setSoTimeout(conn, 1);
 
-            final LDAPResponse response = conn.readResponse(0);
-            if (response instanceof ConnectionClosedResponse)
-            {
-              numDefunct++;
-              conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
-                   ERR_POOL_HEALTH_CHECK_CONN_CLOSED.get(), null);
-              poolStatistics.incrementNumConnectionsClosedDefunct();
-              conn = handleDefunctConnection(conn);
-              if (conn != null)
-              {
-                examinedConnections.add(conn);
-              }
-              continue;
-            }
-            else if (response instanceof ExtendedResult)
-            {
-              // This means we got an unsolicited response.  It could be a
-              // notice of disconnection, or it could be something else, but in
-              // any case we'll send it to the connection's unsolicited
-              // notification handler (if one is defined).
-              final UnsolicitedNotificationHandler h = conn.
-                   getConnectionOptions().getUnsolicitedNotificationHandler();
-              if (h != null)
-              {
-                h.handleUnsolicitedNotification(conn,
-                     (ExtendedResult) response);
-              }
-            }
-            else if (response instanceof LDAPResult)
-            {
-              final LDAPResult r = (LDAPResult) response;
-              if (r.getResultCode() == ResultCode.SERVER_DOWN)
-              {
-                numDefunct++;
-                conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
-                     ERR_POOL_HEALTH_CHECK_CONN_CLOSED.get(), null);
-                poolStatistics.incrementNumConnectionsClosedDefunct();
-                conn = handleDefunctConnection(conn);
-                if (conn != null)
-                {
-                  examinedConnections.add(conn);
-                }
-                continue;
-              }
-            }
-          }
-          catch (final LDAPException le)
-          {
-            if (le.getResultCode() == ResultCode.TIMEOUT)
-            {
-              debugException(Level.FINEST, le);
-            }
-            else
-            {
-              debugException(le);
-              numDefunct++;
-              conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
-                   ERR_POOL_HEALTH_CHECK_READ_FAILURE.get(
-                        getExceptionMessage(le)), le);
-              poolStatistics.incrementNumConnectionsClosedDefunct();
-              conn = handleDefunctConnection(conn);
-              if (conn != null)
-              {
-                examinedConnections.add(conn);
-              }
-              continue;
-            }
+  /**
+   * Retrieves the next connection from the set of available connections and
+   * checks its health, replacing it if it is found to be defunct or expired.
+   * This may be invoked concurrently by multiple threads, in which case each
+   * thread will be checking a different connection.
+   *
+   * @param  hc                   The health check to use.
+   * @param  checkForExpiration   Indicates whether to check to see if the
+   *                              connection has been established for longer
+   *                              than the maximum connection age.
+   * @param  examinedConnections  The set of connections that have already been
+   *                              examined (or newly created) during this
+   *                              health check pass.  It must be threadsafe.
+   * @param  remainingChecks      A counter with the maximum number of
+   *                              connections that may still be examined during
+   *                              this health check pass.
+   * @param  numExamined          A counter that will be updated with the number
+   *                              of connections examined.
+   * @param  numExpired           A counter that will be updated with the number
+   *                              of connections found to be expired.
+   * @param  numDefunct           A counter that will be updated with the number
+   *                              of connections found to be defunct.
+   *
+   * @return  {@code true} if a connection was examined and there may be more
+   *          connections to examine, or {@code false} if there are no more
+   *          connections to examine during this health check pass.
+   */
+  boolean checkNextAvailableConnection(final LDAPConnectionPoolHealthCheck hc,
+               final boolean checkForExpiration,
+               final Set<LDAPConnection> examinedConnections,
+               final AtomicInteger remainingChecks,
+               final AtomicInteger numExamined,
+               final AtomicInteger numExpired,
+               final AtomicInteger numDefunct)
+  {
+    if (remainingChecks.getAndDecrement() <= 0)
+    {
+      return false;
+    }
+
+    final LDAPConnection conn = availableConnections.poll();
+    if (conn == null)
+    {
+      return false;
+    }
+    else if (examinedConnections.contains(conn))
+    {
+      if (! availableConnections.offer(conn))
+      {
+        conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
+                               null, null);
+        poolStatistics.incrementNumConnectionsClosedUnneeded();
+        conn.terminate(null);
+      }
+      return false;
+    }
+
+    numExamined.incrementAndGet();
+    checkConnection(conn, hc, checkForExpiration, examinedConnections,
+         numExpired, numDefunct);
+    return true;
+  }
+
+
+
+  /**
+   * Checks the health of the provided connection, which has been removed from
+   * the set of available connections.  If the connection is valid, then it will
+   * be made available again.  Otherwise, it will be closed and a replacement
+   * will be created if appropriate.
+   *
+   * @param  connection           The connection to be checked.
+   * @param  hc                   The health check to use.
+   * @param  checkForExpiration   Indicates whether to check to see if the
+   *                              connection has been established for longer
+   *                              than the maximum connection age.
+   * @param  examinedConnections  The set of connections that have already been
+   *                              examined during this health check pass.  Any
+   *                              connection made available by this method will
+   *                              be added to this set.
+   * @param  numExpired           A counter that will be updated if the
+   *                              connection is found to be expired.
+   * @param  numDefunct           A counter that will be updated if the
+   *                              connection is found to be defunct.
+   */
+  private void checkConnection(final LDAPConnection connection,
+                               final LDAPConnectionPoolHealthCheck hc,
+                               final boolean checkForExpiration,
+                               final Set<LDAPConnection> examinedConnections,
+                               final AtomicInteger numExpired,
+                               final AtomicInteger numDefunct)
+  {
+    LDAPConnection conn = connection;
+    if (! conn.isConnected())
+    {
+      numDefunct.incrementAndGet();
+      poolStatistics.incrementNumConnectionsClosedDefunct();
+      conn = handleDefunctConnection(conn);
+      if (conn != null)
+      {
+        examinedConnections.add(conn);
+      }
+    }
+    else
+    {
+      if (checkForExpiration && connectionIsExpired(conn))
+      {
+        numExpired.incrementAndGet();
+
+        try
+        {
+          final LDAPConnection newConnection = createConnection();
+          if (availableConnections.offer(newConnection))
+          {
+            examinedConnections.add(newConnection);
+            conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_EXPIRED,
+                 null, null);
+            conn.terminate(null);
+            poolStatistics.incrementNumConnectionsClosedExpired();
+            lastExpiredDisconnectTime = System.currentTimeMillis();
+            return;
+          }
+          else
+          {
+            newConnection.setDisconnectInfo(
+                 DisconnectType.POOLED_CONNECTION_UNNEEDED, null, null);
+            newConnection.terminate(null);
+            poolStatistics.incrementNumConnectionsClosedUnneeded();
           }
-          catch (final Exception e)
+        }
+        catch (final LDAPException le)
+        {
+          debugException(le);
+        }
+      }
+
+
+      // If the connection is operating in synchronous mode, then try to read
+      // a message on it using an extremely short timeout.  This can help
+      // detect a connection closure or unsolicited notification in a more
+      // timely manner than if we had to wait for the client code to try to
+      // use the connection.
+      if (trySynchronousReadDuringHealthCheck && conn.synchronousMode())
+      {
+        int previousTimeout = Integer.MIN_VALUE;
+        Socket s = null;
+        try
+        {
+          s = conn.getConnectionInternals(true).getSocket();
+          previousTimeout = s.getSoTimeout();
+          InternalSDKHelper.setSoTimeout(conn, 1);
+
+          final LDAPResponse response = conn.readResponse(0);
+          if (response instanceof ConnectionClosedResponse)
           {
-            debugException(e);
-            numDefunct++;
+            numDefunct.incrementAndGet();
             conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
-                 ERR_POOL_HEALTH_CHECK_READ_FAILURE.get(getExceptionMessage(e)),
-                 e);
+                 ERR_POOL_HEALTH_CHECK_CONN_CLOSED.get(), null);
             poolStatistics.incrementNumConnectionsClosedDefunct();
             conn = handleDefunctConnection(conn);
             if (conn != null)
             {
               examinedConnections.add(conn);
             }
-            continue;
+            return;
           }
-          finally
+          else if (response instanceof ExtendedResult)
           {
-            if (previousTimeout != Integer.MIN_VALUE)
+            // This means we got an unsolicited response.  It could be a
+            // notice of disconnection, or it could be something else, but in
+            // any case we'll send it to the connection's unsolicited
+            // notification handler (if one is defined).
+            final UnsolicitedNotificationHandler h = conn.
+                 getConnectionOptions().getUnsolicitedNotificationHandler();
+            if (h != null)
             {
-              try
-              {
-                if (s != null)
-                {
-                  InternalSDKHelper.setSoTimeout(conn, previousTimeout);
-                }
-              }
-              catch (final Exception e)
+              h.handleUnsolicitedNotification(conn,
+                   (ExtendedResult) response);
+            }
+          }
+          else if (response instanceof LDAPResult)
+          {
+            final LDAPResult r = (LDAPResult) response;
+            if (r.getResultCode() == ResultCode.SERVER_DOWN)
+            {
+              numDefunct.incrementAndGet();
+              conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
+                   ERR_POOL_HEALTH_CHECK_CONN_CLOSED.get(), null);
+              poolStatistics.incrementNumConnectionsClosedDefunct();
+              conn = handleDefunctConnection(conn);
+              if (conn != null)
               {
-                debugException(e);
-                numDefunct++;
-                conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
-                     null, e);
-                poolStatistics.incrementNumConnectionsClosedDefunct();
-                conn = handleDefunctConnection(conn);
-                if (conn != null)
-                {
-                  examinedConnections.add(conn);
-                }
-                continue;
+                examinedConnections.add(conn);
               }
+              return;
             }
           }
         }
-
-        try
+        catch (final LDAPException le)
         {
-          hc.ensureConnectionValidForContinuedUse(conn);
-          if (availableConnections.offer(conn))
+          if (le.getResultCode() == ResultCode.TIMEOUT)
           {
-            examinedConnections.add(conn);
+            debugException(Level.FINEST, le);
           }
           else
           {
-            conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
-                                   null, null);
-            poolStatistics.incrementNumConnectionsClosedUnneeded();
-            conn.terminate(null);
+            debugException(le);
+            numDefunct.incrementAndGet();
+            conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
+                 ERR_POOL_HEALTH_CHECK_READ_FAILURE.get(
+                      getExceptionMessage(le)), le);
+            poolStatistics.incrementNumConnectionsClosedDefunct();
+            conn = handleDefunctConnection(conn);
+            if (conn != null)
+            {
+              examinedConnections.add(conn);
+            }
+            return;
           }
         }
         catch (final Exception e)
         {
           debugException(e);
-          numDefunct++;
+          numDefunct.incrementAndGet();
+          conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
+               ERR_POOL_HEALTH_CHECK_READ_FAILURE.get(getExceptionMessage(e)),
+               e);
           poolStatistics.incrementNumConnectionsClosedDefunct();
           conn = handleDefunctConnection(conn);
           if (conn != null)
           {
             examinedConnections.add(conn);
           }
+          return;
+        }
+        finally
+        {
+          if (previousTimeout != Integer.MIN_VALUE)
+          {
+            try
+            {
+              if (s != null)
+              {
+                InternalSDKHelper.setSoTimeout(conn, previousTimeout);
+              }
+            }
+            catch (final Exception e)
+            {
+              debugException(e);
+              numDefunct.incrementAndGet();
+              conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
+                   null, e);
+              poolStatistics.incrementNumConnectionsClosedDefunct();
+              conn = handleDefunctConnection(conn);
+              if (conn != null)
+              {
+                examinedConnections.add(conn);
+              }
+              return;
+            }
+          }
         }
       }
-    }
 
-    if (checkMinConnectionGoal)
-    {
       try
       {
-        final int neededConnections =
-             minConnectionGoal - availableConnections.size();
-        for (int i=0; i < neededConnections; i++)
+        // If the connection has been used recently enough, then it has
+        // essentially already been validated and there's no need to tie it up
+        // with another health check.
+        final boolean recentlyUsed =
+             skipHealthCheckForRecentlyUsedConnections &&
+             ((System.currentTimeMillis() - conn.getLastCommunicationTime()) <
+                  healthCheckInterval);
+        if (! recentlyUsed)
         {
-          final LDAPConnection conn = createConnection(hc);
-          if (! availableConnections.offer(conn))
-          {
-            conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
-                                   null, null);
-            poolStatistics.incrementNumConnectionsClosedUnneeded();
-            conn.terminate(null);
-            break;
-          }
+          hc.ensureConnectionValidForContinuedUse(conn);
+        }
+
+        if (availableConnections.offer(conn))
+        {
+          examinedConnections.add(conn);
+        }
+        else
+        {
+          conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
+                                 null, null);
+          poolStatistics.incrementNumConnectionsClosedUnneeded();
+          conn.terminate(null);
         }
       }
       catch (final Exception e)
       {
         debugException(e);
+        numDefunct.incrementAndGet();
+        poolStatistics.incrementNumConnectionsClosedDefunct();
+        conn = handleDefunctConnection(conn);
+        if (conn != null)
+        {
+          examinedConnections.add(conn);
+        }
       }
     }
-
-    return new LDAPConnectionPoolHealthCheckResult(numExamined, numExpired,
-         numDefunct);
   }
 
 
@@ -3184,6 +3750,365 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * Indicates whether this connection pool is operating in adaptive sizing
+   * mode.  In adaptive sizing mode, a background thread periodically examines
+   * how often threads have had to wait for a connection (or create a new one)
+   * and adjusts the number of connections that it tries to keep available for
+   * immediate use, up to the maximum number of connections for the pool.  That
+   * thread will also be responsible for creating connections to replace those
+   * that are closed as defunct or expired, so that the cost of establishing and
+   * authenticating those connections is not incurred by the threads using the
+   * pool.
+   *
+   * @return  {@code true} if this connection pool is operating in adaptive
+   *          sizing mode, or {@code false} if not.
+   */
+  public boolean adaptiveSizingEnabled()
+  {
+    return (adaptiveSizingThread != null);
+  }
+
+
+
+  /**
+   * Specifies whether this connection pool should operate in adaptive sizing
+   * mode.  See the {@link #adaptiveSizingEnabled} method for a description of
+   * adaptive sizing mode.
+   *
+   * @param  enabled  Indicates whether this connection pool should operate in
+   *                  adaptive sizing mode.
+   */
+  public synchronized void setAdaptiveSizingEnabled(final boolean enabled)
+  {
+    if (enabled)
+    {
+      if (closed || (adaptiveSizingThread != null))
+      {
+        return;
+      }
+
+      adaptiveConnectionGoal = Math.max(getAdaptiveConnectionGoalFloor(),
+           Math.min(numConnections, availableConnections.size()));
+      adaptiveIdleIntervals  = 0;
+      adaptiveLastCheckoutWaits = poolStatistics.getNumCheckoutWaits();
+      adaptiveLastFailedCheckouts = poolStatistics.getNumFailedCheckouts();
+      adaptiveLastNewConnectionCheckouts =
+           poolStatistics.getNumSuccessfulCheckoutsNewConnection();
+
+      final LDAPConnectionPoolAdaptiveSizingThread t =
+           new LDAPConnectionPoolAdaptiveSizingThread(this);
+      adaptiveSizingThread = t;
+      t.start();
+    }
+    else
+    {
+      final LDAPConnectionPoolAdaptiveSizingThread t = adaptiveSizingThread;
+      if (t != null)
+      {
+        adaptiveSizingThread = null;
+        t.stopRunning(true);
+        adaptiveConnectionGoal = 0;
+
+        // Any replacements that were pending will now be created on demand.
+        final int pending = pendingBackgroundReplacements.getAndSet(0);
+        if (pending > 0)
+        {
+          final int newReplaceCount = failedReplaceCount.addAndGet(pending);
+          if (newReplaceCount > numConnections)
+          {
+            failedReplaceCount.set(numConnections);
+          }
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the length of time in milliseconds between evaluations of the
+   * load on this connection pool when it is operating in adaptive sizing mode.
+   *
+   * @return  The length of time in milliseconds between evaluations of the
+   *          load on this connection pool when it is operating in adaptive
+   *          sizing mode.
+   */
+  public long getAdaptiveSizingIntervalMillis()
+  {
+    return adaptiveSizingInterval;
+  }
+
+
+
+  /**
+   * Specifies the length of time in milliseconds between evaluations of the
+   * load on this connection pool when it is operating in adaptive sizing mode.
+   * The pool will only decrease the number of connections it tries to keep
+   * available after several consecutive intervals without contention, so
+   * shorter intervals make the pool react more quickly to changes in load.
+   *
+   * @param  adaptiveSizingInterval  The length of time in milliseconds between
+   *                                 evaluations of the load on this connection
+   *                                 pool.  It must be greater than zero.
+   */
+  public void setAdaptiveSizingIntervalMillis(final long adaptiveSizingInterval)
+  {
+    ensureTrue(adaptiveSizingInterval > 0L,
+         "LDAPConnectionPool.adaptiveSizingInterval must be greater than 0.");
+    this.adaptiveSizingInterval = adaptiveSizingInterval;
+
+    final LDAPConnectionPoolAdaptiveSizingThread t = adaptiveSizingThread;
+    if (t != null)
+    {
+      t.wakeUp();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of connections that the adaptive sizing mechanism is
+   * currently trying to keep available for immediate use.  This will never be
+   * less than the minimum available connection goal (or one, if that goal is
+   * zero), and it will never be greater than the maximum number of connections
+   * for the pool.
+   *
+   * @return  The number of connections that the adaptive sizing mechanism is
+   *          currently trying to keep available for immediate use, or zero if
+   *          the pool is not operating in adaptive sizing mode.
+   */
+  public int getAdaptiveAvailableConnectionGoal()
+  {
+    return adaptiveConnectionGoal;
+  }
+
+
+
+  /**
+   * Retrieves the smallest value that the adaptive sizing mechanism should use
+   * for its available connection goal.
+   *
+   * @return  The smallest value that the adaptive sizing mechanism should use
+   *          for its available connection goal.
+   */
+  private int getAdaptiveConnectionGoalFloor()
+  {
+    return Math.min(numConnections, Math.max(1, minConnectionGoal));
+  }
+
+
+
+  /**
+   * Indicates that a connection has been closed and that the adaptive sizing
+   * thread should create a replacement for it.  The slot occupied by the closed
+   * connection is tracked separately from the count of failed replacements so
+   * that threads checking out connections will not create the replacement
+   * themselves.  A thread that needs a connection before the replacement is
+   * ready will wait for it or create a connection outside the pool, in
+   * accordance with the pool's configuration.
+   */
+  private void scheduleBackgroundReplacement()
+  {
+    final int newPendingCount = pendingBackgroundReplacements.incrementAndGet();
+    if (newPendingCount > numConnections)
+    {
+      pendingBackgroundReplacements.set(numConnections);
+    }
+
+    final LDAPConnectionPoolAdaptiveSizingThread t = adaptiveSizingThread;
+    if (t != null)
+    {
+      t.wakeUp();
+    }
+  }
+
+
+
+  /**
+   * Performs the processing for the adaptive sizing mechanism.  Any pending
+   * replacement connections will be created, and if requested, the load on the
+   * pool will be evaluated to determine whether to adjust the available
+   * connection goal.  Finally, new connections will be created as needed to
+   * reach that goal, or surplus connections will be closed.
+   *
+   * @param  evaluateLoad  Indicates whether to evaluate the load on the pool
+   *                       and potentially adjust the available connection goal.
+   */
+  void doAdaptiveSizing(final boolean evaluateLoad)
+  {
+    if (closed || (adaptiveSizingThread == null))
+    {
+      return;
+    }
+
+
+    // First, create any replacement connections that have been requested.  If
+    // a replacement can't be created, then it will remain pending so that it
+    // can be retried on the next pass, unless the pool has since become full.
+    while ((! closed) && (pendingBackgroundReplacements.get() > 0))
+    {
+      if (pendingBackgroundReplacements.getAndDecrement() <= 0)
+      {
+        pendingBackgroundReplacements.incrementAndGet();
+        break;
+      }
+
+      if (! createConnectionInBackground(true))
+      {
+        if (availableConnections.remainingCapacity() > 0)
+        {
+          pendingBackgroundReplacements.incrementAndGet();
+        }
+        return;
+      }
+    }
+
+
+    // Evaluate the load on the pool.  Any checkout attempt that had to wait,
+    // had to create a new connection, or failed is an indication that there
+    // weren't enough connections available, and the goal will be increased in
+    // proportion to the number of such attempts.  If there hasn't been any
+    // contention for a while and there are more connections available than
+    // the goal, then the goal will be decreased and a surplus connection will
+    // be closed.
+    final int floor = getAdaptiveConnectionGoalFloor();
+    int goal = Math.min(numConnections, Math.max(floor,
+         adaptiveConnectionGoal));
+    if (evaluateLoad)
+    {
+      final long checkoutWaits = poolStatistics.getNumCheckoutWaits();
+      final long failedCheckouts = poolStatistics.getNumFailedCheckouts();
+      final long newConnectionCheckouts =
+           poolStatistics.getNumSuccessfulCheckoutsNewConnection();
+      final long contention =
+           (checkoutWaits - adaptiveLastCheckoutWaits) +
+           (failedCheckouts - adaptiveLastFailedCheckouts) +
+           (newConnectionCheckouts - adaptiveLastNewConnectionCheckouts);
+      adaptiveLastCheckoutWaits = checkoutWaits;
+      adaptiveLastFailedCheckouts = failedCheckouts;
+      adaptiveLastNewConnectionCheckouts = newConnectionCheckouts;
+
+      if (contention > 0L)
+      {
+        adaptiveIdleIntervals = 0;
+        if (goal < numConnections)
+        {
+          goal = (int) Math.min(numConnections, goal + contention);
+          poolStatistics.incrementNumAdaptiveGoalIncreases();
+        }
+      }
+      else if (availableConnections.size() > goal)
+      {
+        adaptiveIdleIntervals++;
+        if (adaptiveIdleIntervals >= ADAPTIVE_SHRINK_IDLE_INTERVALS)
+        {
+          adaptiveIdleIntervals = 0;
+          if (goal > floor)
+          {
+            goal--;
+            poolStatistics.incrementNumAdaptiveGoalDecreases();
+
+            final LDAPConnection conn = availableConnections.poll();
+            if (conn != null)
+            {
+              discardConnection(conn);
+            }
+          }
+        }
+      }
+      else
+      {
+        adaptiveIdleIntervals = 0;
+      }
+
+      adaptiveConnectionGoal = goal;
+    }
+
+
+    // Create new connections as needed to reach the goal.  If the pool isn't
+    // allowed to create connections beyond its maximum, then each new
+    // connection must claim a slot that isn't already occupied.
+    while ((! closed) && (availableConnections.size() < goal) &&
+           (availableConnections.remainingCapacity() > 0))
+    {
+      final boolean claimedSlot;
+      if (createIfNecessary)
+      {
+        claimedSlot = false;
+      }
+      else if (failedReplaceCount.getAndDecrement() > 0)
+      {
+        claimedSlot = true;
+      }
+      else
+      {
+        failedReplaceCount.incrementAndGet();
+        return;
+      }
+
+      if (! createConnectionInBackground(false))
+      {
+        if (claimedSlot)
+        {
+          failedReplaceCount.incrementAndGet();
+        }
+        return;
+      }
+    }
+  }
+
+
+
+  /**
+   * Creates a new connection on behalf of the adaptive sizing mechanism and
+   * makes it available for use in the pool.
+   *
+   * @param  replacement  Indicates whether the connection is being created to
+   *                      replace one that was closed.
+   *
+   * @return  {@code true} if a new connection was successfully created and
+   *          made available, or {@code false} if not.
+   */
+  private boolean createConnectionInBackground(final boolean replacement)
+  {
+    final LDAPConnection conn;
+    try
+    {
+      conn = createConnection();
+    }
+    catch (final LDAPException le)
+    {
+      debugException(le);
+      return false;
+    }
+
+    if (replacement && (maxDefunctReplacementConnectionAge != null))
+    {
+      // Only set the maximum age if there isn't one already set for the
+      // connection (i.e., because it was defined by the server set).
+      if (conn.getAttachment(ATTACHMENT_NAME_MAX_CONNECTION_AGE) == null)
+      {
+        conn.setAttachment(ATTACHMENT_NAME_MAX_CONNECTION_AGE,
+             maxDefunctReplacementConnectionAge);
+      }
+    }
+
+    if (closed || (! availableConnections.offer(conn)))
+    {
+      conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED, null,
+           null);
+      poolStatistics.incrementNumConnectionsClosedUnneeded();
+      conn.terminate(null);
+      return false;
+    }
+
+    poolStatistics.incrementNumConnectionsCreatedInBackground();
+    return true;
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -3195,6 +4120,126 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * Retrieves the priority that will be used when checking out a connection to
+   * process an operation of the specified type through one of the pool's
+   * operation methods (e.g., {@code bind}, {@code search}, or
+   * {@code bindAndRevertAuthentication}).
+   *
+   * @param  operationType  The operation type for which to retrieve the
+   *                        checkout priority.  It must not be {@code null}.
+   *
+   * @return  The priority that will be used when checking out a connection to
+   *          process an operation of the specified type.
+   */
+  public LDAPConnectionPoolPriority getCheckoutPriority(
+                                         final OperationType operationType)
+  {
+    return checkoutPriorities.get(operationType.ordinal());
+  }
+
+
+
+  /**
+   * Specifies the priority that should be used when checking out a connection
+   * to process an operation of the specified type through one of the pool's
+   * operation methods (e.g., {@code bind}, {@code search}, or
+   * {@code bindAndRevertAuthentication}).  Connections checked out through the
+   * {@link #getConnection()} method, or used by the {@code processRequests}
+   * method, will always use a priority of {@code NORMAL}.
+   *
+   * @param  operationType  The operation type for which to set the checkout
+   *                        priority.  It must not be {@code null}.
+   * @param  priority       The priority that should be used when checking out
+   *                        a connection to process an operation of the
+   *                        specified type.  It may be {@code null} to use the
+   *                        default priority of {@code NORMAL}.
+   */
+  public void setCheckoutPriority(final OperationType operationType,
+                                  final LDAPConnectionPoolPriority priority)
+  {
+    ensureNotNull(operationType);
+
+    if (priority == null)
+    {
+      checkoutPriorities.set(operationType.ordinal(),
+           LDAPConnectionPoolPriority.NORMAL);
+    }
+    else
+    {
+      checkoutPriorities.set(operationType.ordinal(), priority);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of available connections that are reserved for
+   * checkouts with the specified priority.
+   *
+   * @param  priority  The priority for which to retrieve the number of
+   *                   reserved connections.  It must not be {@code null}.
+   *
+   * @return  The number of available connections that are reserved for
+   *          checkouts with the specified priority.
+   */
+  public int getReservedConnections(final LDAPConnectionPoolPriority priority)
+  {
+    return reservedConnections.get(priority.ordinal());
+  }
+
+
+
+  /**
+   * Specifies the number of available connections that should be reserved for
+   * checkouts with the specified priority.  A checkout with a lower priority
+   * will not be allowed to take an available connection if doing so would
+   * leave fewer available connections than the total number reserved for all
+   * higher priorities, and it will not create a connection outside of the pool
+   * even if {@link #getCreateIfNecessary()} returns {@code true}.  Instead, it
+   * will wait for a connection if a maximum wait time has been configured, or
+   * will otherwise fail.  Reservations are honored on a best-effort basis,
+   * since concurrent checkouts may briefly use a reserved connection.  A
+   * reservation for the {@code LOW} priority has no effect, and if the total
+   * number of reserved connections is not less than the maximum number of
+   * connections in the pool, then checkouts with the lowest affected priority
+   * will never be able to obtain a connection.
+   *
+   * @param  priority        The priority for which to reserve connections.  It
+   *                         must not be {@code null}.
+   * @param  numConnections  The number of available connections that should
+   *                         be reserved for checkouts with the specified
+   *                         priority.  A value that is less than or equal to
+   *                         zero indicates that no connections should be
+   *                         reserved.
+   */
+  public void setReservedConnections(final LDAPConnectionPoolPriority priority,
+                                     final int numConnections)
+  {
+    ensureNotNull(priority);
+
+    reservedConnections.set(priority.ordinal(), Math.max(0, numConnections));
+  }
+
+
+
+  /**
+   * Retrieves the number of threads that are currently waiting for a
+   * connection to become available for a checkout with the specified priority.
+   *
+   * @param  priority  The priority for which to retrieve the number of waiting
+   *                   threads.  It must not be {@code null}.
+   *
+   * @return  The number of threads that are currently waiting for a connection
+   *          to become available for a checkout with the specified priority.
+   */
+  public int getNumWaitingCheckouts(final LDAPConnectionPoolPriority priority)
+  {
+    return waitingCheckouts.get(priority.ordinal());
+  }
+
+
+
   /**
    * Attempts to reduce the number of connections available for use in the pool.
    * Note that this will be a best-effort attempt to reach the desired number
@@ -3212,7 +4257,7 @@ public final class LDAPConnectionPool
       final LDAPConnection conn;
       try
       {
-        conn = getConnection();
+        conn = getConnection(LDAPConnectionPoolPriority.HIGH);
       }
       catch (final LDAPException le)
       {
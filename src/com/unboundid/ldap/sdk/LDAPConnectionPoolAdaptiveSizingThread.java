@@ -0,0 +1,180 @@
+/*
+ * Copyright 2007-2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2008-2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.unboundid.util.Debug.*;
+
+
+
+/**
+ * This class defines a background thread that will be used to periodically
+ * evaluate the load on an LDAP connection pool operating in adaptive sizing
+ * mode, and to create connections in the background so that they are already
+ * available by the time they are needed.
+ */
+final class LDAPConnectionPoolAdaptiveSizingThread
+      extends Thread
+{
+  // Indicates whether a request has been made to shut down this thread.
+  private final AtomicBoolean stopRequested;
+
+  // The connection pool with which this thread is associated.
+  private final LDAPConnectionPool pool;
+
+  // A blocking queue used to control sleeping between evaluations and to wait
+  // for a wakeup or shutdown signal.
+  private final LinkedBlockingQueue<Object> queue;
+
+  // A reference to the thread used to perform the periodic evaluations.
+  private volatile Thread thread;
+
+
+
+  /**
+   * Creates a new instance of this adaptive sizing thread that will be used to
+   * manage connections in the provided pool.
+   *
+   * @param  pool  The connection pool with which this thread will be
+   *               associated.
+   */
+  LDAPConnectionPoolAdaptiveSizingThread(final LDAPConnectionPool pool)
+  {
+    setName("Adaptive Sizing Thread for " + pool.toString());
+    setDaemon(true);
+
+    this.pool = pool;
+
+    stopRequested = new AtomicBoolean(false);
+    queue = new LinkedBlockingQueue<Object>(1);
+    thread = null;
+  }
+
+
+
+  /**
+   * Periodically evaluates the load on the pool and adjusts the number of
+   * available connections accordingly.
+   */
+  @Override()
+  public void run()
+  {
+    thread = Thread.currentThread();
+    long lastEvaluationTime = System.currentTimeMillis();
+
+    while (! stopRequested.get())
+    {
+      final long interval = pool.getAdaptiveSizingIntervalMillis();
+      final long timeSinceLastEvaluation =
+           System.currentTimeMillis() - lastEvaluationTime;
+      final boolean evaluateLoad = (timeSinceLastEvaluation >= interval);
+
+      try
+      {
+        pool.doAdaptiveSizing(evaluateLoad);
+      }
+      catch (final Exception e)
+      {
+        debugException(e);
+      }
+
+      if (evaluateLoad)
+      {
+        lastEvaluationTime = System.currentTimeMillis();
+      }
+
+      final long sleepTime = Math.max(1L, Math.min(
+           (interval - (System.currentTimeMillis() - lastEvaluationTime)),
+           30000L));
+      try
+      {
+        queue.poll(sleepTime, TimeUnit.MILLISECONDS);
+      }
+      catch (final Exception e)
+      {
+        debugException(e);
+
+        if (e instanceof InterruptedException)
+        {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+
+    thread = null;
+  }
+
+
+
+  /**
+   * Indicates that this thread should stop running.
+   *
+   * @param  wait  Indicates whether to wait for the thread to actually stop
+   *               running before returning.  If this is {@code true}, then this
+   *               method will not return until the thread has actually stopped.
+   *               If this is {@code false}, then the thread will be signaled
+   *               to stop, but the thread may still be running when this method
+   *               returns.
+   */
+  void stopRunning(final boolean wait)
+  {
+    stopRequested.set(true);
+    wakeUp();
+
+    if (wait)
+    {
+      final Thread t = thread;
+      if ((t != null) && (t != Thread.currentThread()))
+      {
+        try
+        {
+          t.join();
+        }
+        catch (final Exception e)
+        {
+          debugException(e);
+
+          if (e instanceof InterruptedException)
+          {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Indicates that this thread should wake up if it is currently sleeping so
+   * that it can create any replacement connections that may be needed.
+   */
+  void wakeUp()
+  {
+    queue.offer(new Object());
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This enum defines the set of priorities that may be used when checking out
+ * connections from an {@link LDAPConnectionPool}.  The priority determines
+ * whether a checkout may take one of the connections that the pool has
+ * reserved for higher-priority checkouts, and the order in which threads that
+ * are waiting for a connection to become available will be allowed to obtain
+ * one.  This makes it possible for a single pool to be shared between
+ * latency-sensitive requests (like binds performed to authenticate users) and
+ * background processing (like bulk searches) without allowing the background
+ * processing to consume all of the connections.
+ *
+ * @see  LDAPConnectionPool#getConnection(LDAPConnectionPoolPriority)
+ * @see  LDAPConnectionPool#setReservedConnections
+ * @see  LDAPConnectionPool#setCheckoutPriority
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public enum LDAPConnectionPoolPriority
+{
+  /**
+   * The priority that should be used for latency-sensitive requests.  A
+   * checkout with this priority may use any available connection, and threads
+   * waiting with this priority will be given the first opportunity to obtain
+   * a connection that becomes available.
+   */
+  HIGH,
+
+
+
+  /**
+   * The priority that will be used for checkouts that do not explicitly
+   * specify a priority.  A checkout with this priority may not use any of the
+   * connections reserved for high-priority checkouts.
+   */
+  NORMAL,
+
+
+
+  /**
+   * The priority that should be used for background processing.  A checkout
+   * with this priority may not use any of the connections reserved for high-
+   * or normal-priority checkouts, and threads waiting with this priority will
+   * only be able to obtain a connection when no higher-priority threads are
+   * waiting.
+   */
+  LOW;
+
+
+
+  /**
+   * Retrieves the priority with the specified name.
+   *
+   * @param  name  The name of the priority to retrieve.  It must not be
+   *               {@code null}.
+   *
+   * @return  The requested priority, or {@code null} if no such priority is
+   *          defined.
+   */
+  public static LDAPConnectionPoolPriority forName(final String name)
+  {
+    switch (StaticUtils.toLowerCase(name))
+    {
+      case "high":
+        return HIGH;
+      case "normal":
+        return NORMAL;
+      case "low":
+        return LOW;
+      default:
+        return null;
+    }
+  }
+}
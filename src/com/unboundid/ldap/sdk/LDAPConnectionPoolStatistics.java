@@ -23,7 +23,9 @@ package com.unboundid.ldap.sdk;
 
 
 import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import com.unboundid.util.Mutable;
 import com.unboundid.util.ThreadSafety;
@@ -65,6 +67,17 @@ import com.unboundid.util.ThreadSafetyLevel;
  *       the pool.</LI>
  *   <LI>The number of failed attempts to create a new connection for use in the
  *       pool.</LI>
+ *   <LI>The number of connections that have been created in the background by
+ *       the pool's adaptive sizing mechanism, either to replace connections
+ *       that were closed or to build up a reserve of available connections in
+ *       anticipation of increased load.</LI>
+ *   <LI>The number of times that the adaptive sizing mechanism has increased or
+ *       decreased the number of connections that it tries to keep available in
+ *       the pool.</LI>
+ *   <LI>The total and average length of time that threads have spent waiting
+ *       for a connection to become available, both overall and for each
+ *       {@link LDAPConnectionPoolPriority} with which checkouts were
+ *       requested.</LI>
  * </UL>
  */
 @Mutable()
@@ -79,6 +92,14 @@ public final class LDAPConnectionPoolStatistics
 
 
 
+  // The number of times that a checkout attempt has had to wait for a
+  // connection to become available.
+  private final AtomicLong numCheckoutWaits;
+
+  // The number of times that a checkout attempt has had to wait for a
+  // connection to become available, indexed by checkout priority.
+  private final AtomicLongArray numCheckoutWaitsByPriority;
+
   // The number of connections that have been closed as defunct.
   private final AtomicLong numConnectionsClosedDefunct;
 
@@ -89,6 +110,18 @@ public final class LDAPConnectionPoolStatistics
   // needed.
   private final AtomicLong numConnectionsClosedUnneeded;
 
+  // The number of connections that have been created in the background by the
+  // adaptive sizing mechanism.
+  private final AtomicLong numConnectionsCreatedInBackground;
+
+  // The number of times that the adaptive sizing mechanism has decreased the
+  // available connection goal.
+  private final AtomicLong numAdaptiveGoalDecreases;
+
+  // The number of times that the adaptive sizing mechanism has increased the
+  // available connection goal.
+  private final AtomicLong numAdaptiveGoalIncreases;
+
   // The number of failed attempts to check out a connection from the pool.
   private final AtomicLong numFailedCheckouts;
 
@@ -116,6 +149,15 @@ public final class LDAPConnectionPoolStatistics
   // The number successful attempts to create a connection for use in the pool.
   private final AtomicLong numSuccessfulConnectionAttempts;
 
+  // The total length of time in nanoseconds that checkout attempts have spent
+  // waiting for a connection to become available.
+  private final AtomicLong totalCheckoutWaitTimeNanos;
+
+  // The total length of time in nanoseconds that checkout attempts have spent
+  // waiting for a connection to become available, indexed by checkout
+  // priority.
+  private final AtomicLongArray totalCheckoutWaitTimeNanosByPriority;
+
   // The connection pool with which these statistics are associated.
   private final AbstractConnectionPool pool;
 
@@ -143,6 +185,15 @@ public final class LDAPConnectionPoolStatistics
     numSuccessfulCheckoutsWithoutWait   = new AtomicLong(0L);
     numFailedCheckouts                  = new AtomicLong(0L);
     numReleasedValid                    = new AtomicLong(0L);
+    numConnectionsCreatedInBackground   = new AtomicLong(0L);
+    numAdaptiveGoalIncreases            = new AtomicLong(0L);
+    numAdaptiveGoalDecreases            = new AtomicLong(0L);
+    numCheckoutWaits                    = new AtomicLong(0L);
+    totalCheckoutWaitTimeNanos          = new AtomicLong(0L);
+
+    final int numPriorities = LDAPConnectionPoolPriority.values().length;
+    numCheckoutWaitsByPriority = new AtomicLongArray(numPriorities);
+    totalCheckoutWaitTimeNanosByPriority = new AtomicLongArray(numPriorities);
   }
 
 
@@ -163,6 +214,17 @@ public final class LDAPConnectionPoolStatistics
     numSuccessfulCheckoutsWithoutWait.set(0L);
     numFailedCheckouts.set(0L);
     numReleasedValid.set(0L);
+    numConnectionsCreatedInBackground.set(0L);
+    numAdaptiveGoalIncreases.set(0L);
+    numAdaptiveGoalDecreases.set(0L);
+    numCheckoutWaits.set(0L);
+    totalCheckoutWaitTimeNanos.set(0L);
+
+    for (int i=0; i < numCheckoutWaitsByPriority.length(); i++)
+    {
+      numCheckoutWaitsByPriority.set(i, 0L);
+      totalCheckoutWaitTimeNanosByPriority.set(i, 0L);
+    }
   }
 
 
@@ -436,6 +498,257 @@ public final class LDAPConnectionPoolStatistics
 
 
 
+  /**
+   * Retrieves the number of connections that have been created in the
+   * background by the pool's adaptive sizing mechanism, either to replace
+   * connections that were closed or to increase the number of connections
+   * available for immediate use.
+   *
+   * @return  The number of connections that have been created in the
+   *          background by the pool's adaptive sizing mechanism.
+   */
+  public long getNumConnectionsCreatedInBackground()
+  {
+    return numConnectionsCreatedInBackground.get();
+  }
+
+
+
+  /**
+   * Increments the number of connections that have been created in the
+   * background by the pool's adaptive sizing mechanism.
+   */
+  void incrementNumConnectionsCreatedInBackground()
+  {
+    numConnectionsCreatedInBackground.incrementAndGet();
+  }
+
+
+
+  /**
+   * Retrieves the number of times that the pool's adaptive sizing mechanism
+   * has increased the number of connections that it attempts to keep available
+   * for immediate use.
+   *
+   * @return  The number of times that the pool's adaptive sizing mechanism has
+   *          increased the available connection goal.
+   */
+  public long getNumAdaptiveGoalIncreases()
+  {
+    return numAdaptiveGoalIncreases.get();
+  }
+
+
+
+  /**
+   * Increments the number of times that the pool's adaptive sizing mechanism
+   * has increased the available connection goal.
+   */
+  void incrementNumAdaptiveGoalIncreases()
+  {
+    numAdaptiveGoalIncreases.incrementAndGet();
+  }
+
+
+
+  /**
+   * Retrieves the number of times that the pool's adaptive sizing mechanism
+   * has decreased the number of connections that it attempts to keep available
+   * for immediate use.
+   *
+   * @return  The number of times that the pool's adaptive sizing mechanism has
+   *          decreased the available connection goal.
+   */
+  public long getNumAdaptiveGoalDecreases()
+  {
+    return numAdaptiveGoalDecreases.get();
+  }
+
+
+
+  /**
+   * Increments the number of times that the pool's adaptive sizing mechanism
+   * has decreased the available connection goal.
+   */
+  void incrementNumAdaptiveGoalDecreases()
+  {
+    numAdaptiveGoalDecreases.incrementAndGet();
+  }
+
+
+
+  /**
+   * Retrieves the number of checkout attempts that have had to wait for a
+   * connection to become available, regardless of whether a connection was
+   * ultimately obtained.
+   *
+   * @return  The number of checkout attempts that have had to wait for a
+   *          connection to become available.
+   */
+  public long getNumCheckoutWaits()
+  {
+    return numCheckoutWaits.get();
+  }
+
+
+
+  /**
+   * Retrieves the total length of time in milliseconds that checkout attempts
+   * have spent waiting for a connection to become available.
+   *
+   * @return  The total length of time in milliseconds that checkout attempts
+   *          have spent waiting for a connection to become available.
+   */
+  public long getTotalCheckoutWaitTimeMillis()
+  {
+    return TimeUnit.NANOSECONDS.toMillis(totalCheckoutWaitTimeNanos.get());
+  }
+
+
+
+  /**
+   * Retrieves the average length of time in milliseconds that checkout attempts
+   * have had to wait for a connection to become available.  Checkout attempts
+   * that did not need to wait are not included in the average.
+   *
+   * @return  The average length of time in milliseconds that checkout attempts
+   *          have had to wait for a connection to become available, or zero if
+   *          no checkout attempts have had to wait.
+   */
+  public double getAverageCheckoutWaitTimeMillis()
+  {
+    final long numWaits = numCheckoutWaits.get();
+    if (numWaits <= 0L)
+    {
+      return 0.0d;
+    }
+
+    return (totalCheckoutWaitTimeNanos.get() / 1000000.0d) / numWaits;
+  }
+
+
+
+  /**
+   * Retrieves the number of checkout attempts with the specified priority that
+   * have had to wait for a connection to become available, regardless of
+   * whether a connection was ultimately obtained.
+   *
+   * @param  priority  The checkout priority for which to retrieve the number
+   *                   of waits.  It must not be {@code null}.
+   *
+   * @return  The number of checkout attempts with the specified priority that
+   *          have had to wait for a connection to become available.
+   */
+  public long getNumCheckoutWaits(final LDAPConnectionPoolPriority priority)
+  {
+    return numCheckoutWaitsByPriority.get(priority.ordinal());
+  }
+
+
+
+  /**
+   * Retrieves the total length of time in milliseconds that checkout attempts
+   * with the specified priority have spent waiting for a connection to become
+   * available.
+   *
+   * @param  priority  The checkout priority for which to retrieve the total
+   *                   wait time.  It must not be {@code null}.
+   *
+   * @return  The total length of time in milliseconds that checkout attempts
+   *          with the specified priority have spent waiting for a connection
+   *          to become available.
+   */
+  public long getTotalCheckoutWaitTimeMillis(
+                   final LDAPConnectionPoolPriority priority)
+  {
+    return TimeUnit.NANOSECONDS.toMillis(
+         totalCheckoutWaitTimeNanosByPriority.get(priority.ordinal()));
+  }
+
+
+
+  /**
+   * Retrieves the average length of time in milliseconds that checkout attempts
+   * with the specified priority have had to wait for a connection to become
+   * available.  Checkout attempts that did not need to wait are not included
+   * in the average.
+   *
+   * @param  priority  The checkout priority for which to retrieve the average
+   *                   wait time.  It must not be {@code null}.
+   *
+   * @return  The average length of time in milliseconds that checkout attempts
+   *          with the specified priority have had to wait for a connection to
+   *          become available, or zero if no such checkout attempts have had
+   *          to wait.
+   */
+  public double getAverageCheckoutWaitTimeMillis(
+                     final LDAPConnectionPoolPriority priority)
+  {
+    final int i = priority.ordinal();
+    final long numWaits = numCheckoutWaitsByPriority.get(i);
+    if (numWaits <= 0L)
+    {
+      return 0.0d;
+    }
+
+    return (totalCheckoutWaitTimeNanosByPriority.get(i) / 1000000.0d) /
+         numWaits;
+  }
+
+
+
+  /**
+   * Retrieves the total length of time in nanoseconds that checkout attempts
+   * have spent waiting for a connection to become available.
+   *
+   * @return  The total length of time in nanoseconds that checkout attempts
+   *          have spent waiting for a connection to become available.
+   */
+  long getTotalCheckoutWaitTimeNanos()
+  {
+    return totalCheckoutWaitTimeNanos.get();
+  }
+
+
+
+  /**
+   * Updates the statistics to reflect a checkout attempt that had to wait for a
+   * connection to become available.
+   *
+   * @param  waitTimeNanos  The length of time in nanoseconds that the checkout
+   *                        attempt spent waiting.
+   */
+  void recordCheckoutWait(final long waitTimeNanos)
+  {
+    numCheckoutWaits.incrementAndGet();
+    totalCheckoutWaitTimeNanos.addAndGet(Math.max(0L, waitTimeNanos));
+  }
+
+
+
+  /**
+   * Updates the statistics to reflect a checkout attempt with the specified
+   * priority that had to wait for a connection to become available.  The
+   * overall checkout wait statistics will also be updated.
+   *
+   * @param  priority       The priority of the checkout attempt.  It must not
+   *                        be {@code null}.
+   * @param  waitTimeNanos  The length of time in nanoseconds that the checkout
+   *                        attempt spent waiting.
+   */
+  void recordCheckoutWait(final LDAPConnectionPoolPriority priority,
+                          final long waitTimeNanos)
+  {
+    recordCheckoutWait(waitTimeNanos);
+
+    final int i = priority.ordinal();
+    numCheckoutWaitsByPriority.incrementAndGet(i);
+    totalCheckoutWaitTimeNanosByPriority.addAndGet(i,
+         Math.max(0L, waitTimeNanos));
+  }
+
+
+
   /**
    * Retrieves the number of connections currently available for use in the
    * pool, if that information is available.
@@ -502,6 +815,11 @@ public final class LDAPConnectionPoolStatistics
     final long successfulCheckouts = numSuccessfulCheckouts.get();
     final long failedCheckouts     = numFailedCheckouts.get();
     final long releasedValid       = numReleasedValid.get();
+    final long createdInBackground = numConnectionsCreatedInBackground.get();
+    final long goalIncreases       = numAdaptiveGoalIncreases.get();
+    final long goalDecreases       = numAdaptiveGoalDecreases.get();
+    final long checkoutWaits       = numCheckoutWaits.get();
+    final long checkoutWaitMillis  = getTotalCheckoutWaitTimeMillis();
 
     buffer.append("LDAPConnectionPoolStatistics(numAvailableConnections=");
     buffer.append(availableConns);
@@ -523,6 +841,34 @@ public final class LDAPConnectionPoolStatistics
     buffer.append(failedCheckouts);
     buffer.append(", numReleasedValid=");
     buffer.append(releasedValid);
+    buffer.append(", numConnectionsCreatedInBackground=");
+    buffer.append(createdInBackground);
+    buffer.append(", numAdaptiveGoalIncreases=");
+    buffer.append(goalIncreases);
+    buffer.append(", numAdaptiveGoalDecreases=");
+    buffer.append(goalDecreases);
+    buffer.append(", numCheckoutWaits=");
+    buffer.append(checkoutWaits);
+    buffer.append(", totalCheckoutWaitTimeMillis=");
+    buffer.append(checkoutWaitMillis);
+
+    for (final LDAPConnectionPoolPriority p :
+         LDAPConnectionPoolPriority.values())
+    {
+      final long priorityWaits = getNumCheckoutWaits(p);
+      if (priorityWaits > 0L)
+      {
+        buffer.append(", numCheckoutWaits.");
+        buffer.append(p.name());
+        buffer.append('=');
+        buffer.append(priorityWaits);
+        buffer.append(", totalCheckoutWaitTimeMillis.");
+        buffer.append(p.name());
+        buffer.append('=');
+        buffer.append(getTotalCheckoutWaitTimeMillis(p));
+      }
+    }
+
     buffer.append(')');
   }
 }
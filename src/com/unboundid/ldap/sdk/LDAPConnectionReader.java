@@ -22,15 +22,12 @@ package com.unboundid.ldap.sdk;
 
 
 
-import java.io.BufferedInputStream;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
-import java.util.Iterator;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
@@ -63,28 +60,21 @@ import static com.unboundid.util.StaticUtils.*;
 final class LDAPConnectionReader
       extends Thread
 {
-  /**
-   * The default size that will be used for the input stream buffer.
-   */
-  private static final int DEFAULT_INPUT_BUFFER_SIZE = 4096;
-
-
-
   // The ASN.1 stream reader used to read LDAP messages from the server.
   private volatile ASN1StreamReader asn1StreamReader;
 
   // Indicates whether a request has been made to close the associated socket.
   private volatile boolean closeRequested;
 
-  // The map that will be used to associate message IDs with the corresponding
-  // response acceptors.
-  private final ConcurrentHashMap<Integer,ResponseAcceptor> acceptorMap;
+  // The registry that will be used to associate message IDs with the
+  // corresponding response acceptors.
+  private final ResponseAcceptorRegistry acceptorRegistry;
 
   // The exception encountered during StartTLS processing.
   private volatile Exception startTLSException;
 
   // The input stream used to read data from the socket.
-  private volatile InputStream inputStream;
+  private volatile AdaptiveBufferedInputStream inputStream;
 
   // The SSL-enabled output stream resulting from StartTLS negotiation.  It will
   // be non-null only immediately after StartTLS negotiation has completed and
@@ -132,12 +122,14 @@ final class LDAPConnectionReader
     setDaemon(true);
 
     socket               = connectionInternals.getSocket();
-    inputStream          = new BufferedInputStream(socket.getInputStream(),
-                                                   DEFAULT_INPUT_BUFFER_SIZE);
+    inputStream          = new AdaptiveBufferedInputStream(
+         socket.getInputStream(),
+         connection.getConnectionOptions().getMaxReadBufferSize(),
+         connection.getConnectionStatistics());
     asn1StreamReader = new ASN1StreamReader(inputStream,
          connection.getConnectionOptions().getMaxMessageSize());
 
-    acceptorMap          = new ConcurrentHashMap<Integer,ResponseAcceptor>();
+    acceptorRegistry     = new ResponseAcceptorRegistry();
     closeRequested       = false;
     sslSocketFactory     = null;
     startTLSException    = null;
@@ -163,7 +155,7 @@ final class LDAPConnectionReader
        throws LDAPException
   {
     final ResponseAcceptor existingAcceptor =
-         acceptorMap.putIfAbsent(messageID, acceptor);
+         acceptorRegistry.putIfAbsent(messageID, acceptor);
     if (existingAcceptor != null)
     {
       throw new LDAPException(ResultCode.LOCAL_ERROR,
@@ -183,7 +175,20 @@ final class LDAPConnectionReader
    */
   void deregisterResponseAcceptor(final int messageID)
   {
-    acceptorMap.remove(messageID);
+    acceptorRegistry.remove(messageID);
+  }
+
+
+
+  /**
+   * Retrieves the input stream used to read data from the socket.
+   *
+   * @return  The input stream used to read data from the socket, or
+   *          {@code null} if the connection has been closed.
+   */
+  AdaptiveBufferedInputStream getInputStream()
+  {
+    return inputStream;
   }
 
 
@@ -199,7 +204,7 @@ final class LDAPConnectionReader
    */
   int getActiveOperationCount()
   {
-    return acceptorMap.size();
+    return acceptorRegistry.size();
   }
 
 
@@ -223,7 +228,8 @@ final class LDAPConnectionReader
         try
         {
           response = LDAPMessage.readLDAPResponseFrom(asn1StreamReader, true,
-               connection.getCachedSchema());
+               connection.getCachedSchema(),
+               connection.getConnectionOptions().useMessageBufferDecoding());
         }
         catch (final LDAPException le)
         {
@@ -263,9 +269,10 @@ final class LDAPConnectionReader
                 connectionOptions.getSSLSocketVerifier().verifySSLSocket(
                      connection.getConnectedAddress(), socket.getPort(),
                      sslSocket);
-                inputStream =
-                     new BufferedInputStream(sslSocket.getInputStream(),
-                                             DEFAULT_INPUT_BUFFER_SIZE);
+                inputStream = new AdaptiveBufferedInputStream(
+                     sslSocket.getInputStream(),
+                     connectionOptions.getMaxReadBufferSize(),
+                     connection.getConnectionStatistics());
                 asn1StreamReader = new ASN1StreamReader(inputStream,
                      connectionOptions.getMaxMessageSize());
                 startTLSOutputStream = sslSocket.getOutputStream();
@@ -406,6 +413,12 @@ final class LDAPConnectionReader
           }
         }
 
+        final AdaptiveBufferedInputStream is = inputStream;
+        if (is != null)
+        {
+          is.messageRead();
+        }
+
         debugLDAPResult(response, connection);
         connection.setLastCommunicationTime();
 
@@ -413,12 +426,12 @@ final class LDAPConnectionReader
         if ((response instanceof SearchResultEntry) ||
             (response instanceof SearchResultReference))
         {
-          responseAcceptor = acceptorMap.get(response.getMessageID());
+          responseAcceptor = acceptorRegistry.get(response.getMessageID());
         }
         else if (response instanceof IntermediateResponse)
         {
           final IntermediateResponse ir = (IntermediateResponse) response;
-          responseAcceptor = acceptorMap.get(response.getMessageID());
+          responseAcceptor = acceptorRegistry.get(response.getMessageID());
            IntermediateResponseListener l = null;
           if (responseAcceptor instanceof LDAPRequest)
           {
@@ -452,7 +465,7 @@ final class LDAPConnectionReader
         }
         else
         {
-          responseAcceptor = acceptorMap.remove(response.getMessageID());
+          responseAcceptor = acceptorRegistry.remove(response.getMessageID());
         }
 
 
@@ -626,12 +639,19 @@ final class LDAPConnectionReader
       try
       {
         final LDAPResponse response = LDAPMessage.readLDAPResponseFrom(
-             asn1StreamReader, false, connection.getCachedSchema());
+             asn1StreamReader, false, connection.getCachedSchema(),
+             connection.getConnectionOptions().useMessageBufferDecoding());
         if (response == null)
         {
           return new ConnectionClosedResponse(ResultCode.SERVER_DOWN, null);
         }
 
+        final AdaptiveBufferedInputStream is = inputStream;
+        if (is != null)
+        {
+          is.messageRead();
+        }
+
         connection.setLastCommunicationTime();
         if (response.getMessageID() == messageID)
         {
@@ -835,9 +855,10 @@ final class LDAPConnectionReader
         }
         connectionOptions.getSSLSocketVerifier().verifySSLSocket(
              connection.getConnectedAddress(), socket.getPort(), sslSocket);
-        inputStream =
-             new BufferedInputStream(sslSocket.getInputStream(),
-                                     DEFAULT_INPUT_BUFFER_SIZE);
+        inputStream = new AdaptiveBufferedInputStream(
+             sslSocket.getInputStream(),
+             connectionOptions.getMaxReadBufferSize(),
+             connection.getConnectionStatistics());
         asn1StreamReader = new ASN1StreamReader(inputStream,
              connectionOptions.getMaxMessageSize());
         startTLSOutputStream = sslSocket.getOutputStream();
@@ -997,12 +1018,8 @@ final class LDAPConnectionReader
        connection.setClosed();
      }
 
-     final Iterator<Integer> iterator = acceptorMap.keySet().iterator();
-     while (iterator.hasNext())
+     for (final ResponseAcceptor acceptor : acceptorRegistry.removeAll())
      {
-       final int messageID = iterator.next();
-       final ResponseAcceptor acceptor = acceptorMap.get(messageID);
-
        try
        {
          if (message == null)
@@ -1030,8 +1047,6 @@ final class LDAPConnectionReader
        {
          debugException(e);
        }
-
-       iterator.remove();
      }
    }
 
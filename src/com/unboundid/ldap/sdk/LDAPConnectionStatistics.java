@@ -43,6 +43,9 @@ import com.unboundid.util.ThreadSafetyLevel;
  * <UL>
  *   <LI>The number of attempts made to establish the connection.</LI>
  *   <LI>The number of times the connection has been closed.</LI>
+ *   <LI>The number of reads from the socket, the number of bytes read, and
+ *       the number of LDAP messages read, from which the average message size
+ *       may be determined.</LI>
  *   <LI>The number of requests of each type that have been sent over the
  *       connection.</LI>
  *   <LI>The number of responses of each type that have been received over the
@@ -78,6 +81,9 @@ public final class LDAPConnectionStatistics
   // The number of bind responses received on the associated connection.
   private final AtomicLong numBindResponses;
 
+  // The number of bytes read from the server on the associated connection.
+  private final AtomicLong numBytesRead;
+
   // The number of compare requests sent over the associated connection.
   private final AtomicLong numCompareRequests;
 
@@ -104,6 +110,10 @@ public final class LDAPConnectionStatistics
   // The number of extended responses received on the associated connection.
   private final AtomicLong numExtendedResponses;
 
+  // The number of LDAP messages read from the server on the associated
+  // connection.
+  private final AtomicLong numMessagesRead;
+
   // The number of modify requests sent over the associated connection.
   private final AtomicLong numModifyRequests;
 
@@ -116,6 +126,9 @@ public final class LDAPConnectionStatistics
   // The number of modify DN responses received on the associated connection.
   private final AtomicLong numModifyDNResponses;
 
+  // The number of reads from the socket for the associated connection.
+  private final AtomicLong numReads;
+
   // The number of search requests sent over the associated connection.
   private final AtomicLong numSearchRequests;
 
@@ -171,6 +184,7 @@ public final class LDAPConnectionStatistics
     numAddResponses             = new AtomicLong(0L);
     numBindRequests             = new AtomicLong(0L);
     numBindResponses            = new AtomicLong(0L);
+    numBytesRead                = new AtomicLong(0L);
     numCompareRequests          = new AtomicLong(0L);
     numCompareResponses         = new AtomicLong(0L);
     numConnects                 = new AtomicLong(0L);
@@ -179,10 +193,12 @@ public final class LDAPConnectionStatistics
     numDisconnects              = new AtomicLong(0L);
     numExtendedRequests         = new AtomicLong(0L);
     numExtendedResponses        = new AtomicLong(0L);
+    numMessagesRead             = new AtomicLong(0L);
     numModifyRequests           = new AtomicLong(0L);
     numModifyResponses          = new AtomicLong(0L);
     numModifyDNRequests         = new AtomicLong(0L);
     numModifyDNResponses        = new AtomicLong(0L);
+    numReads                    = new AtomicLong(0L);
     numSearchRequests           = new AtomicLong(0L);
     numSearchEntryResponses     = new AtomicLong(0L);
     numSearchReferenceResponses = new AtomicLong(0L);
@@ -210,6 +226,7 @@ public final class LDAPConnectionStatistics
     numAddResponses.set(0L);
     numBindRequests.set(0L);
     numBindResponses.set(0L);
+    numBytesRead.set(0L);
     numCompareRequests.set(0L);
     numCompareResponses.set(0L);
     numConnects.set(0L);
@@ -218,10 +235,12 @@ public final class LDAPConnectionStatistics
     numDisconnects.set(0L);
     numExtendedRequests.set(0L);
     numExtendedResponses.set(0L);
+    numMessagesRead.set(0L);
     numModifyRequests.set(0L);
     numModifyResponses.set(0L);
     numModifyDNRequests.set(0L);
     numModifyDNResponses.set(0L);
+    numReads.set(0L);
     numSearchRequests.set(0L);
     numSearchEntryResponses.set(0L);
     numSearchReferenceResponses.set(0L);
@@ -290,6 +309,116 @@ public final class LDAPConnectionStatistics
 
 
 
+  /**
+   * Retrieves the number of times data has been read from the socket for the
+   * associated connection.  Each read may include any number of bytes, and may
+   * include all or part of any number of LDAP messages.
+   *
+   * @return  The number of times data has been read from the socket for the
+   *          associated connection.
+   */
+  public long getNumReads()
+  {
+    return numReads.get();
+  }
+
+
+
+  /**
+   * Retrieves the total number of bytes read from the server on the associated
+   * connection.
+   *
+   * @return  The total number of bytes read from the server on the associated
+   *          connection.
+   */
+  public long getNumBytesRead()
+  {
+    return numBytesRead.get();
+  }
+
+
+
+  /**
+   * Retrieves the average number of bytes obtained by each read from the
+   * socket for the associated connection.
+   *
+   * @return  The average number of bytes obtained by each read from the socket
+   *          for the associated connection, or {@code Double.NaN} if no data
+   *          has been read.
+   */
+  public double getAverageBytesPerRead()
+  {
+    final long reads = numReads.get();
+    if (reads == 0L)
+    {
+      return Double.NaN;
+    }
+
+    return (1.0d * numBytesRead.get() / reads);
+  }
+
+
+
+  /**
+   * Updates the statistics to reflect a read from the socket for the
+   * associated connection.
+   *
+   * @param  numBytes  The number of bytes obtained by the read.
+   */
+  void incrementNumReads(final int numBytes)
+  {
+    numReads.incrementAndGet();
+    numBytesRead.addAndGet(numBytes);
+  }
+
+
+
+  /**
+   * Retrieves the number of LDAP messages read from the server on the
+   * associated connection.
+   *
+   * @return  The number of LDAP messages read from the server on the
+   *          associated connection.
+   */
+  public long getNumMessagesRead()
+  {
+    return numMessagesRead.get();
+  }
+
+
+
+  /**
+   * Retrieves the average size in bytes of the LDAP messages read from the
+   * server on the associated connection.
+   *
+   * @return  The average size in bytes of the LDAP messages read from the
+   *          server on the associated connection, or {@code Double.NaN} if no
+   *          messages have been read.
+   */
+  public double getAverageMessageSize()
+  {
+    final long messages = numMessagesRead.get();
+    if (messages == 0L)
+    {
+      return Double.NaN;
+    }
+
+    return (1.0d * numBytesRead.get() / messages);
+  }
+
+
+
+  /**
+   * Increments the number of LDAP messages read from the server on the
+   * associated connection.
+   */
+  void incrementNumMessagesRead()
+  {
+    numMessagesRead.incrementAndGet();
+  }
+
+
+
   /**
    * Retrieves the number of abandon requests sent on the associated connection.
    *
@@ -1500,6 +1629,9 @@ public final class LDAPConnectionStatistics
     final long searchDone        = numSearchDoneResponses.get();
     final long searchTimes       = totalSearchResponseTime.get();
     final long unbindRequests    = numUnbindRequests.get();
+    final long reads             = numReads.get();
+    final long bytesRead         = numBytesRead.get();
+    final long messagesRead      = numMessagesRead.get();
 
     final DecimalFormat f = new DecimalFormat("0.000");
 
@@ -1508,6 +1640,18 @@ public final class LDAPConnectionStatistics
     buffer.append(", numDisconnects=");
     buffer.append(disconnects);
 
+    buffer.append(", numReads=");
+    buffer.append(reads);
+    buffer.append(", numBytesRead=");
+    buffer.append(bytesRead);
+    buffer.append(", numMessagesRead=");
+    buffer.append(messagesRead);
+    if (messagesRead > 0L)
+    {
+      buffer.append(", averageMessageSizeBytes=");
+      buffer.append(f.format(1.0d * bytesRead / messagesRead));
+    }
+
     buffer.append(", numAbandonRequests=");
     buffer.append(abandonRequests);
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2012-2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+
+/**
+ * This class provides a task that will repeatedly take connections from the
+ * set of available connections in a connection pool and check their health,
+ * until there are no more connections to examine.
+ */
+final class ParallelPoolHealthCheckTask
+      implements Runnable
+{
+  // Indicates whether to check for expired connections.
+  private final boolean checkForExpiration;
+
+  // A counter with the number of connections that may still be examined.
+  private final AtomicInteger remainingChecks;
+
+  // Counters used to keep track of the number of connections examined, found
+  // to be expired, and found to be defunct.
+  private final AtomicInteger numDefunct;
+  private final AtomicInteger numExamined;
+  private final AtomicInteger numExpired;
+
+  // The health check to use.
+  private final LDAPConnectionPoolHealthCheck healthCheck;
+
+  // The connection pool whose connections should be checked.
+  private final LDAPConnectionPool pool;
+
+  // The set of connections that have already been examined.
+  private final Set<LDAPConnection> examinedConnections;
+
+
+
+  /**
+   * Creates a new instance of this health check task.
+   *
+   * @param  pool                 The connection pool whose connections should
+   *                              be checked.
+   * @param  healthCheck          The health check to use.
+   * @param  checkForExpiration   Indicates whether to check for expired
+   *                              connections.
+   * @param  examinedConnections  A threadsafe set used to keep track of the
+   *                              connections that have already been examined.
+   * @param  remainingChecks      A counter with the number of connections that
+   *                              may still be examined.
+   * @param  numExamined          A counter that will be updated with the number
+   *                              of connections examined.
+   * @param  numExpired           A counter that will be updated with the number
+   *                              of connections found to be expired.
+   * @param  numDefunct           A counter that will be updated with the number
+   *                              of connections found to be defunct.
+   */
+  ParallelPoolHealthCheckTask(final LDAPConnectionPool pool,
+                              final LDAPConnectionPoolHealthCheck healthCheck,
+                              final boolean checkForExpiration,
+                              final Set<LDAPConnection> examinedConnections,
+                              final AtomicInteger remainingChecks,
+                              final AtomicInteger numExamined,
+                              final AtomicInteger numExpired,
+                              final AtomicInteger numDefunct)
+  {
+    this.pool                = pool;
+    this.healthCheck         = healthCheck;
+    this.checkForExpiration  = checkForExpiration;
+    this.examinedConnections = examinedConnections;
+    this.remainingChecks     = remainingChecks;
+    this.numExamined         = numExamined;
+    this.numExpired          = numExpired;
+    this.numDefunct          = numDefunct;
+  }
+
+
+
+  /**
+   * Checks connections until there are no more to examine.
+   */
+  public void run()
+  {
+    while (pool.checkNextAvailableConnection(healthCheck, checkForExpiration,
+         examinedConnections, remainingChecks, numExamined, numExpired,
+         numDefunct))
+    {
+      // No action is required.
+    }
+  }
+}
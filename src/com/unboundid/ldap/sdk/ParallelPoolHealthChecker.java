@@ -0,0 +1,164 @@
+/*
+ * Copyright 2012-2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2012-2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.LDAPSDKThreadFactory;
+
+
+
+/**
+ * This class provides a parallel mechanism for concurrently checking the
+ * health of the available connections in a connection pool.  Each thread will
+ * only examine a single connection at a time, so the number of connections
+ * that are unavailable because they are being checked will never exceed the
+ * number of threads.
+ * <BR><BR>
+ * A single instance of this class is maintained for the life of a connection
+ * pool, and the worker threads it uses are daemon threads that are reused
+ * across health checks.  Idle worker threads will be allowed to exit, and any
+ * remaining threads will be stopped when the pool is closed.
+ */
+final class ParallelPoolHealthChecker
+{
+  // The length of time in milliseconds that an idle worker thread will be
+  // kept around in case it is needed for a subsequent health check.
+  private static final long WORKER_KEEP_ALIVE_MILLIS = 300_000L;
+
+
+
+  // The connection pool whose connections should be checked.
+  private final LDAPConnectionPool pool;
+
+  // The executor that will be used to run the health check tasks.
+  private final ThreadPoolExecutor executor;
+
+
+
+  /**
+   * Creates a new parallel pool health checker for the provided pool.  No
+   * worker threads will be started until they are needed.
+   *
+   * @param  pool  The connection pool whose connections should be checked.
+   */
+  ParallelPoolHealthChecker(final LDAPConnectionPool pool)
+  {
+    this.pool = pool;
+
+    executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+         WORKER_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS,
+         new SynchronousQueue<Runnable>(),
+         new LDAPSDKThreadFactory(
+              "LDAPConnectionPool Parallel Health Check Worker", true));
+  }
+
+
+
+  /**
+   * Performs the work of checking the connections.  This method will not return
+   * until all available connections have been examined.
+   *
+   * @param  healthCheck          The health check to use.
+   * @param  checkForExpiration   Indicates whether to check for expired
+   *                              connections.
+   * @param  examinedConnections  A threadsafe set used to keep track of the
+   *                              connections that have already been examined.
+   * @param  numExamined          A counter that will be updated with the number
+   *                              of connections examined.
+   * @param  numExpired           A counter that will be updated with the number
+   *                              of connections found to be expired.
+   * @param  numDefunct           A counter that will be updated with the number
+   *                              of connections found to be defunct.
+   * @param  numThreads           The number of threads to use to check
+   *                              connections in parallel.
+   */
+  void checkConnections(final LDAPConnectionPoolHealthCheck healthCheck,
+                        final boolean checkForExpiration,
+                        final Set<LDAPConnection> examinedConnections,
+                        final AtomicInteger numExamined,
+                        final AtomicInteger numExpired,
+                        final AtomicInteger numDefunct,
+                        final int numThreads)
+  {
+    final AtomicInteger remainingChecks =
+         new AtomicInteger(pool.getMaximumAvailableConnections());
+
+    final ArrayList<Future<?>> results = new ArrayList<Future<?>>(numThreads);
+    for (int i=0; i < numThreads; i++)
+    {
+      final ParallelPoolHealthCheckTask task = new ParallelPoolHealthCheckTask(
+           pool, healthCheck, checkForExpiration, examinedConnections,
+           remainingChecks, numExamined, numExpired, numDefunct);
+      try
+      {
+        results.add(executor.submit(task));
+      }
+      catch (final RejectedExecutionException ree)
+      {
+        // The pool has been closed, so just check whatever is left in the
+        // current thread.
+        Debug.debugException(ree);
+        task.run();
+        break;
+      }
+    }
+
+    for (final Future<?> f : results)
+    {
+      try
+      {
+        f.get();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+
+        if (e instanceof InterruptedException)
+        {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Stops the worker threads used by this health checker.  Any health check
+   * that is already in progress will be allowed to complete.
+   */
+  void shutDown()
+  {
+    executor.shutdown();
+  }
+}
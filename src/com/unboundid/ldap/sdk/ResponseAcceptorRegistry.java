@@ -0,0 +1,313 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+
+/**
+ * This class provides a thread-safe registry that maps message IDs to the
+ * response acceptors that should be notified of responses with those message
+ * IDs.  Because the message IDs used on a connection are assigned in
+ * increasing order, each acceptor is normally stored in a slot of a fixed-size
+ * array selected by the low-order bits of its message ID, which allows
+ * acceptors to be registered, retrieved, and removed without creating any new
+ * objects.  If the slot for a message ID is already in use by an older
+ * operation that is still outstanding (or if the message ID is not positive),
+ * then the acceptor will instead be held in an overflow map.
+ * <BR><BR>
+ * A slot is claimed by setting its acceptor before setting its message ID, and
+ * it is released by clearing its message ID before clearing its acceptor.  As
+ * a result, a slot that appears to be associated with a given message ID will
+ * always hold the acceptor registered for that message ID (or {@code null} if
+ * registration is still in progress, which is harmless because a response
+ * cannot be received before the associated request has been sent).  A slot
+ * with an acceptor but no message ID is in the middle of being claimed or
+ * released, and an attempt to remove an acceptor will wait for that to
+ * complete so that it cannot miss an acceptor whose registration is still in
+ * progress.
+ */
+final class ResponseAcceptorRegistry
+{
+  /**
+   * The default number of slots to use.  This must be a power of two.
+   */
+  static final int DEFAULT_NUM_SLOTS = 1024;
+
+
+
+  // The number of acceptors currently registered.
+  private final AtomicInteger size;
+
+  // The message IDs associated with each slot, or zero for slots not in use.
+  private final AtomicIntegerArray slotMessageIDs;
+
+  // The acceptors associated with each slot.
+  private final AtomicReferenceArray<ResponseAcceptor> slotAcceptors;
+
+  // The map used to hold acceptors that could not be placed in a slot.
+  private final ConcurrentHashMap<Integer,ResponseAcceptor> overflowMap;
+
+  // The mask used to obtain the slot for a message ID.
+  private final int slotMask;
+
+
+
+  /**
+   * Creates a new response acceptor registry with the default number of slots.
+   */
+  ResponseAcceptorRegistry()
+  {
+    this(DEFAULT_NUM_SLOTS);
+  }
+
+
+
+  /**
+   * Creates a new response acceptor registry with the specified number of
+   * slots.
+   *
+   * @param  numSlots  The number of slots to use.  It must be a power of two.
+   */
+  ResponseAcceptorRegistry(final int numSlots)
+  {
+    slotMask       = numSlots - 1;
+    size           = new AtomicInteger(0);
+    slotMessageIDs = new AtomicIntegerArray(numSlots);
+    slotAcceptors  = new AtomicReferenceArray<ResponseAcceptor>(numSlots);
+    overflowMap    = new ConcurrentHashMap<Integer,ResponseAcceptor>();
+  }
+
+
+
+  /**
+   * Registers the provided acceptor for the given message ID if no acceptor is
+   * already registered for that message ID.
+   *
+   * @param  messageID  The message ID for which to register the acceptor.
+   * @param  acceptor   The acceptor to register.  It must not be {@code null}.
+   *
+   * @return  {@code null} if the acceptor was registered, or the acceptor that
+   *          was already registered for the message ID if there was one.
+   */
+  ResponseAcceptor putIfAbsent(final int messageID,
+                               final ResponseAcceptor acceptor)
+  {
+    if (messageID <= 0)
+    {
+      return putIfAbsentInOverflowMap(messageID, acceptor);
+    }
+
+    if ((! overflowMap.isEmpty()) && overflowMap.containsKey(messageID))
+    {
+      return overflowMap.get(messageID);
+    }
+
+    final int slot = messageID & slotMask;
+    if (slotAcceptors.compareAndSet(slot, null, acceptor))
+    {
+      slotMessageIDs.set(slot, messageID);
+      size.incrementAndGet();
+      return null;
+    }
+
+    if (slotMessageIDs.get(slot) == messageID)
+    {
+      final ResponseAcceptor existingAcceptor = slotAcceptors.get(slot);
+      if (existingAcceptor != null)
+      {
+        return existingAcceptor;
+      }
+    }
+
+    return putIfAbsentInOverflowMap(messageID, acceptor);
+  }
+
+
+
+  /**
+   * Registers the provided acceptor in the overflow map if no acceptor is
+   * already registered there for the given message ID.
+   *
+   * @param  messageID  The message ID for which to register the acceptor.
+   * @param  acceptor   The acceptor to register.
+   *
+   * @return  {@code null} if the acceptor was registered, or the acceptor that
+   *          was already registered for the message ID if there was one.
+   */
+  private ResponseAcceptor putIfAbsentInOverflowMap(final int messageID,
+                                final ResponseAcceptor acceptor)
+  {
+    final ResponseAcceptor existingAcceptor =
+         overflowMap.putIfAbsent(messageID, acceptor);
+    if (existingAcceptor == null)
+    {
+      size.incrementAndGet();
+    }
+
+    return existingAcceptor;
+  }
+
+
+
+  /**
+   * Retrieves the acceptor registered for the given message ID.
+   *
+   * @param  messageID  The message ID for which to retrieve the acceptor.
+   *
+   * @return  The acceptor registered for the given message ID, or {@code null}
+   *          if there is none.
+   */
+  ResponseAcceptor get(final int messageID)
+  {
+    if (messageID > 0)
+    {
+      final int slot = messageID & slotMask;
+      if (slotMessageIDs.get(slot) == messageID)
+      {
+        final ResponseAcceptor acceptor = slotAcceptors.get(slot);
+        if (slotMessageIDs.get(slot) == messageID)
+        {
+          return acceptor;
+        }
+      }
+    }
+
+    if (overflowMap.isEmpty())
+    {
+      return null;
+    }
+    else
+    {
+      return overflowMap.get(messageID);
+    }
+  }
+
+
+
+  /**
+   * Removes the acceptor registered for the given message ID.
+   *
+   * @param  messageID  The message ID for which to remove the acceptor.
+   *
+   * @return  The acceptor that was removed, or {@code null} if there was no
+   *          acceptor registered for the given message ID.
+   */
+  ResponseAcceptor remove(final int messageID)
+  {
+    if (messageID > 0)
+    {
+      final int slot = messageID & slotMask;
+      while (true)
+      {
+        if (slotMessageIDs.compareAndSet(slot, messageID, 0))
+        {
+          final ResponseAcceptor acceptor =
+               slotAcceptors.getAndSet(slot, null);
+          size.decrementAndGet();
+          return acceptor;
+        }
+
+        // If the slot has an acceptor but no message ID, then another thread
+        // is in the process of claiming or releasing it.  Wait for that to
+        // complete, since it may be the registration for this message ID.
+        if ((slotMessageIDs.get(slot) != 0) ||
+            (slotAcceptors.get(slot) == null))
+        {
+          break;
+        }
+
+        Thread.yield();
+      }
+    }
+
+    if (overflowMap.isEmpty())
+    {
+      return null;
+    }
+
+    final ResponseAcceptor acceptor = overflowMap.remove(messageID);
+    if (acceptor != null)
+    {
+      size.decrementAndGet();
+    }
+
+    return acceptor;
+  }
+
+
+
+  /**
+   * Removes all registered acceptors.
+   *
+   * @return  A list of the acceptors that were removed.
+   */
+  List<ResponseAcceptor> removeAll()
+  {
+    final ArrayList<ResponseAcceptor> acceptors =
+         new ArrayList<ResponseAcceptor>(size.get());
+    for (int slot=0; slot <= slotMask; slot++)
+    {
+      final int messageID = slotMessageIDs.get(slot);
+      if (messageID != 0)
+      {
+        final ResponseAcceptor acceptor = remove(messageID);
+        if (acceptor != null)
+        {
+          acceptors.add(acceptor);
+        }
+      }
+    }
+
+    final Iterator<Integer> iterator = overflowMap.keySet().iterator();
+    while (iterator.hasNext())
+    {
+      final ResponseAcceptor acceptor = remove(iterator.next());
+      if (acceptor != null)
+      {
+        acceptors.add(acceptor);
+      }
+    }
+
+    return acceptors;
+  }
+
+
+
+  /**
+   * Retrieves the number of acceptors currently registered.
+   *
+   * @return  The number of acceptors currently registered.
+   */
+  int size()
+  {
+    return size.get();
+  }
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.security.sasl.Sasl;
+import javax.security.sasl.SaslClient;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.util.ByteStringBuffer;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.util.Debug.*;
+
+
+
+/**
+ * This class provides a mechanism for writing encoded LDAP messages over a
+ * connection that uses a SASL security layer for integrity and/or
+ * confidentiality.  Each block of wrapped data is preceded by four bytes that
+ * specify the number of bytes of wrapped data, and the SASL client is only
+ * invoked by one thread at a time so that the wrapped data is written in the
+ * same order in which it was created.
+ * <BR><BR>
+ * If no other thread is writing when a message is to be sent, then it will be
+ * wrapped directly from the backing array of the buffer in which it was
+ * encoded.  Otherwise, the encoded message will be appended to a pending
+ * buffer, and the next thread to obtain the write lock will wrap all of the
+ * messages in that buffer at once, so that many concurrent requests can share
+ * a single SASL wrap operation.  The pending buffers are reused across writes,
+ * and their contents are zeroed once they have been written so that the
+ * clear-text data does not remain in memory.
+ * If the SASL client negotiated a maximum raw send size, then no more than that
+ * amount of clear-text data will be included in a single wrap.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class SASLSecurityLayerWriter
+{
+  /**
+   * The maximum capacity in bytes of a pending buffer that will be retained
+   * for reuse after its contents have been written.
+   */
+  static final int MAX_RETAINED_BUFFER_SIZE = 1048576;
+
+
+
+  // The buffer holding encoded messages that have not yet been wrapped.
+  private ByteStringBuffer pending;
+
+  // A buffer that is not currently in use and may be swapped with the pending
+  // buffer.  It will only be null while the contents of a former pending
+  // buffer are being written.
+  private ByteStringBuffer spare;
+
+  // The four-byte buffer used to hold the length of each block of wrapped
+  // data.
+  private final byte[] lengthBytes;
+
+  // The maximum number of bytes of clear-text data to include in a single
+  // wrap.
+  private final int maxWrapSize;
+
+  // The exception caught while attempting to write data, if any.  Once a
+  // write has failed, all subsequent writes will also fail.
+  private volatile IOException writeFailure;
+
+  // The number of messages that have been appended to the pending buffer.
+  private long numAppended;
+
+  // The number of pending messages that were written successfully.
+  private long numSuccessful;
+
+  // The number of pending messages for which a write has been attempted.
+  private long numWritten;
+
+  // The number of wrap operations that have been performed.
+  private volatile long numWraps;
+
+  // The output stream to which the wrapped data will be written.
+  private final OutputStream outputStream;
+
+  // The lock that must be held while wrapping and writing data.
+  private final ReentrantLock writeLock;
+
+  // The SASL client that will be used to wrap the data.
+  private final SaslClient saslClient;
+
+
+
+  /**
+   * Creates a new SASL security layer writer with the provided information.
+   *
+   * @param  saslClient    The SASL client that will be used to wrap the data.
+   * @param  outputStream  The output stream to which the wrapped data should
+   *                       be written.
+   */
+  SASLSecurityLayerWriter(final SaslClient saslClient,
+                          final OutputStream outputStream)
+  {
+    this.saslClient   = saslClient;
+    this.outputStream = outputStream;
+
+    pending       = new ByteStringBuffer();
+    spare         = new ByteStringBuffer();
+    lengthBytes   = new byte[4];
+    writeLock     = new ReentrantLock();
+    writeFailure  = null;
+    numAppended   = 0L;
+    numSuccessful = 0L;
+    numWritten    = 0L;
+    numWraps      = 0L;
+    maxWrapSize   = getMaxWrapSize(saslClient);
+  }
+
+
+
+  /**
+   * Determines the maximum amount of clear-text data that should be included
+   * in a single wrap, based on the raw send size negotiated by the SASL client.
+   *
+   * @param  saslClient  The SASL client that will be used to wrap the data.
+   *
+   * @return  The maximum number of bytes of clear-text data that should be
+   *          included in a single wrap.
+   */
+  private static int getMaxWrapSize(final SaslClient saslClient)
+  {
+    try
+    {
+      final Object rawSendSize =
+           saslClient.getNegotiatedProperty(Sasl.RAW_SEND_SIZE);
+      if (rawSendSize != null)
+      {
+        final int size = Integer.parseInt(String.valueOf(rawSendSize));
+        if (size > 0)
+        {
+          return size;
+        }
+      }
+    }
+    catch (final Exception e)
+    {
+      debugException(e);
+    }
+
+    return Integer.MAX_VALUE;
+  }
+
+
+
+  /**
+   * Wraps the contents of the provided buffer and writes it to the output
+   * stream, along with any other messages that are waiting to be written.
+   * This method will not return until the data has been written and the
+   * output stream has been flushed.
+   *
+   * @param  buffer  The buffer containing the encoded message to be written.
+   *
+   * @throws  IOException  If a problem occurs while wrapping or writing the
+   *                       data.
+   */
+  void write(final ASN1Buffer buffer)
+       throws IOException
+  {
+    final ByteBuffer byteBuffer = buffer.asByteBuffer();
+    final byte[] array = byteBuffer.array();
+    final int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+    final int length = byteBuffer.remaining();
+
+    // If no other thread is currently writing, then we can obtain the lock
+    // immediately.  If there is nothing pending, then wrap the data directly
+    // from the provided buffer.  Otherwise, add it to the pending data and
+    // write it all at once.
+    if (writeLock.tryLock())
+    {
+      try
+      {
+        final long messageNumber;
+        synchronized (this)
+        {
+          ensureNoFailure();
+          if (pending.length() == 0)
+          {
+            messageNumber = -1L;
+          }
+          else
+          {
+            pending.append(array, offset, length);
+            messageNumber = ++numAppended;
+          }
+        }
+
+        if (messageNumber < 0L)
+        {
+          try
+          {
+            wrapAndWrite(array, offset, length);
+          }
+          catch (final IOException ioe)
+          {
+            debugException(ioe);
+            writeFailure = ioe;
+            throw ioe;
+          }
+        }
+        else
+        {
+          writePending(messageNumber);
+        }
+        return;
+      }
+      finally
+      {
+        writeLock.unlock();
+      }
+    }
+
+
+    // Another thread is writing, so add the message to the pending data and
+    // wait for the lock.  By the time we get it, the thread that held it
+    // before us may have already written our message.
+    final long messageNumber;
+    synchronized (this)
+    {
+      ensureNoFailure();
+      pending.append(array, offset, length);
+      messageNumber = ++numAppended;
+    }
+
+    writeLock.lock();
+    try
+    {
+      writePending(messageNumber);
+    }
+    finally
+    {
+      writeLock.unlock();
+    }
+  }
+
+
+
+  /**
+   * Ensures that the specified message has been written, writing all of the
+   * pending data if necessary.  The caller must hold the write lock.
+   *
+   * @param  messageNumber  The number assigned to the message when it was
+   *                        appended to the pending buffer.
+   *
+   * @throws  IOException  If a problem occurred while wrapping or writing the
+   *                       data containing the specified message.
+   */
+  private void writePending(final long messageNumber)
+          throws IOException
+  {
+    if (messageNumber <= numWritten)
+    {
+      if (messageNumber <= numSuccessful)
+      {
+        return;
+      }
+
+      throw new IOException(writeFailure.getMessage(), writeFailure);
+    }
+
+    // If a direct write failed after this message was appended, then none of
+    // the pending data may be written.  Discard it so that it does not linger
+    // in memory, and make sure that any other threads waiting on it will fail.
+    final IOException failure = writeFailure;
+    if (failure != null)
+    {
+      synchronized (this)
+      {
+        pending.clear(true);
+        numWritten = numAppended;
+      }
+
+      throw new IOException(failure.getMessage(), failure);
+    }
+
+    final ByteStringBuffer dataToWrite;
+    final long lastMessageNumber;
+    synchronized (this)
+    {
+      dataToWrite       = pending;
+      lastMessageNumber = numAppended;
+      pending           = spare;
+      spare             = null;
+    }
+
+    try
+    {
+      wrapAndWrite(dataToWrite.getBackingArray(), 0, dataToWrite.length());
+      numSuccessful = lastMessageNumber;
+    }
+    catch (final IOException ioe)
+    {
+      debugException(ioe);
+      writeFailure = ioe;
+      throw ioe;
+    }
+    finally
+    {
+      numWritten = lastMessageNumber;
+
+      // Zero out the data that was written before the buffer is reused or
+      // discarded, since it may contain the clear-text form of messages that
+      // were protected by the security layer.
+      dataToWrite.clear(true);
+
+      final ByteStringBuffer reusableBuffer;
+      if (dataToWrite.capacity() > MAX_RETAINED_BUFFER_SIZE)
+      {
+        reusableBuffer = new ByteStringBuffer();
+      }
+      else
+      {
+        reusableBuffer = dataToWrite;
+      }
+
+      synchronized (this)
+      {
+        spare = reusableBuffer;
+      }
+    }
+  }
+
+
+
+  /**
+   * Wraps the specified data and writes it to the output stream, preceded by
+   * the number of bytes of wrapped data, and flushes the output stream.  The
+   * caller must hold the write lock.
+   *
+   * @param  array   The array containing the data to be wrapped.
+   * @param  offset  The position in the array at which the data begins.
+   * @param  length  The number of bytes of data to be wrapped.
+   *
+   * @throws  IOException  If a problem occurs while wrapping or writing the
+   *                       data.
+   */
+  private void wrapAndWrite(final byte[] array, final int offset,
+                            final int length)
+          throws IOException
+  {
+    int pos = offset;
+    final int endPos = offset + length;
+    while (pos < endPos)
+    {
+      final int wrapLength = Math.min(maxWrapSize, (endPos - pos));
+      final byte[] wrappedBytes = saslClient.wrap(array, pos, wrapLength);
+      numWraps++;
+
+      lengthBytes[0] = (byte) ((wrappedBytes.length >> 24) & 0xFF);
+      lengthBytes[1] = (byte) ((wrappedBytes.length >> 16) & 0xFF);
+      lengthBytes[2] = (byte) ((wrappedBytes.length >> 8) & 0xFF);
+      lengthBytes[3] = (byte) (wrappedBytes.length & 0xFF);
+      outputStream.write(lengthBytes);
+      outputStream.write(wrappedBytes);
+
+      pos += wrapLength;
+    }
+
+    outputStream.flush();
+  }
+
+
+
+  /**
+   * Throws an exception if a previous attempt to write data failed.
+   *
+   * @throws  IOException  If a previous attempt to write data failed.
+   */
+  private void ensureNoFailure()
+          throws IOException
+  {
+    final IOException failure = writeFailure;
+    if (failure != null)
+    {
+      throw new IOException(failure.getMessage(), failure);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of SASL wrap operations that have been performed by
+   * this writer.  This may be less than the number of messages written if
+   * multiple messages were wrapped together.
+   *
+   * @return  The number of SASL wrap operations that have been performed.
+   */
+  long getNumWraps()
+  {
+    return numWraps;
+  }
+}
@@ -31,6 +31,8 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -153,6 +155,22 @@ import static com.unboundid.util.StaticUtils.*;
  *       timestamps included before each output line.  The format may be one of
  *       "none" (for no timestamps), "with-date" (to include both the date and
  *       the time), or "without-date" (to include only time time).</LI>
+ *   <LI>"--asynchronous" -- Indicates that the tool should operate in
+ *       asynchronous mode, in which searches will be issued without waiting
+ *       for the previous authentication to complete, and the binds for the
+ *       matching entries will be processed by a separate set of bind
+ *       connections as the search results arrive.  Either the
+ *       "--ratePerSecond" or "--maxOutstandingRequests" arguments must be
+ *       provided to limit the number of outstanding authentications.  In this
+ *       mode, the average durations for the search and bind phases will be
+ *       reported separately.</LI>
+ *   <LI>"-O {num}" or "--maxOutstandingRequests {num}" -- Specifies the maximum
+ *       number of outstanding authentications that will be allowed in
+ *       asynchronous mode.</LI>
+ *   <LI>"--numBindConnections {num}" -- Specifies the number of connections
+ *       (each with its own thread) that should be used to process binds in
+ *       asynchronous mode.  If this is not provided, then the number of
+ *       threads will be used.</LI>
  *   <LI>"--suppressErrorResultCodes" -- Indicates that information about the
  *       result codes for failed operations should not be displayed.</LI>
  *   <LI>"-c" or "--csv" -- Generate output in CSV format rather than a
@@ -174,6 +192,9 @@ public final class AuthRate
   // Indicates whether a request has been made to stop running.
   private final AtomicBoolean stopRequested;
 
+  // The argument used to indicate whether to operate in asynchronous mode.
+  private BooleanArgument asynchronousMode;
+
   // The argument used to indicate that bind requests should include the
   // authorization identity request control.
   private BooleanArgument authorizationIdentityRequestControl;
@@ -210,6 +231,14 @@ public final class AuthRate
   // The argument used to specify the collection interval.
   private IntegerArgument collectionInterval;
 
+  // The argument used to specify the maximum number of outstanding
+  // authentications in asynchronous mode.
+  private IntegerArgument maxOutstandingRequests;
+
+  // The argument used to specify the number of bind connections to use in
+  // asynchronous mode.
+  private IntegerArgument numBindConnections;
+
   // The argument used to specify the number of intervals.
   private IntegerArgument numIntervals;
 
@@ -690,6 +719,39 @@ public final class AuthRate
     timestampFormat.addLongIdentifier("timestamp-format", true);
     parser.addArgument(timestampFormat);
 
+    description = "Indicates that the client should operate in asynchronous " +
+                  "mode, in which it will not be necessary to wait for a " +
+                  "previous authentication to complete before sending the " +
+                  "next search request, and the binds for the matching " +
+                  "entries will be processed by a separate set of bind " +
+                  "connections as the search results arrive.  Either the " +
+                  "'--ratePerSecond' or the '--maxOutstandingRequests' " +
+                  "argument must be provided to limit the number of " +
+                  "outstanding authentications.";
+    asynchronousMode = new BooleanArgument(null, "asynchronous", 1,
+         description);
+    asynchronousMode.setArgumentGroupName("Rate Management Arguments");
+    parser.addArgument(asynchronousMode);
+
+    description = "Specifies the maximum number of outstanding " +
+                  "authentications that should be allowed when operating in " +
+                  "asynchronous mode.";
+    maxOutstandingRequests = new IntegerArgument('O', "maxOutstandingRequests",
+         false, 1, "{num}", description, 1, Integer.MAX_VALUE, (Integer) null);
+    maxOutstandingRequests.setArgumentGroupName("Rate Management Arguments");
+    maxOutstandingRequests.addLongIdentifier("max-outstanding-requests", true);
+    parser.addArgument(maxOutstandingRequests);
+
+    description = "Specifies the number of connections (each with its own " +
+                  "thread) that should be used to process binds when " +
+                  "operating in asynchronous mode.  If this is not provided, " +
+                  "then the number of threads will be used.";
+    numBindConnections = new IntegerArgument(null, "numBindConnections", false,
+         1, "{num}", description, 1, Integer.MAX_VALUE, (Integer) null);
+    numBindConnections.setArgumentGroupName("Rate Management Arguments");
+    numBindConnections.addLongIdentifier("num-bind-connections", true);
+    parser.addArgument(numBindConnections);
+
     description = "Indicates that information about the result codes for " +
                   "failed operations should not be displayed.";
     suppressErrorsArgument = new BooleanArgument(null,
@@ -708,6 +770,12 @@ public final class AuthRate
          description);
     randomSeed.addLongIdentifier("random-seed", true);
     parser.addArgument(randomSeed);
+
+
+    parser.addDependentArgumentSet(asynchronousMode, ratePerSecond,
+         maxOutstandingRequests);
+    parser.addDependentArgumentSet(maxOutstandingRequests, asynchronousMode);
+    parser.addDependentArgumentSet(numBindConnections, asynchronousMode);
   }
 
 
@@ -741,7 +809,7 @@ public final class AuthRate
   public LDAPConnectionOptions getConnectionOptions()
   {
     final LDAPConnectionOptions options = new LDAPConnectionOptions();
-    options.setUseSynchronousMode(true);
+    options.setUseSynchronousMode(! asynchronousMode.isPresent());
     return options;
   }
 
@@ -893,6 +961,19 @@ public final class AuthRate
     }
 
 
+    // If the --maxOutstandingRequests option was specified, then create the
+    // semaphore used to enforce that limit.
+    final Semaphore asyncSemaphore;
+    if (maxOutstandingRequests.isPresent())
+    {
+      asyncSemaphore = new Semaphore(maxOutstandingRequests.getValue());
+    }
+    else
+    {
+      asyncSemaphore = null;
+    }
+
+
     // Determine whether to include timestamps in the output and if so what
     // format should be used for them.
     final boolean includeTimestamp;
@@ -956,31 +1037,100 @@ public final class AuthRate
       outputFormat = OutputFormat.COLUMNS;
     }
 
+    // In asynchronous mode, the average durations for the search and bind
+    // phases will be reported in addition to the overall durations.
+    final boolean async = asynchronousMode.isPresent();
+    final ArrayList<FormattableColumn> columns =
+         new ArrayList<FormattableColumn>(7);
+    columns.add(new FormattableColumn(12, HorizontalAlignment.RIGHT, "Recent",
+         "Auths/Sec"));
+    columns.add(new FormattableColumn(12, HorizontalAlignment.RIGHT, "Recent",
+         "Avg Dur ms"));
+    columns.add(new FormattableColumn(12, HorizontalAlignment.RIGHT, "Recent",
+         "Errors/Sec"));
+    columns.add(new FormattableColumn(12, HorizontalAlignment.RIGHT, "Overall",
+         "Auths/Sec"));
+    columns.add(new FormattableColumn(12, HorizontalAlignment.RIGHT, "Overall",
+         "Avg Dur ms"));
+    if (async)
+    {
+      columns.add(new FormattableColumn(12, HorizontalAlignment.RIGHT,
+           "Recent", "Srch Dur ms"));
+      columns.add(new FormattableColumn(12, HorizontalAlignment.RIGHT,
+           "Recent", "Bind Dur ms"));
+    }
+
     final ColumnFormatter formatter = new ColumnFormatter(includeTimestamp,
          timeFormat, outputFormat, " ",
-         new FormattableColumn(12, HorizontalAlignment.RIGHT, "Recent",
-                  "Auths/Sec"),
-         new FormattableColumn(12, HorizontalAlignment.RIGHT, "Recent",
-                  "Avg Dur ms"),
-         new FormattableColumn(12, HorizontalAlignment.RIGHT, "Recent",
-                  "Errors/Sec"),
-         new FormattableColumn(12, HorizontalAlignment.RIGHT, "Overall",
-                  "Auths/Sec"),
-         new FormattableColumn(12, HorizontalAlignment.RIGHT, "Overall",
-                  "Avg Dur ms"));
+         columns.toArray(new FormattableColumn[columns.size()]));
 
 
     // Create values to use for statistics collection.
-    final AtomicLong        authCounter   = new AtomicLong(0L);
-    final AtomicLong        errorCounter  = new AtomicLong(0L);
-    final AtomicLong        authDurations = new AtomicLong(0L);
-    final ResultCodeCounter rcCounter     = new ResultCodeCounter();
+    final AtomicLong        authCounter     = new AtomicLong(0L);
+    final AtomicLong        errorCounter    = new AtomicLong(0L);
+    final AtomicLong        authDurations   = new AtomicLong(0L);
+    final AtomicLong        searchCounter   = new AtomicLong(0L);
+    final AtomicLong        searchDurations = new AtomicLong(0L);
+    final AtomicLong        bindCounter     = new AtomicLong(0L);
+    final AtomicLong        bindDurations   = new AtomicLong(0L);
+    final AtomicLong        bindConnCounter = new AtomicLong(0L);
+    final ResultCodeCounter rcCounter       = new ResultCodeCounter();
 
 
     // Determine the length of each interval in milliseconds.
     final long intervalMillis = 1000L * collectionInterval.getValue();
 
 
+    // In asynchronous mode, create the threads that will be used to process
+    // the binds for the entries matched by the searches.  Each of them will
+    // reuse its own bind connection for all of the binds that it processes.
+    final LinkedBlockingQueue<ObjectPair<String,Long>> bindQueue;
+    final AuthRateBindThread[] bindThreads;
+    if (async)
+    {
+      bindQueue = new LinkedBlockingQueue<ObjectPair<String,Long>>();
+      if (numBindConnections.isPresent())
+      {
+        bindThreads = new AuthRateBindThread[numBindConnections.getValue()];
+      }
+      else
+      {
+        bindThreads = new AuthRateBindThread[numThreads.getValue()];
+      }
+
+      final Control[] bindControlArray =
+           bindControls.toArray(new Control[bindControls.size()]);
+      for (int i=0; i < bindThreads.length; i++)
+      {
+        final LDAPConnection bindConnection;
+        try
+        {
+          bindConnection = getConnection();
+        }
+        catch (final LDAPException le)
+        {
+          debugException(le);
+          err("Unable to connect to the directory server:  ",
+              getExceptionMessage(le));
+          stopBindThreads(bindThreads);
+          return le.getResultCode();
+        }
+
+        bindThreads[i] = new AuthRateBindThread(this, i, bindConnection,
+             bindQueue, userPassword.getValue(), authType.getValue(),
+             bindControlArray, authCounter, authDurations, bindCounter,
+             bindDurations, bindConnCounter, errorCounter, rcCounter,
+             asyncSemaphore);
+        bindThreads[i].start();
+      }
+    }
+    else
+    {
+      bindQueue   = null;
+      bindThreads = new AuthRateBindThread[0];
+    }
+
+
     // Create the threads to use for the searches.
     final CyclicBarrier barrier = new CyclicBarrier(numThreads.getValue() + 1);
     final AuthRateThread[] threads = new AuthRateThread[numThreads.getValue()];
@@ -991,13 +1141,21 @@ public final class AuthRate
       try
       {
         searchConnection = getConnection();
-        bindConnection   = getConnection();
+        if (async)
+        {
+          bindConnection = null;
+        }
+        else
+        {
+          bindConnection = getConnection();
+        }
       }
       catch (final LDAPException le)
       {
         debugException(le);
         err("Unable to connect to the directory server:  ",
             getExceptionMessage(le));
+        stopBindThreads(bindThreads);
         return le.getResultCode();
       }
 
@@ -1005,7 +1163,8 @@ public final class AuthRate
            dnPattern, scopeArg.getValue(), filterPattern, attrs,
            userPassword.getValue(), bindOnly.isPresent(), authType.getValue(),
            searchControl.getValues(), bindControls, barrier, authCounter,
-           authDurations, errorCounter, rcCounter, fixedRateBarrier);
+           authDurations, errorCounter, rcCounter, fixedRateBarrier,
+           bindQueue, searchCounter, searchDurations, asyncSemaphore);
       threads[i].start();
     }
 
@@ -1044,6 +1203,10 @@ public final class AuthRate
     long    lastDuration        = 0L;
     long    lastNumErrors       = 0L;
     long    lastNumAuths        = 0L;
+    long    lastNumSearches     = 0L;
+    long    lastSearchDuration  = 0L;
+    long    lastNumBinds        = 0L;
+    long    lastBindDuration    = 0L;
     long    lastEndTime         = System.nanoTime();
     for (long i=0; i < totalIntervals; i++)
     {
@@ -1076,17 +1239,29 @@ public final class AuthRate
       final long numAuths;
       final long numErrors;
       final long totalDuration;
+      final long numSearches;
+      final long totalSearchDuration;
+      final long numBinds;
+      final long totalBindDuration;
       if (warmUp && (remainingWarmUpIntervals > 0))
       {
-        numAuths      = authCounter.getAndSet(0L);
-        numErrors     = errorCounter.getAndSet(0L);
-        totalDuration = authDurations.getAndSet(0L);
+        numAuths            = authCounter.getAndSet(0L);
+        numErrors           = errorCounter.getAndSet(0L);
+        totalDuration       = authDurations.getAndSet(0L);
+        numSearches         = searchCounter.getAndSet(0L);
+        totalSearchDuration = searchDurations.getAndSet(0L);
+        numBinds            = bindCounter.getAndSet(0L);
+        totalBindDuration   = bindDurations.getAndSet(0L);
       }
       else
       {
-        numAuths      = authCounter.get();
-        numErrors     = errorCounter.get();
-        totalDuration = authDurations.get();
+        numAuths            = authCounter.get();
+        numErrors           = errorCounter.get();
+        totalDuration       = authDurations.get();
+        numSearches         = searchCounter.get();
+        totalSearchDuration = searchDurations.get();
+        numBinds            = bindCounter.get();
+        totalBindDuration   = bindDurations.get();
       }
 
       final long recentNumAuths  = numAuths - lastNumAuths;
@@ -1107,10 +1282,44 @@ public final class AuthRate
         recentAvgDuration = 0.0d;
       }
 
+      final long recentNumSearches = numSearches - lastNumSearches;
+      final double recentAvgSearchDuration;
+      if (recentNumSearches > 0L)
+      {
+        recentAvgSearchDuration = 1.0d *
+             (totalSearchDuration - lastSearchDuration) / recentNumSearches /
+             1000000;
+      }
+      else
+      {
+        recentAvgSearchDuration = 0.0d;
+      }
+
+      final long recentNumBinds = numBinds - lastNumBinds;
+      final double recentAvgBindDuration;
+      if (recentNumBinds > 0L)
+      {
+        recentAvgBindDuration = 1.0d *
+             (totalBindDuration - lastBindDuration) / recentNumBinds / 1000000;
+      }
+      else
+      {
+        recentAvgBindDuration = 0.0d;
+      }
+
       if (warmUp && (remainingWarmUpIntervals > 0))
       {
-        out(formatter.formatRow(recentAuthRate, recentAvgDuration,
-             recentErrorRate, "warming up", "warming up"));
+        if (async)
+        {
+          out(formatter.formatRow(recentAuthRate, recentAvgDuration,
+               recentErrorRate, "warming up", "warming up",
+               recentAvgSearchDuration, recentAvgBindDuration));
+        }
+        else
+        {
+          out(formatter.formatRow(recentAuthRate, recentAvgDuration,
+               recentErrorRate, "warming up", "warming up"));
+        }
 
         remainingWarmUpIntervals--;
         if (remainingWarmUpIntervals == 0)
@@ -1145,12 +1354,25 @@ public final class AuthRate
           overallAvgDuration = 0.0d;
         }
 
-        out(formatter.formatRow(recentAuthRate, recentAvgDuration,
-             recentErrorRate, overallAuthRate, overallAvgDuration));
+        if (async)
+        {
+          out(formatter.formatRow(recentAuthRate, recentAvgDuration,
+               recentErrorRate, overallAuthRate, overallAvgDuration,
+               recentAvgSearchDuration, recentAvgBindDuration));
+        }
+        else
+        {
+          out(formatter.formatRow(recentAuthRate, recentAvgDuration,
+               recentErrorRate, overallAuthRate, overallAvgDuration));
+        }
 
-        lastNumAuths    = numAuths;
-        lastNumErrors   = numErrors;
-        lastDuration    = totalDuration;
+        lastNumAuths       = numAuths;
+        lastNumErrors      = numErrors;
+        lastDuration       = totalDuration;
+        lastNumSearches    = numSearches;
+        lastSearchDuration = totalSearchDuration;
+        lastNumBinds       = numBinds;
+        lastBindDuration   = totalBindDuration;
       }
 
       final List<ObjectPair<ResultCode,Long>> rcCounts =
@@ -1186,6 +1408,61 @@ public final class AuthRate
       }
     }
 
+    final ResultCode bindResultCode = stopBindThreads(bindThreads);
+    if (resultCode == ResultCode.SUCCESS)
+    {
+      resultCode = bindResultCode;
+    }
+
+
+    // In asynchronous mode, report how well the bind connections were reused.
+    if (async)
+    {
+      long totalBinds = 0L;
+      for (final AuthRateBindThread t : bindThreads)
+      {
+        totalBinds += t.getNumBinds();
+      }
+
+      final long numConnections = bindConnCounter.get();
+      out("Processed ", totalBinds, " binds using ", numConnections,
+           " bind connections (an average of ",
+           (totalBinds / Math.max(numConnections, 1L)),
+           " binds per connection).");
+    }
+
+    return resultCode;
+  }
+
+
+
+  /**
+   * Stops all of the provided bind threads.  Any elements of the provided
+   * array that are {@code null} will be ignored.
+   *
+   * @param  bindThreads  The bind threads to be stopped.
+   *
+   * @return  A result code that provides information about whether any errors
+   *          were encountered during bind processing.
+   */
+  private static ResultCode stopBindThreads(
+                                 final AuthRateBindThread[] bindThreads)
+  {
+    ResultCode resultCode = ResultCode.SUCCESS;
+    for (final AuthRateBindThread t : bindThreads)
+    {
+      if (t == null)
+      {
+        continue;
+      }
+
+      final ResultCode r = t.stopRunning();
+      if (resultCode == ResultCode.SUCCESS)
+      {
+        resultCode = r;
+      }
+    }
+
     return resultCode;
   }
 
@@ -1228,7 +1505,7 @@ public final class AuthRate
   public LinkedHashMap<String[],String> getExampleUsages()
   {
     final LinkedHashMap<String[],String> examples =
-         new LinkedHashMap<String[],String>(2);
+         new LinkedHashMap<String[],String>(3);
 
     String[] args =
     {
@@ -1249,6 +1526,28 @@ public final class AuthRate
          "'password'.  The searches will be performed anonymously.";
     examples.put(args, description);
 
+    args = new String[]
+    {
+      "--hostname", "server.example.com",
+      "--port", "389",
+      "--baseDN", "dc=example,dc=com",
+      "--scope", "sub",
+      "--filter", "(uid=user.[1-1000000])",
+      "--credentials", "password",
+      "--numThreads", "2",
+      "--asynchronous",
+      "--maxOutstandingRequests", "100",
+      "--numBindConnections", "20"
+    };
+    description =
+         "Test authentication performance by searching randomly across a set " +
+         "of one million users located below 'dc=example,dc=com' in " +
+         "asynchronous mode, with two threads issuing searches, twenty " +
+         "connections processing the binds, and at most 100 " +
+         "authentications in progress at any time.  The searches will be " +
+         "performed anonymously.";
+    examples.put(args, description);
+
     args = new String[]
     {
       "--generateSampleRateFile", "variable-rate-data.txt"
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.examples;
+
+
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.unboundid.ldap.sdk.AsyncRequestID;
+import com.unboundid.ldap.sdk.AsyncSearchResultListener;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchResult;
+import com.unboundid.ldap.sdk.SearchResultEntry;
+import com.unboundid.ldap.sdk.SearchResultReference;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.ResultCodeCounter;
+
+
+
+/**
+ * This class provides an asynchronous search result listener that will be used
+ * for the {@link AuthRate} tool when operating in asynchronous mode.  When the
+ * search completes with exactly one matching entry, the DN of that entry will
+ * be added to a queue so that the bind can be processed by one of the
+ * {@link AuthRateBindThread} instances.  Otherwise, the authentication attempt
+ * will be considered complete and will be counted as a failure.
+ */
+final class AuthRateAsyncListener
+      implements AsyncSearchResultListener
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -6143624538919862076L;
+
+
+
+  // The number of entries returned for the search.
+  private final AtomicInteger entryCount;
+
+  // The counter used to track the number of authentications performed.
+  private final AtomicLong authCounter;
+
+  // The value that will be updated with total duration of the
+  // authentications.
+  private final AtomicLong authDurations;
+
+  // The counter used to track the number of errors encountered.
+  private final AtomicLong errorCounter;
+
+  // The counter used to track the number of searches performed.
+  private final AtomicLong searchCounter;
+
+  // The value that will be updated with total duration of the searches.
+  private final AtomicLong searchDurations;
+
+  // The result code for the associated thread.
+  private final AtomicReference<ResultCode> resultCode;
+
+  // The queue to which the bind DN and start time will be added if the search
+  // matches exactly one entry.
+  private final BlockingQueue<ObjectPair<String,Long>> bindQueue;
+
+  // The time that the search was invoked, in nanoseconds.
+  private final long startTime;
+
+  // The result code counter to use for failed operations.
+  private final ResultCodeCounter rcCounter;
+
+  // The semaphore used to limit total number of outstanding asynchronous
+  // authentications.
+  private final Semaphore asyncSemaphore;
+
+  // The DN of the first entry returned for the search.
+  private volatile String entryDN;
+
+
+
+  /**
+   * Creates a new instance of this listener with the provided information.
+   *
+   * @param  bindQueue        The queue to which the bind DN and start time
+   *                          will be added if the search matches exactly one
+   *                          entry.
+   * @param  searchCounter    A value that will be used to keep track of the
+   *                          total number of searches performed.
+   * @param  searchDurations  A value that will be used to keep track of the
+   *                          total duration for all searches.
+   * @param  authCounter      A value that will be used to keep track of the
+   *                          total number of authentications performed.
+   * @param  authDurations    A value that will be used to keep track of the
+   *                          total duration for all authentications.
+   * @param  errorCounter     A value that will be used to keep track of the
+   *                          number of errors encountered.
+   * @param  rcCounter        The result code counter to use for keeping track
+   *                          of the result codes for failed operations.
+   * @param  asyncSemaphore   The semaphore used to limit the total number of
+   *                          outstanding asynchronous authentications.  It may
+   *                          be {@code null} if no limit should be enforced.
+   * @param  resultCode       The result code for the search thread.
+   */
+  AuthRateAsyncListener(final BlockingQueue<ObjectPair<String,Long>> bindQueue,
+                        final AtomicLong searchCounter,
+                        final AtomicLong searchDurations,
+                        final AtomicLong authCounter,
+                        final AtomicLong authDurations,
+                        final AtomicLong errorCounter,
+                        final ResultCodeCounter rcCounter,
+                        final Semaphore asyncSemaphore,
+                        final AtomicReference<ResultCode> resultCode)
+  {
+    this.bindQueue       = bindQueue;
+    this.searchCounter   = searchCounter;
+    this.searchDurations = searchDurations;
+    this.authCounter     = authCounter;
+    this.authDurations   = authDurations;
+    this.errorCounter    = errorCounter;
+    this.rcCounter       = rcCounter;
+    this.asyncSemaphore  = asyncSemaphore;
+    this.resultCode      = resultCode;
+
+    entryCount = new AtomicInteger(0);
+    entryDN    = null;
+    startTime  = System.nanoTime();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void searchEntryReturned(final SearchResultEntry searchEntry)
+  {
+    if (entryCount.getAndIncrement() == 0)
+    {
+      entryDN = searchEntry.getDN();
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void searchReferenceReturned(
+                   final SearchResultReference searchReference)
+  {
+    // No implementation required.
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void searchResultReceived(final AsyncRequestID requestID,
+                                   final SearchResult searchResult)
+  {
+    final long searchEndTime = System.nanoTime();
+    searchDurations.addAndGet(searchEndTime - startTime);
+    searchCounter.incrementAndGet();
+
+    ResultCode rc = searchResult.getResultCode();
+    if (rc == ResultCode.SUCCESS)
+    {
+      switch (entryCount.get())
+      {
+        case 0:
+          rc = ResultCode.NO_RESULTS_RETURNED;
+          break;
+
+        case 1:
+          // This is acceptable, and the bind can be processed.
+          bindQueue.add(new ObjectPair<String,Long>(entryDN, startTime));
+          return;
+
+        default:
+          rc = ResultCode.MORE_RESULTS_TO_RETURN;
+          break;
+      }
+    }
+
+    errorCounter.incrementAndGet();
+    rcCounter.increment(rc);
+    resultCode.compareAndSet(null, rc);
+
+    authCounter.incrementAndGet();
+    authDurations.addAndGet(searchEndTime - startTime);
+
+    if (asyncSemaphore != null)
+    {
+      asyncSemaphore.release();
+    }
+  }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.examples;
+
+
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.unboundid.ldap.sdk.Control;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.util.Debug;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.ResultCodeCounter;
+
+
+
+/**
+ * This class provides a thread that may be used to process the binds for the
+ * {@link AuthRate} tool when operating in asynchronous mode.  Each thread has
+ * its own bind connection, which will be reused for all of the binds that it
+ * processes, and it will repeatedly take the DNs of the users to authenticate
+ * from a queue that is populated as search results arrive.
+ */
+final class AuthRateBindThread
+      extends Thread
+{
+  // Indicates whether a request has been made to stop running.
+  private final AtomicBoolean stopRequested;
+
+  // The counter used to track the number of authentications performed.
+  private final AtomicLong authCounter;
+
+  // The value that will be updated with total duration of the
+  // authentications.
+  private final AtomicLong authDurations;
+
+  // The counter used to track the number of binds performed.
+  private final AtomicLong bindCounter;
+
+  // The counter used to track the number of bind connections established.
+  private final AtomicLong bindConnectionCounter;
+
+  // The value that will be updated with total duration of the binds.
+  private final AtomicLong bindDurations;
+
+  // The counter used to track the number of errors encountered.
+  private final AtomicLong errorCounter;
+
+  // The result code for this thread.
+  private final AtomicReference<ResultCode> resultCode;
+
+  // The thread that is actually performing the binds.
+  private final AtomicReference<Thread> bindThread;
+
+  // A reference to the associated authrate tool.
+  private final AuthRate authRate;
+
+  // The queue from which to obtain the DNs of the users to authenticate, along
+  // with the time that each authentication was started.
+  private final BlockingQueue<ObjectPair<String,Long>> bindQueue;
+
+  // The set of controls to include in bind requests.
+  private final Control[] bindControls;
+
+  // The type of authentication to perform.
+  private final int authType;
+
+  // The thread number for this thread.
+  private final int threadNumber;
+
+  // The connection to use for the binds.
+  private LDAPConnection bindConnection;
+
+  // The result code counter to use for failed operations.
+  private final ResultCodeCounter rcCounter;
+
+  // The semaphore used to limit total number of outstanding asynchronous
+  // authentications.
+  private final Semaphore asyncSemaphore;
+
+  // The password to use to authenticate.
+  private final String userPassword;
+
+  // The number of binds processed by this thread.
+  private volatile long numBinds;
+
+
+
+  /**
+   * Creates a new auth rate bind thread with the provided information.
+   *
+   * @param  authRate               A reference to the associated authrate
+   *                                tool.
+   * @param  threadNumber           The thread number for this thread.
+   * @param  bindConnection         The connection to use for the binds.
+   * @param  bindQueue              The queue from which to obtain the DNs of
+   *                                the users to authenticate.
+   * @param  userPassword           The password to use for the bind
+   *                                operations.
+   * @param  authType               The type of authentication to perform.
+   * @param  bindControls           The set of controls to include in bind
+   *                                requests.
+   * @param  authCounter            A value that will be used to keep track of
+   *                                the total number of authentications
+   *                                performed.
+   * @param  authDurations          A value that will be used to keep track of
+   *                                the total duration for all
+   *                                authentications.
+   * @param  bindCounter            A value that will be used to keep track of
+   *                                the total number of binds performed.
+   * @param  bindDurations          A value that will be used to keep track of
+   *                                the total duration for all binds.
+   * @param  bindConnectionCounter  A value that will be used to keep track of
+   *                                the number of bind connections established.
+   * @param  errorCounter           A value that will be used to keep track of
+   *                                the number of errors encountered.
+   * @param  rcCounter              The result code counter to use for keeping
+   *                                track of the result codes for failed
+   *                                operations.
+   * @param  asyncSemaphore         The semaphore used to limit the total number
+   *                                of outstanding asynchronous
+   *                                authentications.  It may be {@code null} if
+   *                                no limit should be enforced.
+   */
+  AuthRateBindThread(final AuthRate authRate, final int threadNumber,
+                     final LDAPConnection bindConnection,
+                     final BlockingQueue<ObjectPair<String,Long>> bindQueue,
+                     final String userPassword, final String authType,
+                     final Control[] bindControls,
+                     final AtomicLong authCounter,
+                     final AtomicLong authDurations,
+                     final AtomicLong bindCounter,
+                     final AtomicLong bindDurations,
+                     final AtomicLong bindConnectionCounter,
+                     final AtomicLong errorCounter,
+                     final ResultCodeCounter rcCounter,
+                     final Semaphore asyncSemaphore)
+  {
+    setName("AuthRate Bind Thread " + threadNumber);
+    setDaemon(true);
+
+    this.authRate              = authRate;
+    this.threadNumber          = threadNumber;
+    this.bindConnection        = bindConnection;
+    this.bindQueue             = bindQueue;
+    this.userPassword          = userPassword;
+    this.bindControls          = bindControls;
+    this.authCounter           = authCounter;
+    this.authDurations         = authDurations;
+    this.bindCounter           = bindCounter;
+    this.bindDurations         = bindDurations;
+    this.bindConnectionCounter = bindConnectionCounter;
+    this.errorCounter          = errorCounter;
+    this.rcCounter             = rcCounter;
+    this.asyncSemaphore        = asyncSemaphore;
+
+    this.authType = AuthRateThread.getAuthType(authType);
+
+    bindConnection.setConnectionName("bind-" + threadNumber);
+    bindConnectionCounter.incrementAndGet();
+
+    numBinds      = 0L;
+    resultCode    = new AtomicReference<ResultCode>(null);
+    bindThread    = new AtomicReference<Thread>(null);
+    stopRequested = new AtomicBoolean(false);
+  }
+
+
+
+  /**
+   * Performs all bind processing for this thread.
+   */
+  @Override()
+  public void run()
+  {
+    bindThread.set(currentThread());
+
+    while (! stopRequested.get())
+    {
+      final ObjectPair<String,Long> bindInfo;
+      try
+      {
+        bindInfo = bindQueue.poll(100L, TimeUnit.MILLISECONDS);
+      }
+      catch (final InterruptedException ie)
+      {
+        Debug.debugException(ie);
+        Thread.currentThread().interrupt();
+        break;
+      }
+
+      if (bindInfo == null)
+      {
+        continue;
+      }
+
+      final long startTime = System.nanoTime();
+
+      try
+      {
+        if (bindConnection == null)
+        {
+          bindConnection = authRate.getConnection();
+          bindConnection.setConnectionName("bind-" + threadNumber);
+          bindConnectionCounter.incrementAndGet();
+        }
+
+        bindConnection.bind(AuthRateThread.createBindRequest(authType,
+             bindInfo.getFirst(), userPassword, bindControls));
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        errorCounter.incrementAndGet();
+
+        final ResultCode rc = le.getResultCode();
+        rcCounter.increment(rc);
+        resultCode.compareAndSet(null, rc);
+
+        if ((bindConnection != null) && (! rc.isConnectionUsable()))
+        {
+          bindConnection.close();
+          bindConnection = null;
+        }
+      }
+      finally
+      {
+        final long endTime = System.nanoTime();
+        numBinds++;
+        bindCounter.incrementAndGet();
+        bindDurations.addAndGet(endTime - startTime);
+        authCounter.incrementAndGet();
+        authDurations.addAndGet(endTime - bindInfo.getSecond());
+
+        if (asyncSemaphore != null)
+        {
+          asyncSemaphore.release();
+        }
+      }
+    }
+
+    if (bindConnection != null)
+    {
+      bindConnection.close();
+    }
+
+    bindThread.set(null);
+  }
+
+
+
+  /**
+   * Retrieves the number of binds that have been processed by this thread,
+   * including those that were not successful.
+   *
+   * @return  The number of binds that have been processed by this thread.
+   */
+  long getNumBinds()
+  {
+    return numBinds;
+  }
+
+
+
+  /**
+   * Indicates that this thread should stop running.
+   *
+   * @return  A result code that provides information about whether any errors
+   *          were encountered during processing.
+   */
+  public ResultCode stopRunning()
+  {
+    stopRequested.set(true);
+
+    final Thread t = bindThread.get();
+    if (t != null)
+    {
+      try
+      {
+        t.join();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+
+        if (e instanceof InterruptedException)
+        {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    resultCode.compareAndSet(null, ResultCode.SUCCESS);
+    return resultCode.get();
+  }
+}
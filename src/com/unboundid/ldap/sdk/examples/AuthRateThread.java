@@ -23,7 +23,10 @@ package com.unboundid.ldap.sdk.examples;
 
 
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -43,6 +46,7 @@ import com.unboundid.ldap.sdk.SearchScope;
 import com.unboundid.ldap.sdk.SimpleBindRequest;
 import com.unboundid.util.Debug;
 import com.unboundid.util.FixedRateBarrier;
+import com.unboundid.util.ObjectPair;
 import com.unboundid.util.ResultCodeCounter;
 import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ValuePattern;
@@ -51,7 +55,9 @@ import com.unboundid.util.ValuePattern;
 
 /**
  * This class provides a thread that may be used to repeatedly perform
- * authentication processing.
+ * authentication processing.  When operating in asynchronous mode, the thread
+ * will only issue the searches, and the binds will be processed by a set of
+ * {@link AuthRateBindThread} instances as the search results arrive.
  */
 final class AuthRateThread
       extends Thread
@@ -100,6 +106,14 @@ final class AuthRateThread
   // The counter used to track the number of errors encountered while searching.
   private final AtomicLong errorCounter;
 
+  // The counter used to track the number of searches performed in
+  // asynchronous mode.
+  private final AtomicLong searchCounter;
+
+  // The value that will be updated with total duration of the searches
+  // performed in asynchronous mode.
+  private final AtomicLong searchDurations;
+
   // The result code for this thread.
   private final AtomicReference<ResultCode> resultCode;
 
@@ -116,6 +130,10 @@ final class AuthRateThread
   // The set of controls to include in bind requests.
   private final Control[] bindControls;
 
+  // The queue to which the bind DNs will be added in asynchronous mode.  It
+  // will be null if the tool is operating in synchronous mode.
+  private final BlockingQueue<ObjectPair<String,Long>> bindQueue;
+
   // The barrier that will be used to coordinate starting among all the threads.
   private final CyclicBarrier startBarrier;
 
@@ -147,6 +165,10 @@ final class AuthRateThread
   // rate-limiting should be used.
   private final FixedRateBarrier fixedRateBarrier;
 
+  // The semaphore used to limit total number of outstanding asynchronous
+  // authentications.
+  private final Semaphore asyncSemaphore;
+
 
 
   /**
@@ -155,7 +177,9 @@ final class AuthRateThread
    * @param  authRate          A reference to the associated authrate tool.
    * @param  threadNumber      The thread number for this thread.
    * @param  searchConnection  The connection to use for the searches.
-   * @param  bindConnection    The connection to use for the  binds.
+   * @param  bindConnection    The connection to use for the  binds.  It will
+   *                           be {@code null} when operating in asynchronous
+   *                           mode.
    * @param  baseDN            The value pattern to use for the base DNs.
    * @param  scope             The scope to use for the searches.
    * @param  filter            The value pattern for the filters.
@@ -181,6 +205,19 @@ final class AuthRateThread
    * @param  rateBarrier       The barrier to use for controlling the rate of
    *                           authorizations.  {@code null} if no rate-limiting
    *                           should be used.
+   * @param  bindQueue         The queue to which the bind DNs should be added
+   *                           when operating in asynchronous mode.  It must be
+   *                           {@code null} when operating in synchronous mode.
+   * @param  searchCounter     A value that will be used to keep track of the
+   *                           total number of searches performed in
+   *                           asynchronous mode.
+   * @param  searchDurations   A value that will be used to keep track of the
+   *                           total duration for all searches performed in
+   *                           asynchronous mode.
+   * @param  asyncSemaphore    The semaphore used to limit the total number of
+   *                           outstanding asynchronous authentications.  It
+   *                           may be {@code null} if no limit should be
+   *                           enforced.
    */
   AuthRateThread(final AuthRate authRate, final int threadNumber,
                  final LDAPConnection searchConnection,
@@ -194,7 +231,11 @@ final class AuthRateThread
                  final AtomicLong authCounter, final AtomicLong authDurations,
                  final AtomicLong errorCounter,
                  final ResultCodeCounter rcCounter,
-                 final FixedRateBarrier rateBarrier)
+                 final FixedRateBarrier rateBarrier,
+                 final BlockingQueue<ObjectPair<String,Long>> bindQueue,
+                 final AtomicLong searchCounter,
+                 final AtomicLong searchDurations,
+                 final Semaphore asyncSemaphore)
   {
     setName("AuthRate Thread " + threadNumber);
     setDaemon(true);
@@ -211,28 +252,20 @@ final class AuthRateThread
     this.errorCounter     = errorCounter;
     this.rcCounter        = rcCounter;
     this.startBarrier     = startBarrier;
+    this.bindQueue        = bindQueue;
+    this.searchCounter    = searchCounter;
+    this.searchDurations  = searchDurations;
+    this.asyncSemaphore   = asyncSemaphore;
     fixedRateBarrier      = rateBarrier;
 
     searchConnection.setConnectionName("search-" + threadNumber);
-    bindConnection.setConnectionName("bind-" + threadNumber);
-
-    if (authType.equalsIgnoreCase("cram-md5"))
-    {
-      this.authType = AUTH_TYPE_CRAM_MD5;
-    }
-    else if (authType.equalsIgnoreCase("digest-md5"))
-    {
-      this.authType = AUTH_TYPE_DIGEST_MD5;
-    }
-    else if (authType.equalsIgnoreCase("plain"))
-    {
-      this.authType = AUTH_TYPE_PLAIN;
-    }
-    else
+    if (bindConnection != null)
     {
-      this.authType = AUTH_TYPE_SIMPLE;
+      bindConnection.setConnectionName("bind-" + threadNumber);
     }
 
+    this.authType = getAuthType(authType);
+
     resultCode    = new AtomicReference<ResultCode>(null);
     authThread    = new AtomicReference<Thread>(null);
     stopRequested = new AtomicBoolean(false);
@@ -297,7 +330,7 @@ final class AuthRateThread
         }
       }
 
-      if (bindConnection == null)
+      if ((bindConnection == null) && (bindQueue == null))
       {
         try
         {
@@ -348,6 +381,12 @@ final class AuthRateThread
         fixedRateBarrier.await();
       }
 
+      if (bindQueue != null)
+      {
+        authenticateAsynchronously();
+        continue;
+      }
+
       final long startTime = System.nanoTime();
 
       try
@@ -381,31 +420,8 @@ final class AuthRateThread
           }
         }
 
-        BindRequest bindRequest = null;
-        switch (authType)
-        {
-          case AUTH_TYPE_SIMPLE:
-            bindRequest =
-                 new SimpleBindRequest(bindDN, userPassword, bindControls);
-            break;
-
-          case AUTH_TYPE_CRAM_MD5:
-            bindRequest = new CRAMMD5BindRequest("dn:" + bindDN, userPassword,
-                 bindControls);
-            break;
-
-          case AUTH_TYPE_DIGEST_MD5:
-            bindRequest = new DIGESTMD5BindRequest("dn:" + bindDN, null,
-                 userPassword, null, bindControls);
-            break;
-
-          case AUTH_TYPE_PLAIN:
-            bindRequest = new PLAINBindRequest("dn:" + bindDN, userPassword,
-                 bindControls);
-            break;
-        }
-
-        bindConnection.bind(bindRequest);
+        bindConnection.bind(createBindRequest(authType, bindDN, userPassword,
+             bindControls));
       }
       catch (final LDAPException le)
       {
@@ -434,6 +450,14 @@ final class AuthRateThread
 
     if (searchConnection != null)
     {
+      // In asynchronous mode, give any outstanding searches a chance to
+      // complete so that closing the connection doesn't cause them to be
+      // reported as failures.
+      if (bindQueue != null)
+      {
+        waitForOutstandingSearches();
+      }
+
       searchConnection.close();
     }
 
@@ -447,6 +471,183 @@ final class AuthRateThread
 
 
 
+  /**
+   * Starts an authentication attempt in asynchronous mode.  If a search is
+   * required, then it will be issued asynchronously and the bind will be
+   * queued when the search result is received.  Otherwise, the bind will be
+   * queued immediately.
+   */
+  private void authenticateAsynchronously()
+  {
+    if (asyncSemaphore != null)
+    {
+      try
+      {
+        while (! asyncSemaphore.tryAcquire(100L, TimeUnit.MILLISECONDS))
+        {
+          if (stopRequested.get())
+          {
+            return;
+          }
+        }
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        errorCounter.incrementAndGet();
+
+        final ResultCode rc = ResultCode.LOCAL_ERROR;
+        rcCounter.increment(rc);
+        resultCode.compareAndSet(null, rc);
+        return;
+      }
+    }
+
+    final long startTime = System.nanoTime();
+    if (bindOnly)
+    {
+      bindQueue.add(new ObjectPair<String,Long>(baseDN.nextValue(), startTime));
+      return;
+    }
+
+    final AuthRateAsyncListener listener = new AuthRateAsyncListener(
+         bindQueue, searchCounter, searchDurations, authCounter,
+         authDurations, errorCounter, rcCounter, asyncSemaphore, resultCode);
+    try
+    {
+      final SearchRequest r = new SearchRequest(listener,
+           searchRequest.getBaseDN(), searchRequest.getScope(),
+           searchRequest.getFilter(), searchRequest.getAttributes());
+      r.setControls(searchRequest.getControls());
+      searchConnection.asyncSearch(r);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      errorCounter.incrementAndGet();
+
+      final ResultCode rc = le.getResultCode();
+      rcCounter.increment(rc);
+      resultCode.compareAndSet(null, rc);
+
+      authCounter.incrementAndGet();
+      authDurations.addAndGet(System.nanoTime() - startTime);
+
+      if (asyncSemaphore != null)
+      {
+        asyncSemaphore.release();
+      }
+
+      if (! rc.isConnectionUsable())
+      {
+        searchConnection.close();
+        searchConnection = null;
+      }
+    }
+  }
+
+
+
+  /**
+   * Waits for any outstanding asynchronous searches on the search connection to
+   * complete, or until the response timeout for the connection has elapsed.
+   */
+  private void waitForOutstandingSearches()
+  {
+    final long timeoutMillis =
+         searchConnection.getConnectionOptions().getResponseTimeoutMillis();
+    final long stopWaitingTime = System.currentTimeMillis() + timeoutMillis;
+    while (searchConnection.getActiveOperationCount() > 0)
+    {
+      if ((timeoutMillis > 0L) &&
+          (System.currentTimeMillis() >= stopWaitingTime))
+      {
+        return;
+      }
+
+      try
+      {
+        Thread.sleep(1L);
+      }
+      catch (final InterruptedException ie)
+      {
+        Debug.debugException(ie);
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the authentication type value for the provided authentication
+   * type name.
+   *
+   * @param  authType  The name of the authentication type.  It should be one
+   *                   of "simple", "cram-md5", "digest-md5", or "plain".
+   *
+   * @return  The authentication type value for the provided name.
+   */
+  static int getAuthType(final String authType)
+  {
+    if (authType.equalsIgnoreCase("cram-md5"))
+    {
+      return AUTH_TYPE_CRAM_MD5;
+    }
+    else if (authType.equalsIgnoreCase("digest-md5"))
+    {
+      return AUTH_TYPE_DIGEST_MD5;
+    }
+    else if (authType.equalsIgnoreCase("plain"))
+    {
+      return AUTH_TYPE_PLAIN;
+    }
+    else
+    {
+      return AUTH_TYPE_SIMPLE;
+    }
+  }
+
+
+
+  /**
+   * Creates the bind request to use to authenticate as the specified user.
+   *
+   * @param  authType      The authentication type value for the type of
+   *                       authentication to perform.
+   * @param  bindDN        The DN of the user as whom to authenticate.
+   * @param  userPassword  The password for the user.
+   * @param  bindControls  The set of controls to include in the bind request.
+   *
+   * @return  The bind request that was created.
+   */
+  static BindRequest createBindRequest(final int authType, final String bindDN,
+                                       final String userPassword,
+                                       final Control[] bindControls)
+  {
+    switch (authType)
+    {
+      case AUTH_TYPE_CRAM_MD5:
+        return new CRAMMD5BindRequest("dn:" + bindDN, userPassword,
+             bindControls);
+
+      case AUTH_TYPE_DIGEST_MD5:
+        return new DIGESTMD5BindRequest("dn:" + bindDN, null, userPassword,
+             null, bindControls);
+
+      case AUTH_TYPE_PLAIN:
+        return new PLAINBindRequest("dn:" + bindDN, userPassword,
+             bindControls);
+
+      case AUTH_TYPE_SIMPLE:
+      default:
+        return new SimpleBindRequest(bindDN, userPassword, bindControls);
+    }
+  }
+
+
+
   /**
    * Indicates that this thread should stop running.
    *
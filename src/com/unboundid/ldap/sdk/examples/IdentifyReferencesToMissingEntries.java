@@ -24,10 +24,16 @@ package com.unboundid.ldap.sdk.examples;
 
 import java.io.OutputStream;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.unboundid.asn1.ASN1OctetString;
@@ -49,11 +55,13 @@ import com.unboundid.ldap.sdk.Version;
 import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
 import com.unboundid.util.Debug;
 import com.unboundid.util.LDAPCommandLineTool;
+import com.unboundid.util.LDAPSDKThreadFactory;
 import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.args.ArgumentException;
 import com.unboundid.util.args.ArgumentParser;
+import com.unboundid.util.args.BooleanArgument;
 import com.unboundid.util.args.DNArgument;
 import com.unboundid.util.args.IntegerArgument;
 import com.unboundid.util.args.StringArgument;
@@ -80,6 +88,17 @@ import com.unboundid.util.args.StringArgument;
  *       paged results control to iterate across entries in fixed-size pages
  *       rather than trying to use a single search to identify all entries that
  *       reference other entries.</LI>
+ *   <LI>"-t {num}" or "--numThreads {num}" -- specifies the number of
+ *       threads (and connections) to use to determine whether referenced
+ *       entries exist.  By default, a single thread will be used.</LI>
+ *   <LI>"--maxCachedReferences {num}" -- specifies the maximum number of
+ *       referenced DNs for which to remember whether the entry exists, so that
+ *       a DN that is referenced multiple times only needs to be checked once.
+ *       A value of zero indicates that no DNs should be cached.</LI>
+ *   <LI>"--preloadEntryDNs" -- indicates that the tool should first retrieve
+ *       the DNs of all entries below the search base DNs, so that references
+ *       to entries below those base DNs can be checked without any further
+ *       requests to the server.</LI>
  * </UL>
  */
 @ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
@@ -94,9 +113,34 @@ public final class IdentifyReferencesToMissingEntries
 
 
 
+  /**
+   * The default maximum number of referenced DNs for which to cache whether the
+   * entry exists.
+   */
+  private static final int DEFAULT_MAX_CACHED_REFERENCES = 100000;
+
+
+
+  // The argument used to indicate whether to preload the DNs of all entries
+  // below the search base DNs.
+  private BooleanArgument preloadEntryDNsArgument;
+
+  // A cache of normalized referenced DNs and whether the entries exist.
+  private ConcurrentHashMap<String,Boolean> referenceCache;
+
   // The number of entries examined so far.
   private final AtomicLong entriesExamined;
 
+  // The number of references checked so far.
+  private final AtomicLong referencesChecked;
+
+  // The argument used to specify the maximum number of referenced DNs to cache.
+  private IntegerArgument maxCachedReferencesArgument;
+
+  // The argument used to specify the number of threads to use to check
+  // references.
+  private IntegerArgument numThreadsArgument;
+
   // The argument used to specify the base DNs to use for searches.
   private DNArgument baseDNArgument;
 
@@ -109,9 +153,23 @@ public final class IdentifyReferencesToMissingEntries
   // A map with counts of missing references by attribute type.
   private final Map<String,AtomicLong> missingReferenceCounts;
 
+  // The maximum number of referenced DNs to cache.
+  private int maxCachedReferences;
+
+  // The time that processing started.
+  private long startTimeMillis;
+
+  // The normalized DNs of all entries below the search base DNs, if they have
+  // been preloaded.
+  private Set<String> preloadedEntryDNs;
+
   // The names of the attributes for which to find missing references.
   private String[] attributes;
 
+  // The executor used to check references concurrently, if multiple threads
+  // are to be used.
+  private ThreadPoolExecutor referenceCheckExecutor;
+
   // The argument used to specify the attributes for which to find missing
   // references.
   private StringArgument attributeArgument;
@@ -178,9 +236,16 @@ public final class IdentifyReferencesToMissingEntries
     baseDNArgument = null;
     pageSizeArgument = null;
     attributeArgument = null;
+    numThreadsArgument = null;
+    maxCachedReferencesArgument = null;
+    preloadEntryDNsArgument = null;
     getReferencedEntriesPool = null;
+    referenceCheckExecutor = null;
+    referenceCache = null;
+    preloadedEntryDNs = null;
 
     entriesExamined = new AtomicLong(0L);
+    referencesChecked = new AtomicLong(0L);
     missingReferenceCounts = new TreeMap<String, AtomicLong>();
   }
 
@@ -377,6 +442,37 @@ public final class IdentifyReferencesToMissingEntries
               description, 1, Integer.MAX_VALUE);
     pageSizeArgument.addLongIdentifier("simple-page-size", true);
     parser.addArgument(pageSizeArgument);
+
+    description = "The number of threads (and connections) to use to " +
+         "determine whether referenced entries exist.  If this is not " +
+         "provided, then a default of one thread will be used.";
+    numThreadsArgument = new IntegerArgument('t', "numThreads", false, 1,
+         "{num}", description, 1, Integer.MAX_VALUE, 1);
+    numThreadsArgument.addLongIdentifier("num-threads", true);
+    parser.addArgument(numThreadsArgument);
+
+    description = "The maximum number of referenced DNs for which to " +
+         "remember whether the entry exists, so that a DN that is " +
+         "referenced multiple times only needs to be checked once.  A value " +
+         "of zero indicates that no DNs should be cached.  If this is not " +
+         "provided, then a default of " + DEFAULT_MAX_CACHED_REFERENCES +
+         " will be used.";
+    maxCachedReferencesArgument = new IntegerArgument(null,
+         "maxCachedReferences", false, 1, "{num}", description, 0,
+         Integer.MAX_VALUE, DEFAULT_MAX_CACHED_REFERENCES);
+    maxCachedReferencesArgument.addLongIdentifier("max-cached-references",
+         true);
+    parser.addArgument(maxCachedReferencesArgument);
+
+    description = "Indicates that the tool should first retrieve the DNs of " +
+         "all entries below the search base DNs, so that references to " +
+         "entries below those base DNs can be checked without any further " +
+         "requests to the server.  This requires enough memory to hold the " +
+         "DNs of all of those entries.";
+    preloadEntryDNsArgument = new BooleanArgument(null, "preloadEntryDNs", 1,
+         description);
+    preloadEntryDNsArgument.addLongIdentifier("preload-entry-dns", true);
+    parser.addArgument(preloadEntryDNsArgument);
   }
 
 
@@ -429,10 +525,11 @@ public final class IdentifyReferencesToMissingEntries
 
     try
     {
-      // Establish a second connection to use for retrieving referenced entries.
+      // Establish connections to use for retrieving referenced entries.
+      final int numThreads = numThreadsArgument.getValue();
       try
       {
-        getReferencedEntriesPool = getConnectionPool(1,1);
+        getReferencedEntriesPool = getConnectionPool(numThreads, numThreads);
         getReferencedEntriesPool.
              setRetryFailedOperationsDueToInvalidConnections(true);
       }
@@ -445,6 +542,49 @@ public final class IdentifyReferencesToMissingEntries
       }
 
 
+      // Set up the structures used to avoid checking the same referenced DN
+      // multiple times and to check references concurrently.
+      startTimeMillis = System.currentTimeMillis();
+      maxCachedReferences = maxCachedReferencesArgument.getValue();
+      if (maxCachedReferences > 0)
+      {
+        referenceCache = new ConcurrentHashMap<String,Boolean>(
+             Math.min(maxCachedReferences, 1024));
+      }
+
+      if (numThreads > 1)
+      {
+        referenceCheckExecutor = new ThreadPoolExecutor(numThreads,
+             numThreads, 0L, TimeUnit.MILLISECONDS,
+             new ArrayBlockingQueue<Runnable>(numThreads * 100),
+             new LDAPSDKThreadFactory(
+                  "IdentifyReferencesToMissingEntries Reference Checker",
+                  true, null),
+             new ThreadPoolExecutor.CallerRunsPolicy());
+      }
+
+
+      // If appropriate, retrieve the DNs of all entries below the base DNs.
+      if (preloadEntryDNsArgument.isPresent())
+      {
+        final EntryDNCollector collector = new EntryDNCollector();
+        for (final DN baseDN : baseDNArgument.getValues())
+        {
+          final ResultCode resultCode = searchAllPages(findReferencesPool,
+               new SearchRequest(collector, baseDN.toString(),
+                    SearchScope.SUB, Filter.createPresenceFilter("objectClass"),
+                    "1.1"));
+          if (resultCode != ResultCode.SUCCESS)
+          {
+            return resultCode;
+          }
+        }
+
+        preloadedEntryDNs = collector.entryDNs;
+        out("Retrieved the DNs of ", preloadedEntryDNs.size(), " entries");
+      }
+
+
       // Get the set of attributes for which to find missing references.
       final List<String> attrList = attributeArgument.getValues();
       attributes = new String[attrList.size()];
@@ -475,74 +615,43 @@ public final class IdentifyReferencesToMissingEntries
       // missing references.
       for (final DN baseDN : baseDNArgument.getValues())
       {
-        ASN1OctetString cookie = null;
-        do
+        final ResultCode resultCode = searchAllPages(findReferencesPool,
+             new SearchRequest(this, baseDN.toString(), SearchScope.SUB,
+                  filter, attributes));
+        if (resultCode != ResultCode.SUCCESS)
         {
-          final SearchRequest searchRequest = new SearchRequest(this,
-               baseDN.toString(), SearchScope.SUB, filter, attributes);
-          if (pageSizeArgument.isPresent())
-          {
-            searchRequest.addControl(new SimplePagedResultsControl(
-                 pageSizeArgument.getValue(), cookie, false));
-          }
+          return resultCode;
+        }
+      }
+
 
-          SearchResult searchResult;
+      // Wait for all outstanding reference checks to complete.
+      if (referenceCheckExecutor != null)
+      {
+        referenceCheckExecutor.shutdown();
+        while (true)
+        {
           try
           {
-            searchResult = findReferencesPool.search(searchRequest);
-          }
-          catch (final LDAPSearchException lse)
-          {
-            Debug.debugException(lse);
-            try
+            if (referenceCheckExecutor.awaitTermination(1L, TimeUnit.SECONDS))
             {
-              searchResult = findReferencesPool.search(searchRequest);
-            }
-            catch (final LDAPSearchException lse2)
-            {
-              Debug.debugException(lse2);
-              searchResult = lse2.getSearchResult();
+              break;
             }
           }
-
-          if (searchResult.getResultCode() != ResultCode.SUCCESS)
+          catch (final InterruptedException ie)
           {
-            err("An error occurred while attempting to search for missing " +
-                 "references to entries below " + baseDN + ":  " +
-                 searchResult.getDiagnosticMessage());
-            return searchResult.getResultCode();
-          }
-
-          final SimplePagedResultsControl pagedResultsResponse;
-          try
-          {
-            pagedResultsResponse = SimplePagedResultsControl.get(searchResult);
-          }
-          catch (final LDAPException le)
-          {
-            Debug.debugException(le);
-            err("An error occurred while attempting to decode a simple " +
-                 "paged results response control in the response to a " +
-                 "search for entries below " + baseDN + ":  " +
-                 StaticUtils.getExceptionMessage(le));
-            return le.getResultCode();
-          }
-
-          if (pagedResultsResponse != null)
-          {
-            if (pagedResultsResponse.moreResultsToReturn())
-            {
-              cookie = pagedResultsResponse.getCookie();
-            }
-            else
-            {
-              cookie = null;
-            }
+            Debug.debugException(ie);
+            Thread.currentThread().interrupt();
+            err("Interrupted while waiting for reference checks to complete.");
+            return ResultCode.LOCAL_ERROR;
           }
         }
-        while (cookie != null);
       }
 
+      out(entriesExamined.get(), " entries examined and ",
+           referencesChecked.get(), " references checked (",
+           getRateString(), ")");
+
 
       // See if there were any missing references found.
       boolean missingReferenceFound = false;
@@ -575,6 +684,11 @@ public final class IdentifyReferencesToMissingEntries
     }
     finally
     {
+      if (referenceCheckExecutor != null)
+      {
+        referenceCheckExecutor.shutdownNow();
+      }
+
       findReferencesPool.close();
 
       if (getReferencedEntriesPool != null)
@@ -586,6 +700,88 @@ public final class IdentifyReferencesToMissingEntries
 
 
 
+  /**
+   * Processes the provided search request, using the simple paged results
+   * control to retrieve the results in multiple pages if appropriate.
+   *
+   * @param  pool     The connection pool to use to process the search.
+   * @param  request  The search request to process.  It must have a search
+   *                  result listener.
+   *
+   * @return  A result code that indicates whether all of the searches
+   *          completed successfully.
+   */
+  private ResultCode searchAllPages(final LDAPConnectionPool pool,
+                                    final SearchRequest request)
+  {
+    final String baseDN = request.getBaseDN();
+    ASN1OctetString cookie = null;
+    do
+    {
+      if (pageSizeArgument.isPresent())
+      {
+        request.setControls(new SimplePagedResultsControl(
+             pageSizeArgument.getValue(), cookie, false));
+      }
+
+      SearchResult searchResult;
+      try
+      {
+        searchResult = pool.search(request);
+      }
+      catch (final LDAPSearchException lse)
+      {
+        Debug.debugException(lse);
+        try
+        {
+          searchResult = pool.search(request);
+        }
+        catch (final LDAPSearchException lse2)
+        {
+          Debug.debugException(lse2);
+          searchResult = lse2.getSearchResult();
+        }
+      }
+
+      if (searchResult.getResultCode() != ResultCode.SUCCESS)
+      {
+        err("An error occurred while attempting to search for entries " +
+             "below " + baseDN + ":  " + searchResult.getDiagnosticMessage());
+        return searchResult.getResultCode();
+      }
+
+      final SimplePagedResultsControl pagedResultsResponse;
+      try
+      {
+        pagedResultsResponse = SimplePagedResultsControl.get(searchResult);
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        err("An error occurred while attempting to decode a simple " +
+             "paged results response control in the response to a " +
+             "search for entries below " + baseDN + ":  " +
+             StaticUtils.getExceptionMessage(le));
+        return le.getResultCode();
+      }
+
+      if ((pagedResultsResponse != null) &&
+          pagedResultsResponse.moreResultsToReturn())
+      {
+        cookie = pagedResultsResponse.getCookie();
+      }
+      else
+      {
+        cookie = null;
+      }
+    }
+    while (cookie != null);
+
+    return ResultCode.SUCCESS;
+  }
+
+
+
   /**
    * Retrieves a map that correlates the number of missing references found by
    * attribute type.
@@ -657,26 +853,19 @@ public final class IdentifyReferencesToMissingEntries
         {
           for (final String value : a.getValues())
           {
-            try
+            final ReferenceCheck check =
+                 new ReferenceCheck(searchEntry.getDN(), attr, a.getName(),
+                      value);
+            if (! check.checkWithoutServer())
             {
-              final SearchResultEntry e =
-                   getReferencedEntriesPool.getEntry(value, "1.1");
-              if (e == null)
+              if (referenceCheckExecutor == null)
               {
-                err("Entry '", searchEntry.getDN(), "' includes attribute ",
-                     a.getName(), " that references entry '", value,
-                     "' which does not exist.");
-                missingReferenceCounts.get(attr).incrementAndGet();
+                check.run();
+              }
+              else
+              {
+                referenceCheckExecutor.execute(check);
               }
-            }
-            catch (final LDAPException le)
-            {
-              Debug.debugException(le);
-              err("An error occurred while attempting to determine whether " +
-                   "entry '" + value + "' referenced in attribute " +
-                   a.getName() + " of entry '" + searchEntry.getDN() +
-                   "' exists:  " + StaticUtils.getExceptionMessage(le));
-              missingReferenceCounts.get(attr).incrementAndGet();
             }
           }
         }
@@ -687,13 +876,34 @@ public final class IdentifyReferencesToMissingEntries
       final long count = entriesExamined.incrementAndGet();
       if ((count % 1000L) == 0L)
       {
-        out(count, " entries examined");
+        out(count, " entries examined (", getRateString(), ")");
       }
     }
   }
 
 
 
+  /**
+   * Retrieves a string with the rates at which entries have been examined and
+   * references have been checked.
+   *
+   * @return  A string with the rates at which entries have been examined and
+   *          references have been checked.
+   */
+  private String getRateString()
+  {
+    final long elapsedMillis =
+         Math.max(1L, (System.currentTimeMillis() - startTimeMillis));
+    final long entriesPerSecond =
+         (1000L * entriesExamined.get()) / elapsedMillis;
+    final long referencesPerSecond =
+         (1000L * referencesChecked.get()) / elapsedMillis;
+    return entriesPerSecond + " entries/second, " + referencesPerSecond +
+         " references/second";
+  }
+
+
+
   /**
    * Indicates that the provided search result reference has been returned by
    * the server and may be processed by this search result listener.
@@ -706,4 +916,234 @@ public final class IdentifyReferencesToMissingEntries
   {
     // No implementation is required.  This tool will not follow referrals.
   }
+
+
+
+  /**
+   * This class provides a search result listener that collects the normalized
+   * DNs of the entries that are returned.
+   */
+  private static final class EntryDNCollector
+          implements SearchResultListener
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = -1620880297573553296L;
+
+
+
+    // The normalized DNs of the entries that have been returned.
+    private final HashSet<String> entryDNs = new HashSet<String>(1000);
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchEntryReturned(final SearchResultEntry searchEntry)
+    {
+      try
+      {
+        entryDNs.add(searchEntry.getParsedDN().toNormalizedString());
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchReferenceReturned(
+                     final SearchResultReference searchReference)
+    {
+      // No implementation is required.  This tool will not follow referrals.
+    }
+  }
+
+
+
+  /**
+   * This class provides a task that determines whether the entry referenced by
+   * a single attribute value exists, and reports the reference if it does not.
+   */
+  private final class ReferenceCheck
+          implements Runnable
+  {
+    // The DN of the entry that contains the reference.
+    private final String entryDN;
+
+    // The name of the attribute, as provided in the command-line arguments.
+    private final String attr;
+
+    // The name of the attribute, as it appears in the entry.
+    private final String attrName;
+
+    // The normalized representation of the referenced DN, or null if the
+    // referenced DN could not be parsed.
+    private final String normalizedValue;
+
+    // The referenced DN.
+    private final String value;
+
+
+
+    /**
+     * Creates a new reference check with the provided information.
+     *
+     * @param  entryDN   The DN of the entry that contains the reference.
+     * @param  attr      The name of the attribute, as provided in the
+     *                   command-line arguments.
+     * @param  attrName  The name of the attribute, as it appears in the entry.
+     * @param  value     The referenced DN.
+     */
+    private ReferenceCheck(final String entryDN, final String attr,
+                           final String attrName, final String value)
+    {
+      this.entryDN  = entryDN;
+      this.attr     = attr;
+      this.attrName = attrName;
+      this.value    = value;
+
+      String n;
+      try
+      {
+        n = DN.normalize(value);
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        n = null;
+      }
+      normalizedValue = n;
+    }
+
+
+
+    /**
+     * Attempts to determine whether the referenced entry exists without
+     * sending any request to the server, using the cache of previously-checked
+     * DNs and the set of preloaded entry DNs.  If it can be determined, then
+     * the reference will be reported if the entry does not exist.
+     *
+     * @return  {@code true} if it was possible to determine whether the
+     *          referenced entry exists, or {@code false} if it is necessary to
+     *          check with the server.
+     */
+    private boolean checkWithoutServer()
+    {
+      if (normalizedValue == null)
+      {
+        return false;
+      }
+
+      Boolean exists = null;
+      if (referenceCache != null)
+      {
+        exists = referenceCache.get(normalizedValue);
+      }
+
+      if ((exists == null) && (preloadedEntryDNs != null))
+      {
+        if (preloadedEntryDNs.contains(normalizedValue))
+        {
+          exists = Boolean.TRUE;
+        }
+        else
+        {
+          try
+          {
+            final DN dn = new DN(value);
+            for (final DN baseDN : baseDNArgument.getValues())
+            {
+              if (dn.isDescendantOf(baseDN, true))
+              {
+                exists = Boolean.FALSE;
+                break;
+              }
+            }
+          }
+          catch (final LDAPException le)
+          {
+            Debug.debugException(le);
+          }
+        }
+      }
+
+      if (exists == null)
+      {
+        return false;
+      }
+
+      referencesChecked.incrementAndGet();
+      if (! exists)
+      {
+        reportMissingReference();
+      }
+
+      return true;
+    }
+
+
+
+    /**
+     * Determines whether the referenced entry exists by attempting to retrieve
+     * it from the server, and reports the reference if it does not.
+     */
+    @Override()
+    public void run()
+    {
+      try
+      {
+        final SearchResultEntry e =
+             getReferencedEntriesPool.getEntry(value, "1.1");
+        final boolean exists = (e != null);
+        if ((referenceCache != null) && (normalizedValue != null))
+        {
+          if (referenceCache.size() >= maxCachedReferences)
+          {
+            referenceCache.clear();
+          }
+
+          referenceCache.put(normalizedValue, exists);
+        }
+
+        if (! exists)
+        {
+          reportMissingReference();
+        }
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        err("An error occurred while attempting to determine whether " +
+             "entry '" + value + "' referenced in attribute " +
+             attrName + " of entry '" + entryDN + "' exists:  " +
+             StaticUtils.getExceptionMessage(le));
+        missingReferenceCounts.get(attr).incrementAndGet();
+      }
+      finally
+      {
+        referencesChecked.incrementAndGet();
+      }
+    }
+
+
+
+    /**
+     * Reports that the referenced entry does not exist.
+     */
+    private void reportMissingReference()
+    {
+      err("Entry '", entryDN, "' includes attribute ", attrName,
+           " that references entry '", value, "' which does not exist.");
+      missingReferenceCounts.get(attr).incrementAndGet();
+    }
+  }
 }
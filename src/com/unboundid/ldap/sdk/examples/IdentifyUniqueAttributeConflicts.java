@@ -25,15 +25,23 @@ package com.unboundid.ldap.sdk.examples;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.matchingrules.MatchingRule;
 import com.unboundid.ldap.sdk.Attribute;
 import com.unboundid.ldap.sdk.DereferencePolicy;
 import com.unboundid.ldap.sdk.DN;
@@ -52,13 +60,17 @@ import com.unboundid.ldap.sdk.SearchScope;
 import com.unboundid.ldap.sdk.Version;
 import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
 import com.unboundid.ldap.sdk.extensions.CancelExtendedRequest;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.ByteStringBuffer;
 import com.unboundid.util.Debug;
 import com.unboundid.util.LDAPCommandLineTool;
+import com.unboundid.util.LDAPSDKThreadFactory;
 import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.args.ArgumentException;
 import com.unboundid.util.args.ArgumentParser;
+import com.unboundid.util.args.BooleanArgument;
 import com.unboundid.util.args.DNArgument;
 import com.unboundid.util.args.FilterArgument;
 import com.unboundid.util.args.IntegerArgument;
@@ -96,6 +108,14 @@ import com.unboundid.util.args.StringArgument;
  *       results control to iterate across entries in fixed-size pages rather
  *       than trying to use a single search to identify all entries containing
  *       unique attributes.</LI>
+ *   <LI>"--useValueHashes" -- indicates that the tool should identify
+ *       conflicts by retrieving all of the entries with unique attributes and
+ *       keeping track of a hash of each normalized value, rather than
+ *       searching for conflicts with each value.  A second pass over the
+ *       entries is used to confirm any potential conflicts.</LI>
+ *   <LI>"-t {num}" or "--numThreads {num}" -- specifies the number of base
+ *       DNs to search concurrently when using value hashes.  By default, a
+ *       single thread will be used.</LI>
  * </UL>
  */
 @ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
@@ -177,12 +197,20 @@ public final class IdentifyUniqueAttributeConflicts
   // of attribute values.
   private boolean uniqueInCombination;
 
+  // The argument used to indicate that conflicts should be identified using
+  // hashes of the normalized values.
+  private BooleanArgument useValueHashesArgument;
+
   // The argument used to specify the base DNs to use for searches.
   private DNArgument baseDNArgument;
 
   // The argument used to specify a filter indicating which entries to examine.
   private FilterArgument filterArgument;
 
+  // The argument used to specify the number of base DNs to search
+  // concurrently when using value hashes.
+  private IntegerArgument numThreadsArgument;
+
   // The argument used to specify the search page size.
   private IntegerArgument pageSizeArgument;
 
@@ -273,6 +301,8 @@ public final class IdentifyUniqueAttributeConflicts
     pageSizeArgument = null;
     attributeArgument = null;
     multipleAttributeBehaviorArgument = null;
+    useValueHashesArgument = null;
+    numThreadsArgument = null;
     findConflictsPool = null;
     allowConflictsInSameEntry = false;
     uniqueAcrossAttributes = false;
@@ -532,6 +562,26 @@ public final class IdentifyUniqueAttributeConflicts
     timeLimitArgument.addLongIdentifier("time-limit", true);
 
     parser.addArgument(timeLimitArgument);
+
+    description = "Indicates that the tool should identify conflicts by " +
+         "retrieving all of the entries with unique attributes and keeping " +
+         "track of a hash of each normalized value, rather than issuing a " +
+         "separate search for each value.  A second pass over the entries " +
+         "will be used to confirm any potential conflicts.  This can be " +
+         "much faster for data sets with a large number of unique values, " +
+         "and it does not require the unique attributes to be indexed.";
+    useValueHashesArgument = new BooleanArgument(null, "useValueHashes", 1,
+         description);
+    useValueHashesArgument.addLongIdentifier("use-value-hashes", true);
+    parser.addArgument(useValueHashesArgument);
+
+    description = "The number of base DNs to search concurrently when " +
+         "using value hashes to identify conflicts.  If this is not " +
+         "provided, then a default of one thread will be used.";
+    numThreadsArgument = new IntegerArgument('t', "numThreads", false, 1,
+         "{num}", description, 1, Integer.MAX_VALUE, 1);
+    numThreadsArgument.addLongIdentifier("num-threads", true);
+    parser.addArgument(numThreadsArgument);
   }
 
 
@@ -617,11 +667,25 @@ public final class IdentifyUniqueAttributeConflicts
     }
 
     // Establish a connection to the target directory server to use for finding
-    // entries with unique attributes.
+    // entries with unique attributes.  If value hashes will be used, then
+    // there may be one connection for each base DN that will be searched
+    // concurrently.
+    final boolean useValueHashes = useValueHashesArgument.isPresent();
+    final int numThreads;
+    if (useValueHashes)
+    {
+      numThreads = Math.max(1,
+           Math.min(numThreadsArgument.getValue(), baseDNs.length));
+    }
+    else
+    {
+      numThreads = 1;
+    }
+
     final LDAPConnectionPool findUniqueAttributesPool;
     try
     {
-      findUniqueAttributesPool = getConnectionPool(1, 1);
+      findUniqueAttributesPool = getConnectionPool(numThreads, numThreads);
       findUniqueAttributesPool.
            setRetryFailedOperationsDueToInvalidConnections(true);
     }
@@ -688,81 +752,31 @@ public final class IdentifyUniqueAttributeConflicts
         filter = Filter.createANDFilter(filterArgument.getValue(), filter);
       }
 
-      // Iterate across all of the search base DNs and perform searches to find
-      // unique attributes.
-      for (final String baseDN : baseDNs)
+      if (useValueHashes)
       {
-        ASN1OctetString cookie = null;
-        do
+        // Identify conflicts using hashes of the normalized values, which
+        // doesn't require any additional searches for each value.
+        final ResultCode resultCode = findConflictsUsingValueHashes(
+             findUniqueAttributesPool, filter, numThreads);
+        if (resultCode != ResultCode.SUCCESS)
         {
-          if (timeLimitExceeded.get())
-          {
-            break;
-          }
-
-          final SearchRequest searchRequest = new SearchRequest(this, baseDN,
-               SearchScope.SUB, filter, attributes);
-          if (pageSizeArgument.isPresent())
-          {
-            searchRequest.addControl(new SimplePagedResultsControl(
-                 pageSizeArgument.getValue(), cookie, false));
-          }
-
-          SearchResult searchResult;
-          try
-          {
-            searchResult = findUniqueAttributesPool.search(searchRequest);
-          }
-          catch (final LDAPSearchException lse)
-          {
-            Debug.debugException(lse);
-            try
-            {
-              searchResult = findConflictsPool.search(searchRequest);
-            }
-            catch (final LDAPSearchException lse2)
-            {
-              Debug.debugException(lse2);
-              searchResult = lse2.getSearchResult();
-            }
-          }
-
-          if (searchResult.getResultCode() != ResultCode.SUCCESS)
-          {
-            err("An error occurred while attempting to search for unique " +
-                 "attributes in entries below " + baseDN + ":  " +
-                 searchResult.getDiagnosticMessage());
-            return searchResult.getResultCode();
-          }
-
-          final SimplePagedResultsControl pagedResultsResponse;
-          try
-          {
-            pagedResultsResponse = SimplePagedResultsControl.get(searchResult);
-          }
-          catch (final LDAPException le)
-          {
-            Debug.debugException(le);
-            err("An error occurred while attempting to decode a simple " +
-                 "paged results response control in the response to a " +
-                 "search for entries below " + baseDN + ":  " +
-                 StaticUtils.getExceptionMessage(le));
-            return le.getResultCode();
-          }
-
-          if (pagedResultsResponse != null)
+          return resultCode;
+        }
+      }
+      else
+      {
+        // Iterate across all of the search base DNs and perform searches to
+        // find unique attributes.
+        for (final String baseDN : baseDNs)
+        {
+          final ResultCode resultCode = searchAllPages(findUniqueAttributesPool,
+               new SearchRequest(this, baseDN, SearchScope.SUB, filter,
+                    attributes));
+          if (resultCode != ResultCode.SUCCESS)
           {
-            if (pagedResultsResponse.moreResultsToReturn())
-            {
-              cookie = pagedResultsResponse.getCookie();
-            }
-            else
-            {
-              cookie = null;
-            }
+            return resultCode;
           }
         }
-        while (cookie != null);
       }
 
 
@@ -823,6 +837,488 @@ public final class IdentifyUniqueAttributeConflicts
 
 
 
+  /**
+   * Processes the provided search request, using the simple paged results
+   * control to retrieve the results in multiple pages if appropriate.  If the
+   * search fails, then it will be retried once using the pool used to find
+   * conflicts.
+   *
+   * @param  pool     The connection pool to use to process the search.
+   * @param  request  The search request to process.  It must have a search
+   *                  result listener.
+   *
+   * @return  A result code that indicates whether all of the searches
+   *          completed successfully.
+   */
+  private ResultCode searchAllPages(final LDAPConnectionPool pool,
+                                    final SearchRequest request)
+  {
+    final String baseDN = request.getBaseDN();
+    ASN1OctetString cookie = null;
+    do
+    {
+      if (timeLimitExceeded.get())
+      {
+        break;
+      }
+
+      if (pageSizeArgument.isPresent())
+      {
+        request.setControls(new SimplePagedResultsControl(
+             pageSizeArgument.getValue(), cookie, false));
+      }
+
+      SearchResult searchResult;
+      try
+      {
+        searchResult = pool.search(request);
+      }
+      catch (final LDAPSearchException lse)
+      {
+        Debug.debugException(lse);
+        try
+        {
+          searchResult = findConflictsPool.search(request);
+        }
+        catch (final LDAPSearchException lse2)
+        {
+          Debug.debugException(lse2);
+          searchResult = lse2.getSearchResult();
+        }
+      }
+
+      if (searchResult.getResultCode() != ResultCode.SUCCESS)
+      {
+        err("An error occurred while attempting to search for unique " +
+             "attributes in entries below " + baseDN + ":  " +
+             searchResult.getDiagnosticMessage());
+        return searchResult.getResultCode();
+      }
+
+      final SimplePagedResultsControl pagedResultsResponse;
+      try
+      {
+        pagedResultsResponse = SimplePagedResultsControl.get(searchResult);
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        err("An error occurred while attempting to decode a simple " +
+             "paged results response control in the response to a " +
+             "search for entries below " + baseDN + ":  " +
+             StaticUtils.getExceptionMessage(le));
+        return le.getResultCode();
+      }
+
+      if ((pagedResultsResponse != null) &&
+          pagedResultsResponse.moreResultsToReturn())
+      {
+        cookie = pagedResultsResponse.getCookie();
+      }
+      else
+      {
+        cookie = null;
+      }
+    }
+    while (cookie != null);
+
+    return ResultCode.SUCCESS;
+  }
+
+
+
+  /**
+   * Identifies uniqueness conflicts using hashes of the normalized unique
+   * attribute values rather than searching for each value.  The first pass
+   * over the entries records a hash of each value, and a second pass collects
+   * the values whose hashes were seen in more than one entry so that they can
+   * be compared directly (which will rule out any hash collisions).  No
+   * per-value searches are needed, so the unique attributes don't need to be
+   * indexed in the server.
+   *
+   * @param  pool        The connection pool to use to retrieve the entries.
+   * @param  filter      The filter to use to retrieve the entries.
+   * @param  numThreads  The maximum number of base DNs to search concurrently.
+   *
+   * @return  A result code that indicates whether all of the searches
+   *          completed successfully.
+   */
+  private ResultCode findConflictsUsingValueHashes(
+                          final LDAPConnectionPool pool, final Filter filter,
+                          final int numThreads)
+  {
+    // Determine the equality matching rule to use for each attribute.  If the
+    // schema can't be retrieved, then the default matching rules will be used.
+    Schema schema = null;
+    try
+    {
+      schema = findConflictsPool.getSchema();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+    }
+
+    final MatchingRule[] matchingRules = new MatchingRule[attributes.length];
+    for (int i=0; i < attributes.length; i++)
+    {
+      matchingRules[i] =
+           MatchingRule.selectEqualityMatchingRule(attributes[i], schema);
+    }
+
+
+    // Make the first pass over the entries to get the hashes of all of the
+    // values.
+    final ValueHashSet valueHashes = new ValueHashSet();
+    ResultCode resultCode = searchBaseDNs(pool, filter, numThreads,
+         new ValueHashListener(matchingRules, valueHashes, null));
+    if (resultCode != ResultCode.SUCCESS)
+    {
+      return resultCode;
+    }
+
+    final long numPotentialConflicts = valueHashes.getNumPotentialConflicts();
+    if (numPotentialConflicts == 0L)
+    {
+      return ResultCode.SUCCESS;
+    }
+
+
+    // Make a second pass over the entries to get the values with hashes that
+    // were seen in more than one entry, and report any actual conflicts.
+    out("Found ", numPotentialConflicts,
+         " potential conflicts.  Retrieving entries to confirm them.");
+    final LinkedHashMap<ASN1OctetString,List<ValueOccurrence>> occurrences =
+         new LinkedHashMap<>(100);
+    resultCode = searchBaseDNs(pool, filter, numThreads,
+         new ValueHashListener(matchingRules, valueHashes, occurrences));
+    if (resultCode != ResultCode.SUCCESS)
+    {
+      return resultCode;
+    }
+
+    final HashSet<String> combinationConflictDNs = new HashSet<>(100);
+    for (final List<ValueOccurrence> l : occurrences.values())
+    {
+      final HashSet<String> reported = new HashSet<>(l.size());
+      for (final ValueOccurrence o : l)
+      {
+        if (! o.counted)
+        {
+          continue;
+        }
+
+        ValueOccurrence conflict = null;
+        for (final ValueOccurrence o2 : l)
+        {
+          if (! o.normalizedDN.equals(o2.normalizedDN))
+          {
+            conflict = o2;
+            break;
+          }
+        }
+
+        if (conflict == null)
+        {
+          continue;
+        }
+
+        if (uniqueInCombination)
+        {
+          if (combinationConflictDNs.add(o.normalizedDN))
+          {
+            err("Entry '" + o.dn + " has a combination of values that are " +
+                 "also present in entry '" + conflict.dn + "'.");
+            combinationConflictCounts.incrementAndGet();
+          }
+        }
+        else if (reported.add(o.attrIndex + ":" + o.normalizedDN))
+        {
+          err("Value '", o.value, "' in attribute ", o.attrName,
+               " of entry '" + o.dn, "' is also present in entry '",
+               conflict.dn, "'.");
+          conflictCounts.get(attributes[o.attrIndex]).incrementAndGet();
+        }
+      }
+    }
+
+    return ResultCode.SUCCESS;
+  }
+
+
+
+  /**
+   * Retrieves all of the entries with unique attributes below each of the
+   * configured base DNs, searching up to the specified number of base DNs
+   * concurrently.
+   *
+   * @param  pool        The connection pool to use to retrieve the entries.
+   * @param  filter      The filter to use to retrieve the entries.
+   * @param  numThreads  The maximum number of base DNs to search concurrently.
+   * @param  listener    The listener that will be notified of each entry.  It
+   *                     must be threadsafe if multiple threads are used.
+   *
+   * @return  A result code that indicates whether all of the searches
+   *          completed successfully.
+   */
+  private ResultCode searchBaseDNs(final LDAPConnectionPool pool,
+                                   final Filter filter, final int numThreads,
+                                   final SearchResultListener listener)
+  {
+    if (numThreads <= 1)
+    {
+      for (final String baseDN : baseDNs)
+      {
+        final ResultCode resultCode = searchAllPages(pool,
+             new SearchRequest(listener, baseDN, SearchScope.SUB, filter,
+                  attributes));
+        if (resultCode != ResultCode.SUCCESS)
+        {
+          return resultCode;
+        }
+      }
+
+      return ResultCode.SUCCESS;
+    }
+
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(numThreads,
+         numThreads, 0L, TimeUnit.MILLISECONDS,
+         new LinkedBlockingQueue<Runnable>(),
+         new LDAPSDKThreadFactory("IdentifyUniqueAttributeConflicts Searcher",
+              true, null));
+    try
+    {
+      final ArrayList<Future<ResultCode>> futures =
+           new ArrayList<>(baseDNs.length);
+      for (final String baseDN : baseDNs)
+      {
+        futures.add(executor.submit(new Callable<ResultCode>()
+        {
+          @Override()
+          public ResultCode call()
+          {
+            return searchAllPages(pool, new SearchRequest(listener, baseDN,
+                 SearchScope.SUB, filter, attributes));
+          }
+        }));
+      }
+
+      ResultCode resultCode = ResultCode.SUCCESS;
+      for (final Future<ResultCode> f : futures)
+      {
+        final ResultCode rc;
+        try
+        {
+          rc = f.get();
+        }
+        catch (final InterruptedException ie)
+        {
+          Debug.debugException(ie);
+          Thread.currentThread().interrupt();
+          err("Interrupted while waiting for searches to complete.");
+          return ResultCode.LOCAL_ERROR;
+        }
+        catch (final ExecutionException ee)
+        {
+          Debug.debugException(ee);
+          err("An error occurred while searching for entries with unique " +
+               "attributes:  " + StaticUtils.getExceptionMessage(ee));
+          return ResultCode.LOCAL_ERROR;
+        }
+
+        if ((rc != ResultCode.SUCCESS) && (resultCode == ResultCode.SUCCESS))
+        {
+          resultCode = rc;
+        }
+      }
+
+      return resultCode;
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
+
+
+  /**
+   * Checks the provided entry to determine whether any of its unique attribute
+   * values are also present in another of the unique attributes in the same
+   * entry.
+   *
+   * @param  entry   The entry to examine.
+   * @param  report  Indicates whether any conflicts that are found should be
+   *                 reported and included in the conflict counts.
+   *
+   * @return  {@code true} if at least one conflict was found, or
+   *          {@code false} if not.
+   */
+  private boolean checkForConflictsInSameEntry(final SearchResultEntry entry,
+                                               final boolean report)
+  {
+    boolean conflictFound = false;
+    for (int i=0; i < attributes.length; i++)
+    {
+      final List<Attribute> l1 =
+           entry.getAttributesWithOptions(attributes[i], null);
+      if (l1 != null)
+      {
+        for (int j=i+1; j < attributes.length; j++)
+        {
+          final List<Attribute> l2 =
+               entry.getAttributesWithOptions(attributes[j], null);
+          if (l2 != null)
+          {
+            for (final Attribute a1 : l1)
+            {
+              for (final String value : a1.getValues())
+              {
+                for (final Attribute a2 : l2)
+                {
+                  if (a2.hasValue(value))
+                  {
+                    if (! report)
+                    {
+                      return true;
+                    }
+
+                    err("Value '", value, "' in attribute ", a1.getName(),
+                         " of entry '", entry.getDN(),
+                         " is also present in attribute ", a2.getName(),
+                         " of the same entry.");
+                    conflictFound = true;
+                    conflictCounts.get(attributes[i]).incrementAndGet();
+                  }
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+
+    return conflictFound;
+  }
+
+
+
+  /**
+   * Retrieves the keys that should be used to identify conflicts with the
+   * unique attribute values in the provided entry.  Each key will contain the
+   * normalized representation of a single value (prefixed by the index of the
+   * attribute if uniqueness is only enforced within each attribute), or of one
+   * combination of values if uniqueness is enforced in combination.
+   *
+   * @param  entry          The entry for which to retrieve the keys.
+   * @param  matchingRules  The matching rules to use to normalize the values
+   *                        of each attribute.
+   *
+   * @return  The keys for the provided entry.  It may contain duplicate keys
+   *          for values held in multiple attributes.
+   */
+  private List<ValueKey> getValueKeys(final SearchResultEntry entry,
+                                      final MatchingRule[] matchingRules)
+  {
+    final ArrayList<ValueKey> keys = new ArrayList<>(attributes.length);
+    final ByteStringBuffer buffer = new ByteStringBuffer();
+    if (uniqueInCombination)
+    {
+      List<byte[]> prefixes = Collections.singletonList(new byte[0]);
+      for (int i=0; i < attributes.length; i++)
+      {
+        final LinkedHashSet<ASN1OctetString> values = new LinkedHashSet<>(5);
+        for (final Attribute a :
+             entry.getAttributesWithOptions(attributes[i], null))
+        {
+          for (final ASN1OctetString value : a.getRawValues())
+          {
+            values.add(normalize(matchingRules[i], value));
+          }
+        }
+
+        if (values.isEmpty())
+        {
+          // We can't check this entry for conflicts, so just assume there
+          // aren't any.
+          return Collections.emptyList();
+        }
+
+        final ArrayList<byte[]> newPrefixes =
+             new ArrayList<>(prefixes.size() * values.size());
+        for (final byte[] prefix : prefixes)
+        {
+          for (final ASN1OctetString value : values)
+          {
+            buffer.clear();
+            buffer.append(prefix);
+            buffer.append(value.getValueLength());
+            buffer.append(':');
+            value.appendValueTo(buffer);
+            newPrefixes.add(buffer.toByteArray());
+          }
+        }
+        prefixes = newPrefixes;
+      }
+
+      for (final byte[] key : prefixes)
+      {
+        keys.add(new ValueKey(key, -1, null, null));
+      }
+    }
+    else
+    {
+      for (int i=0; i < attributes.length; i++)
+      {
+        for (final Attribute a :
+             entry.getAttributesWithOptions(attributes[i], null))
+        {
+          for (final ASN1OctetString value : a.getRawValues())
+          {
+            buffer.clear();
+            if (! uniqueAcrossAttributes)
+            {
+              buffer.append(i);
+              buffer.append(':');
+            }
+            normalize(matchingRules[i], value).appendValueTo(buffer);
+            keys.add(new ValueKey(buffer.toByteArray(), i, a.getName(),
+                 value.stringValue()));
+          }
+        }
+      }
+    }
+
+    return keys;
+  }
+
+
+
+  /**
+   * Retrieves a normalized representation of the provided value.
+   *
+   * @param  matchingRule  The matching rule to use to normalize the value.
+   * @param  value         The value to normalize.
+   *
+   * @return  The normalized representation of the provided value, or the
+   *          value itself if it cannot be normalized.
+   */
+  private static ASN1OctetString normalize(final MatchingRule matchingRule,
+                                           final ASN1OctetString value)
+  {
+    try
+    {
+      return matchingRule.normalize(value);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return value;
+    }
+  }
+
+
+
   /**
    * Retrieves the number of conflicts identified across multiple attributes in
    * combination.
@@ -912,48 +1408,10 @@ public final class IdentifyUniqueAttributeConflicts
     {
       // If we need to check for conflicts in the same entry, then do that
       // first.
-      if (! allowConflictsInSameEntry)
+      if ((! allowConflictsInSameEntry) &&
+          checkForConflictsInSameEntry(searchEntry, true))
       {
-        boolean conflictFound = false;
-        for (int i=0; i < attributes.length; i++)
-        {
-          final List<Attribute> l1 =
-               searchEntry.getAttributesWithOptions(attributes[i], null);
-          if (l1 != null)
-          {
-            for (int j=i+1; j < attributes.length; j++)
-            {
-              final List<Attribute> l2 =
-                   searchEntry.getAttributesWithOptions(attributes[j], null);
-              if (l2 != null)
-              {
-                for (final Attribute a1 : l1)
-                {
-                  for (final String value : a1.getValues())
-                  {
-                    for (final Attribute a2 : l2)
-                    {
-                      if (a2.hasValue(value))
-                      {
-                        err("Value '", value, "' in attribute ", a1.getName(),
-                             " of entry '", searchEntry.getDN(),
-                             " is also present in attribute ", a2.getName(),
-                             " of the same entry.");
-                        conflictFound = true;
-                        conflictCounts.get(attributes[i]).incrementAndGet();
-                      }
-                    }
-                  }
-                }
-              }
-            }
-          }
-        }
-
-        if (conflictFound)
-        {
-          return;
-        }
+        return;
       }
 
 
@@ -1262,4 +1720,415 @@ baseDNLoop:
   {
     // No implementation is required.  This tool will not follow referrals.
   }
+
+
+
+  /**
+   * This class provides a search result listener that will be used to process
+   * entries when identifying conflicts using value hashes.  In the first pass
+   * over the entries, it records the hash of each key in the value hash set.
+   * In the second pass, it records an occurrence for each key whose hash was
+   * seen in more than one entry.
+   */
+  private final class ValueHashListener
+          implements SearchResultListener
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = -3467312908623575541L;
+
+
+
+    // The map in which occurrences of potentially-conflicting keys will be
+    // recorded.  It will be null in the first pass.
+    private final Map<ASN1OctetString,List<ValueOccurrence>> occurrences;
+
+    // The matching rules to use to normalize the values of each attribute.
+    private final MatchingRule[] matchingRules;
+
+    // The set of hashes for the keys that have been encountered.
+    private final ValueHashSet valueHashes;
+
+
+
+    /**
+     * Creates a new value hash listener with the provided information.
+     *
+     * @param  matchingRules  The matching rules to use to normalize the values
+     *                        of each attribute.
+     * @param  valueHashes    The set of hashes for the keys that have been
+     *                        encountered.
+     * @param  occurrences    The map in which to record occurrences of
+     *                        potentially-conflicting keys, or {@code null} if
+     *                        this is the first pass over the entries.
+     */
+    private ValueHashListener(final MatchingRule[] matchingRules,
+                 final ValueHashSet valueHashes,
+                 final Map<ASN1OctetString,List<ValueOccurrence>> occurrences)
+    {
+      this.matchingRules = matchingRules;
+      this.valueHashes   = valueHashes;
+      this.occurrences   = occurrences;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchEntryReturned(final SearchResultEntry searchEntry)
+    {
+      final boolean firstPass = (occurrences == null);
+
+      // If we need to check for conflicts in the same entry, then do that
+      // first.  They will only be reported in the first pass, and any entry
+      // with such a conflict will not be counted again for conflicts with
+      // other entries.
+      boolean sameEntryConflict = false;
+      if ((! uniqueInCombination) && (! allowConflictsInSameEntry))
+      {
+        sameEntryConflict =
+             checkForConflictsInSameEntry(searchEntry, firstPass);
+      }
+
+      final List<ValueKey> keys = getValueKeys(searchEntry, matchingRules);
+      if (firstPass)
+      {
+        // Only record each key once per entry so that a hash will only be
+        // considered a potential conflict if it is in multiple entries.
+        final HashSet<ASN1OctetString> entryKeys = new HashSet<>(keys.size());
+        for (final ValueKey k : keys)
+        {
+          if (entryKeys.add(k.key))
+          {
+            valueHashes.add(k.hash);
+          }
+        }
+
+        final long count = entriesExamined.incrementAndGet();
+        if ((count % 1000L) == 0L)
+        {
+          out(count, " entries examined");
+        }
+        return;
+      }
+
+      String normalizedDN;
+      try
+      {
+        normalizedDN = searchEntry.getParsedDN().toNormalizedString();
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        normalizedDN = StaticUtils.toLowerCase(searchEntry.getDN());
+      }
+
+      for (final ValueKey k : keys)
+      {
+        if (valueHashes.isPotentialConflict(k.hash))
+        {
+          final ValueOccurrence o = new ValueOccurrence(searchEntry.getDN(),
+               normalizedDN, k.attrIndex, k.attrName, k.value,
+               (! sameEntryConflict));
+          synchronized (occurrences)
+          {
+            List<ValueOccurrence> l = occurrences.get(k.key);
+            if (l == null)
+            {
+              l = new ArrayList<>(2);
+              occurrences.put(k.key, l);
+            }
+            l.add(o);
+          }
+        }
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchReferenceReturned(
+                     final SearchResultReference searchReference)
+    {
+      // No implementation is required.  This tool will not follow referrals.
+    }
+  }
+
+
+
+  /**
+   * This class holds a key used to identify conflicts with a unique attribute
+   * value (or combination of values), along with a 64-bit FNV-1a hash of that
+   * key.
+   */
+  private static final class ValueKey
+  {
+    // The index of the attribute from which the value was obtained, or -1 for
+    // a combination of values.
+    private final int attrIndex;
+
+    // The hash of the key.
+    private final long hash;
+
+    // The key itself.
+    private final ASN1OctetString key;
+
+    // The name of the attribute from which the value was obtained.
+    private final String attrName;
+
+    // The string representation of the value.
+    private final String value;
+
+
+
+    /**
+     * Creates a new value key with the provided information.
+     *
+     * @param  key        The bytes that comprise the key.
+     * @param  attrIndex  The index of the attribute from which the value was
+     *                    obtained, or -1 for a combination of values.
+     * @param  attrName   The name of the attribute from which the value was
+     *                    obtained.  It may be {@code null} for a combination
+     *                    of values.
+     * @param  value      The string representation of the value.  It may be
+     *                    {@code null} for a combination of values.
+     */
+    private ValueKey(final byte[] key, final int attrIndex,
+                     final String attrName, final String value)
+    {
+      this.key       = new ASN1OctetString(key);
+      this.attrIndex = attrIndex;
+      this.attrName  = attrName;
+      this.value     = value;
+
+      long h = 0xCBF29CE484222325L;
+      for (final byte b : key)
+      {
+        h ^= (b & 0xFF);
+        h *= 0x100000001B3L;
+      }
+      hash = h;
+    }
+  }
+
+
+
+  /**
+   * This class holds information about an occurrence of a key whose hash was
+   * seen in more than one entry.
+   */
+  private static final class ValueOccurrence
+  {
+    // Indicates whether a conflict for this occurrence should be counted.
+    private final boolean counted;
+
+    // The index of the attribute from which the value was obtained, or -1 for
+    // a combination of values.
+    private final int attrIndex;
+
+    // The name of the attribute from which the value was obtained.
+    private final String attrName;
+
+    // The DN of the entry.
+    private final String dn;
+
+    // The normalized DN of the entry.
+    private final String normalizedDN;
+
+    // The string representation of the value.
+    private final String value;
+
+
+
+    /**
+     * Creates a new value occurrence with the provided information.
+     *
+     * @param  dn            The DN of the entry.
+     * @param  normalizedDN  The normalized DN of the entry.
+     * @param  attrIndex     The index of the attribute from which the value
+     *                       was obtained, or -1 for a combination of values.
+     * @param  attrName      The name of the attribute from which the value was
+     *                       obtained.
+     * @param  value         The string representation of the value.
+     * @param  counted       Indicates whether a conflict for this occurrence
+     *                       should be counted.
+     */
+    private ValueOccurrence(final String dn, final String normalizedDN,
+                            final int attrIndex, final String attrName,
+                            final String value, final boolean counted)
+    {
+      this.dn           = dn;
+      this.normalizedDN = normalizedDN;
+      this.attrIndex    = attrIndex;
+      this.attrName     = attrName;
+      this.value        = value;
+      this.counted      = counted;
+    }
+  }
+
+
+
+  /**
+   * This class provides a compact set of 64-bit key hashes that keeps track of
+   * whether each hash has been seen once or more than once.  It uses open
+   * addressing with linear probing, so it doesn't need to create an object for
+   * each hash.
+   */
+  private static final class ValueHashSet
+  {
+    /**
+     * The state for a slot that has not been used.
+     */
+    private static final byte STATE_EMPTY = 0;
+
+
+
+    /**
+     * The state for a slot whose hash has been seen only once.
+     */
+    private static final byte STATE_SEEN_ONCE = 1;
+
+
+
+    /**
+     * The state for a slot whose hash has been seen more than once.
+     */
+    private static final byte STATE_SEEN_MULTIPLE = 2;
+
+
+
+    // The state for each slot.
+    private byte[] states;
+
+    // The number of slots in use.
+    private int size;
+
+    // The hash held in each slot.
+    private long[] hashes;
+
+    // The number of hashes that have been seen more than once.
+    private long numSeenMultiple;
+
+
+
+    /**
+     * Creates a new, empty value hash set.
+     */
+    private ValueHashSet()
+    {
+      states = new byte[1024];
+      hashes = new long[1024];
+      size = 0;
+      numSeenMultiple = 0L;
+    }
+
+
+
+    /**
+     * Records an occurrence of the provided hash.
+     *
+     * @param  hash  The hash to record.
+     */
+    private synchronized void add(final long hash)
+    {
+      final int slot = findSlot(hashes, states, hash);
+      switch (states[slot])
+      {
+        case STATE_EMPTY:
+          hashes[slot] = hash;
+          states[slot] = STATE_SEEN_ONCE;
+          size++;
+          if ((size * 2) > hashes.length)
+          {
+            grow();
+          }
+          break;
+
+        case STATE_SEEN_ONCE:
+          states[slot] = STATE_SEEN_MULTIPLE;
+          numSeenMultiple++;
+          break;
+      }
+    }
+
+
+
+    /**
+     * Indicates whether the provided hash has been seen more than once.
+     *
+     * @param  hash  The hash for which to make the determination.
+     *
+     * @return  {@code true} if the provided hash has been seen more than once,
+     *          or {@code false} if not.
+     */
+    private synchronized boolean isPotentialConflict(final long hash)
+    {
+      return (states[findSlot(hashes, states, hash)] == STATE_SEEN_MULTIPLE);
+    }
+
+
+
+    /**
+     * Retrieves the number of hashes that have been seen more than once.
+     *
+     * @return  The number of hashes that have been seen more than once.
+     */
+    private synchronized long getNumPotentialConflicts()
+    {
+      return numSeenMultiple;
+    }
+
+
+
+    /**
+     * Doubles the number of slots in this set.
+     */
+    private void grow()
+    {
+      final byte[] newStates = new byte[states.length * 2];
+      final long[] newHashes = new long[hashes.length * 2];
+      for (int i=0; i < states.length; i++)
+      {
+        if (states[i] != STATE_EMPTY)
+        {
+          final int slot = findSlot(newHashes, newStates, hashes[i]);
+          newHashes[slot] = hashes[i];
+          newStates[slot] = states[i];
+        }
+      }
+
+      states = newStates;
+      hashes = newHashes;
+    }
+
+
+
+    /**
+     * Retrieves the slot that holds the provided hash, or the empty slot in
+     * which it should be placed.
+     *
+     * @param  hashes  The hashes held in each slot.
+     * @param  states  The state for each slot.
+     * @param  hash    The hash for which to find the slot.
+     *
+     * @return  The slot for the provided hash.
+     */
+    private static int findSlot(final long[] hashes, final byte[] states,
+                                final long hash)
+    {
+      final int mask = hashes.length - 1;
+      int slot = ((int) (hash ^ (hash >>> 32))) & mask;
+      while ((states[slot] != STATE_EMPTY) && (hashes[slot] != hash))
+      {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+  }
 }
@@ -57,6 +57,7 @@ import com.unboundid.util.ResultCodeCounter;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.ValuePattern;
+import com.unboundid.util.ValuePatternGenerator;
 import com.unboundid.util.WakeableSleeper;
 import com.unboundid.util.args.ArgumentException;
 import com.unboundid.util.args.ArgumentParser;
@@ -1152,9 +1153,23 @@ public final class ModRate
         return ResultCode.PARAM_ERROR;
       }
 
-      threads[i] = new ModRateThread(this, i, connection, dnPattern, attrs,
-           parsedValuePattern, valueCount.getValue(), increment.isPresent(),
-           incrementAmount.getValue(), controlArray, authzIDPattern,
+      // Give each thread its own partition of the value patterns so that the
+      // threads don't need to share the positions of sequential components.
+      final ValuePatternGenerator authzIDGenerator;
+      if (authzIDPattern == null)
+      {
+        authzIDGenerator = null;
+      }
+      else
+      {
+        authzIDGenerator = authzIDPattern.newGenerator(i, threads.length);
+      }
+
+      threads[i] = new ModRateThread(this, i, connection,
+           dnPattern.newGenerator(i, threads.length), attrs,
+           parsedValuePattern.newGenerator(), valueCount.getValue(),
+           increment.isPresent(), incrementAmount.getValue(), controlArray,
+           authzIDGenerator,
            random.nextLong(), iterationsBeforeReconnect.getValue(), barrier,
            modCounter, modDurations, errorCounter, rcCounter, fixedRateBarrier);
       threads[i].start();
@@ -39,7 +39,7 @@ import com.unboundid.ldap.sdk.controls.ProxiedAuthorizationV2RequestControl;
 import com.unboundid.util.Debug;
 import com.unboundid.util.FixedRateBarrier;
 import com.unboundid.util.ResultCodeCounter;
-import com.unboundid.util.ValuePattern;
+import com.unboundid.util.ValuePatternGenerator;
 
 
 
@@ -113,14 +113,14 @@ final class ModRateThread
   // The thread that is actually performing the modifications.
   private final AtomicReference<Thread> modThread;
 
-  // The value pattern to use for proxied authorization.
-  private final ValuePattern authzID;
+  // The value pattern generator to use for proxied authorization.
+  private final ValuePatternGenerator authzID;
 
-  // The value pattern to use for the entry DNs.
-  private final ValuePattern entryDN;
+  // The value pattern generator to use for the entry DNs.
+  private final ValuePatternGenerator entryDN;
 
-  // The value pattern to use to generate values.
-  private final ValuePattern valuePattern;
+  // The value pattern generator to use to generate values.
+  private final ValuePatternGenerator valuePattern;
 
 
 
@@ -132,10 +132,11 @@ final class ModRateThread
    * @param  threadNumber               The thread number for this thread.
    * @param  connection                 The connection to use for the
    *                                    modifications.
-   * @param  entryDN                    The value pattern to use for the entry
-   *                                    DNs.
+   * @param  entryDN                    The value pattern generator to use for
+   *                                    the entry DNs.
    * @param  attributes                 The names of the attributes to modify.
-   * @param  valuePattern               The pattern to use to generate values.
+   * @param  valuePattern               The value pattern generator to use to
+   *                                    generate values.
    * @param  valueCount                 The number of values to generate for
    *                                    replace modifications.
    * @param  increment                  Indicates whether to use the increment
@@ -145,11 +146,12 @@ final class ModRateThread
    *                                    incremented.
    * @param  modifyControls             The set of request controls that should
    *                                    be included in modify requests.
-   * @param  authzID                    The value pattern to use to generate
-   *                                    authorization identities for use with
-   *                                    the proxied authorization control.  It
-   *                                    may be {@code null} if proxied
-   *                                    authorization should not be used.
+   * @param  authzID                    The value pattern generator to use to
+   *                                    generate authorization identities for
+   *                                    use with the proxied authorization
+   *                                    control.  It may be {@code null} if
+   *                                    proxied authorization should not be
+   *                                    used.
    * @param  randomSeed                 The seed to use for the random number
    *                                    generator.
    * @param  iterationsBeforeReconnect  The number of iterations that should be
@@ -175,11 +177,13 @@ final class ModRateThread
    *                                    rate-limiting should be used.
    */
   ModRateThread(final ModRate modRate, final int threadNumber,
-                final LDAPConnection connection, final ValuePattern entryDN,
-                final String[] attributes, final ValuePattern valuePattern,
+                final LDAPConnection connection,
+                final ValuePatternGenerator entryDN,
+                final String[] attributes,
+                final ValuePatternGenerator valuePattern,
                 final int valueCount, final boolean increment,
                 final int incrementAmount, final Control[] modifyControls,
-                final ValuePattern authzID, final long randomSeed,
+                final ValuePatternGenerator authzID, final long randomSeed,
                 final long iterationsBeforeReconnect,
                 final CyclicBarrier startBarrier, final AtomicLong modCounter,
                 final AtomicLong modDurations, final AtomicLong errorCounter,
@@ -237,6 +241,7 @@ final class ModRateThread
 
     final Modification[] mods = new Modification[attributes.length];
     final String[] values = new String[valueCount];
+    final byte[][] valueBytes = new byte[valueCount][];
 
     if (increment)
     {
@@ -304,13 +309,13 @@ final class ModRateThread
       {
         for (int i=0; i < valueCount; i++)
         {
-          values[i] = valuePattern.nextValue();
+          valueBytes[i] = valuePattern.nextValueBytes();
         }
 
         for (int i=0; i < attributes.length; i++)
         {
           mods[i] = new Modification(ModificationType.REPLACE, attributes[i],
-               values);
+               valueBytes);
         }
         modifyRequest.setModifications(mods);
       }
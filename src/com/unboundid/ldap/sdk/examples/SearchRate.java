@@ -60,6 +60,7 @@ import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.WakeableSleeper;
 import com.unboundid.util.ValuePattern;
+import com.unboundid.util.ValuePatternGenerator;
 import com.unboundid.util.args.ArgumentException;
 import com.unboundid.util.args.ArgumentParser;
 import com.unboundid.util.args.BooleanArgument;
@@ -1209,11 +1210,24 @@ public final class SearchRate
         return le.getResultCode();
       }
 
+      // Give each thread its own partition of the value patterns so that the
+      // threads don't need to share the positions of sequential components.
+      final ValuePatternGenerator authzIDGenerator;
+      if (authzIDPattern == null)
+      {
+        authzIDGenerator = null;
+      }
+      else
+      {
+        authzIDGenerator = authzIDPattern.newGenerator(i, threads.length);
+      }
+
       threads[i] = new SearchRateThread(this, i, connection,
-           asynchronousMode.isPresent(), dnPattern, scopeArg.getValue(),
+           asynchronousMode.isPresent(),
+           dnPattern.newGenerator(i, threads.length), scopeArg.getValue(),
            derefPolicy, sizeLimit.getValue(), timeLimitSeconds.getValue(),
-           typesOnly.isPresent(), filterPattern, attrs, authzIDPattern,
-           simplePageSize.getValue(), controlList,
+           typesOnly.isPresent(), filterPattern.newGenerator(i, threads.length),
+           attrs, authzIDGenerator, simplePageSize.getValue(), controlList,
            iterationsBeforeReconnect.getValue(), barrier, searchCounter,
            entryCounter, searchDurations, errorCounter, rcCounter,
            fixedRateBarrier, asyncSemaphore);
@@ -47,7 +47,7 @@ import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
 import com.unboundid.util.Debug;
 import com.unboundid.util.FixedRateBarrier;
 import com.unboundid.util.ResultCodeCounter;
-import com.unboundid.util.ValuePattern;
+import com.unboundid.util.ValuePatternGenerator;
 
 
 
@@ -128,14 +128,14 @@ final class SearchRateThread
   // The set of requested attributes for search requests.
   private final String[] attributes;
 
-  // The value pattern to use for proxied authorization.
-  private final ValuePattern authzID;
+  // The value pattern generator to use for proxied authorization.
+  private final ValuePatternGenerator authzID;
 
-  // The value pattern to use for the base DNs.
-  private final ValuePattern baseDN;
+  // The value pattern generator to use for the base DNs.
+  private final ValuePatternGenerator baseDN;
 
-  // The value pattern to use for the filters.
-  private final ValuePattern filter;
+  // The value pattern generator to use for the filters.
+  private final ValuePatternGenerator filter;
 
   // The barrier to use for controlling the rate of searches.  null if no
   // rate-limiting should be used.
@@ -152,8 +152,8 @@ final class SearchRateThread
    * @param  connection                 The connection to use for the searches.
    * @param  async                      Indicates whether to operate in
    *                                    asynchronous mode.
-   * @param  baseDN                     The value pattern to use for the base
-   *                                    DNs.
+   * @param  baseDN                     The value pattern generator to use for
+   *                                    the base DNs.
    * @param  scope                      The scope to use for the searches.
    * @param  dereferencePolicy          The alias dereference policy to use for
    *                                    the searches.
@@ -165,13 +165,15 @@ final class SearchRateThread
    * @param  typesOnly                  Indicates whether to return entries with
    *                                    only attribute names, or with both names
    *                                    and values.
-   * @param  filter                     The value pattern for the filters.
+   * @param  filter                     The value pattern generator to use for
+   *                                    the filters.
    * @param  attributes                 The set of attributes to return.
-   * @param  authzID                    The value pattern to use to generate
-   *                                    authorization identities for use with
-   *                                    the proxied authorization control.  It
-   *                                    may be {@code null} if proxied
-   *                                    authorization should not be used.
+   * @param  authzID                    The value pattern generator to use to
+   *                                    generate authorization identities for
+   *                                    use with the proxied authorization
+   *                                    control.  It may be {@code null} if
+   *                                    proxied authorization should not be
+   *                                    used.
    * @param  simplePageSize             The simple page size to use in
    *                                    conjunction with the simple paged
    *                                    results request control. It may be
@@ -207,11 +209,14 @@ final class SearchRateThread
    */
   SearchRateThread(final SearchRate searchRate, final int threadNumber,
                    final LDAPConnection connection, final boolean async,
-                   final ValuePattern baseDN, final SearchScope scope,
+                   final ValuePatternGenerator baseDN,
+                   final SearchScope scope,
                    final DereferencePolicy dereferencePolicy,
                    final int sizeLimit, final int timeLimitSeconds,
-                   final boolean typesOnly, final ValuePattern filter,
-                   final String[] attributes, final ValuePattern authzID,
+                   final boolean typesOnly,
+                   final ValuePatternGenerator filter,
+                   final String[] attributes,
+                   final ValuePatternGenerator authzID,
                    final Integer simplePageSize,
                    final List<Control> requestControls,
                    final long iterationsBeforeReconnect,
@@ -32,6 +32,7 @@ import java.util.Iterator;
 import java.util.TreeMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.GZIPInputStream;
 
@@ -185,9 +186,20 @@ public final class ValidateLDIF
   // parsed as valid entries.
   private final AtomicLong malformedEntries = new AtomicLong(0L);
 
-  // The entry validator that will be used to validate the entries.
+  // The entry validator that holds the configuration to use to validate the
+  // entries, and into which the counts from all of the per-thread validators
+  // will be merged when processing is complete.
   private EntryValidator entryValidator;
 
+  // The entry validators that have been created for the threads processing
+  // entries.  Each thread uses its own validator so that the threads do not
+  // contend with each other when updating validation counts.
+  private final ConcurrentLinkedQueue<EntryValidator> threadValidators =
+       new ConcurrentLinkedQueue<EntryValidator>();
+
+  // The entry validator for the current thread.
+  private ThreadLocal<EntryValidator> threadValidator;
+
   // The LDIF writer that will be used to write rejected entries.
   private LDIFWriter rejectWriter;
 
@@ -737,6 +749,9 @@ public final class ValidateLDIF
            ignoreSyntaxViolationsForAttribute.getValues());
     }
 
+    threadValidators.clear();
+    threadValidator = new ThreadLocal<EntryValidator>();
+
 
     // Create an LDIF reader that can be used to read through the LDIF file.
     final LDIFReader ldifReader;
@@ -881,6 +896,9 @@ public final class ValidateLDIF
         }
       }
 
+      // Combine the counts from the validators used by each of the threads.
+      mergeThreadValidatorCounts();
+
       if (malformedEntries.get() > 0)
       {
         out(malformedEntries.get() + " entries were malformed and could not " +
@@ -920,6 +938,10 @@ public final class ValidateLDIF
         Debug.debugException(e);
       }
 
+      // If processing ended early, then make sure that the counts from any
+      // entries that were validated are still available.
+      mergeThreadValidatorCounts();
+
       try
       {
         if (rejectWriter != null)
@@ -936,6 +958,23 @@ public final class ValidateLDIF
 
 
 
+  /**
+   * Merges the counts from the validators used by each of the processing
+   * threads into the main entry validator.  Each validator will only be merged
+   * once, so it is safe to call this method more than once.
+   */
+  private void mergeThreadValidatorCounts()
+  {
+    EntryValidator v = threadValidators.poll();
+    while (v != null)
+    {
+      entryValidator.mergeCounts(v);
+      v = threadValidators.poll();
+    }
+  }
+
+
+
   /**
    * Examines the provided entry to determine whether it conforms to the
    * server schema.
@@ -951,8 +990,16 @@ public final class ValidateLDIF
    */
   public Entry translate(final Entry entry, final long firstLineNumber)
   {
+    EntryValidator validator = threadValidator.get();
+    if (validator == null)
+    {
+      validator = entryValidator.duplicate();
+      threadValidator.set(validator);
+      threadValidators.add(validator);
+    }
+
     final ArrayList<String> invalidReasons = new ArrayList<String>(5);
-    if (! entryValidator.entryIsValid(entry, invalidReasons))
+    if (! validator.entryIsValid(entry, invalidReasons))
     {
       if (rejectWriter != null)
       {
@@ -1065,7 +1112,8 @@ public final class ValidateLDIF
   /**
    * @return EntryValidator
    *
-   * Returns the EntryValidator
+   * Returns the EntryValidator.  Once processing has completed, it will
+   * include the counts from the validators used by all of the threads.
    */
   public EntryValidator getEntryValidator()
   {
@@ -24,6 +24,7 @@ package com.unboundid.ldap.sdk.schema;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -93,6 +94,14 @@ import static com.unboundid.util.Validator.*;
  * conform to the syntax for the associated attribute type may only be
  * completely accurate for syntaxes supported by the LDAP SDK.
  * <BR><BR>
+ * To avoid repeating the same schema processing for every entry, the validator
+ * maintains a cache of validation plans for each distinct set of object class
+ * values that it encounters, holding the object class processing results along
+ * with the resolved sets of required and allowed attributes, and a cache of
+ * the resolved attribute type definitions, matching rules, and value
+ * constraints for each attribute that it encounters.  These caches are
+ * discarded whenever the configuration is altered in a way that affects them.
+ * <BR><BR>
  * This class is largely threadsafe, and the {@link EntryValidator#entryIsValid}
  * is designed so that it can be invoked concurrently by multiple threads.
  * Note, however, that it is not recommended that the any of the other methods
@@ -111,6 +120,20 @@ public final class EntryValidator
 
 
 
+  /**
+   * The maximum number of object class validation plans that will be cached.
+   */
+  static final int MAX_CACHED_OBJECT_CLASS_PLANS = 1000;
+
+
+
+  /**
+   * The maximum number of attribute validation plans that will be cached.
+   */
+  static final int MAX_CACHED_ATTRIBUTE_PLANS = 1000;
+
+
+
   // A count of the total number of entries examined.
   private final AtomicLong entriesExamined;
 
@@ -225,6 +248,16 @@ public final class EntryValidator
   // The attribute types for which to ignore syntax violations.
   private Set<AttributeTypeDefinition> ignoreSyntaxViolationTypes;
 
+  // A cache of validation plans for the attributes that have been encountered,
+  // indexed by attribute base name.
+  private transient volatile ConcurrentHashMap<String,AttributePlan>
+       attributePlans;
+
+  // A cache of validation plans for the sets of object class values that have
+  // been encountered.
+  private transient volatile
+       ConcurrentHashMap<List<String>,ObjectClassPlan> objectClassPlans;
+
 
 
   /**
@@ -336,6 +369,7 @@ public final class EntryValidator
                    final boolean checkMissingSuperiorObjectClasses)
   {
     this.checkMissingSuperiorObjectClasses = checkMissingSuperiorObjectClasses;
+    objectClassPlans = null;
   }
 
 
@@ -499,6 +533,7 @@ public final class EntryValidator
                    final boolean checkProhibitedObjectClasses)
   {
     this.checkProhibitedObjectClasses = checkProhibitedObjectClasses;
+    objectClassPlans = null;
   }
 
 
@@ -567,6 +602,7 @@ public final class EntryValidator
                    final boolean checkStructuralObjectClasses)
   {
     this.checkStructuralObjectClasses = checkStructuralObjectClasses;
+    objectClassPlans = null;
   }
 
 
@@ -758,6 +794,7 @@ public final class EntryValidator
                    final boolean checkUndefinedObjectClasses)
   {
     this.checkUndefinedObjectClasses = checkUndefinedObjectClasses;
+    objectClassPlans = null;
   }
 
 
@@ -805,15 +842,116 @@ public final class EntryValidator
       }
     }
 
+    // Get the validation plan for the entry's set of object classes, and
+    // apply the results of the object class validation that it holds.
+    final ObjectClassPlan plan = getObjectClassPlan(entry);
+    plan.objectClassIssues.apply(invalidReasons);
+    entryValid &= plan.objectClassesValid;
+
+    // If we should check for missing required attributes, then do so.
+    if (checkMissingAttributes)
+    {
+      entryValid &= checkForMissingAttributes(entry, rdn, plan.requiredAttrs,
+                                              invalidReasons);
+    }
+
+    // Iterate through all of the attributes in the entry.  Make sure that they
+    // are all defined in the schema, that they are allowed to be present in the
+    // entry, that their values conform to the associated syntax, and that any
+    // single-valued attributes have only one value.
+    for (final Attribute a : entry.getAttributes())
+    {
+      entryValid &= checkAttribute(a, plan.requiredAttrs, plan.optionalAttrs,
+                                   invalidReasons);
+    }
+
+    // If there is a DIT content rule, then check to ensure that all of the
+    // auxiliary object classes are allowed.
+    if (plan.auxiliaryClassIssues != null)
+    {
+      plan.auxiliaryClassIssues.apply(invalidReasons);
+      entryValid &= plan.auxiliaryClassesValid;
+    }
+
+    // Check the entry's RDN to ensure that all attributes are defined in the
+    // schema, allowed to be present, and comply with the name form.
+    if (rdn != null)
+    {
+      entryValid &= checkRDN(rdn, entry, plan, invalidReasons);
+    }
+
+    if (! entryValid)
+    {
+      invalidEntries.incrementAndGet();
+    }
+
+    return entryValid;
+  }
+
+
+
+  /**
+   * Retrieves the validation plan for the set of object class values in the
+   * provided entry, creating it if necessary.
+   *
+   * @param  entry  The entry for which to retrieve the validation plan.
+   *
+   * @return  The validation plan for the set of object class values in the
+   *          provided entry.
+   */
+  private ObjectClassPlan getObjectClassPlan(final Entry entry)
+  {
+    final String[] ocValues = entry.getObjectClassValues();
+    final List<String> key;
+    if (ocValues == null)
+    {
+      key = Collections.emptyList();
+    }
+    else
+    {
+      key = Arrays.asList(ocValues);
+    }
+
+    ConcurrentHashMap<List<String>,ObjectClassPlan> plans = objectClassPlans;
+    if (plans == null)
+    {
+      plans = new ConcurrentHashMap<List<String>,ObjectClassPlan>();
+      objectClassPlans = plans;
+    }
+
+    ObjectClassPlan plan = plans.get(key);
+    if (plan == null)
+    {
+      plan = createObjectClassPlan(key);
+      if (plans.size() >= MAX_CACHED_OBJECT_CLASS_PLANS)
+      {
+        plans.clear();
+      }
+
+      plans.put(key, plan);
+    }
+
+    return plan;
+  }
+
+
+
+  /**
+   * Creates a validation plan for the provided set of object class values.
+   *
+   * @param  ocValues  The object class values for which to create the plan.
+   *
+   * @return  The validation plan that was created.
+   */
+  private ObjectClassPlan createObjectClassPlan(final List<String> ocValues)
+  {
     // Get the object class descriptions for the object classes in the entry.
+    final ValidationIssues objectClassIssues = new ValidationIssues();
     final HashSet<ObjectClassDefinition> ocSet =
          new HashSet<ObjectClassDefinition>();
     final boolean missingOC =
-         (! getObjectClasses(entry, ocSet, invalidReasons));
-    if (missingOC)
-    {
-      entryValid = false;
-    }
+         (! getObjectClasses(ocValues, ocSet, objectClassIssues));
+    boolean objectClassesValid = (! missingOC);
 
     // If the entry was not missing any object classes, then get the structural
     // class for the entry and use it to get the associated DIT content rule and
@@ -824,7 +962,8 @@ public final class EntryValidator
     {
       final AtomicReference<ObjectClassDefinition> ref =
            new AtomicReference<ObjectClassDefinition>(null);
-      entryValid &= getStructuralClass(ocSet, ref, invalidReasons);
+      objectClassesValid &=
+           getStructuralClass(ocSet, ref, objectClassIssues);
       final ObjectClassDefinition structuralClass = ref.get();
       if (structuralClass != null)
       {
@@ -834,56 +973,88 @@ public final class EntryValidator
       }
     }
 
-    // If we should check for missing required attributes, then do so.
-    HashSet<AttributeTypeDefinition> requiredAttrs = null;
-    if (checkMissingAttributes || checkProhibitedAttributes)
-    {
-      requiredAttrs = getRequiredAttributes(ocSet, ditContentRule);
-      if (checkMissingAttributes)
-      {
-        entryValid &= checkForMissingAttributes(entry, rdn, requiredAttrs,
-                                                invalidReasons);
-      }
-    }
-
-    // Iterate through all of the attributes in the entry.  Make sure that they
-    // are all defined in the schema, that they are allowed to be present in the
-    // entry, that their values conform to the associated syntax, and that any
-    // single-valued attributes have only one value.
-    HashSet<AttributeTypeDefinition> optionalAttrs = null;
-    if (checkProhibitedAttributes)
-    {
-      optionalAttrs =
-           getOptionalAttributes(ocSet, ditContentRule, requiredAttrs);
-    }
-    for (final Attribute a : entry.getAttributes())
-    {
-      entryValid &=
-           checkAttribute(a, requiredAttrs, optionalAttrs, invalidReasons);
-    }
+    // Determine the sets of required and optional attributes.
+    final HashSet<AttributeTypeDefinition> requiredAttrs =
+         getRequiredAttributes(ocSet, ditContentRule);
+    final HashSet<AttributeTypeDefinition> optionalAttrs =
+         getOptionalAttributes(ocSet, ditContentRule, requiredAttrs);
 
     // If there is a DIT content rule, then check to ensure that all of the
     // auxiliary object classes are allowed.
+    ValidationIssues auxiliaryClassIssues = null;
+    boolean auxiliaryClassesValid = true;
     if (checkProhibitedObjectClasses && (ditContentRule != null))
     {
-      entryValid &=
-           checkAuxiliaryClasses(ocSet, ditContentRule, invalidReasons);
+      auxiliaryClassIssues = new ValidationIssues();
+      auxiliaryClassesValid =
+           checkAuxiliaryClasses(ocSet, ditContentRule, auxiliaryClassIssues);
     }
 
-    // Check the entry's RDN to ensure that all attributes are defined in the
-    // schema, allowed to be present, and comply with the name form.
-    if (rdn != null)
+    // Determine the sets of attributes required and allowed by the name form.
+    final HashSet<AttributeTypeDefinition> nfReqAttrs =
+         new HashSet<AttributeTypeDefinition>();
+    final HashSet<AttributeTypeDefinition> nfAllowedAttrs =
+         new HashSet<AttributeTypeDefinition>();
+    if (nameForm != null)
     {
-      entryValid &= checkRDN(rdn, entry, requiredAttrs, optionalAttrs, nameForm,
-                             invalidReasons);
+      for (final String s : nameForm.getRequiredAttributes())
+      {
+        final AttributeTypeDefinition d = schema.getAttributeType(s);
+        if (d != null)
+        {
+          nfReqAttrs.add(d);
+        }
+      }
+
+      nfAllowedAttrs.addAll(nfReqAttrs);
+      for (final String s : nameForm.getOptionalAttributes())
+      {
+        final AttributeTypeDefinition d = schema.getAttributeType(s);
+        if (d != null)
+        {
+          nfAllowedAttrs.add(d);
+        }
+      }
     }
 
-    if (! entryValid)
+    return new ObjectClassPlan(objectClassesValid, objectClassIssues,
+         auxiliaryClassesValid, auxiliaryClassIssues, requiredAttrs,
+         optionalAttrs, nameForm, nfReqAttrs, nfAllowedAttrs);
+  }
+
+
+
+  /**
+   * Retrieves the validation plan for the attribute with the provided name,
+   * creating it if necessary.
+   *
+   * @param  baseName  The name of the attribute, without any attribute
+   *                   options.
+   *
+   * @return  The validation plan for the attribute with the provided name.
+   */
+  private AttributePlan getAttributePlan(final String baseName)
+  {
+    ConcurrentHashMap<String,AttributePlan> plans = attributePlans;
+    if (plans == null)
     {
-      invalidEntries.incrementAndGet();
+      plans = new ConcurrentHashMap<String,AttributePlan>();
+      attributePlans = plans;
     }
 
-    return entryValid;
+    AttributePlan plan = plans.get(baseName);
+    if (plan == null)
+    {
+      plan = new AttributePlan(baseName, schema);
+      if (plans.size() >= MAX_CACHED_ATTRIBUTE_PLANS)
+      {
+        plans.clear();
+      }
+
+      plans.put(baseName, plan);
+    }
+
+    return plan;
   }
 
 
@@ -893,35 +1064,30 @@ public final class EntryValidator
    * explicitly included but should be because they were superior to classes
    * that were included.
    *
-   * @param  entry           The entry to examine.
+   * @param  ocValues        The object class values for the entry.
    * @param  ocSet           The set into which the object class definitions
    *                         should be placed.
-   * @param  invalidReasons  A list to which messages may be added which provide
-   *                         information about why the entry is invalid.  It may
-   *                         be {@code null} if this information is not needed.
+   * @param  issues          The issues object used to record any problems
+   *                         with the entry.
    *
    * @return  {@code true} if the entry passed all validation processing
    *          performed by this method, or {@code false} if there were any
    *          failures.
    */
-  private boolean getObjectClasses(final Entry entry,
+  private boolean getObjectClasses(final List<String> ocValues,
                                    final HashSet<ObjectClassDefinition> ocSet,
-                                   final List<String> invalidReasons)
+                                   final ValidationIssues issues)
   {
-    final String[] ocValues = entry.getObjectClassValues();
-    if ((ocValues == null) || (ocValues.length == 0))
+    if (ocValues.isEmpty())
     {
-      noObjectClasses.incrementAndGet();
-      if (invalidReasons != null)
-      {
-        invalidReasons.add(ERR_ENTRY_NO_OCS.get());
-      }
+      issues.increment(noObjectClasses);
+      issues.addReason(ERR_ENTRY_NO_OCS.get());
       return false;
     }
 
     boolean entryValid = true;
-    final HashSet<String> missingOCs = new HashSet<String>(ocValues.length);
-    for (final String ocName : entry.getObjectClassValues())
+    final HashSet<String> missingOCs = new HashSet<String>(ocValues.size());
+    for (final String ocName : ocValues)
     {
       final ObjectClassDefinition d = schema.getObjectClass(ocName);
       if (d == null)
@@ -930,11 +1096,8 @@ public final class EntryValidator
         {
           entryValid = false;
           missingOCs.add(toLowerCase(ocName));
-          updateCount(ocName, undefinedObjectClasses);
-          if (invalidReasons != null)
-          {
-            invalidReasons.add(ERR_ENTRY_UNDEFINED_OC.get(ocName));
-          }
+          issues.updateCount(ocName, undefinedObjectClasses);
+          issues.addReason(ERR_ENTRY_UNDEFINED_OC.get(ocName));
         }
       }
       else
@@ -946,7 +1109,7 @@ public final class EntryValidator
     for (final ObjectClassDefinition d :
          new HashSet<ObjectClassDefinition>(ocSet))
     {
-      entryValid &= addSuperiorClasses(d, ocSet, missingOCs, invalidReasons);
+      entryValid &= addSuperiorClasses(d, ocSet, missingOCs, issues);
     }
 
     return entryValid;
@@ -963,9 +1126,8 @@ public final class EntryValidator
    *                         should be placed.
    * @param  missingOCNames  The names of the object classes we already know are
    *                         missing and therefore shouldn't be flagged again.
-   * @param  invalidReasons  A list to which messages may be added which provide
-   *                         information about why the entry is invalid.  It may
-   *                         be {@code null} if this information is not needed.
+   * @param  issues          The issues object used to record any problems
+   *                         with the entry.
    *
    * @return  {@code true} if the entry passed all validation processing
    *          performed by this method, or {@code false} if there were any
@@ -974,7 +1136,7 @@ public final class EntryValidator
   private boolean addSuperiorClasses(final ObjectClassDefinition d,
                                      final HashSet<ObjectClassDefinition> ocSet,
                                      final HashSet<String> missingOCNames,
-                                     final List<String> invalidReasons)
+                                     final ValidationIssues issues)
   {
     boolean entryValid = true;
 
@@ -990,12 +1152,9 @@ public final class EntryValidator
           if (! missingOCNames.contains(lowerName))
           {
             missingOCNames.add(lowerName);
-            updateCount(ocName, undefinedObjectClasses);
-            if (invalidReasons != null)
-            {
-              invalidReasons.add(ERR_ENTRY_UNDEFINED_SUP_OC.get(
-                   d.getNameOrOID(), ocName));
-            }
+            issues.updateCount(ocName, undefinedObjectClasses);
+            issues.addReason(ERR_ENTRY_UNDEFINED_SUP_OC.get(d.getNameOrOID(),
+                 ocName));
           }
         }
       }
@@ -1007,17 +1166,14 @@ public final class EntryValidator
           if (checkMissingSuperiorObjectClasses)
           {
             entryValid = false;
-            missingSuperiorClasses.incrementAndGet();
-            if (invalidReasons != null)
-            {
-              invalidReasons.add(ERR_ENTRY_MISSING_SUP_OC.get(
-                   supOC.getNameOrOID(), d.getNameOrOID()));
-            }
+            issues.increment(missingSuperiorClasses);
+            issues.addReason(ERR_ENTRY_MISSING_SUP_OC.get(
+                 supOC.getNameOrOID(), d.getNameOrOID()));
           }
         }
 
         entryValid &=
-             addSuperiorClasses(supOC, ocSet, missingOCNames, invalidReasons);
+             addSuperiorClasses(supOC, ocSet, missingOCNames, issues);
       }
     }
 
@@ -1033,17 +1189,15 @@ public final class EntryValidator
    * @param  ocSet            The set of object class definitions for the entry.
    * @param  structuralClass  The reference that will be updated with the
    *                          entry's structural object class.
-   * @param  invalidReasons   A list to which messages may be added which
-   *                          provide provide information about why the entry is
-   *                          invalid.  It may be {@code null} if this
-   *                          information is not needed.
+   * @param  issues           The issues object used to record any problems
+   *                          with the entry.
    *
    * @return  {@code true} if the entry passes all validation checks performed
    *          by this method, or {@code false} if not.
    */
   private boolean getStructuralClass(final HashSet<ObjectClassDefinition> ocSet,
                final AtomicReference<ObjectClassDefinition> structuralClass,
-               final List<String> invalidReasons)
+               final ValidationIssues issues)
   {
     final HashSet<ObjectClassDefinition> ocCopy =
          new HashSet<ObjectClassDefinition>(ocSet);
@@ -1073,12 +1227,9 @@ public final class EntryValidator
         if (checkProhibitedObjectClasses)
         {
           entryValid = false;
-          updateCount(d.getNameOrOID(), prohibitedObjectClasses);
-          if (invalidReasons != null)
-          {
-            invalidReasons.add(ERR_ENTRY_INVALID_ABSTRACT_CLASS.get(
-                 d.getNameOrOID()));
-          }
+          issues.updateCount(d.getNameOrOID(), prohibitedObjectClasses);
+          issues.addReason(ERR_ENTRY_INVALID_ABSTRACT_CLASS.get(
+               d.getNameOrOID()));
         }
         iterator.remove();
       }
@@ -1090,11 +1241,8 @@ public final class EntryValidator
         if (checkStructuralObjectClasses)
         {
           entryValid = false;
-          noStructuralClass.incrementAndGet();
-          if (invalidReasons != null)
-          {
-            invalidReasons.add(ERR_ENTRY_NO_STRUCTURAL_CLASS.get());
-          }
+          issues.increment(noStructuralClass);
+          issues.addReason(ERR_ENTRY_NO_STRUCTURAL_CLASS.get());
         }
         break;
 
@@ -1106,22 +1254,19 @@ public final class EntryValidator
         if (checkStructuralObjectClasses)
         {
           entryValid = false;
-          multipleStructuralClasses.incrementAndGet();
-          if (invalidReasons != null)
+          issues.increment(multipleStructuralClasses);
+
+          final StringBuilder ocList = new StringBuilder();
+          iterator = ocCopy.iterator();
+          while (iterator.hasNext())
           {
-            final StringBuilder ocList = new StringBuilder();
-            iterator = ocCopy.iterator();
-            while (iterator.hasNext())
+            ocList.append(iterator.next().getNameOrOID());
+            if (iterator.hasNext())
             {
-              ocList.append(iterator.next().getNameOrOID());
-              if (iterator.hasNext())
-              {
-                ocList.append(", ");
-              }
+              ocList.append(", ");
             }
-            invalidReasons.add(
-                 ERR_ENTRY_MULTIPLE_STRUCTURAL_CLASSES.get(ocList));
           }
+          issues.addReason(ERR_ENTRY_MULTIPLE_STRUCTURAL_CLASSES.get(ocList));
         }
         break;
     }
@@ -1308,8 +1453,8 @@ public final class EntryValidator
   {
     boolean entryValid = true;
 
-    final AttributeTypeDefinition d =
-         schema.getAttributeType(attr.getBaseName());
+    final AttributePlan plan = getAttributePlan(attr.getBaseName());
+    final AttributeTypeDefinition d = plan.attributeType;
     if (d == null)
     {
       if (checkUndefinedAttributes)
@@ -1355,9 +1500,7 @@ public final class EntryValidator
     {
       if (! ignoreSyntaxViolationTypes.contains(d))
       {
-        final MatchingRule r =
-             MatchingRule.selectEqualityMatchingRule(d.getNameOrOID(), schema);
-        final Map<String, String[]> extensions = d.getExtensions();
+        final MatchingRule r = plan.matchingRule;
         for (final ASN1OctetString v : rawValues)
         {
           try
@@ -1379,15 +1522,14 @@ public final class EntryValidator
 
           // If the attribute type definition includes an X-ALLOWED-VALUE
           // extension, then make sure the value is in that set.
-          final String[] allowedValues = extensions.get("X-ALLOWED-VALUE");
-          if (allowedValues != null)
+          if (plan.allowedValues != null)
           {
             boolean isAllowed = false;
-            for (final String allowedValue : allowedValues)
+            for (final ASN1OctetString allowedValue : plan.allowedValues)
             {
               try
               {
-                if (r.valuesMatch(v, new ASN1OctetString(allowedValue)))
+                if (r.valuesMatch(v, allowedValue))
                 {
                   isAllowed = true;
                   break;
@@ -1414,24 +1556,15 @@ public final class EntryValidator
 
           // If the attribute type definition includes an X-VALUE-REGEX
           // extension, then make sure the value matches one of those regexes.
-          final String[] valueRegexes = extensions.get("X-VALUE-REGEX");
-          if (valueRegexes != null)
+          if (plan.valuePatterns != null)
           {
             boolean matchesRegex = false;
-            for (final String regex : valueRegexes)
+            for (final Pattern pattern : plan.valuePatterns)
             {
-              try
-              {
-                final Pattern pattern = Pattern.compile(regex);
-                if (pattern.matcher(v.stringValue()).matches())
-                {
-                  matchesRegex = true;
-                  break;
-                }
-              }
-              catch (final Exception e)
+              if (pattern.matcher(v.stringValue()).matches())
               {
-                debugException(e);
+                matchesRegex = true;
+                break;
               }
             }
 
@@ -1451,22 +1584,9 @@ public final class EntryValidator
 
           // If the attribute type definition includes an X-MIN-VALUE-LENGTH
           // extension, then make sure the value is long enough.
-          final String[] minValueLengths = extensions.get("X-MIN-VALUE-LENGTH");
-          if (minValueLengths != null)
+          if (plan.minValueLength != null)
           {
-            int minLength = 0;
-            for (final String s : minValueLengths)
-            {
-              try
-              {
-                minLength = Math.max(minLength, Integer.parseInt(s));
-              }
-              catch (final Exception e)
-              {
-                debugException(e);
-              }
-            }
-
+            final int minLength = plan.minValueLength;
             if (v.stringValue().length() < minLength)
             {
               entryValid = false;
@@ -1483,22 +1603,9 @@ public final class EntryValidator
 
           // If the attribute type definition includes an X-MAX-VALUE-LENGTH
           // extension, then make sure the value is short enough.
-          final String[] maxValueLengths = extensions.get("X-MAX-VALUE-LENGTH");
-          if (maxValueLengths != null)
+          if (plan.maxValueLength != null)
           {
-            int maxLength = Integer.MAX_VALUE;
-            for (final String s : maxValueLengths)
-            {
-              try
-              {
-                maxLength = Math.min(maxLength, Integer.parseInt(s));
-              }
-              catch (final Exception e)
-              {
-                debugException(e);
-              }
-            }
-
+            final int maxLength = plan.maxValueLength;
             if (v.stringValue().length() > maxLength)
             {
               entryValid = false;
@@ -1515,27 +1622,12 @@ public final class EntryValidator
 
           // If the attribute type definition includes an X-MIN-INT-VALUE
           // extension, then make sure the value is large enough.
-          final String[] minIntValues = extensions.get("X-MIN-INT-VALUE");
-          if (minIntValues != null)
+          if (plan.minIntValue != null)
           {
             try
             {
               final long longValue = Long.parseLong(v.stringValue());
-
-              long minAllowedValue = 0L;
-              for (final String s : minIntValues)
-              {
-                try
-                {
-                  minAllowedValue =
-                       Math.max(minAllowedValue, Long.parseLong(s));
-                }
-                catch (final Exception e)
-                {
-                  debugException(e);
-                }
-              }
-
+              final long minAllowedValue = plan.minIntValue;
               if (longValue < minAllowedValue)
               {
                 entryValid = false;
@@ -1563,27 +1655,12 @@ public final class EntryValidator
 
           // If the attribute type definition includes an X-MAX-INT-VALUE
           // extension, then make sure the value is large enough.
-          final String[] maxIntValues = extensions.get("X-MAX-INT-VALUE");
-          if (maxIntValues != null)
+          if (plan.maxIntValue != null)
           {
             try
             {
               final long longValue = Long.parseLong(v.stringValue());
-
-              long maxAllowedValue = Long.MAX_VALUE;
-              for (final String s : maxIntValues)
-              {
-                try
-                {
-                  maxAllowedValue =
-                       Math.min(maxAllowedValue, Long.parseLong(s));
-                }
-                catch (final Exception e)
-                {
-                  debugException(e);
-                }
-              }
-
+              final long maxAllowedValue = plan.maxIntValue;
               if (longValue > maxAllowedValue)
               {
                 entryValid = false;
@@ -1612,22 +1689,9 @@ public final class EntryValidator
 
         // If the attribute type definition includes an X-MIN-VALUE-COUNT
         // extension, then make sure the value has enough values.
-        final String[] minValueCounts = extensions.get("X-MIN-VALUE-COUNT");
-        if (minValueCounts != null)
+        if (plan.minValueCount != null)
         {
-          int minValueCount = 0;
-          for (final String s : minValueCounts)
-          {
-            try
-            {
-              minValueCount = Math.max(minValueCount, Integer.parseInt(s));
-            }
-            catch (final Exception e)
-            {
-              debugException(e);
-            }
-          }
-
+          final int minValueCount = plan.minValueCount;
           if (rawValues.length < minValueCount)
           {
             entryValid = false;
@@ -1643,22 +1707,9 @@ public final class EntryValidator
 
         // If the attribute type definition includes an X-MAX-VALUE-COUNT
         // extension, then make sure the value has enough values.
-        final String[] maxValueCounts = extensions.get("X-MAX-VALUE-COUNT");
-        if (maxValueCounts != null)
+        if (plan.maxValueCount != null)
         {
-          int maxValueCount = Integer.MAX_VALUE;
-          for (final String s : maxValueCounts)
-          {
-            try
-            {
-              maxValueCount = Math.min(maxValueCount, Integer.parseInt(s));
-            }
-            catch (final Exception e)
-            {
-              debugException(e);
-            }
-          }
-
+          final int maxValueCount = plan.maxValueCount;
           if (rawValues.length > maxValueCount)
           {
             entryValid = false;
@@ -1685,9 +1736,8 @@ public final class EntryValidator
    * @param  ocSet           The set of object classes contained in the entry.
    * @param  ditContentRule  The DIT content rule to use to make the
    *                         determination.
-   * @param  invalidReasons  A list to which messages may be added which provide
-   *                         information about why the entry is invalid.  It may
-   *                         be {@code null} if this information is not needed.
+   * @param  issues          The issues object used to record any problems
+   *                         with the entry.
    *
    * @return  {@code true} if the entry passes all checks performed by this
    *          method, or {@code false} if not.
@@ -1695,7 +1745,7 @@ public final class EntryValidator
   private boolean checkAuxiliaryClasses(
                        final HashSet<ObjectClassDefinition> ocSet,
                        final DITContentRuleDefinition ditContentRule,
-                       final List<String> invalidReasons)
+                       final ValidationIssues issues)
   {
     final HashSet<ObjectClassDefinition> auxSet =
          new HashSet<ObjectClassDefinition>();
@@ -1715,12 +1765,8 @@ public final class EntryValidator
       if ((t == ObjectClassType.AUXILIARY) && (! auxSet.contains(d)))
       {
         entryValid = false;
-        updateCount(d.getNameOrOID(), prohibitedObjectClasses);
-        if (invalidReasons != null)
-        {
-          invalidReasons.add(
-               ERR_ENTRY_AUX_CLASS_NOT_ALLOWED.get(d.getNameOrOID()));
-        }
+        issues.updateCount(d.getNameOrOID(), prohibitedObjectClasses);
+        issues.addReason(ERR_ENTRY_AUX_CLASS_NOT_ALLOWED.get(d.getNameOrOID()));
       }
     }
 
@@ -1736,12 +1782,10 @@ public final class EntryValidator
    *
    * @param  rdn             The RDN to examine.
    * @param  entry           The entry to examine.
-   * @param  requiredAttrs   The set of attribute types which are required to be
-   *                         included in the entry.
-   * @param  optionalAttrs   The set of attribute types which may optionally be
-   *                         included in the entry.
-   * @param  nameForm        The name for to use to make the determination, if
-   *                         defined.
+   * @param  plan            The validation plan for the entry's object
+   *                         classes, which provides the sets of required and
+   *                         optional attributes and the name form to use to
+   *                         make the determination.
    * @param  invalidReasons  A list to which messages may be added which provide
    *                         information about why the entry is invalid.  It may
    *                         be {@code null} if this information is not needed.
@@ -1750,36 +1794,16 @@ public final class EntryValidator
    *          method, or {@code false} if not.
    */
   private boolean checkRDN(final RDN rdn, final Entry entry,
-                           final HashSet<AttributeTypeDefinition> requiredAttrs,
-                           final HashSet<AttributeTypeDefinition> optionalAttrs,
-                           final NameFormDefinition nameForm,
+                           final ObjectClassPlan plan,
                            final List<String> invalidReasons)
   {
+    final HashSet<AttributeTypeDefinition> requiredAttrs = plan.requiredAttrs;
+    final HashSet<AttributeTypeDefinition> optionalAttrs = plan.optionalAttrs;
+    final NameFormDefinition nameForm = plan.nameForm;
     final HashSet<AttributeTypeDefinition> nfReqAttrs =
-         new HashSet<AttributeTypeDefinition>();
+         new HashSet<AttributeTypeDefinition>(plan.nameFormRequiredAttrs);
     final HashSet<AttributeTypeDefinition> nfAllowedAttrs =
-         new HashSet<AttributeTypeDefinition>();
-    if (nameForm != null)
-    {
-      for (final String s : nameForm.getRequiredAttributes())
-      {
-        final AttributeTypeDefinition d = schema.getAttributeType(s);
-        if (d != null)
-        {
-          nfReqAttrs.add(d);
-        }
-      }
-
-      nfAllowedAttrs.addAll(nfReqAttrs);
-      for (final String s : nameForm.getOptionalAttributes())
-      {
-        final AttributeTypeDefinition d = schema.getAttributeType(s);
-        if (d != null)
-        {
-          nfAllowedAttrs.add(d);
-        }
-      }
-    }
+         plan.nameFormAllowedAttrs;
 
     boolean entryValid = true;
     final String[] attributeNames = rdn.getAttributeNames();
@@ -1787,12 +1811,11 @@ public final class EntryValidator
     for (int i=0; i < attributeNames.length; i++)
     {
       final String name = attributeNames[i];
+      final AttributePlan attributePlan = getAttributePlan(name);
       if (checkEntryMissingRDNValues)
       {
         final byte[] value = attributeValues[i];
-        final MatchingRule matchingRule =
-             MatchingRule.selectEqualityMatchingRule(name, schema);
-        if (! entry.hasAttributeValue(name, value, matchingRule))
+        if (! entry.hasAttributeValue(name, value, attributePlan.matchingRule))
         {
           entryValid = false;
           entriesMissingRDNValues.incrementAndGet();
@@ -1804,7 +1827,7 @@ public final class EntryValidator
         }
       }
 
-      final AttributeTypeDefinition d = schema.getAttributeType(name);
+      final AttributeTypeDefinition d = attributePlan.attributeType;
       if (d == null)
       {
         if (checkUndefinedAttributes)
@@ -1902,6 +1925,103 @@ public final class EntryValidator
 
 
 
+  /**
+   * Creates a new entry validator with the same schema and configuration as
+   * this validator, but with all counts set to zero.  This may be used to
+   * obtain a separate validator for each of a set of threads, so that they do
+   * not contend with each other when updating counts.  The counts from those
+   * validators may then be combined using the {@link #mergeCounts} method.
+   *
+   * @return  The new entry validator that was created.
+   */
+  public EntryValidator duplicate()
+  {
+    final EntryValidator v = new EntryValidator(schema);
+
+    v.checkAttributeSyntax              = checkAttributeSyntax;
+    v.checkEntryMissingRDNValues        = checkEntryMissingRDNValues;
+    v.checkMalformedDNs                 = checkMalformedDNs;
+    v.checkMissingAttributes            = checkMissingAttributes;
+    v.checkMissingSuperiorObjectClasses = checkMissingSuperiorObjectClasses;
+    v.checkNameForms                    = checkNameForms;
+    v.checkProhibitedAttributes         = checkProhibitedAttributes;
+    v.checkProhibitedObjectClasses      = checkProhibitedObjectClasses;
+    v.checkSingleValuedAttributes       = checkSingleValuedAttributes;
+    v.checkStructuralObjectClasses      = checkStructuralObjectClasses;
+    v.checkUndefinedAttributes          = checkUndefinedAttributes;
+    v.checkUndefinedObjectClasses       = checkUndefinedObjectClasses;
+    v.ignoreSyntaxViolationTypes        = ignoreSyntaxViolationTypes;
+
+    return v;
+  }
+
+
+
+  /**
+   * Adds all of the counts maintained by the provided entry validator to the
+   * counts maintained by this validator.  The provided validator will not be
+   * altered.
+   *
+   * @param  validator  The entry validator whose counts should be added to the
+   *                    counts for this validator.  It must not be
+   *                    {@code null}.
+   */
+  public void mergeCounts(final EntryValidator validator)
+  {
+    ensureNotNull(validator);
+
+    entriesExamined.addAndGet(validator.entriesExamined.get());
+    entriesMissingRDNValues.addAndGet(validator.entriesMissingRDNValues.get());
+    invalidEntries.addAndGet(validator.invalidEntries.get());
+    malformedDNs.addAndGet(validator.malformedDNs.get());
+    missingSuperiorClasses.addAndGet(validator.missingSuperiorClasses.get());
+    multipleStructuralClasses.addAndGet(
+         validator.multipleStructuralClasses.get());
+    nameFormViolations.addAndGet(validator.nameFormViolations.get());
+    noObjectClasses.addAndGet(validator.noObjectClasses.get());
+    noStructuralClass.addAndGet(validator.noStructuralClass.get());
+
+    mergeCounts(validator.attributesViolatingSyntax, attributesViolatingSyntax);
+    mergeCounts(validator.missingAttributes, missingAttributes);
+    mergeCounts(validator.prohibitedAttributes, prohibitedAttributes);
+    mergeCounts(validator.prohibitedObjectClasses, prohibitedObjectClasses);
+    mergeCounts(validator.singleValueViolations, singleValueViolations);
+    mergeCounts(validator.undefinedAttributes, undefinedAttributes);
+    mergeCounts(validator.undefinedObjectClasses, undefinedObjectClasses);
+  }
+
+
+
+  /**
+   * Adds all of the counts in the source map to the counts in the target map,
+   * adding new keys to the target map as necessary.
+   *
+   * @param  source  The map containing the counts to be added.
+   * @param  target  The map to which the counts should be added.
+   */
+  private static void mergeCounts(
+                           final ConcurrentHashMap<String,AtomicLong> source,
+                           final ConcurrentHashMap<String,AtomicLong> target)
+  {
+    for (final Map.Entry<String,AtomicLong> e : source.entrySet())
+    {
+      final long count = e.getValue().get();
+      AtomicLong l = target.get(e.getKey());
+      if (l == null)
+      {
+        l = target.putIfAbsent(e.getKey(), new AtomicLong(count));
+        if (l == null)
+        {
+          continue;
+        }
+      }
+
+      l.addAndGet(count);
+    }
+  }
+
+
+
   /**
    * Resets all counts maintained by this entry validator.
    */
@@ -2497,4 +2617,387 @@ public final class EntryValidator
 
     return Collections.unmodifiableList(messages);
   }
+
+
+
+  /**
+   * This class records the problems identified while creating a validation
+   * plan so that they can be applied to each entry that uses the plan.
+   */
+  private static final class ValidationIssues
+  {
+    // The counters to be incremented for each entry.
+    private final List<AtomicLong> counters;
+
+    // The maps in which counts should be updated for each entry.
+    private final List<ConcurrentHashMap<String,AtomicLong>> countMaps;
+
+    // The keys for which counts should be updated for each entry.
+    private final List<String> countKeys;
+
+    // The messages that explain why the entry is invalid.
+    private final List<String> reasons;
+
+
+
+    /**
+     * Creates a new, empty set of validation issues.
+     */
+    private ValidationIssues()
+    {
+      counters  = new ArrayList<AtomicLong>(1);
+      countMaps = new ArrayList<ConcurrentHashMap<String,AtomicLong>>(1);
+      countKeys = new ArrayList<String>(1);
+      reasons   = new ArrayList<String>(1);
+    }
+
+
+
+    /**
+     * Records that the provided counter should be incremented.
+     *
+     * @param  counter  The counter to be incremented.
+     */
+    private void increment(final AtomicLong counter)
+    {
+      counters.add(counter);
+    }
+
+
+
+    /**
+     * Records that the count for the given key in the provided map should be
+     * updated.
+     *
+     * @param  key  The key for which the count is to be updated.
+     * @param  map  The map in which the update is to be made.
+     */
+    private void updateCount(final String key,
+                             final ConcurrentHashMap<String,AtomicLong> map)
+    {
+      countKeys.add(key);
+      countMaps.add(map);
+    }
+
+
+
+    /**
+     * Records a message that explains why the entry is invalid.
+     *
+     * @param  reason  The message that explains why the entry is invalid.
+     */
+    private void addReason(final String reason)
+    {
+      reasons.add(reason);
+    }
+
+
+
+    /**
+     * Applies the recorded issues for an entry, updating all appropriate
+     * counts and adding all of the recorded messages to the provided list.
+     *
+     * @param  invalidReasons  A list to which messages may be added which
+     *                         provide information about why the entry is
+     *                         invalid.  It may be {@code null} if this
+     *                         information is not needed.
+     */
+    private void apply(final List<String> invalidReasons)
+    {
+      for (final AtomicLong counter : counters)
+      {
+        counter.incrementAndGet();
+      }
+
+      for (int i=0; i < countKeys.size(); i++)
+      {
+        EntryValidator.updateCount(countKeys.get(i), countMaps.get(i));
+      }
+
+      if (invalidReasons != null)
+      {
+        invalidReasons.addAll(reasons);
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides a validation plan for entries with a given set of
+   * object class values.  It holds the results of all of the processing that
+   * depends only on the object classes, so that it only needs to be performed
+   * once for all entries with the same set of object classes.
+   */
+  private static final class ObjectClassPlan
+  {
+    // Indicates whether entries pass the auxiliary class validation.
+    private final boolean auxiliaryClassesValid;
+
+    // Indicates whether entries pass the object class validation.
+    private final boolean objectClassesValid;
+
+    // The attribute types that must be present in the entry.
+    private final HashSet<AttributeTypeDefinition> requiredAttrs;
+
+    // The attribute types that are allowed by the name form.
+    private final HashSet<AttributeTypeDefinition> nameFormAllowedAttrs;
+
+    // The attribute types that are required by the name form.
+    private final HashSet<AttributeTypeDefinition> nameFormRequiredAttrs;
+
+    // The attribute types that may optionally be present in the entry.
+    private final HashSet<AttributeTypeDefinition> optionalAttrs;
+
+    // The name form for the entry's structural class, if any.
+    private final NameFormDefinition nameForm;
+
+    // The issues identified in the auxiliary class validation, if it is to be
+    // performed.
+    private final ValidationIssues auxiliaryClassIssues;
+
+    // The issues identified in the object class validation.
+    private final ValidationIssues objectClassIssues;
+
+
+
+    /**
+     * Creates a new object class plan with the provided information.
+     *
+     * @param  objectClassesValid     Indicates whether entries pass the object
+     *                                class validation.
+     * @param  objectClassIssues      The issues identified in the object class
+     *                                validation.
+     * @param  auxiliaryClassesValid  Indicates whether entries pass the
+     *                                auxiliary class validation.
+     * @param  auxiliaryClassIssues   The issues identified in the auxiliary
+     *                                class validation, or {@code null} if it
+     *                                should not be performed.
+     * @param  requiredAttrs          The attribute types that must be present
+     *                                in the entry.
+     * @param  optionalAttrs          The attribute types that may optionally
+     *                                be present in the entry.
+     * @param  nameForm               The name form for the entry's structural
+     *                                class, if any.
+     * @param  nameFormRequiredAttrs  The attribute types that are required by
+     *                                the name form.
+     * @param  nameFormAllowedAttrs   The attribute types that are allowed by
+     *                                the name form.
+     */
+    private ObjectClassPlan(final boolean objectClassesValid,
+                 final ValidationIssues objectClassIssues,
+                 final boolean auxiliaryClassesValid,
+                 final ValidationIssues auxiliaryClassIssues,
+                 final HashSet<AttributeTypeDefinition> requiredAttrs,
+                 final HashSet<AttributeTypeDefinition> optionalAttrs,
+                 final NameFormDefinition nameForm,
+                 final HashSet<AttributeTypeDefinition> nameFormRequiredAttrs,
+                 final HashSet<AttributeTypeDefinition> nameFormAllowedAttrs)
+    {
+      this.objectClassesValid    = objectClassesValid;
+      this.objectClassIssues     = objectClassIssues;
+      this.auxiliaryClassesValid = auxiliaryClassesValid;
+      this.auxiliaryClassIssues  = auxiliaryClassIssues;
+      this.requiredAttrs         = requiredAttrs;
+      this.optionalAttrs         = optionalAttrs;
+      this.nameForm              = nameForm;
+      this.nameFormRequiredAttrs = nameFormRequiredAttrs;
+      this.nameFormAllowedAttrs  = nameFormAllowedAttrs;
+    }
+  }
+
+
+
+  /**
+   * This class provides a validation plan for an attribute.  It holds the
+   * attribute type definition and equality matching rule for the attribute,
+   * along with any constraints on its values that have been parsed from the
+   * extensions in the attribute type definition.
+   */
+  private static final class AttributePlan
+  {
+    // The attribute type definition, or null if the attribute is not defined.
+    private final AttributeTypeDefinition attributeType;
+
+    // The set of values allowed by the X-ALLOWED-VALUE extension, if any.
+    private final ASN1OctetString[] allowedValues;
+
+    // The maximum value length allowed by the X-MAX-VALUE-LENGTH extension, if
+    // any.
+    private final Integer maxValueLength;
+
+    // The maximum number of values allowed by the X-MAX-VALUE-COUNT extension,
+    // if any.
+    private final Integer maxValueCount;
+
+    // The minimum value length allowed by the X-MIN-VALUE-LENGTH extension, if
+    // any.
+    private final Integer minValueLength;
+
+    // The minimum number of values allowed by the X-MIN-VALUE-COUNT extension,
+    // if any.
+    private final Integer minValueCount;
+
+    // The maximum integer value allowed by the X-MAX-INT-VALUE extension, if
+    // any.
+    private final Long maxIntValue;
+
+    // The minimum integer value allowed by the X-MIN-INT-VALUE extension, if
+    // any.
+    private final Long minIntValue;
+
+    // The equality matching rule for the attribute.
+    private final MatchingRule matchingRule;
+
+    // The compiled patterns from the X-VALUE-REGEX extension, if any.
+    private final Pattern[] valuePatterns;
+
+
+
+    /**
+     * Creates a new attribute plan for the attribute with the provided name.
+     *
+     * @param  baseName  The name of the attribute, without any attribute
+     *                   options.
+     * @param  schema    The schema to use to resolve the attribute.
+     */
+    private AttributePlan(final String baseName, final Schema schema)
+    {
+      attributeType = schema.getAttributeType(baseName);
+      matchingRule = MatchingRule.selectEqualityMatchingRule(baseName, schema);
+
+      final Map<String,String[]> extensions;
+      if (attributeType == null)
+      {
+        extensions = Collections.emptyMap();
+      }
+      else
+      {
+        extensions = attributeType.getExtensions();
+      }
+
+      final String[] allowedValueStrings = extensions.get("X-ALLOWED-VALUE");
+      if (allowedValueStrings == null)
+      {
+        allowedValues = null;
+      }
+      else
+      {
+        allowedValues = new ASN1OctetString[allowedValueStrings.length];
+        for (int i=0; i < allowedValues.length; i++)
+        {
+          allowedValues[i] = new ASN1OctetString(allowedValueStrings[i]);
+        }
+      }
+
+      final String[] valueRegexes = extensions.get("X-VALUE-REGEX");
+      if (valueRegexes == null)
+      {
+        valuePatterns = null;
+      }
+      else
+      {
+        final ArrayList<Pattern> patterns =
+             new ArrayList<Pattern>(valueRegexes.length);
+        for (final String regex : valueRegexes)
+        {
+          try
+          {
+            patterns.add(Pattern.compile(regex));
+          }
+          catch (final Exception e)
+          {
+            debugException(e);
+          }
+        }
+        valuePatterns = patterns.toArray(new Pattern[patterns.size()]);
+      }
+
+      final Long minLength = getLongExtension(extensions, "X-MIN-VALUE-LENGTH",
+           0L, true, true);
+      minValueLength = ((minLength == null) ? null : minLength.intValue());
+
+      final Long maxLength = getLongExtension(extensions, "X-MAX-VALUE-LENGTH",
+           Integer.MAX_VALUE, false, true);
+      maxValueLength = ((maxLength == null) ? null : maxLength.intValue());
+
+      final Long minCount = getLongExtension(extensions, "X-MIN-VALUE-COUNT",
+           0L, true, true);
+      minValueCount = ((minCount == null) ? null : minCount.intValue());
+
+      final Long maxCount = getLongExtension(extensions, "X-MAX-VALUE-COUNT",
+           Integer.MAX_VALUE, false, true);
+      maxValueCount = ((maxCount == null) ? null : maxCount.intValue());
+
+      minIntValue = getLongExtension(extensions, "X-MIN-INT-VALUE", 0L, true,
+           false);
+      maxIntValue = getLongExtension(extensions, "X-MAX-INT-VALUE",
+           Long.MAX_VALUE, false, false);
+    }
+
+
+
+    /**
+     * Retrieves the most restrictive numeric value from the specified
+     * extension.  Any values that cannot be parsed will be ignored.
+     *
+     * @param  extensions    The set of extensions to examine.
+     * @param  name          The name of the extension to retrieve.
+     * @param  initialValue  The value to use if none of the values of the
+     *                       extension are more restrictive.
+     * @param  isMinimum     Indicates whether the extension specifies a minimum
+     *                       value (in which case the largest value will be
+     *                       used) rather than a maximum value (in which case
+     *                       the smallest value will be used).
+     * @param  isInt         Indicates whether the values must be parsed as
+     *                       integers rather than longs.
+     *
+     * @return  The most restrictive numeric value from the specified extension,
+     *          or {@code null} if the extension is not present.
+     */
+    private static Long getLongExtension(final Map<String,String[]> extensions,
+                                         final String name,
+                                         final long initialValue,
+                                         final boolean isMinimum,
+                                         final boolean isInt)
+    {
+      final String[] values = extensions.get(name);
+      if (values == null)
+      {
+        return null;
+      }
+
+      long value = initialValue;
+      for (final String s : values)
+      {
+        try
+        {
+          final long parsedValue;
+          if (isInt)
+          {
+            parsedValue = Integer.parseInt(s);
+          }
+          else
+          {
+            parsedValue = Long.parseLong(s);
+          }
+
+          if (isMinimum)
+          {
+            value = Math.max(value, parsedValue);
+          }
+          else
+          {
+            value = Math.min(value, parsedValue);
+          }
+        }
+        catch (final Exception e)
+        {
+          debugException(e);
+        }
+      }
+
+      return value;
+    }
+  }
 }
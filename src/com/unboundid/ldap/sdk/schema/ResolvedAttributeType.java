@@ -0,0 +1,234 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.schema;
+
+
+
+import java.io.Serializable;
+
+import com.unboundid.ldap.matchingrules.MatchingRule;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a data structure that holds an attribute type definition
+ * along with the matching rule implementations that should be used for that
+ * attribute type, as resolved against the schema in which it is defined.  The
+ * matching rules are determined once when the schema is created (taking into
+ * account any matching rules inherited from superior types and the attribute
+ * syntax), so that they can be obtained without any further processing each
+ * time values of that type need to be compared.
+ * <BR><BR>
+ * Instances of this class may be obtained from the
+ * {@link Schema#getResolvedAttributeType(String)} method.
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class ResolvedAttributeType
+       implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 7154916392364106185L;
+
+
+
+  // The attribute type definition.
+  private final AttributeTypeDefinition attributeType;
+
+  // The equality matching rule for the attribute type.
+  private final MatchingRule equalityMatchingRule;
+
+  // The ordering matching rule for the attribute type.
+  private final MatchingRule orderingMatchingRule;
+
+  // The substring matching rule for the attribute type.
+  private final MatchingRule substringMatchingRule;
+
+
+
+  /**
+   * Creates a new resolved attribute type for the provided attribute type
+   * definition.
+   *
+   * @param  attributeType  The attribute type definition to resolve.
+   * @param  schema         The schema in which the attribute type is defined.
+   */
+  ResolvedAttributeType(final AttributeTypeDefinition attributeType,
+                        final Schema schema)
+  {
+    this.attributeType = attributeType;
+
+    final String syntaxOID = attributeType.getBaseSyntaxOID(schema);
+
+    final String eqName = attributeType.getEqualityMatchingRule(schema);
+    if (eqName != null)
+    {
+      equalityMatchingRule = MatchingRule.selectEqualityMatchingRule(eqName);
+    }
+    else if (syntaxOID != null)
+    {
+      equalityMatchingRule = MatchingRule.selectMatchingRuleForSyntax(
+           syntaxOID);
+    }
+    else
+    {
+      equalityMatchingRule = MatchingRule.getDefaultEqualityMatchingRule();
+    }
+
+    final String ordName = attributeType.getOrderingMatchingRule(schema);
+    if (ordName != null)
+    {
+      orderingMatchingRule = MatchingRule.selectOrderingMatchingRule(ordName);
+    }
+    else if (syntaxOID != null)
+    {
+      orderingMatchingRule = MatchingRule.selectMatchingRuleForSyntax(
+           syntaxOID);
+    }
+    else
+    {
+      orderingMatchingRule = MatchingRule.getDefaultOrderingMatchingRule();
+    }
+
+    final String subName = attributeType.getSubstringMatchingRule(schema);
+    if (subName != null)
+    {
+      substringMatchingRule =
+           MatchingRule.selectSubstringMatchingRule(subName);
+    }
+    else if (syntaxOID != null)
+    {
+      substringMatchingRule = MatchingRule.selectMatchingRuleForSyntax(
+           syntaxOID);
+    }
+    else
+    {
+      substringMatchingRule = MatchingRule.getDefaultSubstringMatchingRule();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the attribute type definition.
+   *
+   * @return  The attribute type definition.
+   */
+  public AttributeTypeDefinition getAttributeType()
+  {
+    return attributeType;
+  }
+
+
+
+  /**
+   * Retrieves the OID for the attribute type.
+   *
+   * @return  The OID for the attribute type.
+   */
+  public String getOID()
+  {
+    return attributeType.getOID();
+  }
+
+
+
+  /**
+   * Retrieves the primary name for the attribute type, or the OID if it does
+   * not have any names.
+   *
+   * @return  The primary name or the OID for the attribute type.
+   */
+  public String getNameOrOID()
+  {
+    return attributeType.getNameOrOID();
+  }
+
+
+
+  /**
+   * Retrieves the set of names for the attribute type.
+   *
+   * @return  The set of names for the attribute type, or an empty array if it
+   *          does not have any names.
+   */
+  public String[] getNames()
+  {
+    return attributeType.getNames();
+  }
+
+
+
+  /**
+   * Retrieves the matching rule that should be used for equality matching
+   * against values of the attribute type.
+   *
+   * @return  The matching rule that should be used for equality matching.
+   */
+  public MatchingRule getEqualityMatchingRule()
+  {
+    return equalityMatchingRule;
+  }
+
+
+
+  /**
+   * Retrieves the matching rule that should be used for ordering matching
+   * against values of the attribute type.
+   *
+   * @return  The matching rule that should be used for ordering matching.
+   */
+  public MatchingRule getOrderingMatchingRule()
+  {
+    return orderingMatchingRule;
+  }
+
+
+
+  /**
+   * Retrieves the matching rule that should be used for substring matching
+   * against values of the attribute type.
+   *
+   * @return  The matching rule that should be used for substring matching.
+   */
+  public MatchingRule getSubstringMatchingRule()
+  {
+    return substringMatchingRule;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this resolved attribute type.
+   *
+   * @return  A string representation of this resolved attribute type.
+   */
+  @Override()
+  public String toString()
+  {
+    return attributeType.toString();
+  }
+}
@@ -34,6 +34,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.unboundid.ldap.sdk.Attribute;
@@ -199,6 +200,15 @@ public final class Schema
   // The set of attribute types mapped from lowercase name/OID to type.
   private final Map<String,AttributeTypeDefinition> atMap;
 
+  // The set of resolved attribute types, indexed by lowercase name and OID.
+  private final Map<String,ResolvedAttributeType> resolvedATMap;
+
+  // A cache of resolved attribute types indexed by the name exactly as it was
+  // provided to the getResolvedAttributeType method, which makes it possible to
+  // look them up without converting the name to lowercase.
+  private transient volatile ConcurrentHashMap<String,ResolvedAttributeType>
+       resolvedATCache;
+
   // The set of DIT content rules mapped from lowercase name/OID to rule.
   private final Map<String,DITContentRuleDefinition> dcrMap;
 
@@ -653,6 +663,53 @@ public final class Schema
       }
     }
     subordinateAttributeTypes = Collections.unmodifiableMap(subAttrTypes);
+
+
+    // Resolve the matching rules for all of the attribute types.  Every name
+    // and the OID for a given type will map to the same resolved type.
+    if (atSet.isEmpty())
+    {
+      resolvedATMap = Collections.emptyMap();
+    }
+    else
+    {
+      final LinkedHashMap<AttributeTypeDefinition,ResolvedAttributeType>
+           resolvedByType = new LinkedHashMap<AttributeTypeDefinition,
+                ResolvedAttributeType>(atSet.size());
+      final LinkedHashMap<String,ResolvedAttributeType> m =
+           new LinkedHashMap<String,ResolvedAttributeType>(atMap.size());
+      for (final Map.Entry<String,AttributeTypeDefinition> e :
+           atMap.entrySet())
+      {
+        ResolvedAttributeType r = resolvedByType.get(e.getValue());
+        if (r == null)
+        {
+          r = new ResolvedAttributeType(e.getValue(), this);
+          resolvedByType.put(e.getValue(), r);
+        }
+        m.put(e.getKey(), r);
+      }
+      resolvedATMap = Collections.unmodifiableMap(m);
+    }
+  }
+
+
+
+  /**
+   * Ensures that a schema deserialized from a form created by an older version
+   * of the LDAP SDK, which would not include the resolved attribute types, is
+   * fully initialized.
+   *
+   * @return  The schema to use in place of the deserialized instance.
+   */
+  private Object readResolve()
+  {
+    if (resolvedATMap == null)
+    {
+      return new Schema(schemaEntry);
+    }
+
+    return this;
   }
 
 
@@ -1281,11 +1338,71 @@ public final class Schema
   {
     ensureNotNull(name);
 
+    final ConcurrentHashMap<String,ResolvedAttributeType> cache =
+         resolvedATCache;
+    if (cache != null)
+    {
+      final ResolvedAttributeType r = cache.get(name);
+      if (r != null)
+      {
+        return r.getAttributeType();
+      }
+    }
+
     return atMap.get(toLowerCase(name));
   }
 
 
 
+  /**
+   * Retrieves the resolved attribute type with the specified name or OID.  The
+   * resolved attribute type provides access to the attribute type definition
+   * and the equality, ordering, and substring matching rules that should be
+   * used for that attribute type.  The resolved attribute types are created
+   * when the schema is created, and names that have already been looked up can
+   * subsequently be retrieved without any need to create a lowercase
+   * representation of the name.
+   *
+   * @param  name  The name or OID of the attribute type to retrieve.  It must
+   *               not be {@code null}.
+   *
+   * @return  The requested resolved attribute type, or {@code null} if there is
+   *          no attribute type with the given name or OID in the schema.
+   */
+  public ResolvedAttributeType getResolvedAttributeType(final String name)
+  {
+    ensureNotNull(name);
+
+    ConcurrentHashMap<String,ResolvedAttributeType> cache = resolvedATCache;
+    if (cache == null)
+    {
+      cache = new ConcurrentHashMap<String,ResolvedAttributeType>(
+           resolvedATMap.size());
+      resolvedATCache = cache;
+    }
+    else
+    {
+      final ResolvedAttributeType r = cache.get(name);
+      if (r != null)
+      {
+        return r;
+      }
+    }
+
+    final ResolvedAttributeType r = resolvedATMap.get(toLowerCase(name));
+    if ((r != null) && (cache.size() < (4 * resolvedATMap.size())))
+    {
+      // Only names that refer to defined attribute types are cached, and the
+      // number of cached names is limited so that the cache cannot grow
+      // without bound if the same names are provided in many different forms.
+      cache.put(name, r);
+    }
+
+    return r;
+  }
+
+
+
   /**
    * Retrieves a list of all subordinate attribute type definitions for the
    * provided attribute type definition.
@@ -0,0 +1,843 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.unboundidds.extensions;
+
+
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.IntermediateResponse;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.unboundidds.UnboundIDChangeLogEntry;
+import com.unboundid.util.Debug;
+import com.unboundid.util.LDAPSDKThreadFactory;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+import static com.unboundid.ldap.sdk.unboundidds.extensions.ExtOpMessages.*;
+
+
+
+/**
+ * This class provides a mechanism for consuming changes from a Directory
+ * Server changelog using a series of get changelog batch extended requests,
+ * in which changelog entries are processed by a pool of worker threads while
+ * they are still being retrieved.
+ * <BR>
+ * <BLOCKQUOTE>
+ *   <B>NOTE:</B>  This class, and other classes within the
+ *   {@code com.unboundid.ldap.sdk.unboundidds} package structure, are only
+ *   supported for use against Ping Identity, UnboundID, and Alcatel-Lucent 8661
+ *   server products.  These classes provide support for proprietary
+ *   functionality or for external specifications that are not considered stable
+ *   or mature enough to be guaranteed to work in an interoperable way with
+ *   other types of LDAP servers.
+ * </BLOCKQUOTE>
+ * <BR>
+ * Each changelog entry is handed off to a worker thread as soon as it is
+ * returned by the server, rather than being collected in a list until the
+ * entire batch has been returned, and the request for the next batch is sent
+ * as soon as the result for the previous batch has been received, without
+ * waiting for the changes in that batch to be processed.  All changes that
+ * target the same entry will be processed by the same worker thread in the
+ * order in which they were returned by the server, but changes that target
+ * different entries may be processed concurrently.  Changes are queued for
+ * the worker threads without blocking the thread that reads responses from
+ * the server, so a slow change processor cannot cause a batch request to time
+ * out.  Instead, the consumer will wait before requesting the next batch until
+ * no worker thread has more than the configured number of changes waiting to
+ * be processed, so each worker's queue may temporarily exceed that size by up
+ * to one batch worth of changes.
+ * <BR><BR>
+ * The consumer keeps track of a checkpoint resume token, which is the resume
+ * token for the most recent point in the changelog at which all previous
+ * changes have been successfully processed.  It may be persisted and used to
+ * resume processing at a later time (for example, after the application has
+ * been restarted) without missing any changes, although some changes after
+ * the checkpoint may be processed again.  If a worker thread encounters an
+ * error while processing a change, then the checkpoint will not advance past
+ * that change, no further batches will be requested, and the error will be
+ * reported when the consumer stops.  If the {@link #consume} method is called
+ * again after such a failure, then processing will resume from the checkpoint,
+ * so any changes after it will be retrieved and processed again.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for using a changelog batch
+ * consumer to process changes with four worker threads until it is stopped,
+ * starting at the beginning of the changelog and retrieving up to 1000 changes
+ * at a time:
+ * <PRE>
+ * GetChangelogBatchExtendedRequest requestTemplate =
+ *      new GetChangelogBatchExtendedRequest(
+ *           new BeginningOfChangelogStartingPoint(), 1000, 5000L);
+ * ChangelogBatchConsumer consumer = new ChangelogBatchConsumer(connection,
+ *      requestTemplate, changeProcessor, 4, 100);
+ * consumer.consume(0);
+ *
+ * ASN1OctetString checkpoint = consumer.getCheckpointResumeToken();
+ * </PRE>
+ */
+@ThreadSafety(level=ThreadSafetyLevel.MOSTLY_THREADSAFE)
+public final class ChangelogBatchConsumer
+{
+  // Indicates whether a request has been made to stop consuming changes.
+  private final AtomicBoolean stopRequested;
+
+  // The number of batches that have been retrieved.
+  private final AtomicLong batchesReceived;
+
+  // The number of changelog entries that were retrieved but will not be
+  // processed because of a processing failure.
+  private final AtomicLong entriesDiscarded;
+
+  // The number of changelog entries that have been successfully processed.
+  private final AtomicLong entriesProcessed;
+
+  // The number of changelog entries that have been retrieved.
+  private final AtomicLong entriesReceived;
+
+  // The time that the most recently processed change was made in the server.
+  private final AtomicLong lastProcessedChangeTime;
+
+  // The first error encountered while processing a changelog entry.
+  private final AtomicReference<Throwable> processingFailure;
+
+  // The listener that will be used to process changelog entries.
+  private final ChangelogEntryListener entryProcessor;
+
+  // The request used as a template for each batch request.
+  private final GetChangelogBatchExtendedRequest requestTemplate;
+
+  // The resume tokens for the changes that have been processed but that cannot
+  // yet be used as the checkpoint because an earlier change is still pending,
+  // indexed by sequence number.
+  private final HashMap<Long,ASN1OctetString> completedOutOfOrder;
+
+  // The number of worker threads to use to process changelog entries.
+  private final int numThreads;
+
+  // The maximum number of changelog entries that may be queued for each
+  // worker thread.
+  private final int queueSizePerThread;
+
+  // The connection to use to retrieve changelog batches.
+  private final LDAPConnection connection;
+
+  // The resume token for the most recent point at which all previous changes
+  // have been processed.
+  private volatile ASN1OctetString checkpointResumeToken;
+
+  // The starting point to use for the next batch request.
+  private volatile ChangelogBatchStartingPoint nextStartingPoint;
+
+  // The estimated number of changes remaining in the changelog, as of the
+  // most recent batch.
+  private volatile int estimatedChangesRemaining;
+
+  // The time that the consumer first started consuming changes.
+  private volatile long consumeStartTime;
+
+  // The sequence number to assign to the next changelog entry or batch.
+  private long nextSequenceNumber;
+
+  // The sequence number of the next change that must be completed before the
+  // checkpoint can advance.
+  private long nextSequenceToCheckpoint;
+
+
+
+  /**
+   * Creates a new changelog batch consumer with the provided information.
+   *
+   * @param  connection          The connection to use to retrieve changelog
+   *                             batches.  It must not be {@code null}.
+   * @param  requestTemplate     The request to use as a template for each
+   *                             batch request.  The first batch will be
+   *                             retrieved from the starting point in this
+   *                             request, and all other properties (apart from
+   *                             any changelog entry listener, which will be
+   *                             ignored) will be used for each batch.  It must
+   *                             not be {@code null}.
+   * @param  entryProcessor      The listener that will be used to process
+   *                             changelog entries.  The
+   *                             {@code handleChangelogEntry} method will be
+   *                             invoked concurrently by the worker threads, so
+   *                             it must be threadsafe.  The other methods will
+   *                             be invoked as responses are received from the
+   *                             server.  It must not be {@code null}.
+   * @param  numThreads          The number of worker threads to use to process
+   *                             changelog entries.  It must be greater than
+   *                             zero.
+   * @param  queueSizePerThread  The maximum number of changelog entries that
+   *                             may be waiting to be processed by each worker
+   *                             thread before the next batch is requested.  A
+   *                             single batch may cause a worker's queue to
+   *                             temporarily exceed this size.  It must be
+   *                             greater than zero.
+   */
+  public ChangelogBatchConsumer(final LDAPConnection connection,
+              final GetChangelogBatchExtendedRequest requestTemplate,
+              final ChangelogEntryListener entryProcessor,
+              final int numThreads, final int queueSizePerThread)
+  {
+    Validator.ensureNotNull(connection, requestTemplate, entryProcessor);
+    Validator.ensureTrue(numThreads > 0,
+         "ChangelogBatchConsumer.numThreads must be greater than zero.");
+    Validator.ensureTrue(queueSizePerThread > 0,
+         "ChangelogBatchConsumer.queueSizePerThread must be greater than " +
+              "zero.");
+
+    this.connection         = connection;
+    this.requestTemplate    = requestTemplate;
+    this.entryProcessor     = entryProcessor;
+    this.numThreads         = numThreads;
+    this.queueSizePerThread = queueSizePerThread;
+
+    stopRequested             = new AtomicBoolean(false);
+    batchesReceived           = new AtomicLong(0L);
+    entriesDiscarded          = new AtomicLong(0L);
+    entriesProcessed          = new AtomicLong(0L);
+    entriesReceived           = new AtomicLong(0L);
+    lastProcessedChangeTime   = new AtomicLong(-1L);
+    processingFailure         = new AtomicReference<Throwable>();
+    completedOutOfOrder       = new HashMap<Long,ASN1OctetString>(100);
+    checkpointResumeToken     = null;
+    nextStartingPoint         = requestTemplate.getStartingPoint();
+    estimatedChangesRemaining = -1;
+    consumeStartTime          = -1L;
+    nextSequenceNumber        = 0L;
+    nextSequenceToCheckpoint  = 0L;
+  }
+
+
+
+  /**
+   * Retrieves and processes changelog batches until the specified number of
+   * batches have been retrieved, the {@link #stop} method has been called, or
+   * an error has occurred.  This method will not return until all changes that
+   * have been retrieved have been processed.  It may be called again to
+   * resume processing from the point at which the last batch ended or, if the
+   * previous call failed because a change could not be processed, from the
+   * checkpoint.  It must not be called concurrently by multiple threads.
+   *
+   * @param  maxBatches  The maximum number of batches to retrieve.  A value
+   *                     that is less than or equal to zero indicates that
+   *                     there should be no limit.
+   *
+   * @return  The result of the last batch request that was processed, or
+   *          {@code null} if no batches were requested.
+   *
+   * @throws  LDAPException  If a batch request did not complete successfully,
+   *                         or if an error was encountered while processing a
+   *                         changelog entry.
+   */
+  public GetChangelogBatchExtendedResult consume(final int maxBatches)
+         throws LDAPException
+  {
+    if (consumeStartTime < 0L)
+    {
+      consumeStartTime = System.currentTimeMillis();
+    }
+
+    // A stop request only applies to the call that was in progress when it
+    // was made.
+    stopRequested.set(false);
+
+    // If the previous call stopped because a change could not be processed,
+    // then none of the changes after the checkpoint can be assumed to have
+    // been processed, so start over from the checkpoint.
+    if (processingFailure.getAndSet(null) != null)
+    {
+      synchronized (completedOutOfOrder)
+      {
+        completedOutOfOrder.clear();
+        nextSequenceToCheckpoint = nextSequenceNumber;
+      }
+
+      nextStartingPoint = getCheckpointStartingPoint();
+    }
+
+    final LDAPSDKThreadFactory threadFactory = new LDAPSDKThreadFactory(
+         "ChangelogBatchConsumer Worker", true, null);
+    final Worker[] workers = new Worker[numThreads];
+    final Thread[] workerThreads = new Thread[numThreads];
+    for (int i=0; i < numThreads; i++)
+    {
+      workers[i] = new Worker();
+      workerThreads[i] = threadFactory.newThread(workers[i]);
+      workerThreads[i].start();
+    }
+
+    final Dispatcher dispatcher = new Dispatcher(workers);
+    GetChangelogBatchExtendedResult lastResult = null;
+    try
+    {
+      int numBatches = 0;
+      while ((! stopRequested.get()) && (processingFailure.get() == null) &&
+             ((maxBatches <= 0) || (numBatches < maxBatches)))
+      {
+        if (numBatches > 0)
+        {
+          awaitQueueCapacity(workers);
+          if (stopRequested.get() || (processingFailure.get() != null))
+          {
+            break;
+          }
+        }
+
+        final GetChangelogBatchExtendedRequest request =
+             new GetChangelogBatchExtendedRequest(dispatcher,
+                  nextStartingPoint, requestTemplate.getMaxChanges(),
+                  requestTemplate.getMaxWaitTimeMillis(),
+                  requestTemplate.waitForMaxChanges(),
+                  requestTemplate.getIncludeBaseDNs(),
+                  requestTemplate.getExcludeBaseDNs(),
+                  requestTemplate.getChangeTypes(),
+                  requestTemplate.continueOnMissingChanges(),
+                  requestTemplate.getPareEntriesForUserDN(),
+                  requestTemplate.getChangeSelectionCriteria(),
+                  requestTemplate.includeSoftDeletedEntryMods(),
+                  requestTemplate.includeSoftDeletedEntryDeletes(),
+                  requestTemplate.getControls());
+        request.setResponseTimeoutMillis(
+             requestTemplate.getResponseTimeoutMillis(connection));
+
+        lastResult = (GetChangelogBatchExtendedResult)
+             connection.processExtendedOperation(request);
+        numBatches++;
+        if (lastResult.getResultCode() != ResultCode.SUCCESS)
+        {
+          throw new LDAPException(lastResult);
+        }
+
+        batchesReceived.incrementAndGet();
+        estimatedChangesRemaining = lastResult.getEstimatedChangesRemaining();
+
+        final ASN1OctetString resumeToken = lastResult.getResumeToken();
+        if (resumeToken != null)
+        {
+          nextStartingPoint = new ResumeWithTokenStartingPoint(resumeToken);
+          changeCompleted(nextSequenceNumber++, resumeToken);
+        }
+      }
+    }
+    finally
+    {
+      for (final Worker w : workers)
+      {
+        w.stop();
+      }
+
+      for (final Thread t : workerThreads)
+      {
+        try
+        {
+          t.join();
+        }
+        catch (final InterruptedException ie)
+        {
+          Debug.debugException(ie);
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    final Throwable failure = processingFailure.get();
+    if (failure != null)
+    {
+      if (failure instanceof LDAPException)
+      {
+        throw (LDAPException) failure;
+      }
+
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_CHANGELOG_CONSUMER_PROCESSING_FAILED.get(
+                StaticUtils.getExceptionMessage(failure)),
+           failure);
+    }
+
+    return lastResult;
+  }
+
+
+
+  /**
+   * Waits until none of the provided workers has more than the configured
+   * number of changelog entries waiting to be processed, or until the consumer
+   * has been stopped or a processing failure has occurred.
+   *
+   * @param  workers  The workers whose queues should be examined.
+   */
+  private void awaitQueueCapacity(final Worker[] workers)
+  {
+    for (final Worker w : workers)
+    {
+      synchronized (w)
+      {
+        while ((w.queue.size() > queueSizePerThread) &&
+               (! stopRequested.get()) && (processingFailure.get() == null))
+        {
+          try
+          {
+            w.wait(100L);
+          }
+          catch (final InterruptedException ie)
+          {
+            Debug.debugException(ie);
+            Thread.currentThread().interrupt();
+            processingFailure.compareAndSet(null,
+                 new LDAPException(ResultCode.LOCAL_ERROR,
+                      ERR_CHANGELOG_CONSUMER_INTERRUPTED.get(), ie));
+            return;
+          }
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Requests that the consumer stop retrieving changelog batches.  Any batch
+   * request that is already in progress will be allowed to complete, and all
+   * changes that have been retrieved will be processed before the
+   * {@link #consume} method returns.  The request only applies to the call to
+   * {@code consume} that is currently in progress.  If it is called again,
+   * then processing will resume from the point at which the last batch ended.
+   */
+  public void stop()
+  {
+    stopRequested.set(true);
+  }
+
+
+
+  /**
+   * Indicates that processing has completed for the change with the given
+   * sequence number, and advances the checkpoint if appropriate.
+   *
+   * @param  sequenceNumber  The sequence number for the change.
+   * @param  resumeToken     The resume token for the point in the changelog
+   *                         immediately after the change.
+   */
+  private void changeCompleted(final long sequenceNumber,
+                               final ASN1OctetString resumeToken)
+  {
+    synchronized (completedOutOfOrder)
+    {
+      if (sequenceNumber != nextSequenceToCheckpoint)
+      {
+        completedOutOfOrder.put(sequenceNumber, resumeToken);
+        return;
+      }
+
+      ASN1OctetString token = resumeToken;
+      while (true)
+      {
+        checkpointResumeToken = token;
+        nextSequenceToCheckpoint++;
+
+        token = completedOutOfOrder.remove(nextSequenceToCheckpoint);
+        if (token == null)
+        {
+          return;
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the resume token for the most recent point in the changelog at
+   * which all previous changes have been successfully processed.
+   *
+   * @return  The checkpoint resume token, or {@code null} if no changes have
+   *          been processed.
+   */
+  public ASN1OctetString getCheckpointResumeToken()
+  {
+    return checkpointResumeToken;
+  }
+
+
+
+  /**
+   * Retrieves the starting point that may be used to resume processing
+   * immediately after the last change that has been checkpointed.
+   *
+   * @return  The starting point that may be used to resume processing.
+   */
+  public ChangelogBatchStartingPoint getCheckpointStartingPoint()
+  {
+    final ASN1OctetString token = checkpointResumeToken;
+    if (token == null)
+    {
+      return requestTemplate.getStartingPoint();
+    }
+    else
+    {
+      return new ResumeWithTokenStartingPoint(token);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of changelog batches that have been retrieved.
+   *
+   * @return  The number of changelog batches that have been retrieved.
+   */
+  public long getBatchesReceived()
+  {
+    return batchesReceived.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of changelog entries that have been retrieved.
+   *
+   * @return  The number of changelog entries that have been retrieved.
+   */
+  public long getEntriesReceived()
+  {
+    return entriesReceived.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of changelog entries that have been successfully
+   * processed.
+   *
+   * @return  The number of changelog entries that have been successfully
+   *          processed.
+   */
+  public long getEntriesProcessed()
+  {
+    return entriesProcessed.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of changelog entries that have been retrieved but
+   * have not yet been successfully processed.
+   *
+   * @return  The number of changelog entries that have been retrieved but have
+   *          not yet been successfully processed.
+   */
+  public long getEntriesPending()
+  {
+    return Math.max(0L, (entriesReceived.get() - entriesProcessed.get() -
+         entriesDiscarded.get()));
+  }
+
+
+
+  /**
+   * Retrieves the estimated number of changes remaining in the changelog after
+   * the most recently retrieved batch, as reported by the server.
+   *
+   * @return  The estimated number of changes remaining in the changelog, or -1
+   *          if it is not known.
+   */
+  public int getEstimatedChangesRemaining()
+  {
+    return estimatedChangesRemaining;
+  }
+
+
+
+  /**
+   * Retrieves the length of time in milliseconds between the time that the
+   * most recently processed change was made in the server and the current
+   * time.
+   *
+   * @return  The processing lag in milliseconds, or -1 if it is not known.
+   */
+  public long getProcessingLagMillis()
+  {
+    final long changeTime = lastProcessedChangeTime.get();
+    if (changeTime < 0L)
+    {
+      return -1L;
+    }
+
+    return Math.max(0L, (System.currentTimeMillis() - changeTime));
+  }
+
+
+
+  /**
+   * Retrieves the average number of changelog entries processed per second
+   * since the consumer first started consuming changes.
+   *
+   * @return  The average number of changelog entries processed per second.
+   */
+  public double getEntriesProcessedPerSecond()
+  {
+    final long startTime = consumeStartTime;
+    if (startTime < 0L)
+    {
+      return 0.0d;
+    }
+
+    final long elapsedMillis =
+         Math.max(1L, (System.currentTimeMillis() - startTime));
+    return (1000.0d * entriesProcessed.get()) / elapsedMillis;
+  }
+
+
+
+  /**
+   * This class provides a changelog entry listener that hands each changelog
+   * entry off to the appropriate worker thread.
+   */
+  private final class Dispatcher
+          implements ChangelogEntryListener
+  {
+    // The workers to which changelog entries will be dispatched.
+    private final Worker[] workers;
+
+
+
+    /**
+     * Creates a new dispatcher for the provided workers.
+     *
+     * @param  workers  The workers to which changelog entries will be
+     *                  dispatched.
+     */
+    private Dispatcher(final Worker[] workers)
+    {
+      this.workers = workers;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void handleChangelogEntry(
+                     final ChangelogEntryIntermediateResponse ir)
+    {
+      entriesReceived.incrementAndGet();
+      final long sequenceNumber = nextSequenceNumber++;
+
+      final String targetDN = ir.getChangeLogEntry().getTargetDN();
+      final int hashCode;
+      if (targetDN == null)
+      {
+        hashCode = 0;
+      }
+      else
+      {
+        hashCode = StaticUtils.toLowerCase(targetDN).hashCode();
+      }
+
+      // The queue is not bounded, so this will not block the thread that
+      // reads responses from the server.
+      final Worker w = workers[(hashCode & 0x7FFFFFFF) % workers.length];
+      w.queue.offer(new QueuedEntry(sequenceNumber, ir));
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void handleMissingChangelogEntries(
+                     final MissingChangelogEntriesIntermediateResponse ir)
+    {
+      entryProcessor.handleMissingChangelogEntries(ir);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void handleOtherIntermediateResponse(final IntermediateResponse ir)
+    {
+      entryProcessor.handleOtherIntermediateResponse(ir);
+    }
+  }
+
+
+
+  /**
+   * This class provides a worker that processes the changelog entries that
+   * have been placed in its queue.  The worker will notify any thread waiting
+   * on it whenever the size of its queue drops to the configured maximum.
+   */
+  private final class Worker
+          implements Runnable
+  {
+    // The queue of changelog entries to be processed by this worker.
+    private final LinkedBlockingQueue<QueuedEntry> queue;
+
+
+
+    /**
+     * Creates a new worker.
+     */
+    private Worker()
+    {
+      queue = new LinkedBlockingQueue<QueuedEntry>();
+    }
+
+
+
+    /**
+     * Indicates that this worker should exit once it has processed all of the
+     * changelog entries in its queue.
+     */
+    private void stop()
+    {
+      queue.offer(new QueuedEntry(-1L, null));
+    }
+
+
+
+    /**
+     * Processes changelog entries until this worker has been stopped.
+     */
+    @Override()
+    public void run()
+    {
+      while (true)
+      {
+        final QueuedEntry e;
+        try
+        {
+          e = queue.take();
+        }
+        catch (final InterruptedException ie)
+        {
+          Debug.debugException(ie);
+          continue;
+        }
+
+        if (queue.size() == queueSizePerThread)
+        {
+          synchronized (this)
+          {
+            notifyAll();
+          }
+        }
+
+        if (e.ir == null)
+        {
+          return;
+        }
+
+        if (processingFailure.get() != null)
+        {
+          // Don't process any more changes after a failure, since the
+          // checkpoint cannot advance past the change that failed.
+          entriesDiscarded.incrementAndGet();
+          continue;
+        }
+
+        try
+        {
+          entryProcessor.handleChangelogEntry(e.ir);
+        }
+        catch (final Throwable t)
+        {
+          Debug.debugException(t);
+          processingFailure.compareAndSet(null, t);
+          entriesDiscarded.incrementAndGet();
+          continue;
+        }
+
+        entriesProcessed.incrementAndGet();
+
+        final UnboundIDChangeLogEntry changeLogEntry =
+             e.ir.getChangeLogEntry();
+        final Date changeTime = changeLogEntry.getChangeTime();
+        if (changeTime != null)
+        {
+          final long changeTimeMillis = changeTime.getTime();
+          while (true)
+          {
+            final long previous = lastProcessedChangeTime.get();
+            if ((changeTimeMillis <= previous) ||
+                lastProcessedChangeTime.compareAndSet(previous,
+                     changeTimeMillis))
+            {
+              break;
+            }
+          }
+        }
+
+        changeCompleted(e.sequenceNumber, e.ir.getResumeToken());
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides a data structure that holds a changelog entry that is
+   * waiting to be processed, along with its sequence number.
+   */
+  private static final class QueuedEntry
+  {
+    // The changelog entry intermediate response, or null if the worker should
+    // exit.
+    private final ChangelogEntryIntermediateResponse ir;
+
+    // The sequence number assigned to the changelog entry.
+    private final long sequenceNumber;
+
+
+
+    /**
+     * Creates a new queued entry with the provided information.
+     *
+     * @param  sequenceNumber  The sequence number assigned to the changelog
+     *                         entry.
+     * @param  ir              The changelog entry intermediate response, or
+     *                         {@code null} if the worker should exit.
+     */
+    private QueuedEntry(final long sequenceNumber,
+                        final ChangelogEntryIntermediateResponse ir)
+    {
+      this.sequenceNumber = sequenceNumber;
+      this.ir             = ir;
+    }
+  }
+}
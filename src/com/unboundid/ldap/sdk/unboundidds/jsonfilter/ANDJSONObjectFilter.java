@@ -287,6 +287,20 @@ public final class ANDJSONObjectFilter
 
 
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  void addFieldNamesRequiredForMatch(final Set<String> names)
+  {
+    for (final JSONObjectFilter f : andFilters)
+    {
+      f.addFieldNamesRequiredForMatch(names);
+    }
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
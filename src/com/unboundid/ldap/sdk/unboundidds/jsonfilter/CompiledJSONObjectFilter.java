@@ -0,0 +1,319 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.unboundidds.jsonfilter;
+
+
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+import com.unboundid.util.json.JSONException;
+import com.unboundid.util.json.JSONObject;
+
+
+
+/**
+ * This class provides an immutable, precompiled representation of a JSON
+ * object filter that is suitable for evaluating the same filter against a
+ * large number of JSON objects or LDAP attribute values.  Because
+ * {@link JSONObjectFilter} instances may be altered after they are created,
+ * every call to their {@code hashCode} and {@code equals} methods needs to
+ * construct a new JSON object representation of the filter.  A compiled
+ * filter holds its own private copy of the filter, so its JSON object
+ * representation and hash code are only computed once.
+ * <BR><BR>
+ * When evaluating a compiled filter against an LDAP attribute value with the
+ * {@link #matchesValue} method, the compiled filter will first examine the raw
+ * value to determine whether it contains the names of all of the fields that
+ * the filter requires, and it can reject values that are missing any of those
+ * fields without parsing them as JSON objects at all.  Values that do need to
+ * be parsed will be obtained from a cache of recently-parsed values that is
+ * shared with the {@link JSONObjectExactMatchingRule}, so the same value does
+ * not need to be parsed repeatedly.
+ * <BR>
+ * <BLOCKQUOTE>
+ *   <B>NOTE:</B>  This class, and other classes within the
+ *   {@code com.unboundid.ldap.sdk.unboundidds} package structure, are only
+ *   supported for use against Ping Identity, UnboundID, and Alcatel-Lucent 8661
+ *   server products.  These classes provide support for proprietary
+ *   functionality or for external specifications that are not considered stable
+ *   or mature enough to be guaranteed to work in an interoperable way with
+ *   other types of LDAP servers.
+ * </BLOCKQUOTE>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class CompiledJSONObjectFilter
+       implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 3390265093839181046L;
+
+
+
+  // The hash code for this compiled filter.
+  private final int hashCode;
+
+  // The filter that will be used to evaluate JSON objects.
+  private final JSONObjectFilter filter;
+
+  // The JSON object representation of the filter.
+  private final JSONObject filterObject;
+
+  // The names of the fields that must be present in a JSON object for it to
+  // match the filter, each surrounded by quotation marks as they would appear
+  // in the string representation of the object.
+  private final String[] quotedRequiredFieldNames;
+
+
+
+  /**
+   * Creates a new compiled representation of the provided filter.  The filter
+   * will be copied, so any subsequent changes made to it will not affect the
+   * compiled filter.  If the filter cannot be copied because it is of a type
+   * that has not been registered, then the provided instance will be used
+   * directly, and it must not be altered.
+   *
+   * @param  filter  The filter to be compiled.  It must not be {@code null}.
+   */
+  public CompiledJSONObjectFilter(final JSONObjectFilter filter)
+  {
+    Validator.ensureNotNull(filter);
+
+    filterObject = filter.toJSONObject();
+    hashCode = filterObject.hashCode();
+
+    JSONObjectFilter f;
+    try
+    {
+      f = JSONObjectFilter.decode(filterObject);
+    }
+    catch (final JSONException e)
+    {
+      Debug.debugException(e);
+      f = filter;
+    }
+    this.filter = f;
+
+    final LinkedHashSet<String> requiredFieldNames =
+         new LinkedHashSet<String>(10);
+    f.addFieldNamesRequiredForMatch(requiredFieldNames);
+
+    final ArrayList<String> quotedNames =
+         new ArrayList<String>(requiredFieldNames.size());
+    for (final String name : requiredFieldNames)
+    {
+      if (! requiresEscaping(name))
+      {
+        quotedNames.add('"' + name + '"');
+      }
+    }
+    quotedRequiredFieldNames = quotedNames.toArray(new String[0]);
+  }
+
+
+
+  /**
+   * Indicates whether the provided field name contains any characters that
+   * would need to be escaped in the string representation of a JSON object.
+   *
+   * @param  name  The field name for which to make the determination.
+   *
+   * @return  {@code true} if the provided name contains any characters that
+   *          would need to be escaped, or {@code false} if not.
+   */
+  private static boolean requiresEscaping(final String name)
+  {
+    for (int i=0; i < name.length(); i++)
+    {
+      final char c = name.charAt(i);
+      if ((c == '"') || (c == '\\') || (c < ' '))
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+
+
+  /**
+   * Retrieves the JSON object representation of this compiled filter.
+   *
+   * @return  The JSON object representation of this compiled filter.
+   */
+  public JSONObject toJSONObject()
+  {
+    return filterObject;
+  }
+
+
+
+  /**
+   * Indicates whether this filter matches the provided JSON object.
+   *
+   * @param  o  The JSON object for which to make the determination.
+   *
+   * @return  {@code true} if this filter matches the provided JSON object, or
+   *          {@code false} if not.
+   */
+  public boolean matchesJSONObject(final JSONObject o)
+  {
+    return filter.matchesJSONObject(o);
+  }
+
+
+
+  /**
+   * Indicates whether this filter matches the provided LDAP attribute value,
+   * which is expected to be the string representation of a JSON object.  A
+   * value that cannot be parsed as a JSON object will not match.
+   *
+   * @param  value  The value for which to make the determination.  It must
+   *                not be {@code null}.
+   *
+   * @return  {@code true} if this filter matches the provided value, or
+   *          {@code false} if not.
+   */
+  public boolean matchesValue(final ASN1OctetString value)
+  {
+    // If the string representation of the value doesn't contain any escaped
+    // characters, then the name of each field in the object will appear
+    // verbatim in quotation marks.  If any of the required field names can't
+    // be found, then the value can't match and there's no need to parse it.
+    if (quotedRequiredFieldNames.length > 0)
+    {
+      final String s = value.stringValue();
+      if (s.indexOf('\\') < 0)
+      {
+        for (final String quotedName : quotedRequiredFieldNames)
+        {
+          if (! s.contains(quotedName))
+          {
+            return false;
+          }
+        }
+      }
+    }
+
+    final JSONObject o;
+    try
+    {
+      o = JSONObjectExactMatchingRule.getJSONObject(value);
+    }
+    catch (final JSONException e)
+    {
+      Debug.debugException(e);
+      return false;
+    }
+
+    return filter.matchesJSONObject(o);
+  }
+
+
+
+  /**
+   * Indicates whether this filter matches any of the provided LDAP attribute
+   * values.
+   *
+   * @param  values  The values for which to make the determination.  It must
+   *                 not be {@code null}.
+   *
+   * @return  {@code true} if this filter matches at least one of the provided
+   *          values, or {@code false} if not.
+   */
+  public boolean matchesAnyValue(final ASN1OctetString... values)
+  {
+    for (final ASN1OctetString value : values)
+    {
+      if (matchesValue(value))
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+
+
+  /**
+   * Retrieves a hash code for this compiled filter.
+   *
+   * @return  A hash code for this compiled filter.
+   */
+  @Override()
+  public int hashCode()
+  {
+    return hashCode;
+  }
+
+
+
+  /**
+   * Indicates whether the provided object is a compiled filter that is
+   * equivalent to this compiled filter.
+   *
+   * @param  o  The object for which to make the determination.
+   *
+   * @return  {@code true} if the provided object is considered equal to this
+   *          compiled filter, or {@code false} if not.
+   */
+  @Override()
+  public boolean equals(final Object o)
+  {
+    if (o == this)
+    {
+      return true;
+    }
+
+    if (o instanceof CompiledJSONObjectFilter)
+    {
+      final CompiledJSONObjectFilter f = (CompiledJSONObjectFilter) o;
+      return ((hashCode == f.hashCode) && filterObject.equals(f.filterObject));
+    }
+
+    return false;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this compiled filter.
+   *
+   * @return  A string representation of this compiled filter.
+   */
+  @Override()
+  public String toString()
+  {
+    return filterObject.toString();
+  }
+}
@@ -477,6 +477,17 @@ public final class ContainsFieldJSONObjectFilter
 
 
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  void addFieldNamesRequiredForMatch(final Set<String> names)
+  {
+    names.addAll(field);
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -534,6 +534,17 @@ public final class EqualsAnyJSONObjectFilter
 
 
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  void addFieldNamesRequiredForMatch(final Set<String> names)
+  {
+    names.addAll(field);
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
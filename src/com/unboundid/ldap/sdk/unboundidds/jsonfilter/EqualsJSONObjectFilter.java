@@ -551,6 +551,17 @@ public final class EqualsJSONObjectFilter
 
 
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  void addFieldNamesRequiredForMatch(final Set<String> names)
+  {
+    names.addAll(field);
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
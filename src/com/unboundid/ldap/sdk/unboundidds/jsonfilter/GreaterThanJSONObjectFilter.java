@@ -719,6 +719,17 @@ public final class GreaterThanJSONObjectFilter
 
 
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  void addFieldNamesRequiredForMatch(final Set<String> names)
+  {
+    names.addAll(field);
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
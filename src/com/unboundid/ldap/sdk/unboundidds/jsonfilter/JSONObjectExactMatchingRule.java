@@ -22,6 +22,8 @@ package com.unboundid.ldap.sdk.unboundidds.jsonfilter;
 
 
 
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.matchingrules.MatchingRule;
 import com.unboundid.ldap.sdk.LDAPException;
@@ -63,6 +65,34 @@ public final class JSONObjectExactMatchingRule
 
 
 
+  /**
+   * The maximum number of values to hold in each of the parsed and normalized
+   * value caches.
+   */
+  static final int MAX_CACHED_VALUES = 1000;
+
+
+
+  /**
+   * A cache of the JSON objects parsed from attribute values, so that values
+   * that are repeatedly compared do not need to be repeatedly parsed.
+   */
+  private static final ConcurrentHashMap<ASN1OctetString,JSONObject>
+       PARSED_VALUES = new ConcurrentHashMap<ASN1OctetString,JSONObject>(
+            MAX_CACHED_VALUES);
+
+
+
+  /**
+   * A cache of the normalized representations of attribute values.
+   */
+  private static final ConcurrentHashMap<ASN1OctetString,ASN1OctetString>
+       NORMALIZED_VALUES =
+            new ConcurrentHashMap<ASN1OctetString,ASN1OctetString>(
+                 MAX_CACHED_VALUES);
+
+
+
   /**
    * The serial version UID for this serializable class.
    */
@@ -173,7 +203,7 @@ public final class JSONObjectExactMatchingRule
     final JSONObject o1;
     try
     {
-      o1 = new JSONObject(value1.stringValue());
+      o1 = getJSONObject(value1);
     }
     catch (final JSONException e)
     {
@@ -185,7 +215,7 @@ public final class JSONObjectExactMatchingRule
     final JSONObject o2;
     try
     {
-      o2 = new JSONObject(value2.stringValue());
+      o2 = getJSONObject(value2);
     }
     catch (final JSONException e)
     {
@@ -238,10 +268,16 @@ public final class JSONObjectExactMatchingRule
   public ASN1OctetString normalize(final ASN1OctetString value)
          throws LDAPException
   {
+    final ASN1OctetString cachedValue = NORMALIZED_VALUES.get(value);
+    if (cachedValue != null)
+    {
+      return cachedValue;
+    }
+
     final JSONObject o;
     try
     {
-      o = new JSONObject(value.stringValue());
+      o = getJSONObject(value);
     }
     catch (final JSONException e)
     {
@@ -250,7 +286,15 @@ public final class JSONObjectExactMatchingRule
            e.getMessage(), e);
     }
 
-    return new ASN1OctetString(o.toNormalizedString());
+    final ASN1OctetString normalizedValue =
+         new ASN1OctetString(o.toNormalizedString());
+    if (NORMALIZED_VALUES.size() >= MAX_CACHED_VALUES)
+    {
+      NORMALIZED_VALUES.clear();
+    }
+
+    NORMALIZED_VALUES.put(value, normalizedValue);
+    return normalizedValue;
   }
 
 
@@ -267,4 +311,36 @@ public final class JSONObjectExactMatchingRule
     throw new LDAPException(ResultCode.INAPPROPRIATE_MATCHING,
          ERR_JSON_MATCHING_RULE_SUBSTRING_NOT_SUPPORTED.get());
   }
+
+
+
+  /**
+   * Retrieves the JSON object parsed from the provided value.  If the value
+   * has been parsed recently, then the previously-parsed object will be
+   * returned rather than parsing it again.
+   *
+   * @param  value  The value to be parsed as a JSON object.
+   *
+   * @return  The JSON object parsed from the provided value.
+   *
+   * @throws  JSONException  If the provided value cannot be parsed as a JSON
+   *                         object.
+   */
+  static JSONObject getJSONObject(final ASN1OctetString value)
+         throws JSONException
+  {
+    JSONObject o = PARSED_VALUES.get(value);
+    if (o == null)
+    {
+      o = new JSONObject(value.stringValue());
+      if (PARSED_VALUES.size() >= MAX_CACHED_VALUES)
+      {
+        PARSED_VALUES.clear();
+      }
+
+      PARSED_VALUES.put(value, o);
+    }
+
+    return o;
+  }
 }
@@ -424,6 +424,23 @@ public abstract class JSONObjectFilter
 
 
 
+  /**
+   * Adds to the provided set the names of any fields that must be present
+   * somewhere in a JSON object (either at the top level or in a nested object)
+   * in order for it to possibly match this filter.  This may be used to
+   * quickly rule out objects that cannot match the filter without fully
+   * examining them.  The default implementation does not add any names, which
+   * is always safe.
+   *
+   * @param  names  The set to which the field names should be added.
+   */
+  void addFieldNamesRequiredForMatch(final Set<String> names)
+  {
+    // No field names are required by default.
+  }
+
+
+
   /**
    * Retrieves a JSON object that represents this filter.
    *
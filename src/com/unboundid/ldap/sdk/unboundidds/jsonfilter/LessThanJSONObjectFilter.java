@@ -718,6 +718,17 @@ public final class LessThanJSONObjectFilter
 
 
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  void addFieldNamesRequiredForMatch(final Set<String> names)
+  {
+    names.addAll(field);
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -372,6 +372,18 @@ public final class ObjectMatchesJSONObjectFilter
 
 
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  void addFieldNamesRequiredForMatch(final Set<String> names)
+  {
+    names.addAll(field);
+    filter.addFieldNamesRequiredForMatch(names);
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -25,12 +25,20 @@ package com.unboundid.ldif;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.FileOutputStream;
 import java.io.BufferedOutputStream;
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.sdk.Entry;
@@ -130,14 +138,24 @@ public final class LDIFWriter
   // The column at which to wrap long lines.
   private int wrapColumn = 0;
 
-  // A pre-computed value that is two less than the wrap column.
-  private int wrapColumnMinusTwo = -2;
-
   // non-null if this writer was configured to use multiple threads when
   // writing batches of entries.
   private final ParallelProcessor<LDIFRecord,ByteStringBuffer>
        toLdifBytesInvoker;
 
+  // The maximum number of records that may be queued for asynchronous
+  // encoding before a caller will be required to wait for the oldest of them
+  // to be written.
+  private final int asyncQueueSize;
+
+  // The results of the records that have been submitted for asynchronous
+  // encoding but not yet written, in the order in which they were submitted.
+  private final ArrayDeque<Future<ByteStringBuffer>> pendingWrites;
+
+  // non-null if this writer was configured to encode records written by the
+  // per-record write methods asynchronously.
+  private final ThreadPoolExecutor asyncEncoder;
+
 
 
   /**
@@ -290,10 +308,75 @@ public final class LDIFWriter
   public LDIFWriter(final OutputStream outputStream, final int parallelThreads,
               final LDIFWriterEntryTranslator entryTranslator,
               final LDIFWriterChangeRecordTranslator changeRecordTranslator)
+  {
+    this(outputStream, parallelThreads, 0, entryTranslator,
+         changeRecordTranslator);
+  }
+
+
+
+  /**
+   * Creates a new LDIF writer that will write entries to the provided output
+   * stream, optionally using multiple threads to encode records written by the
+   * per-record write methods (like {@code writeEntry} and
+   * {@code writeChangeRecord}) in addition to records provided to the
+   * {@code writeLDIFRecords(List)} method.
+   * <BR><BR>
+   * If both {@code parallelThreads} and {@code asyncQueueSize} are greater than
+   * zero, then each record provided to a per-record write method will be
+   * translated and encoded by one of the worker threads, and the encoded
+   * records will be written to the output in the order in which they were
+   * provided.  A per-record write method will only block if there are already
+   * {@code asyncQueueSize} records waiting to be written, in which case it
+   * will wait for the oldest of them to be written.  Any exception encountered
+   * while processing a record will be thrown by the write method that writes
+   * it, which may be a later call to a per-record write method, or a call to
+   * the {@code flush} or {@code close} method.  Any other method that writes
+   * content will first write all of the records that are waiting to be
+   * written.
+   * <BR><BR>
+   * Because a record provided to a per-record write method may not be
+   * translated and encoded until after that method has returned, the caller
+   * must not alter the record (or anything it references) after passing it to
+   * the writer.  A record that needs to be changed and written again should be
+   * duplicated first.
+   *
+   * @param  outputStream            The output stream to which the data is to
+   *                                 be written.  It must not be {@code null}.
+   * @param  parallelThreads         The number of threads to use to encode
+   *                                 records.  A value of zero indicates that
+   *                                 all records should be encoded by the
+   *                                 thread calling the write method.
+   * @param  asyncQueueSize          The maximum number of records written by
+   *                                 the per-record write methods that may be
+   *                                 waiting to be written at any time.  A
+   *                                 value of zero indicates that those records
+   *                                 should be written synchronously.  It will
+   *                                 be ignored if {@code parallelThreads} is
+   *                                 zero.
+   * @param  entryTranslator         An optional translator that will be used to
+   *                                 alter entries before they are actually
+   *                                 written.  This may be {@code null} if no
+   *                                 translator is needed.  If records are to be
+   *                                 encoded asynchronously, then it must be
+   *                                 threadsafe.
+   * @param  changeRecordTranslator  An optional translator that will be used to
+   *                                 alter change records before they are
+   *                                 actually written.  This may be {@code null}
+   *                                 if no translator is needed.  If records are
+   *                                 to be encoded asynchronously, then it must
+   *                                 be threadsafe.
+   */
+  public LDIFWriter(final OutputStream outputStream, final int parallelThreads,
+              final int asyncQueueSize,
+              final LDIFWriterEntryTranslator entryTranslator,
+              final LDIFWriterChangeRecordTranslator changeRecordTranslator)
   {
     ensureNotNull(outputStream);
     ensureTrue(parallelThreads >= 0,
          "LDIFWriter.parallelThreads must not be negative.");
+    ensureTrue(asyncQueueSize >= 0,
+         "LDIFWriter.asyncQueueSize must not be negative.");
 
     this.entryTranslator = entryTranslator;
     this.changeRecordTranslator = changeRecordTranslator;
@@ -308,6 +391,21 @@ public final class LDIFWriter
       writer = new BufferedOutputStream(outputStream, DEFAULT_BUFFER_SIZE);
     }
 
+    if ((parallelThreads == 0) || (asyncQueueSize == 0))
+    {
+      this.asyncQueueSize = 0;
+      pendingWrites = null;
+      asyncEncoder = null;
+    }
+    else
+    {
+      this.asyncQueueSize = asyncQueueSize;
+      pendingWrites = new ArrayDeque<Future<ByteStringBuffer>>(asyncQueueSize);
+      asyncEncoder = new ThreadPoolExecutor(parallelThreads, parallelThreads,
+           0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+           new LDAPSDKThreadFactory("LDIFWriter Async Worker", true, null));
+    }
+
     if (parallelThreads == 0)
     {
       toLdifBytesInvoker = null;
@@ -365,6 +463,7 @@ public final class LDIFWriter
   public void flush()
          throws IOException
   {
+    writePendingRecords();
     writer.flush();
   }
 
@@ -381,16 +480,29 @@ public final class LDIFWriter
   {
     try
     {
-      if (toLdifBytesInvoker != null)
+      try
       {
-        try
+        writePendingRecords();
+      }
+      finally
+      {
+        if (asyncEncoder != null)
         {
-          toLdifBytesInvoker.shutdown();
+          pendingWrites.clear();
+          asyncEncoder.shutdown();
         }
-        catch (final InterruptedException e)
+
+        if (toLdifBytesInvoker != null)
         {
-          debugException(e);
-          Thread.currentThread().interrupt();
+          try
+          {
+            toLdifBytesInvoker.shutdown();
+          }
+          catch (final InterruptedException e)
+          {
+            debugException(e);
+            Thread.currentThread().interrupt();
+          }
         }
       }
     }
@@ -424,8 +536,6 @@ public final class LDIFWriter
   public void setWrapColumn(final int wrapColumn)
   {
     this.wrapColumn = wrapColumn;
-
-    wrapColumnMinusTwo = wrapColumn - 2;
   }
 
 
@@ -481,6 +591,7 @@ public final class LDIFWriter
   public void writeVersionHeader()
          throws IOException
   {
+    writePendingRecords();
     writer.write(VERSION_1_HEADER_BYTES);
   }
 
@@ -489,7 +600,9 @@ public final class LDIFWriter
   /**
    * Writes the provided entry in LDIF form.
    *
-   * @param  entry  The entry to be written.  It must not be {@code null}.
+   * @param  entry  The entry to be written.  It must not be {@code null}.  If
+   *                this writer encodes records asynchronously, then the entry
+   *                must not be altered after this method returns.
    *
    * @throws  IOException  If a problem occurs while writing the LDIF data.
    */
@@ -505,7 +618,9 @@ public final class LDIFWriter
    * Writes the provided entry in LDIF form, preceded by the provided comment.
    *
    * @param  entry    The entry to be written in LDIF form.  It must not be
-   *                  {@code null}.
+   *                  {@code null}.  If this writer encodes records
+   *                  asynchronously, then the entry must not be altered after
+   *                  this method returns.
    * @param  comment  The comment to be written before the entry.  It may be
    *                  {@code null} if no comment is to be written.
    *
@@ -516,6 +631,12 @@ public final class LDIFWriter
   {
     ensureNotNull(entry);
 
+    if (asyncEncoder != null)
+    {
+      submitRecord(entry, comment);
+      return;
+    }
+
     final Entry e;
     if (entryTranslator == null)
     {
@@ -545,7 +666,9 @@ public final class LDIFWriter
    * Writes the provided change record in LDIF form.
    *
    * @param  changeRecord  The change record to be written.  It must not be
-   *                       {@code null}.
+   *                       {@code null}.  If this writer encodes records
+   *                       asynchronously, then the change record must not be
+   *                       altered after this method returns.
    *
    * @throws  IOException  If a problem occurs while writing the LDIF data.
    */
@@ -562,7 +685,9 @@ public final class LDIFWriter
    * comment.
    *
    * @param  changeRecord  The change record to be written.  It must not be
-   *                       {@code null}.
+   *                       {@code null}.  If this writer encodes records
+   *                       asynchronously, then the change record must not be
+   *                       altered after this method returns.
    * @param  comment       The comment to be written before the entry.  It may
    *                       be {@code null} if no comment is to be written.
    *
@@ -574,6 +699,12 @@ public final class LDIFWriter
   {
     ensureNotNull(changeRecord);
 
+    if (asyncEncoder != null)
+    {
+      submitRecord(changeRecord, comment);
+      return;
+    }
+
     final LDIFChangeRecord r;
     if (changeRecordTranslator == null)
     {
@@ -603,7 +734,9 @@ public final class LDIFWriter
    * Writes the provided record in LDIF form.
    *
    * @param  record  The LDIF record to be written.  It must not be
-   *                 {@code null}.
+   *                 {@code null}.  If this writer encodes records
+   *                 asynchronously, then the record must not be altered after
+   *                 this method returns.
    *
    * @throws  IOException  If a problem occurs while writing the LDIF data.
    */
@@ -619,7 +752,9 @@ public final class LDIFWriter
    * Writes the provided record in LDIF form, preceded by the provided comment.
    *
    * @param  record   The LDIF record to be written.  It must not be
-   *                  {@code null}.
+   *                  {@code null}.  If this writer encodes records
+   *                  asynchronously, then the record must not be altered after
+   *                  this method returns.
    * @param  comment  The comment to be written before the LDIF record.  It may
    *                  be {@code null} if no comment is to be written.
    *
@@ -630,6 +765,12 @@ public final class LDIFWriter
   {
     ensureNotNull(record);
 
+    if (asyncEncoder != null)
+    {
+      submitRecord(record, comment);
+      return;
+    }
+
     final LDIFRecord r;
     if ((entryTranslator != null) && (record instanceof Entry))
     {
@@ -687,6 +828,8 @@ public final class LDIFWriter
   public void writeLDIFRecords(final List<? extends LDIFRecord> ldifRecords)
          throws IOException, InterruptedException
   {
+    writePendingRecords();
+
     if (toLdifBytesInvoker == null)
     {
       for (final LDIFRecord ldifRecord : ldifRecords)
@@ -733,11 +876,52 @@ public final class LDIFWriter
          throws IOException
   {
     ensureNotNull(comment);
+    writePendingRecords();
+
     if (spaceBefore)
     {
       writer.write(EOL_BYTES);
     }
 
+    buffer.clear();
+    appendComment(buffer, comment, wrapColumn);
+    buffer.write(writer);
+
+    if (spaceAfter)
+    {
+      writer.write(EOL_BYTES);
+    }
+  }
+
+
+
+  /**
+   * Appends the provided comment to the given buffer, wrapping long lines as
+   * necessary.
+   *
+   * @param  buffer      The buffer to which the comment should be appended.
+   * @param  comment     The comment to be appended.  It must not be
+   *                     {@code null}.
+   * @param  wrapColumn  The column at which to wrap long lines.  A value that
+   *                     is less than or equal to zero indicates that the
+   *                     terminal width should be used.
+   */
+  private static void appendComment(final ByteStringBuffer buffer,
+                                    final String comment, final int wrapColumn)
+  {
+    // We will always wrap comments, even if we won't wrap LDIF entries.  If
+    // there is a wrap column set, then use it.  Otherwise use the terminal
+    // width and back off two characters for the "# " at the beginning.
+    final int commentWrapMinusTwo;
+    if (wrapColumn <= 0)
+    {
+      commentWrapMinusTwo = TERMINAL_WIDTH_COLUMNS - 3;
+    }
+    else
+    {
+      commentWrapMinusTwo = wrapColumn - 2;
+    }
+
     //
     // Check for a newline explicitly to avoid the overhead of the regex
     // for the common case of a single-line comment.
@@ -745,7 +929,7 @@ public final class LDIFWriter
 
     if (comment.indexOf('\n') < 0)
     {
-      writeSingleLineComment(comment);
+      appendSingleLineComment(buffer, comment, commentWrapMinusTwo);
     }
     else
     {
@@ -756,45 +940,29 @@ public final class LDIFWriter
       final String[] lines = comment.split("\\r?\\n");
       for (final String line: lines)
       {
-        writeSingleLineComment(line);
+        appendSingleLineComment(buffer, line, commentWrapMinusTwo);
       }
     }
-
-    if (spaceAfter)
-    {
-      writer.write(EOL_BYTES);
-    }
   }
 
 
 
   /**
-   * Writes the provided comment to the LDIF target, wrapping long lines as
+   * Appends the provided comment to the given buffer, wrapping long lines as
    * necessary.
    *
-   * @param  comment      The comment to be written to the LDIF target.  It must
-   *                      not be {@code null}, and it must not include any line
-   *                      breaks.
-   *
-   * @throws  IOException  If a problem occurs while writing the LDIF data.
+   * @param  buffer               The buffer to which the comment should be
+   *                              appended.
+   * @param  comment              The comment to be appended.  It must not be
+   *                              {@code null}, and it must not include any
+   *                              line breaks.
+   * @param  commentWrapMinusTwo  The maximum number of comment characters to
+   *                              include on each line.
    */
-  private void writeSingleLineComment(final String comment)
-          throws IOException
+  private static void appendSingleLineComment(final ByteStringBuffer buffer,
+                                              final String comment,
+                                              final int commentWrapMinusTwo)
   {
-    // We will always wrap comments, even if we won't wrap LDIF entries.  If
-    // there is a wrap column set, then use it.  Otherwise use the terminal
-    // width and back off two characters for the "# " at the beginning.
-    final int commentWrapMinusTwo;
-    if (wrapColumn <= 0)
-    {
-      commentWrapMinusTwo = TERMINAL_WIDTH_COLUMNS - 3;
-    }
-    else
-    {
-      commentWrapMinusTwo = wrapColumnMinusTwo;
-    }
-
-    buffer.clear();
     final int length = comment.length();
     if (length <= commentWrapMinusTwo)
     {
@@ -869,8 +1037,100 @@ public final class LDIFWriter
         }
       }
     }
+  }
 
-    buffer.write(writer);
+
+
+  /**
+   * Submits the provided record to be translated and encoded asynchronously.
+   * If the maximum number of records are already waiting to be written, then
+   * the oldest of them will be written first, waiting for it to be encoded if
+   * necessary.  Any other records that have already been encoded will also be
+   * written.
+   *
+   * @param  record   The record to be written.  It must not be {@code null}.
+   * @param  comment  The comment to be written before the record.  It may be
+   *                  {@code null} if no comment is to be written.
+   *
+   * @throws  IOException  If a problem occurs while writing a record that was
+   *                       previously submitted.
+   */
+  private void submitRecord(final LDIFRecord record, final String comment)
+          throws IOException
+  {
+    if (pendingWrites.size() >= asyncQueueSize)
+    {
+      writePendingRecord(pendingWrites.removeFirst());
+    }
+
+    pendingWrites.addLast(asyncEncoder.submit(
+         new EncodeRecordTask(record, comment, wrapColumn)));
+
+    while ((pendingWrites.size() > 1) && pendingWrites.peekFirst().isDone())
+    {
+      writePendingRecord(pendingWrites.removeFirst());
+    }
+  }
+
+
+
+  /**
+   * Writes all records that have been submitted for asynchronous encoding but
+   * not yet written, waiting for them to be encoded if necessary.
+   *
+   * @throws  IOException  If a problem occurs while encoding or writing any of
+   *                       the records.
+   */
+  private void writePendingRecords()
+          throws IOException
+  {
+    if (pendingWrites == null)
+    {
+      return;
+    }
+
+    while (! pendingWrites.isEmpty())
+    {
+      writePendingRecord(pendingWrites.removeFirst());
+    }
+  }
+
+
+
+  /**
+   * Writes the record associated with the provided result, waiting for it to
+   * be encoded if necessary.
+   *
+   * @param  result  The result of the task used to encode the record.
+   *
+   * @throws  IOException  If a problem occurs while encoding or writing the
+   *                       record.
+   */
+  private void writePendingRecord(final Future<ByteStringBuffer> result)
+          throws IOException
+  {
+    final ByteStringBuffer encodedBytes;
+    try
+    {
+      encodedBytes = result.get();
+    }
+    catch (final InterruptedException e)
+    {
+      debugException(e);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(getExceptionMessage(e));
+    }
+    catch (final ExecutionException e)
+    {
+      debugException(e);
+      rethrow(e.getCause());
+      return;
+    }
+
+    if (encodedBytes != null)
+    {
+      encodedBytes.write(writer);
+    }
   }
 
 
@@ -1437,6 +1697,94 @@ public final class LDIFWriter
 
 
 
+  /**
+   * This class provides a task that may be used to translate and encode a
+   * record, along with any comment that should precede it, so that it can be
+   * written asynchronously.
+   */
+  private final class EncodeRecordTask
+          implements Callable<ByteStringBuffer>
+  {
+    // The record to be encoded.
+    private final LDIFRecord record;
+
+    // The column at which to wrap long lines.
+    private final int wrapColumn;
+
+    // The comment to be written before the record, if any.
+    private final String comment;
+
+
+
+    /**
+     * Creates a new task with the provided information.
+     *
+     * @param  record      The record to be encoded.
+     * @param  comment     The comment to be written before the record.  It may
+     *                     be {@code null} if no comment is to be written.
+     * @param  wrapColumn  The column at which to wrap long lines.
+     */
+    private EncodeRecordTask(final LDIFRecord record, final String comment,
+                             final int wrapColumn)
+    {
+      this.record     = record;
+      this.comment    = comment;
+      this.wrapColumn = wrapColumn;
+    }
+
+
+
+    /**
+     * Translates and encodes the record.
+     *
+     * @return  The encoded representation of the record, or {@code null} if
+     *          the record should not be written.
+     *
+     * @throws  IOException  If a problem occurs while translating the record.
+     */
+    @Override()
+    public ByteStringBuffer call()
+           throws IOException
+    {
+      final LDIFRecord r;
+      if ((entryTranslator != null) && (record instanceof Entry))
+      {
+        r = entryTranslator.translateEntryToWrite((Entry) record);
+        if (r == null)
+        {
+          return null;
+        }
+      }
+      else if ((changeRecordTranslator != null) &&
+               (record instanceof LDIFChangeRecord))
+      {
+        r = changeRecordTranslator.translateChangeRecordToWrite(
+             (LDIFChangeRecord) record);
+        if (r == null)
+        {
+          return null;
+        }
+      }
+      else
+      {
+        r = record;
+      }
+
+      final ByteStringBuffer b = new ByteStringBuffer(200);
+      if (comment != null)
+      {
+        appendComment(b, comment, wrapColumn);
+      }
+
+      debugLDIFWrite(r);
+      r.toLDIF(b, wrapColumn);
+      b.append(EOL_BYTES);
+      return b;
+    }
+  }
+
+
+
   /**
    * If the provided exception is non-null, then it will be rethrown as an
    * unchecked exception or an IOException.
@@ -31,6 +31,7 @@ import java.text.ParseException;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.DNCache;
 import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.ResultCode;
 
@@ -57,6 +58,9 @@ public final class DNFileReader
   // The reader to use to read the DNs.
   private final BufferedReader reader;
 
+  // The cache to use when parsing DNs, if any.
+  private final DNCache dnCache;
+
   // The file from which the DNs are being read.
   private final File dnFile;
 
@@ -92,7 +96,28 @@ public final class DNFileReader
   public DNFileReader(final File dnFile)
          throws IOException
   {
-    this.dnFile = dnFile;
+    this(dnFile, null);
+  }
+
+
+
+  /**
+   * Creates a new DN file reader that will read from the specified file, using
+   * the provided cache to avoid repeatedly parsing the same DNs.
+   *
+   * @param  dnFile   The file to be read.  It must not be {@code null} and the
+   *                  file must exist.
+   * @param  dnCache  The cache to use when parsing DNs.  It may be
+   *                  {@code null} if every DN should be parsed.
+   *
+   * @throws  IOException  If a problem is encountered while opening the file
+   *                       for reading.
+   */
+  public DNFileReader(final File dnFile, final DNCache dnCache)
+         throws IOException
+  {
+    this.dnFile  = dnFile;
+    this.dnCache = dnCache;
 
     reader = new BufferedReader(new FileReader(dnFile));
     lineNumberCounter = new AtomicLong(0L);
@@ -164,7 +189,14 @@ public final class DNFileReader
 
       try
       {
-        return new DN(dnString);
+        if (dnCache == null)
+        {
+          return new DN(dnString);
+        }
+        else
+        {
+          return dnCache.getDN(dnString);
+        }
       }
       catch (final LDAPException le)
       {
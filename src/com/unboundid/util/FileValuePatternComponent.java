@@ -55,6 +55,10 @@ final class FileValuePatternComponent
   // Indicates whether to iterate through the file in sequential order.
   private final boolean sequential;
 
+  // The amount by which the sequential counter should be incremented after
+  // each value.  It will be greater than one for a partitioned component.
+  private final long sequentialStep;
+
   // The lines that make up the data file.
   private final String[] lines;
 
@@ -86,6 +90,7 @@ final class FileValuePatternComponent
     // Create the random number generators that will be used.
     this.sequential   = sequential;
     sequentialCounter = new AtomicLong(0L);
+    sequentialStep    = 1L;
     seedRandom        = new Random(seed);
     random            = new ThreadLocal<Random>();
 
@@ -122,6 +127,47 @@ final class FileValuePatternComponent
 
 
 
+  /**
+   * Creates a new partitioned copy of the provided sequential component.
+   *
+   * @param  c               The component to copy.
+   * @param  partitionIndex  The index of the partition.
+   * @param  numPartitions   The total number of partitions.
+   */
+  private FileValuePatternComponent(final FileValuePatternComponent c,
+                                    final int partitionIndex,
+                                    final int numPartitions)
+  {
+    sequential        = true;
+    sequentialCounter = new AtomicLong(partitionIndex);
+    sequentialStep    = numPartitions;
+    seedRandom        = c.seedRandom;
+    random            = c.random;
+    lines             = c.lines;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  ValuePatternComponent forPartition(final int partitionIndex,
+                                     final int numPartitions)
+  {
+    if (sequential)
+    {
+      return new FileValuePatternComponent(this, partitionIndex,
+           numPartitions);
+    }
+    else
+    {
+      return this;
+    }
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -131,7 +177,8 @@ final class FileValuePatternComponent
     final int index;
     if (sequential)
     {
-      index = (int) (sequentialCounter.getAndIncrement() % lines.length);
+      index = (int) (sequentialCounter.getAndAdd(sequentialStep) %
+           lines.length);
     }
     else
     {
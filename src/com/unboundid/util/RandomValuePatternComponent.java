@@ -42,6 +42,10 @@ final class RandomValuePatternComponent
 
 
 
+  // The minimum number of digits to use when formatting values without a
+  // decimal format, or -1 if a decimal format is required.
+  private final int minimumDigits;
+
   // The lower bound for generated values.
   private final long lowerBound;
 
@@ -100,6 +104,7 @@ final class RandomValuePatternComponent
     random     = new ThreadLocal<Random>();
 
     this.formatString = formatString;
+    minimumDigits     = getMinimumDigits(formatString);
     decimalFormat     = new ThreadLocal<DecimalFormat>();
   }
 
@@ -119,9 +124,9 @@ final class RandomValuePatternComponent
     }
 
     final long value = ((r.nextLong() & 0x7FFFFFFF) % span) + lowerBound;
-    if (formatString == null)
+    if (minimumDigits > 0)
     {
-      buffer.append(value);
+      appendNumber(buffer, value, minimumDigits);
     }
     else
     {
@@ -30,7 +30,9 @@ import java.util.concurrent.atomic.AtomicLong;
 /**
  * This class defines a sequential numeric value pattern component, which will
  * generate numeric values in sequential order, optionally using an increment
- * and format string.
+ * and format string.  The component returned by the {@link #forPartition}
+ * method keeps track of its position in the sequence without any
+ * synchronization, and it should only be used by a single thread.
  */
 final class SequentialValuePatternComponent
       extends ValuePatternComponent
@@ -42,18 +44,45 @@ final class SequentialValuePatternComponent
 
 
 
-  // The next value to return.
+  // The minimum number of digits to use when formatting values without a
+  // decimal format, or -1 if a decimal format is required.
+  private final int minimumDigits;
+
+  // Indicates whether the next value returned by a partitioned component
+  // should be the first value in the sequence, which is not part of the cycle
+  // of values that will be repeated after wrapping around.
+  private boolean returnFirstValue;
+
+  // The next value to return.  This will be null for a partitioned component.
   private final AtomicLong nextValue;
 
+  // The first value in the cycle of values that will be repeated after the
+  // sequence wraps around.  This is the bound that the sequence wraps to.
+  private final long cycleStart;
+
+  // The first value in the sequence.
+  private final long firstValue;
+
   // The increment for this component.
   private final long increment;
 
   // The lower bound for this component.
   private final long lowerBound;
 
+  // The number of distinct values in the sequence, before it wraps around.
+  private final long numValues;
+
+  // The number of positions in the sequence to advance after generating each
+  // value in a partitioned component.
+  private final long partitionStep;
+
   // The upper bound for this component.
   private final long upperBound;
 
+  // The position in the sequence of the next value to return for a
+  // partitioned component.
+  private long partitionPosition;
+
   // The format string that will be used by the decimal formatter.
   private final String formatString;
 
@@ -111,9 +140,123 @@ final class SequentialValuePatternComponent
       }
     }
 
+    if (this.increment == 0L)
+    {
+      numValues = 1L;
+    }
+    else
+    {
+      final long range = this.upperBound - this.lowerBound;
+      if (range < 0L)
+      {
+        // The range is too large to be represented as a long.
+        numValues = Long.MAX_VALUE;
+      }
+      else
+      {
+        numValues = (range / Math.abs(this.increment)) + 1L;
+      }
+    }
+
     this.formatString = formatString;
+    minimumDigits     = getMinimumDigits(formatString);
     decimalFormat     = new ThreadLocal<DecimalFormat>();
+    firstValue        = lowerBound;
     nextValue         = new AtomicLong(lowerBound);
+    partitionStep     = 0L;
+    partitionPosition = 0L;
+    returnFirstValue  = false;
+
+    if (this.increment > 0L)
+    {
+      cycleStart = this.lowerBound;
+    }
+    else if (this.increment < 0L)
+    {
+      cycleStart = this.upperBound;
+    }
+    else
+    {
+      cycleStart = firstValue;
+    }
+  }
+
+
+
+  /**
+   * Creates a new partitioned copy of the provided component.
+   *
+   * @param  c               The component to copy.
+   * @param  partitionIndex  The index of the partition.
+   * @param  numPartitions   The total number of partitions.
+   */
+  private SequentialValuePatternComponent(
+               final SequentialValuePatternComponent c,
+               final int partitionIndex, final int numPartitions)
+  {
+    lowerBound    = c.lowerBound;
+    upperBound    = c.upperBound;
+    increment     = c.increment;
+    numValues     = c.numValues;
+    firstValue    = c.firstValue;
+    cycleStart    = c.cycleStart;
+    formatString  = c.formatString;
+    minimumDigits = c.minimumDigits;
+    decimalFormat = c.decimalFormat;
+    nextValue     = null;
+
+    // Determine the position in the cycle of the first value in the sequence.
+    // The first value is always one of the bounds, and if it isn't the bound
+    // that the sequence wraps to, then it may not be reachable from the other
+    // bound using the increment.  In that case, it will only be returned once,
+    // and the cycle will begin with the second value in the sequence.
+    final long firstPosition;
+    if (increment == 0L)
+    {
+      firstPosition    = 0L;
+      returnFirstValue = false;
+    }
+    else
+    {
+      final long absIncrement = Math.abs(increment);
+      final long distance = Math.abs(firstValue - cycleStart);
+      if ((distance % absIncrement) == 0L)
+      {
+        firstPosition    = (distance / absIncrement) % numValues;
+        returnFirstValue = false;
+      }
+      else
+      {
+        firstPosition    = numValues - 1L;
+        returnFirstValue = (partitionIndex == 0);
+      }
+    }
+
+    long position = partitionIndex % numValues;
+    if (position >= (numValues - firstPosition))
+    {
+      position -= (numValues - firstPosition);
+    }
+    else
+    {
+      position += firstPosition;
+    }
+
+    partitionPosition = position;
+    partitionStep     = numPartitions % numValues;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  ValuePatternComponent forPartition(final int partitionIndex,
+                                     final int numPartitions)
+  {
+    return new SequentialValuePatternComponent(this, partitionIndex,
+         numPartitions);
   }
 
 
@@ -124,6 +267,34 @@ final class SequentialValuePatternComponent
   @Override()
   void append(final StringBuilder buffer)
   {
+    if (nextValue == null)
+    {
+      // This is a partitioned component, so it doesn't need to share the
+      // position with any other thread.
+      final long value;
+      if (returnFirstValue)
+      {
+        value = firstValue;
+        returnFirstValue = false;
+      }
+      else
+      {
+        value = cycleStart + (partitionPosition * increment);
+      }
+
+      if (partitionPosition >= (numValues - partitionStep))
+      {
+        partitionPosition -= (numValues - partitionStep);
+      }
+      else
+      {
+        partitionPosition += partitionStep;
+      }
+
+      appendValue(buffer, value);
+      return;
+    }
+
     long value = nextValue.getAndAdd(increment);
     if (value > upperBound)
     {
@@ -164,9 +335,23 @@ final class SequentialValuePatternComponent
       }
     }
 
-    if (formatString == null)
+    appendValue(buffer, value);
+  }
+
+
+
+  /**
+   * Appends the provided value to the given buffer, using the format string
+   * if appropriate.
+   *
+   * @param  buffer  The buffer to which the value should be appended.
+   * @param  value   The value to append.
+   */
+  private void appendValue(final StringBuilder buffer, final long value)
+  {
+    if (minimumDigits > 0)
     {
-      buffer.append(value);
+      appendNumber(buffer, value, minimumDigits);
     }
     else
     {
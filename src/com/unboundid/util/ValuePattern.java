@@ -205,6 +205,16 @@ import static com.unboundid.util.UtilityMessages.*;
  *       value pattern in which the organization number will be the same as the
  *       randomly-selected user number.</LI>
  * </UL>
+ * <BR>
+ * A value pattern may be used concurrently by any number of threads, but any
+ * sequential components will need to share their position in the sequence
+ * across those threads.  Applications that need to generate values at a very
+ * high rate from multiple threads may instead use the
+ * {@link #newGenerator(int,int)} method to obtain a separate
+ * {@link ValuePatternGenerator} for each thread.  Each generator is assigned
+ * its own partition of the values in each sequential component, so the
+ * generators don't need to share any state with each other, and a generator
+ * can also generate values directly as byte arrays or octet strings.
  */
 @NotMutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
@@ -957,9 +967,87 @@ incrementLoop:
       }
     }
 
+    appendValue(buffer, components, refList);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Creates a new generator that may be used by a single thread to generate
+   * values from this value pattern.  The generator will share the position of
+   * any sequential components with this value pattern and any other
+   * generators created with this method.
+   *
+   * @return  The generator that was created.
+   */
+  public ValuePatternGenerator newGenerator()
+  {
+    return new ValuePatternGenerator(this, components, hasBackReference);
+  }
+
+
+
+  /**
+   * Creates a new generator that may be used by a single thread to generate
+   * values for one partition of this value pattern.  Each sequential component
+   * in the generator will generate every {@code numPartitions}th value,
+   * starting with the value at the provided partition index, and it will keep
+   * track of its position without any synchronization.  The values generated
+   * by a set of generators created for each partition index will therefore be
+   * the same as those generated by a single sequential pattern, but they may
+   * be generated concurrently with no contention.  Components that do not
+   * generate values in a sequential order will be shared with this value
+   * pattern.
+   *
+   * @param  partitionIndex  The index of the partition for which to create the
+   *                         generator.  It must be greater than or equal to
+   *                         zero and less than the number of partitions.
+   * @param  numPartitions   The total number of partitions.  It must be
+   *                         greater than zero.
+   *
+   * @return  The generator that was created.
+   */
+  public ValuePatternGenerator newGenerator(final int partitionIndex,
+                                            final int numPartitions)
+  {
+    Validator.ensureTrue(((numPartitions > 0) && (partitionIndex >= 0) &&
+         (partitionIndex < numPartitions)),
+         "ValuePattern.newGenerator.partitionIndex must be between zero and " +
+              "numPartitions-1, and numPartitions must be greater than zero.");
+
+    final ValuePatternComponent[] partitionComponents =
+         new ValuePatternComponent[components.length];
+    for (int i=0; i < components.length; i++)
+    {
+      partitionComponents[i] =
+           components[i].forPartition(partitionIndex, numPartitions);
+    }
+
+    return new ValuePatternGenerator(this, partitionComponents,
+         hasBackReference);
+  }
+
+
+
+  /**
+   * Appends the next value generated by the provided components to the given
+   * buffer.
+   *
+   * @param  buffer      The buffer to which the value should be appended.
+   * @param  components  The components to use to generate the value.
+   * @param  refList     The list to use to hold values for back-references.
+   *                     It must be empty, and it must be {@code null} if and
+   *                     only if the pattern does not have any
+   *                     back-references.
+   */
+  static void appendValue(final StringBuilder buffer,
+                          final ValuePatternComponent[] components,
+                          final ArrayList<String> refList)
+  {
     for (final ValuePatternComponent c : components)
     {
-      if (hasBackReference)
+      if (refList != null)
       {
         if (c instanceof BackReferenceValuePatternComponent)
         {
@@ -985,8 +1073,6 @@ incrementLoop:
         c.append(buffer);
       }
     }
-
-    return buffer.toString();
   }
 
 
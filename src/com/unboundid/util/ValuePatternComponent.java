@@ -60,4 +60,133 @@ abstract class ValuePatternComponent
    *          back reference, or {@code false} if not.
    */
   abstract boolean supportsBackReference();
+
+
+
+  /**
+   * Retrieves a component that may be used by a single
+   * {@link ValuePatternGenerator} to generate the values for one partition of
+   * this component's output.  If this component generates values in a
+   * sequential order, then the component for partition {@code i} of
+   * {@code n} should generate every {@code n}th value, starting with the
+   * {@code i}th value, so that the partitions together generate the same
+   * values as this component without the need to share any state.  The
+   * returned component will only be used by a single thread.  The default
+   * implementation simply returns this component.
+   *
+   * @param  partitionIndex  The index of the partition, which will be greater
+   *                         than or equal to zero and less than the number of
+   *                         partitions.
+   * @param  numPartitions   The total number of partitions.  It will be
+   *                         greater than zero.
+   *
+   * @return  The component to use for the specified partition.
+   */
+  ValuePatternComponent forPartition(final int partitionIndex,
+                                     final int numPartitions)
+  {
+    return this;
+  }
+
+
+
+  /**
+   * Retrieves the minimum number of digits that will be generated when
+   * formatting an integer value with the provided format string, if it is a
+   * simple format string that only contains zero or more "#" characters
+   * followed by one or more "0" characters.  Values for such format strings
+   * may be formatted with the {@link #appendNumber} method, which is much
+   * more efficient than using a {@code DecimalFormat}.
+   *
+   * @param  formatString  The format string to examine.  It may be
+   *                       {@code null} if no format string was provided.
+   *
+   * @return  The minimum number of digits for the provided format string, or
+   *          -1 if it is not a simple format string.
+   */
+  static int getMinimumDigits(final String formatString)
+  {
+    if (formatString == null)
+    {
+      return 1;
+    }
+
+    int numZeros = 0;
+    for (int i=0; i < formatString.length(); i++)
+    {
+      switch (formatString.charAt(i))
+      {
+        case '#':
+          if (numZeros > 0)
+          {
+            return -1;
+          }
+          break;
+
+        case '0':
+          numZeros++;
+          break;
+
+        default:
+          return -1;
+      }
+    }
+
+    if (numZeros == 0)
+    {
+      return -1;
+    }
+
+    return numZeros;
+  }
+
+
+
+  /**
+   * Appends the string representation of the provided value to the given
+   * buffer, padded with leading zeros so that it has at least the specified
+   * number of digits.  This will generate the same representation as a
+   * {@code DecimalFormat} for a simple format string with the same number of
+   * zeros, but without creating any objects.
+   *
+   * @param  buffer     The buffer to which the value should be appended.
+   * @param  value      The value to append.
+   * @param  minDigits  The minimum number of digits to include.
+   */
+  static void appendNumber(final StringBuilder buffer, final long value,
+                           final int minDigits)
+  {
+    if (minDigits > 1)
+    {
+      if (value < 0L)
+      {
+        buffer.append('-');
+      }
+
+      int numDigits = 1;
+      for (long v = (value / 10L); v != 0L; v /= 10L)
+      {
+        numDigits++;
+      }
+
+      for (int i=numDigits; i < minDigits; i++)
+      {
+        buffer.append('0');
+      }
+
+      if (value == Long.MIN_VALUE)
+      {
+        // The absolute value of this can't be represented as a long.
+        buffer.append("9223372036854775808");
+      }
+      else
+      {
+        buffer.append(Math.abs(value));
+      }
+    }
+    else
+    {
+      buffer.append(value);
+    }
+  }
 }
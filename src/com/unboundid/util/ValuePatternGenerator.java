@@ -0,0 +1,214 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.util.ArrayList;
+
+import com.unboundid.asn1.ASN1OctetString;
+
+
+
+/**
+ * This class provides a mechanism for generating values from a
+ * {@link ValuePattern} that is intended to be used by only a single thread.
+ * It holds its own buffer and back-reference list rather than obtaining them
+ * from thread-local storage, and if it was created for a partition of the
+ * value pattern with the {@link ValuePattern#newGenerator(int,int)} method,
+ * then its sequential components will not share any state with any other
+ * thread.  It can also generate values directly as byte arrays or octet
+ * strings without the need to create an intermediate string.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+public final class ValuePatternGenerator
+{
+  // The list that will be used to hold values for back-references, if
+  // applicable.
+  private final ArrayList<String> refList;
+
+  // The buffer that will be used to build values.
+  private final StringBuilder buffer;
+
+  // The value pattern with which this generator is associated.
+  private final ValuePattern valuePattern;
+
+  // The value pattern components that will be used to generate values.
+  private final ValuePatternComponent[] components;
+
+
+
+  /**
+   * Creates a new value pattern generator with the provided information.
+   *
+   * @param  valuePattern      The value pattern with which this generator is
+   *                           associated.
+   * @param  components        The components to use to generate values.
+   * @param  hasBackReference  Indicates whether the value pattern includes one
+   *                           or more back-references.
+   */
+  ValuePatternGenerator(final ValuePattern valuePattern,
+                        final ValuePatternComponent[] components,
+                        final boolean hasBackReference)
+  {
+    this.valuePattern = valuePattern;
+    this.components   = components;
+
+    buffer = new StringBuilder();
+    if (hasBackReference)
+    {
+      refList = new ArrayList<String>(10);
+    }
+    else
+    {
+      refList = null;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the value pattern with which this generator is associated.
+   *
+   * @return  The value pattern with which this generator is associated.
+   */
+  public ValuePattern getValuePattern()
+  {
+    return valuePattern;
+  }
+
+
+
+  /**
+   * Generates the next value into the buffer.
+   */
+  private void generate()
+  {
+    buffer.setLength(0);
+    if (refList != null)
+    {
+      refList.clear();
+    }
+
+    ValuePattern.appendValue(buffer, components, refList);
+  }
+
+
+
+  /**
+   * Retrieves the next value generated from the value pattern.
+   *
+   * @return  The next value generated from the value pattern.
+   */
+  public String nextValue()
+  {
+    generate();
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Retrieves the UTF-8 representation of the next value generated from the
+   * value pattern.
+   *
+   * @return  The UTF-8 representation of the next value generated from the
+   *          value pattern.
+   */
+  public byte[] nextValueBytes()
+  {
+    generate();
+
+    final int length = buffer.length();
+    final byte[] b = new byte[length];
+    for (int i=0; i < length; i++)
+    {
+      final char c = buffer.charAt(i);
+      if (c <= 0x7F)
+      {
+        b[i] = (byte) c;
+      }
+      else
+      {
+        return StaticUtils.getBytes(buffer.toString());
+      }
+    }
+
+    return b;
+  }
+
+
+
+  /**
+   * Appends the UTF-8 representation of the next value generated from the
+   * value pattern to the provided buffer.
+   *
+   * @param  byteBuffer  The buffer to which the value should be appended.
+   */
+  public void nextValue(final ByteStringBuffer byteBuffer)
+  {
+    generate();
+
+    final int length = buffer.length();
+    for (int i=0; i < length; i++)
+    {
+      final char c = buffer.charAt(i);
+      if (c <= 0x7F)
+      {
+        byteBuffer.append((byte) c);
+      }
+      else
+      {
+        byteBuffer.append(StaticUtils.getBytes(buffer.substring(i)));
+        return;
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the next value generated from the value pattern as an octet
+   * string.
+   *
+   * @return  The next value generated from the value pattern as an octet
+   *          string.
+   */
+  public ASN1OctetString nextValueAsOctetString()
+  {
+    return new ASN1OctetString(nextValueBytes());
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this generator, which will be the
+   * original pattern string used to create the associated value pattern.
+   *
+   * @return  A string representation of this generator.
+   */
+  @Override()
+  public String toString()
+  {
+    return valuePattern.toString();
+  }
+}
@@ -22,14 +22,16 @@ package com.unboundid.util.json;
 
 
 
-import java.io.BufferedInputStream;
 import java.io.Closeable;
 import java.io.InputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import com.unboundid.util.ByteStringBuffer;
 import com.unboundid.util.Debug;
@@ -45,13 +47,37 @@ import static com.unboundid.util.json.JSONMessages.*;
  * This class provides a mechanism for reading JSON objects from an input
  * stream.  It assumes that any non-ASCII data that may be read from the input
  * stream is encoded as UTF-8.
+ * <BR><BR>
+ * Data is read from the input stream in bulk into an internal buffer, and the
+ * bytes that make up each object are decoded directly from that buffer rather
+ * than being copied elsewhere.  If only a few fields are needed from each
+ * object (as is often the case when processing log files), then the
+ * {@link #readObject(Set)} method may be used to retrieve only those fields,
+ * skipping over the values of all other fields without decoding them into
+ * {@link JSONValue} objects.
  */
 @ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
 public final class JSONObjectReader
        implements Closeable
 {
-  // The buffer used to hold the bytes of the object currently being read.
-  private final ByteStringBuffer currentObjectBytes;
+  /**
+   * The initial size to use for the read buffer.
+   */
+  private static final int INITIAL_BUFFER_SIZE = 8192;
+
+
+
+  /**
+   * The maximum number of digits that a number may have in order to be decoded
+   * without using a {@code BigDecimal} to parse its string representation.
+   */
+  private static final int MAX_FAST_NUMBER_DIGITS = 18;
+
+
+
+  // The buffer used to hold data read from the input stream.  It will be grown
+  // as necessary to hold all of the bytes of the object currently being read.
+  private byte[] readBuffer;
 
   // A buffer to use to hold strings being decoded.
   private final ByteStringBuffer stringBuffer;
@@ -59,6 +85,17 @@ public final class JSONObjectReader
   // The input stream from which JSON objects will be read.
   private final InputStream inputStream;
 
+  // The position in the read buffer at which the object currently being read
+  // begins, or -1 if an object is not currently being read.
+  private int objectStartPos;
+
+  // The position in the read buffer of the next byte to be read.
+  private int readPos;
+
+  // The position in the read buffer immediately after the last byte that has
+  // been read from the input stream.
+  private int readLimit;
+
 
 
   /**
@@ -69,10 +106,13 @@ public final class JSONObjectReader
    */
   public JSONObjectReader(final InputStream inputStream)
   {
-    this.inputStream = new BufferedInputStream(inputStream);
+    this.inputStream = inputStream;
 
-    currentObjectBytes = new ByteStringBuffer();
+    readBuffer = new byte[INITIAL_BUFFER_SIZE];
     stringBuffer = new ByteStringBuffer();
+    objectStartPos = -1;
+    readPos = 0;
+    readLimit = 0;
   }
 
 
@@ -90,17 +130,93 @@ public final class JSONObjectReader
    */
   public JSONObject readObject()
          throws IOException, JSONException
+  {
+    if (! startObject())
+    {
+      return null;
+    }
+
+    final LinkedHashMap<String,JSONValue> m =
+         new LinkedHashMap<String,JSONValue>(10);
+    readObject(m, null);
+
+    final JSONObject o = new JSONObject(m, new String(readBuffer,
+         objectStartPos, (readPos - objectStartPos), StandardCharsets.UTF_8));
+    objectStartPos = -1;
+    return o;
+  }
+
+
+
+  /**
+   * Reads the next JSON object from the input stream, but only decodes the
+   * values of the specified top-level fields.  The values of all other fields
+   * will be parsed only to the extent needed to find the end of each value,
+   * and will not be included in the object that is returned.  The entire object
+   * will still be validated, so this method will throw an exception for any
+   * object that would cause the {@link #readObject()} method to throw an
+   * exception.
+   *
+   * @param  fieldNames  The names of the top-level fields to include in the
+   *                     object that is returned.  Field names are treated in a
+   *                     case-sensitive manner.  It must not be {@code null}.
+   *
+   * @return  A JSON object containing only those of the specified fields that
+   *          are present in the next object read from the input stream, or
+   *          {@code null} if the end of the stream has been reached.
+   *
+   * @throws  IOException  If a problem is encountered while reading from the
+   *                       input stream.
+   *
+   * @throws  JSONException  If the data read cannot be parsed as a valid JSON
+   *                         object.
+   */
+  public JSONObject readObject(final Set<String> fieldNames)
+         throws IOException, JSONException
+  {
+    if (! startObject())
+    {
+      return null;
+    }
+
+    final LinkedHashMap<String,JSONValue> m =
+         new LinkedHashMap<String,JSONValue>(10);
+    readObject(m, fieldNames);
+
+    objectStartPos = -1;
+    return new JSONObject(m);
+  }
+
+
+
+  /**
+   * Skips over any whitespace before the next object in the input stream and
+   * reads the opening curly brace that must start that object.
+   *
+   * @return  {@code true} if the start of an object was read, or {@code false}
+   *          if the end of the input stream was reached.
+   *
+   * @throws  IOException  If a problem is encountered while reading from the
+   *                       input stream.
+   *
+   * @throws  JSONException  If the next token in the input stream is not an
+   *                         opening curly brace.
+   */
+  private boolean startObject()
+          throws IOException, JSONException
   {
     // Skip over any whitespace before the beginning of the next object.
+    objectStartPos = -1;
     skipWhitespace();
-    currentObjectBytes.clear();
+    objectStartPos = readPos;
 
 
     // The JSON object must start with an open curly brace.
     final Object firstToken = readToken(true);
     if (firstToken == null)
     {
-      return null;
+      objectStartPos = -1;
+      return false;
     }
 
     if (! firstToken.equals('{'))
@@ -109,11 +225,7 @@ public final class JSONObjectReader
            String.valueOf(firstToken)));
     }
 
-    final LinkedHashMap<String,JSONValue> m =
-         new LinkedHashMap<String,JSONValue>(10);
-    readObject(m);
-
-    return new JSONObject(m, currentObjectBytes.toString());
+    return true;
   }
 
 
@@ -169,8 +281,8 @@ public final class JSONObjectReader
   {
     skipWhitespace();
 
-    final Byte byteRead = readByte(allowEndOfStream);
-    if (byteRead == null)
+    final int byteRead = readByte(allowEndOfStream);
+    if (byteRead < 0)
     {
       return null;
     }
@@ -220,7 +332,7 @@ public final class JSONObjectReader
       default:
         throw new JSONException(
              ERR_OBJECT_READER_ILLEGAL_FIRST_CHAR_FOR_JSON_TOKEN.get(
-                  currentObjectBytes.length(), byteToCharString(byteRead)));
+                  getObjectPosition(), byteToCharString(byteRead)));
     }
   }
 
@@ -241,9 +353,8 @@ public final class JSONObjectReader
   {
     while (true)
     {
-      inputStream.mark(1);
-      final Byte byteRead = readByte(true);
-      if (byteRead == null)
+      final int byteRead = readByte(true);
+      if (byteRead < 0)
       {
         // We've reached the end of the input stream.
         return;
@@ -269,15 +380,15 @@ public final class JSONObjectReader
         case '/':
           // This probably starts a comment.  If so, then the next byte must be
           // either another forward slash or an asterisk.
-          final byte nextByte = readByte(false);
+          final int nextByte = readByte(false);
           if (nextByte == '/')
           {
             // Keep reading until we encounter a newline, a carriage return, or
             // the end of the input stream.
             while (true)
             {
-              final Byte commentByte = readByte(true);
-              if (commentByte == null)
+              final int commentByte = readByte(true);
+              if (commentByte < 0)
               {
                 return;
               }
@@ -295,10 +406,10 @@ public final class JSONObjectReader
             // error.
             while (true)
             {
-              final Byte commentByte = readByte(false);
+              final int commentByte = readByte(false);
               if (commentByte == '*')
               {
-                final Byte possibleSlashByte = readByte(false);
+                final int possibleSlashByte = readByte(false);
                 if (possibleSlashByte == '/')
                 {
                   break;
@@ -310,7 +421,7 @@ public final class JSONObjectReader
           {
             throw new JSONException(
                  ERR_OBJECT_READER_ILLEGAL_SLASH_SKIPPING_WHITESPACE.get(
-                      currentObjectBytes.length()));
+                      getObjectPosition()));
           }
           break;
 
@@ -319,8 +430,8 @@ public final class JSONObjectReader
           // the end of the input stream.
           while (true)
           {
-            final Byte commentByte = readByte(true);
-            if (commentByte == null)
+            final int commentByte = readByte(true);
+            if (commentByte < 0)
             {
               return;
             }
@@ -333,11 +444,9 @@ public final class JSONObjectReader
           break;
 
         default:
-          // We read a byte that isn't whitespace, so we'll need to reset the
-          // stream so it will be read again, and we'll also need to remove the
-          // that byte from the currentObjectBytes buffer.
-          inputStream.reset();
-          currentObjectBytes.setLength(currentObjectBytes.length() - 1);
+          // We read a byte that isn't whitespace, so we'll need to step back
+          // so that it will be read again.
+          readPos--;
           return;
       }
     }
@@ -354,8 +463,9 @@ public final class JSONObjectReader
    *                           the open parenthesis of the outermost JSON
    *                           object.
    *
-   * @return  The next byte read from the input stream, or {@code null} if the
-   *          end of the input stream has been reached and that is acceptable.
+   * @return  The next byte read from the input stream as an unsigned value, or
+   *          -1 if the end of the input stream has been reached and that is
+   *          acceptable.
    *
    * @throws  IOException  If a problem is encountered while reading from the
    *                       input stream.
@@ -363,26 +473,108 @@ public final class JSONObjectReader
    * @throws  JSONException  If the end of the input stream is reached when that
    *                         is not acceptable.
    */
-  private Byte readByte(final boolean allowEndOfStream)
+  private int readByte(final boolean allowEndOfStream)
           throws IOException, JSONException
   {
-    final int byteRead = inputStream.read();
-    if (byteRead < 0)
+    if ((readPos >= readLimit) && (! fillBuffer()))
     {
       if (allowEndOfStream)
       {
-        return null;
+        return -1;
       }
       else
       {
         throw new JSONException(ERR_OBJECT_READER_UNEXPECTED_END_OF_STREAM.get(
-             currentObjectBytes.length()));
+             getObjectPosition()));
+      }
+    }
+
+    return (readBuffer[readPos++] & 0xFF);
+  }
+
+
+
+  /**
+   * Reads more data from the input stream into the read buffer.  Any bytes
+   * that are no longer needed will be discarded from the buffer, and the buffer
+   * will be grown if it is full of bytes that belong to the object currently
+   * being read.  Positions in the buffer may change as a result of calling this
+   * method, so any positions that need to be preserved across calls should be
+   * held relative to the start of the current object.
+   *
+   * @return  {@code true} if at least one more byte was read into the buffer,
+   *          or {@code false} if the end of the input stream has been reached.
+   *
+   * @throws  IOException  If a problem is encountered while reading from the
+   *                       input stream.
+   */
+  private boolean fillBuffer()
+          throws IOException
+  {
+    // Keep all bytes of the current object, or the last byte read if we're not
+    // in an object so that it's possible to step back over it.
+    final int keepPos;
+    if (objectStartPos >= 0)
+    {
+      keepPos = objectStartPos;
+    }
+    else
+    {
+      keepPos = Math.max(0, (readPos - 1));
+    }
+
+    if (keepPos > 0)
+    {
+      System.arraycopy(readBuffer, keepPos, readBuffer, 0,
+           (readLimit - keepPos));
+      readLimit -= keepPos;
+      readPos -= keepPos;
+      if (objectStartPos >= 0)
+      {
+        objectStartPos -= keepPos;
+      }
+    }
+
+    if (readLimit == readBuffer.length)
+    {
+      final byte[] newBuffer = new byte[readBuffer.length * 2];
+      System.arraycopy(readBuffer, 0, newBuffer, 0, readLimit);
+      readBuffer = newBuffer;
+    }
+
+    while (true)
+    {
+      final int bytesRead = inputStream.read(readBuffer, readLimit,
+           (readBuffer.length - readLimit));
+      if (bytesRead < 0)
+      {
+        return false;
+      }
+      else if (bytesRead > 0)
+      {
+        readLimit += bytesRead;
+        return true;
       }
     }
+  }
+
 
-    final byte b = (byte) (byteRead & 0xFF);
-    currentObjectBytes.append(b);
-    return b;
+
+  /**
+   * Retrieves the number of bytes of the current object that have been read.
+   *
+   * @return  The number of bytes of the current object that have been read.
+   */
+  private int getObjectPosition()
+  {
+    if (objectStartPos >= 0)
+    {
+      return (readPos - objectStartPos);
+    }
+    else
+    {
+      return 0;
+    }
   }
 
 
@@ -402,15 +594,42 @@ public final class JSONObjectReader
   private JSONString readString()
           throws IOException, JSONException
   {
-    // Use a buffer to hold the string being decoded.  Also mark the current
-    // position in the bytes that comprise the string representation so that
-    // the JSON string representation (including the opening quote) will be
-    // exactly as it was provided.
+    // Most strings contain only printable ASCII characters and no escapes, so
+    // first try to find the end of the string in the data that has already
+    // been read.  If we can, then both string representations can be created
+    // directly from the read buffer.
+    final int jsonStringStartPos = readPos - 1 - objectStartPos;
+    int pos = readPos;
+    while (pos < readLimit)
+    {
+      final byte b = readBuffer[pos];
+      if (b == '"')
+      {
+        final int length = pos - readPos;
+        final String javaString = new String(readBuffer, readPos, length,
+             StandardCharsets.US_ASCII);
+        final String jsonString = new String(readBuffer, (readPos - 1),
+             (length + 2), StandardCharsets.US_ASCII);
+        readPos = pos + 1;
+        return new JSONString(javaString, jsonString);
+      }
+      else if ((b == '\\') || ((b & 0xFF) <= 0x1F) || ((b & 0x80) == 0x80))
+      {
+        break;
+      }
+
+      pos++;
+    }
+
+
+    // Use a buffer to hold the string being decoded, starting with any
+    // characters that we have already examined.
     stringBuffer.clear();
-    final int jsonStringStartPos = currentObjectBytes.length() - 1;
+    stringBuffer.append(readBuffer, readPos, (pos - readPos));
+    readPos = pos;
     while (true)
     {
-      final Byte byteRead = readByte(false);
+      final int byteRead = readByte(false);
 
       // See if it's a non-ASCII byte.  If so, then assume that it's UTF-8 and
       // read the appropriate number of remaining bytes.  We need to handle this
@@ -425,8 +644,8 @@ public final class JSONObjectReader
           // It's a two-byte character.
           charBytes = new byte[]
           {
-            byteRead,
-            readByte(false)
+            (byte) byteRead,
+            (byte) readByte(false)
           };
         }
         else if ((byteRead & 0xF0) == 0xE0)
@@ -434,9 +653,9 @@ public final class JSONObjectReader
           // It's a three-byte character.
           charBytes = new byte[]
           {
-            byteRead,
-            readByte(false),
-            readByte(false)
+            (byte) byteRead,
+            (byte) readByte(false),
+            (byte) readByte(false)
           };
         }
         else if ((byteRead & 0xF8) == 0xF0)
@@ -444,10 +663,10 @@ public final class JSONObjectReader
           // It's a four-byte character.
           charBytes = new byte[]
           {
-            byteRead,
-            readByte(false),
-            readByte(false),
-            readByte(false)
+            (byte) byteRead,
+            (byte) readByte(false),
+            (byte) readByte(false),
+            (byte) readByte(false)
           };
         }
         else
@@ -455,8 +674,8 @@ public final class JSONObjectReader
           // This isn't a valid UTF-8 sequence.
           throw new JSONException(
                ERR_OBJECT_READER_INVALID_UTF_8_BYTE_IN_STREAM.get(
-                    currentObjectBytes.length(),
-                    "0x" + StaticUtils.toHex(byteRead)));
+                    getObjectPosition(),
+                    "0x" + StaticUtils.toHex((byte) byteRead)));
         }
 
         stringBuffer.append(new String(charBytes, StandardCharsets.UTF_8));
@@ -469,13 +688,13 @@ public final class JSONObjectReader
       // string.
       if (byteRead == '\\')
       {
-        final byte nextByte = readByte(false);
+        final int nextByte = readByte(false);
         switch (nextByte)
         {
           case '"':
           case '\\':
           case '/':
-            stringBuffer.append(nextByte);
+            stringBuffer.append((byte) nextByte);
             break;
           case 'b':
             stringBuffer.append('\b');
@@ -495,10 +714,10 @@ public final class JSONObjectReader
           case 'u':
             final char[] hexChars =
             {
-              (char) (readByte(false) & 0xFF),
-              (char) (readByte(false) & 0xFF),
-              (char) (readByte(false) & 0xFF),
-              (char) (readByte(false) & 0xFF)
+              (char) readByte(false),
+              (char) readByte(false),
+              (char) readByte(false),
+              (char) readByte(false)
             };
 
             try
@@ -511,14 +730,14 @@ public final class JSONObjectReader
               Debug.debugException(e);
               throw new JSONException(
                    ERR_OBJECT_READER_INVALID_UNICODE_ESCAPE.get(
-                        currentObjectBytes.length()),
+                        getObjectPosition()),
                    e);
             }
             break;
           default:
             throw new JSONException(
                  ERR_OBJECT_READER_INVALID_ESCAPED_CHAR.get(
-                      currentObjectBytes.length(), byteToCharString(nextByte)));
+                      getObjectPosition(), byteToCharString(nextByte)));
         }
         continue;
       }
@@ -526,22 +745,20 @@ public final class JSONObjectReader
       if (byteRead == '"')
       {
         // It's an unescaped quote, so it marks the end of the string.
+        final int startPos = objectStartPos + jsonStringStartPos;
         return new JSONString(stringBuffer.toString(),
-             new String(currentObjectBytes.getBackingArray(),
-                  jsonStringStartPos,
-                  (currentObjectBytes.length() - jsonStringStartPos),
+             new String(readBuffer, startPos, (readPos - startPos),
                   StandardCharsets.UTF_8));
       }
 
-      final int byteReadInt = (byteRead & 0xFF);
-      if ((byteRead & 0xFF) <= 0x1F)
+      if (byteRead <= 0x1F)
       {
         throw new JSONException(ERR_OBJECT_READER_UNESCAPED_CONTROL_CHAR.get(
-             currentObjectBytes.length(), byteToCharString(byteRead)));
+             getObjectPosition(), byteToCharString(byteRead)));
       }
       else
       {
-        stringBuffer.append((char) byteReadInt);
+        stringBuffer.append((char) byteRead);
       }
     }
   }
@@ -563,8 +780,7 @@ public final class JSONObjectReader
   private JSONBoolean readBoolean()
           throws IOException, JSONException
   {
-    final byte firstByte =
-         currentObjectBytes.getBackingArray()[currentObjectBytes.length() - 1];
+    final byte firstByte = readBuffer[readPos - 1];
     if (firstByte == 't')
     {
       if ((readByte(false) == 'r') &&
@@ -575,7 +791,7 @@ public final class JSONObjectReader
       }
 
       throw new JSONException(ERR_OBJECT_READER_INVALID_BOOLEAN_TRUE.get(
-           currentObjectBytes.length()));
+           getObjectPosition()));
     }
     else
     {
@@ -588,7 +804,7 @@ public final class JSONObjectReader
       }
 
       throw new JSONException(ERR_OBJECT_READER_INVALID_BOOLEAN_FALSE.get(
-           currentObjectBytes.length()));
+           getObjectPosition()));
     }
   }
 
@@ -617,7 +833,7 @@ public final class JSONObjectReader
     }
 
     throw new JSONException(ERR_OBJECT_READER_INVALID_NULL.get(
-         currentObjectBytes.length()));
+         getObjectPosition()));
   }
 
 
@@ -626,9 +842,6 @@ public final class JSONObjectReader
    * Reads a JSON number from the input stream.  The first byte of the number
    * will have already been read.
    *
-   * @throws  IOException  If a problem is encountered while reading from the
-   *                       input stream.
-   *
    * @return  The JSON number that was read.
    *
    * @throws  IOException  If a problem is encountered while reading from the
@@ -640,45 +853,58 @@ public final class JSONObjectReader
   private JSONNumber readNumber()
           throws IOException, JSONException
   {
-    // Use a buffer to hold the string representation of the number being
-    // decoded.  Since the first byte of the number has already been read, we'll
-    // need to add it into the buffer.
-    stringBuffer.clear();
-    stringBuffer.append(
-         currentObjectBytes.getBackingArray()[currentObjectBytes.length() - 1]);
-
-
     // Read until we encounter whitespace, a comma, a closing square bracket, or
-    // a closing curly brace.  Then try to parse what we read as a number.
+    // a closing curly brace.  The bytes of the number will remain in the read
+    // buffer, so we only need to remember where it starts.
+    final int numberStartPos = readPos - 1 - objectStartPos;
     while (true)
     {
-      // Mark the stream so that if we read a byte that isn't part of the
-      // number, we'll be able to rewind the stream so that byte will be read
-      // again by something else.
-      inputStream.mark(1);
+      final int b = readByte(false);
+      if ((b == ' ') || (b == '\t') || (b == '\n') || (b == '\r') ||
+          (b == ',') || (b == ']') || (b == '}'))
+      {
+        // This tell us we're at the end of the number.  Step back so that we
+        // can read this last byte again whatever tries to get the next token.
+        readPos--;
+        break;
+      }
+    }
+
+    final int startPos = objectStartPos + numberStartPos;
+    final int length = readPos - startPos;
+
 
-      final Byte b = readByte(false);
-      switch (b)
+    // If the number is a reasonably-sized integer without any unnecessary
+    // leading zeros, then we can decode it directly.  Otherwise, let the
+    // JSONNumber constructor parse and validate its string representation.
+    final boolean negative = (readBuffer[startPos] == '-');
+    final int numDigits = (negative ? (length - 1) : length);
+    final int firstDigitPos = (negative ? (startPos + 1) : startPos);
+    if ((numDigits > 0) && (numDigits <= MAX_FAST_NUMBER_DIGITS) &&
+        ((readBuffer[firstDigitPos] != '0') || (numDigits == 1 && ! negative)))
+    {
+      long value = 0L;
+      boolean allDigits = true;
+      for (int i=firstDigitPos; i < readPos; i++)
       {
-        case ' ':
-        case '\t':
-        case '\n':
-        case '\r':
-        case ',':
-        case ']':
-        case '}':
-          // This tell us we're at the end of the number.  Rewind the stream so
-          // that we can read this last byte again whatever tries to get the
-          // next token.  Also remove it from the end of currentObjectBytes
-          // since it will be re-added when it's read again.
-          inputStream.reset();
-          currentObjectBytes.setLength(currentObjectBytes.length() - 1);
-          return new JSONNumber(stringBuffer.toString());
+        final byte digit = readBuffer[i];
+        if ((digit < '0') || (digit > '9'))
+        {
+          allDigits = false;
+          break;
+        }
 
-        default:
-          stringBuffer.append(b);
+        value = (value * 10L) + (digit - '0');
+      }
+
+      if (allDigits)
+      {
+        return new JSONNumber(negative ? -value : value);
       }
     }
+
+    return new JSONNumber(new String(readBuffer, startPos, length,
+         StandardCharsets.UTF_8));
   }
 
 
@@ -687,7 +913,12 @@ public final class JSONObjectReader
    * Reads a JSON array from the input stream.  The opening square bracket will
    * have already been read.
    *
-   * @return  The JSON array that was read.
+   * @param  retainValues  Indicates whether to retain the values of the array.
+   *                       If this is {@code false}, then the array will be
+   *                       validated but its values will be discarded.
+   *
+   * @return  The JSON array that was read, or an empty array if the values
+   *          should not be retained.
    *
    * @throws  IOException  If a problem is encountered while reading from the
    *                       input stream.
@@ -695,12 +926,21 @@ public final class JSONObjectReader
    * @throws  JSONException  If a problem was encountered while reading the JSON
    *                         array.
    */
-  private JSONArray readArray()
+  private JSONArray readArray(final boolean retainValues)
           throws IOException, JSONException
   {
     // The opening square bracket will have already been consumed, so read
     // JSON values until we hit a closing square bracket.
-    final ArrayList<JSONValue> values = new ArrayList<JSONValue>(10);
+    final ArrayList<JSONValue> values;
+    if (retainValues)
+    {
+      values = new ArrayList<JSONValue>(10);
+    }
+    else
+    {
+      values = null;
+    }
+
     boolean firstToken = true;
     while (true)
     {
@@ -709,19 +949,18 @@ public final class JSONObjectReader
       // square bracket to denote the start of an embedded array, or an opening
       // curly brace to denote the start of an embedded JSON object.
       final Object token = readToken(false);
+      final JSONValue value;
       if (token instanceof JSONValue)
       {
-        values.add((JSONValue) token);
+        value = (JSONValue) token;
       }
       else if (token.equals('['))
       {
-        values.add(readArray());
+        value = readArray(retainValues);
       }
       else if (token.equals('{'))
       {
-        final LinkedHashMap<String,JSONValue> fieldMap =
-             new LinkedHashMap<String,JSONValue>(10);
-        values.add(readObject(fieldMap));
+        value = readEmbeddedObject(retainValues);
       }
       else if (token.equals(']') && firstToken)
       {
@@ -731,7 +970,12 @@ public final class JSONObjectReader
       else
       {
         throw new JSONException(ERR_OBJECT_READER_INVALID_TOKEN_IN_ARRAY.get(
-             currentObjectBytes.length(), String.valueOf(token)));
+             getObjectPosition(), String.valueOf(token)));
+      }
+
+      if (retainValues)
+      {
+        values.add(value);
       }
 
       firstToken = false;
@@ -743,13 +987,20 @@ public final class JSONObjectReader
       final Object nextToken = readToken(false);
       if (nextToken.equals(']'))
       {
-        return new JSONArray(values);
+        if (retainValues)
+        {
+          return new JSONArray(values);
+        }
+        else
+        {
+          return JSONArray.EMPTY_ARRAY;
+        }
       }
       else if (! nextToken.equals(','))
       {
         throw new JSONException(
              ERR_OBJECT_READER_INVALID_TOKEN_AFTER_ARRAY_VALUE.get(
-                  currentObjectBytes.length(), String.valueOf(nextToken)));
+                  getObjectPosition(), String.valueOf(nextToken)));
       }
     }
   }
@@ -757,14 +1008,51 @@ public final class JSONObjectReader
 
 
   /**
-   * Reads a JSON object from the input stream.  The opening curly brace will
-   * have already been read.
+   * Reads a JSON object embedded in an array or in the value of a field.  The
+   * opening curly brace will have already been read.
    *
-   * @param  fields  The map into which to place the fields that are read.  The
-   *                 returned object will include an unmodifiable view of this
-   *                 map, but the caller may use the map directly if desired.
+   * @param  retainValues  Indicates whether to retain the fields of the
+   *                       object.  If this is {@code false}, then the object
+   *                       will be validated but its fields will be discarded.
+   *
+   * @return  The JSON object that was read, or an empty object if the fields
+   *          should not be retained.
+   *
+   * @throws  IOException  If a problem is encountered while reading from the
+   *                       input stream.
+   *
+   * @throws  JSONException  If a problem was encountered while reading the JSON
+   *                         object.
+   */
+  private JSONObject readEmbeddedObject(final boolean retainValues)
+          throws IOException, JSONException
+  {
+    if (retainValues)
+    {
+      final LinkedHashMap<String,JSONValue> m =
+           new LinkedHashMap<String,JSONValue>(10);
+      readObject(m, null);
+      return new JSONObject(m);
+    }
+    else
+    {
+      readObject(new LinkedHashMap<String,JSONValue>(1),
+           Collections.<String>emptySet());
+      return JSONObject.EMPTY_OBJECT;
+    }
+  }
+
+
+
+  /**
+   * Reads the fields of a JSON object from the input stream.  The opening curly
+   * brace will have already been read.
    *
-   * @return  The JSON object that was read.
+   * @param  fields      The map into which to place the fields that are read.
+   * @param  fieldNames  The names of the fields whose values should be placed
+   *                     in the provided map.  The values of any other fields
+   *                     will be validated but discarded.  This may be
+   *                     {@code null} if all fields should be retained.
    *
    * @throws  IOException  If a problem is encountered while reading from the
    *                       input stream.
@@ -772,9 +1060,11 @@ public final class JSONObjectReader
    * @throws  JSONException  If a problem was encountered while reading the JSON
    *                         object.
    */
-  private JSONObject readObject(final Map<String,JSONValue> fields)
+  private void readObject(final Map<String,JSONValue> fields,
+                          final Set<String> fieldNames)
           throws IOException, JSONException
   {
+    Set<String> skippedFieldNames = null;
     boolean firstField = true;
     while (true)
     {
@@ -786,29 +1076,44 @@ public final class JSONObjectReader
       if (fieldNameToken instanceof JSONString)
       {
         fieldName = ((JSONString) fieldNameToken).stringValue();
-        if (fields.containsKey(fieldName))
+        if (fields.containsKey(fieldName) ||
+            ((skippedFieldNames != null) &&
+             skippedFieldNames.contains(fieldName)))
         {
           throw new JSONException(ERR_OBJECT_READER_DUPLICATE_FIELD.get(
-               currentObjectBytes.length(), fieldName));
+               getObjectPosition(), fieldName));
         }
       }
       else if (firstField && fieldNameToken.equals('}'))
       {
-        return new JSONObject(fields);
+        return;
       }
       else
       {
         throw new JSONException(ERR_OBJECT_READER_INVALID_TOKEN_IN_OBJECT.get(
-             currentObjectBytes.length(), String.valueOf(fieldNameToken)));
+             getObjectPosition(), String.valueOf(fieldNameToken)));
       }
       firstField = false;
 
+      // Determine whether we need to retain the value of this field.
+      final boolean retainValue =
+           ((fieldNames == null) || fieldNames.contains(fieldName));
+      if (! retainValue)
+      {
+        if (skippedFieldNames == null)
+        {
+          skippedFieldNames = new HashSet<String>(10);
+        }
+
+        skippedFieldNames.add(fieldName);
+      }
+
       // Read the next token.  It must be a colon.
       final Object colonToken = readToken(false);
       if (! colonToken.equals(':'))
       {
         throw new JSONException(ERR_OBJECT_READER_TOKEN_NOT_COLON.get(
-             currentObjectBytes.length(), String.valueOf(colonToken),
+             getObjectPosition(), String.valueOf(colonToken),
              String.valueOf(fieldNameToken)));
       }
 
@@ -817,42 +1122,44 @@ public final class JSONObjectReader
       // - An opening square bracket, designating the start of an array.
       // - An opening curly brace, designating the start of an object.
       final Object valueToken = readToken(false);
+      final JSONValue value;
       if (valueToken instanceof JSONValue)
       {
-        fields.put(fieldName, (JSONValue) valueToken);
+        value = (JSONValue) valueToken;
       }
       else if (valueToken.equals('['))
       {
-        final JSONArray a = readArray();
-        fields.put(fieldName, a);
+        value = readArray(retainValue);
       }
       else if (valueToken.equals('{'))
       {
-        final LinkedHashMap<String,JSONValue> m =
-             new LinkedHashMap<String,JSONValue>(10);
-        final JSONObject o = readObject(m);
-        fields.put(fieldName, o);
+        value = readEmbeddedObject(retainValue);
       }
       else
       {
         throw new JSONException(ERR_OBJECT_READER_TOKEN_NOT_VALUE.get(
-             currentObjectBytes.length(), String.valueOf(valueToken),
+             getObjectPosition(), String.valueOf(valueToken),
              String.valueOf(fieldNameToken)));
       }
 
+      if (retainValue)
+      {
+        fields.put(fieldName, value);
+      }
+
       // Read the next token.  It must be either a comma (to indicate that
       // there will be another field) or a closing curly brace (to indicate
       // that the end of the object has been reached).
       final Object separatorToken = readToken(false);
       if (separatorToken.equals('}'))
       {
-        return new JSONObject(fields);
+        return;
       }
       else if (! separatorToken.equals(','))
       {
         throw new JSONException(
              ERR_OBJECT_READER_INVALID_TOKEN_AFTER_OBJECT_VALUE.get(
-                  currentObjectBytes.length(), String.valueOf(separatorToken),
+                  getObjectPosition(), String.valueOf(separatorToken),
                   String.valueOf(fieldNameToken)));
       }
     }
@@ -867,19 +1174,20 @@ public final class JSONObjectReader
    * representation will be "0x" followed by the hexadecimal representation of
    * the byte.
    *
-   * @param  b  The byte for which to obtain the string representation.
+   * @param  b  The unsigned value of the byte for which to obtain the string
+   *            representation.
    *
    * @return  A string representation of the provided byte.
    */
-  private static String byteToCharString(final byte b)
+  private static String byteToCharString(final int b)
   {
     if ((b >= ' ') && (b <= '~'))
     {
-      return String.valueOf((char) (b & 0xFF));
+      return String.valueOf((char) b);
     }
     else
     {
-      return "0x" + StaticUtils.toHex(b);
+      return "0x" + StaticUtils.toHex((byte) b);
     }
   }
 }
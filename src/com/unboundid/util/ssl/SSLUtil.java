@@ -119,6 +119,34 @@ import static com.unboundid.util.ssl.SSLMessages.*;
  *
  * connection.close();
  * </PRE>
+ * <BR>
+ * <H2>Example 3</H2>
+ * The following example demonstrates the use of the SSL helper to create a
+ * connection pool whose connections share a bounded TLS session cache, so that
+ * connections created to replace expired or defunct connections can resume an
+ * existing session rather than performing a full handshake.
+ * <PRE>
+ * // Create an SSLUtil instance with a shared cache of up to 100 sessions that
+ * // may each be resumed for up to one hour.
+ * SSLUtil sslUtil = new SSLUtil(new TrustStoreTrustManager(trustStorePath));
+ * sslUtil.enableTLSSessionCache(100, 3600);
+ *
+ * // Create a connection pool that uses a socket factory from that instance.
+ * LDAPConnection connection =
+ *      new LDAPConnection(sslUtil.createSSLSocketFactory());
+ * connection.connect(serverAddress, serverSSLPort);
+ * LDAPConnectionPool connectionPool = new LDAPConnectionPool(connection, 10);
+ *
+ * // Process operations using the pool....
+ * RootDSE rootDSE = connectionPool.getRootDSE();
+ *
+ * // Determine how many handshakes were able to resume a cached session.
+ * TLSSessionCacheStatistics cacheStatistics =
+ *      sslUtil.getTLSSessionCacheStatistics();
+ * long numResumedHandshakes = cacheStatistics.getNumResumedHandshakes();
+ *
+ * connectionPool.close();
+ * </PRE>
  */
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 public final class SSLUtil
@@ -177,6 +205,9 @@ public final class SSLUtil
   // The set of trust managers to be used.
   private final TrustManager[] trustManagers;
 
+  // The TLS session cache to use for socket factories, if any.
+  private volatile TLSSessionCache tlsSessionCache;
+
 
 
   /**
@@ -351,6 +382,96 @@ public final class SSLUtil
 
 
 
+  /**
+   * Enables a bounded TLS session cache that will be shared by all of the
+   * socket factories subsequently obtained from the
+   * {@link #createSSLSocketFactory()} and
+   * {@link #createSSLSocketFactory(String)} methods.  Normally, each socket
+   * factory is backed by its own {@code SSLContext}, and therefore by its own
+   * session cache, so that a connection created with one socket factory
+   * cannot resume a session established by a connection created with a
+   * different one.  With the shared cache enabled, a single
+   * {@code SSLContext} will be used for each protocol, so any connection
+   * created from this {@code SSLUtil} instance (including those created by a
+   * {@code ServerSet} or by a connection pool replacing defunct or expired
+   * connections) may resume a session established by any other such
+   * connection to the same server, which avoids the cost of a full handshake.
+   * <BR><BR>
+   * Any existing cache will be replaced, so socket factories created before
+   * this method is called will not share sessions with those created
+   * afterward.
+   *
+   * @param  maxCachedSessions      The maximum number of sessions that will
+   *                                be cached for each protocol.  It must be
+   *                                greater than zero.
+   * @param  sessionTimeoutSeconds  The maximum length of time in seconds that
+   *                                a cached session may be resumed.  It must
+   *                                be greater than zero.
+   */
+  public void enableTLSSessionCache(final int maxCachedSessions,
+                                    final int sessionTimeoutSeconds)
+  {
+    ensureTrue((maxCachedSessions > 0),
+         "SSLUtil.enableTLSSessionCache.maxCachedSessions must be greater " +
+              "than zero.");
+    ensureTrue((sessionTimeoutSeconds > 0),
+         "SSLUtil.enableTLSSessionCache.sessionTimeoutSeconds must be " +
+              "greater than zero.");
+
+    tlsSessionCache =
+         new TLSSessionCache(maxCachedSessions, sessionTimeoutSeconds);
+  }
+
+
+
+  /**
+   * Disables the shared TLS session cache, if it is enabled.  Socket factories
+   * created after this method is called will each use their own session
+   * cache, although any socket factories created while the shared cache was
+   * enabled will continue to use it.
+   */
+  public void disableTLSSessionCache()
+  {
+    tlsSessionCache = null;
+  }
+
+
+
+  /**
+   * Indicates whether a shared TLS session cache is enabled for socket
+   * factories created from this {@code SSLUtil} instance.
+   *
+   * @return  {@code true} if a shared TLS session cache is enabled, or
+   *          {@code false} if not.
+   */
+  public boolean isTLSSessionCacheEnabled()
+  {
+    return (tlsSessionCache != null);
+  }
+
+
+
+  /**
+   * Retrieves the statistics for the TLS handshakes performed by sockets
+   * created with socket factories that use the shared TLS session cache,
+   * including the number of handshakes that resumed a cached session.
+   *
+   * @return  The statistics for the shared TLS session cache, or {@code null}
+   *          if the shared TLS session cache is not enabled.
+   */
+  public TLSSessionCacheStatistics getTLSSessionCacheStatistics()
+  {
+    final TLSSessionCache cache = tlsSessionCache;
+    if (cache == null)
+    {
+      return null;
+    }
+
+    return cache.getStatistics();
+  }
+
+
+
   /**
    * Creates an initialized SSL context created with the configured key and
    * trust managers.  It will use the protocol returned by the
@@ -440,6 +561,14 @@ public final class SSLUtil
   public SSLSocketFactory createSSLSocketFactory()
          throws GeneralSecurityException
   {
+    final TLSSessionCache cache = tlsSessionCache;
+    if (cache != null)
+    {
+      return new SetEnabledProtocolsSSLSocketFactory(
+           cache.getSSLSocketFactory(this, DEFAULT_SSL_PROTOCOL.get()),
+           ENABLED_SSL_PROTOCOLS.get());
+    }
+
     return new SetEnabledProtocolsSSLSocketFactory(
          createSSLContext().getSocketFactory(),
          ENABLED_SSL_PROTOCOLS.get());
@@ -465,6 +594,13 @@ public final class SSLUtil
   public SSLSocketFactory createSSLSocketFactory(final String protocol)
          throws GeneralSecurityException
   {
+    final TLSSessionCache cache = tlsSessionCache;
+    if (cache != null)
+    {
+      return new SetEnabledProtocolsSSLSocketFactory(
+           cache.getSSLSocketFactory(this, protocol), protocol);
+    }
+
     return new SetEnabledProtocolsSSLSocketFactory(
          createSSLContext(protocol).getSocketFactory(), protocol);
   }
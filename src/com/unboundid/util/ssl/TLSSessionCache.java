@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util.ssl;
+
+
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a bounded TLS session cache that may be shared by all of
+ * the socket factories created from an {@link SSLUtil} instance.  The session
+ * cache itself is the client session context maintained by the JSSE for an
+ * {@code SSLContext}, so this class ensures that a single SSL context (and
+ * therefore a single session context) is used for each protocol, and that the
+ * size and timeout of that session context are configured as requested.  Any
+ * connection created with a socket factory obtained from this cache may then
+ * resume a session established by any other such connection to the same
+ * server, which allows it to avoid the cost of a full handshake.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class TLSSessionCache
+{
+  // The SSL contexts that have been created for this cache, indexed by
+  // protocol.
+  private final ConcurrentHashMap<String,SSLContext> sslContexts;
+
+  // The maximum number of sessions that will be cached for each protocol.
+  private final int maxCachedSessions;
+
+  // The maximum length of time in seconds that a cached session may be used.
+  private final int sessionTimeoutSeconds;
+
+  // The statistics for handshakes performed by sockets created from this
+  // cache.
+  private final TLSSessionCacheStatistics statistics;
+
+
+
+  /**
+   * Creates a new TLS session cache with the provided settings.
+   *
+   * @param  maxCachedSessions      The maximum number of sessions that will
+   *                                be cached for each protocol.  It must be
+   *                                greater than zero.
+   * @param  sessionTimeoutSeconds  The maximum length of time in seconds that
+   *                                a cached session may be used.  It must be
+   *                                greater than zero.
+   */
+  TLSSessionCache(final int maxCachedSessions, final int sessionTimeoutSeconds)
+  {
+    this.maxCachedSessions     = maxCachedSessions;
+    this.sessionTimeoutSeconds = sessionTimeoutSeconds;
+
+    sslContexts = new ConcurrentHashMap<String,SSLContext>(4);
+    statistics  = new TLSSessionCacheStatistics();
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of sessions that will be cached for each
+   * protocol.
+   *
+   * @return  The maximum number of sessions that will be cached for each
+   *          protocol.
+   */
+  int getMaxCachedSessions()
+  {
+    return maxCachedSessions;
+  }
+
+
+
+  /**
+   * Retrieves the maximum length of time in seconds that a cached session may
+   * be used.
+   *
+   * @return  The maximum length of time in seconds that a cached session may
+   *          be used.
+   */
+  int getSessionTimeoutSeconds()
+  {
+    return sessionTimeoutSeconds;
+  }
+
+
+
+  /**
+   * Retrieves the statistics for handshakes performed by sockets created from
+   * this cache.
+   *
+   * @return  The statistics for handshakes performed by sockets created from
+   *          this cache.
+   */
+  TLSSessionCacheStatistics getStatistics()
+  {
+    return statistics;
+  }
+
+
+
+  /**
+   * Retrieves an SSL socket factory that will use the session cache for the
+   * specified protocol.  The SSL context for that protocol will be created
+   * with the key and trust managers of the provided {@code SSLUtil} instance
+   * the first time that it is needed.
+   *
+   * @param  sslUtil   The {@code SSLUtil} instance to use to create the SSL
+   *                   context if necessary.
+   * @param  protocol  The SSL protocol to use.
+   *
+   * @return  An SSL socket factory that will use the session cache for the
+   *          specified protocol.
+   *
+   * @throws  GeneralSecurityException  If a problem occurs while creating or
+   *                                    initializing the SSL context.
+   */
+  SSLSocketFactory getSSLSocketFactory(final SSLUtil sslUtil,
+                                       final String protocol)
+         throws GeneralSecurityException
+  {
+    SSLContext sslContext = sslContexts.get(protocol);
+    if (sslContext == null)
+    {
+      final SSLContext newContext = sslUtil.createSSLContext(protocol);
+      final SSLSessionContext sessionContext =
+           newContext.getClientSessionContext();
+      if (sessionContext != null)
+      {
+        sessionContext.setSessionCacheSize(maxCachedSessions);
+        sessionContext.setSessionTimeout(sessionTimeoutSeconds);
+      }
+
+      sslContext = sslContexts.putIfAbsent(protocol, newContext);
+      if (sslContext == null)
+      {
+        sslContext = newContext;
+      }
+    }
+
+    return new TLSSessionCacheSSLSocketFactory(sslContext.getSocketFactory(),
+         statistics);
+  }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util.ssl;
+
+
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import javax.net.ssl.HandshakeCompletedEvent;
+import javax.net.ssl.HandshakeCompletedListener;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides an implementation of an {@code SSLSocketFactory} that
+ * will register a handshake completed listener with each socket that it
+ * creates so that the statistics for a {@link TLSSessionCache} can be updated
+ * to indicate whether the handshake resumed a cached session.
+ */
+@InternalUseOnly()
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.MOSTLY_THREADSAFE)
+final class TLSSessionCacheSSLSocketFactory
+      extends SSLSocketFactory
+{
+  // The SSL socket factory to which most of the work will be delegated.
+  private final SSLSocketFactory delegateFactory;
+
+  // The statistics to update when a handshake is completed.
+  private final TLSSessionCacheStatistics statistics;
+
+
+
+  /**
+   * Creates a new instance of this socket factory with the provided
+   * information.
+   *
+   * @param  delegateFactory  The SSL socket factory to which most processing
+   *                          will be delegated.
+   * @param  statistics       The statistics to update when a handshake is
+   *                          completed.
+   */
+  TLSSessionCacheSSLSocketFactory(final SSLSocketFactory delegateFactory,
+                                  final TLSSessionCacheStatistics statistics)
+  {
+    this.delegateFactory = delegateFactory;
+    this.statistics      = statistics;
+  }
+
+
+
+  /**
+   * Creates a new unconnected socket.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If the socket cannot be created.
+   */
+  @Override()
+  public Socket createSocket()
+         throws IOException
+  {
+    return addListener(delegateFactory.createSocket());
+  }
+
+
+
+  /**
+   * Creates a new socket with the provided information.
+   *
+   * @param  host  The remote address to which the socket should be connected.
+   * @param  port  The remote port to which the socket should be connected.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If the socket cannot be created.
+   */
+  @Override()
+  public Socket createSocket(final String host, final int port)
+         throws IOException
+  {
+    return addListener(delegateFactory.createSocket(host, port));
+  }
+
+
+
+  /**
+   * Creates a new socket with the provided information.
+   *
+   * @param  host       The remote address to which the socket should be
+   *                    connected.
+   * @param  port       The remote port to which the socket should be
+   *                    connected.
+   * @param  localHost  The local address to which the socket should be
+   *                    connected.
+   * @param  localPort  The local port to which the socket should be connected.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If the socket cannot be created.
+   */
+  @Override()
+  public Socket createSocket(final String host, final int port,
+                             final InetAddress localHost, final int localPort)
+         throws IOException
+  {
+    return addListener(
+         delegateFactory.createSocket(host, port, localHost, localPort));
+  }
+
+
+
+  /**
+   * Creates a new socket with the provided information.
+   *
+   * @param  host  The remote address to which the socket should be connected.
+   * @param  port  The remote port to which the socket should be connected.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If the socket cannot be created.
+   */
+  @Override()
+  public Socket createSocket(final InetAddress host, final int port)
+         throws IOException
+  {
+    return addListener(delegateFactory.createSocket(host, port));
+  }
+
+
+
+  /**
+   * Creates a new socket with the provided information.
+   *
+   * @param  host       The remote address to which the socket should be
+   *                    connected.
+   * @param  port       The remote port to which the socket should be
+   *                    connected.
+   * @param  localHost  The local address to which the socket should be
+   *                    connected.
+   * @param  localPort  The local port to which the socket should be connected.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If the socket cannot be created.
+   */
+  @Override()
+  public Socket createSocket(final InetAddress host, final int port,
+                             final InetAddress localHost, final int localPort)
+         throws IOException
+  {
+    return addListener(
+         delegateFactory.createSocket(host, port, localHost, localPort));
+  }
+
+
+
+  /**
+   * Creates a new socket that adds TLS protection to the provided socket.
+   *
+   * @param  s          The socket to use to create the {@code SSLSocket}.
+   * @param  host       The host to which the socket is connected.
+   * @param  port       The port to which the socket is connected.
+   * @param  autoClose  Indicates whether to close the underlying socket when
+   *                    the {@code SSLSocket} is closed.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If a problem is encountered while creating the
+   *                       socket.
+   */
+  @Override()
+  public Socket createSocket(final Socket s, final String host, final int port,
+                             final boolean autoClose)
+         throws IOException
+  {
+    return addListener(delegateFactory.createSocket(s, host, port, autoClose));
+  }
+
+
+
+  /**
+   * Retrieves the set of cipher suites that are enabled by default.
+   *
+   * @return  The set of cipher suites that are enabled by default.
+   */
+  @Override()
+  public String[] getDefaultCipherSuites()
+  {
+    return delegateFactory.getDefaultCipherSuites();
+  }
+
+
+
+  /**
+   * Retrieves the set of cipher suites that could be enabled.
+   *
+   * @return  The set of cipher suites that could be enabled.
+   */
+  @Override()
+  public String[] getSupportedCipherSuites()
+  {
+    return delegateFactory.getSupportedCipherSuites();
+  }
+
+
+
+  /**
+   * Registers a handshake completed listener with the provided socket if it is
+   * an SSL socket.  The handshake will not have been started at this point, so
+   * the listener will be notified when it completes.
+   *
+   * @param  socket  The socket with which to register the listener.
+   *
+   * @return  The provided socket.
+   */
+  private Socket addListener(final Socket socket)
+  {
+    if (socket instanceof SSLSocket)
+    {
+      ((SSLSocket) socket).addHandshakeCompletedListener(
+           new StatisticsHandshakeCompletedListener(statistics));
+    }
+
+    return socket;
+  }
+
+
+
+  /**
+   * This class provides a handshake completed listener that will determine
+   * whether a handshake resumed a cached session, and will update the
+   * associated statistics accordingly.  A session that was created before the
+   * socket was created must have been established by an earlier handshake, so
+   * the handshake must have resumed it.
+   */
+  private static final class StatisticsHandshakeCompletedListener
+          implements HandshakeCompletedListener
+  {
+    // The time that the associated socket was created.
+    private final long socketCreateTime;
+
+    // The statistics to update when the handshake is completed.
+    private final TLSSessionCacheStatistics statistics;
+
+
+
+    /**
+     * Creates a new instance of this listener.
+     *
+     * @param  statistics  The statistics to update when the handshake is
+     *                     completed.
+     */
+    private StatisticsHandshakeCompletedListener(
+                 final TLSSessionCacheStatistics statistics)
+    {
+      this.statistics = statistics;
+
+      socketCreateTime = System.currentTimeMillis();
+    }
+
+
+
+    /**
+     * Updates the statistics to reflect the completed handshake.
+     *
+     * @param  event  The handshake completed event.
+     */
+    @Override()
+    public void handshakeCompleted(final HandshakeCompletedEvent event)
+    {
+      statistics.incrementNumHandshakes(
+           event.getSession().getCreationTime() < socketCreateTime);
+    }
+  }
+}
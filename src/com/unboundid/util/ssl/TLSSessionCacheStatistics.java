@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util.ssl;
+
+
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.unboundid.util.Mutable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a set of statistics about the TLS handshakes performed
+ * by sockets created from an {@link SSLUtil} instance for which a TLS session
+ * cache has been enabled.  It may be used to determine how effective the cache
+ * is at allowing new connections to resume an existing TLS session rather than
+ * performing a full handshake.
+ * <BR><BR>
+ * A handshake is considered to have resumed an existing session if that
+ * session was created before the socket that performed the handshake.
+ *
+ * @see  SSLUtil#enableTLSSessionCache(int, int)
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class TLSSessionCacheStatistics
+{
+  // The number of handshakes that established a new session.
+  private final AtomicLong numFullHandshakes;
+
+  // The number of handshakes that resumed an existing session.
+  private final AtomicLong numResumedHandshakes;
+
+
+
+  /**
+   * Creates a new set of TLS session cache statistics with all counters set
+   * to zero.
+   */
+  TLSSessionCacheStatistics()
+  {
+    numFullHandshakes    = new AtomicLong(0L);
+    numResumedHandshakes = new AtomicLong(0L);
+  }
+
+
+
+  /**
+   * Resets all of the counters maintained by this statistics object.
+   */
+  public void reset()
+  {
+    numFullHandshakes.set(0L);
+    numResumedHandshakes.set(0L);
+  }
+
+
+
+  /**
+   * Retrieves the total number of TLS handshakes that have been completed.
+   *
+   * @return  The total number of TLS handshakes that have been completed.
+   */
+  public long getNumHandshakes()
+  {
+    return numFullHandshakes.get() + numResumedHandshakes.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of TLS handshakes that established a new session
+   * rather than resuming a cached session.
+   *
+   * @return  The number of TLS handshakes that established a new session.
+   */
+  public long getNumFullHandshakes()
+  {
+    return numFullHandshakes.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of TLS handshakes that resumed a cached session.
+   *
+   * @return  The number of TLS handshakes that resumed a cached session.
+   */
+  public long getNumResumedHandshakes()
+  {
+    return numResumedHandshakes.get();
+  }
+
+
+
+  /**
+   * Retrieves the percentage of completed TLS handshakes that resumed a cached
+   * session.
+   *
+   * @return  The percentage of completed TLS handshakes that resumed a cached
+   *          session, or zero if no handshakes have been completed.
+   */
+  public double getResumptionHitPercent()
+  {
+    final long full    = numFullHandshakes.get();
+    final long resumed = numResumedHandshakes.get();
+    final long total   = full + resumed;
+    if (total == 0L)
+    {
+      return 0.0d;
+    }
+
+    return 100.0d * resumed / total;
+  }
+
+
+
+  /**
+   * Updates the statistics to reflect a completed TLS handshake.
+   *
+   * @param  resumed  Indicates whether the handshake resumed a cached session.
+   */
+  void incrementNumHandshakes(final boolean resumed)
+  {
+    if (resumed)
+    {
+      numResumedHandshakes.incrementAndGet();
+    }
+    else
+    {
+      numFullHandshakes.incrementAndGet();
+    }
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this TLS session cache statistics
+   * object.
+   *
+   * @return  A string representation of this TLS session cache statistics
+   *          object.
+   */
+  @Override()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this TLS session cache statistics
+   * object to the provided buffer.
+   *
+   * @param  buffer  The buffer to which the string representation should be
+   *                 appended.
+   */
+  public void toString(final StringBuilder buffer)
+  {
+    buffer.append("TLSSessionCacheStatistics(numFullHandshakes=");
+    buffer.append(numFullHandshakes.get());
+    buffer.append(", numResumedHandshakes=");
+    buffer.append(numResumedHandshakes.get());
+    buffer.append(')');
+  }
+}
@@ -23,6 +23,7 @@ package com.unboundid.asn1;
 
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.File;
 import java.io.FileInputStream;
@@ -32,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import javax.security.sasl.SaslClient;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -1585,4 +1587,248 @@ public class ASN1StreamReaderTestCase
 
     reader.readUTCTime();
   }
+
+
+
+  /**
+   * Tests the behavior when reading buffered elements and decoding their
+   * contents from memory.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadBufferedElement()
+         throws Exception
+  {
+    final ASN1Buffer b = new ASN1Buffer();
+    final ASN1BufferSequence s = b.beginSequence();
+    b.addInteger(5);
+    b.addOctetString("foo");
+    b.addOctetString((byte) 0x80, StaticUtils.getBytes("bar"));
+    b.addOctetString(new byte[500]);
+    s.end();
+    b.addOctetString("after");
+
+    final ByteArrayInputStream inputStream =
+         new ByteArrayInputStream(b.toByteArray());
+    final ASN1StreamReader reader = new ASN1StreamReader(inputStream);
+
+    final ASN1StreamReader elementReader = reader.readBufferedElement();
+    assertNotNull(elementReader);
+
+    final ASN1StreamReaderSequence seq = elementReader.beginSequence();
+    assertNotNull(seq);
+    assertTrue(seq.hasMoreElements());
+    assertEquals(elementReader.readInteger(), Integer.valueOf(5));
+    assertEquals(elementReader.readString(), "foo");
+
+    final ASN1OctetString bar = elementReader.readOctetString();
+    assertEquals(bar.getType(), (byte) 0x80);
+    assertEquals(bar.stringValue(), "bar");
+
+    final ASN1OctetString zeros = elementReader.readOctetString();
+    assertEquals(zeros.getValueLength(), 500);
+    assertTrue(Arrays.equals(zeros.getValue(), new byte[500]));
+    assertFalse(seq.hasMoreElements());
+
+    assertNull(elementReader.readOctetString());
+
+    assertEquals(reader.readOctetString().stringValue(), "after");
+    assertNull(reader.readBufferedElement());
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to read a buffered element when the input
+   * stream doesn't have enough data for the complete element.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { IOException.class })
+  public void testReadBufferedElementNotEnoughValueBytes()
+         throws Exception
+  {
+    final byte[] elementBytes = { (byte) 0x30, (byte) 0x05, (byte) 0x04,
+         (byte) 0x00 };
+
+    final ByteArrayInputStream inputStream =
+         new ByteArrayInputStream(elementBytes);
+    final ASN1StreamReader reader = new ASN1StreamReader(inputStream);
+
+    reader.readBufferedElement();
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to read an octet string directly from an
+   * input stream.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadOctetString()
+         throws Exception
+  {
+    final ASN1Buffer b = new ASN1Buffer();
+    b.addOctetString("foo");
+    b.addOctetString((byte) 0x81, StaticUtils.getBytes("bar"));
+
+    final ByteArrayInputStream inputStream =
+         new ByteArrayInputStream(b.toByteArray());
+    final ASN1StreamReader reader = new ASN1StreamReader(inputStream);
+
+    assertEquals(reader.readOctetString(),
+         new ASN1OctetString("foo"));
+    assertEquals(reader.readOctetString(),
+         new ASN1OctetString((byte) 0x81, "bar"));
+    assertNull(reader.readOctetString());
+  }
+
+
+
+  /**
+   * Tests the behavior when reading data that has been wrapped by a SASL
+   * client, in which a single block of wrapped data may contain multiple
+   * elements, elements may span multiple blocks, and blocks may be empty.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadSASLWrappedData()
+         throws Exception
+  {
+    final ASN1Buffer b = new ASN1Buffer();
+    b.addOctetString("foo");
+    b.addInteger(12345);
+    b.addOctetString(new byte[500]);
+    b.addBoolean(true);
+    b.addOctetString("bar");
+    final byte[] clearBytes = b.toByteArray();
+
+    final XORSASLClient saslClient = new XORSASLClient();
+    final ByteArrayOutputStream wrappedStream = new ByteArrayOutputStream();
+    final int[] blockSizes = { 3, 0, 7, 1, 600 };
+    int pos = 0;
+    for (final int blockSize : blockSizes)
+    {
+      final int length = Math.min(blockSize, (clearBytes.length - pos));
+      final byte[] wrapped = saslClient.wrap(clearBytes, pos, length);
+      wrappedStream.write(0);
+      wrappedStream.write(0);
+      wrappedStream.write((wrapped.length >> 8) & 0xFF);
+      wrappedStream.write(wrapped.length & 0xFF);
+      wrappedStream.write(wrapped);
+      pos += length;
+    }
+    assertEquals(pos, clearBytes.length);
+
+    final ASN1StreamReader reader = new ASN1StreamReader(
+         new ByteArrayInputStream(wrappedStream.toByteArray()));
+    reader.setSASLClient(saslClient);
+
+    assertEquals(reader.peek(), 0x04);
+    assertEquals(reader.readString(), "foo");
+    assertEquals(reader.peek(), 0x02);
+    assertEquals(reader.readInteger(), Integer.valueOf(12345));
+    assertEquals(reader.readBytes(), new byte[500]);
+    assertEquals(reader.readBoolean(), Boolean.TRUE);
+    assertEquals(reader.readString(), "bar");
+    assertEquals(reader.peek(), -1);
+    assertNull(reader.readString());
+  }
+
+
+
+  /**
+   * A SASL client that wraps and unwraps data by inverting each byte.
+   */
+  private static final class XORSASLClient
+          implements SaslClient
+  {
+    /**
+     * {@inheritDoc}
+     */
+    public String getMechanismName()
+    {
+      return "XOR";
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean hasInitialResponse()
+    {
+      return false;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public byte[] evaluateChallenge(final byte[] challenge)
+    {
+      return null;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isComplete()
+    {
+      return true;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public byte[] wrap(final byte[] outgoing, final int offset, final int len)
+    {
+      final byte[] b = new byte[len];
+      for (int i=0; i < len; i++)
+      {
+        b[i] = (byte) (outgoing[offset+i] ^ 0xFF);
+      }
+      return b;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public byte[] unwrap(final byte[] incoming, final int offset,
+                         final int len)
+    {
+      return wrap(incoming, offset, len);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object getNegotiatedProperty(final String propName)
+    {
+      return null;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public void dispose()
+    {
+      // No implementation required.
+    }
+  }
 }
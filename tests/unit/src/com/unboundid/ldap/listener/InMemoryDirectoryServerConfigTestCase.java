@@ -952,6 +952,38 @@ public final class InMemoryDirectoryServerConfigTestCase
 
 
 
+  /**
+   * Tests the behavior of the methods for using compact entry storage.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testUseCompactEntryStorage()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+
+    assertFalse(cfg.useCompactEntryStorage());
+
+    assertNotNull(cfg.toString());
+
+    cfg.setUseCompactEntryStorage(true);
+    assertTrue(cfg.useCompactEntryStorage());
+
+    assertNotNull(cfg.toString());
+    assertTrue(cfg.toString().contains("useCompactEntryStorage=true"));
+
+    assertTrue(new InMemoryDirectoryServerConfig(cfg).useCompactEntryStorage());
+
+    cfg.setUseCompactEntryStorage(false);
+    assertFalse(cfg.useCompactEntryStorage());
+
+    assertNotNull(cfg.toString());
+  }
+
+
+
   /**
    * Tests the behavior of the methods for maintaining a changelog.
    *
@@ -24,9 +24,15 @@ package com.unboundid.ldap.listener;
 
 import org.testng.annotations.Test;
 
+import com.unboundid.ldap.sdk.Attribute;
 import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Filter;
 import com.unboundid.ldap.sdk.LDAPConnection;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+import com.unboundid.ldap.sdk.SearchResult;
+import com.unboundid.ldap.sdk.SearchScope;
 
 
 
@@ -331,4 +337,109 @@ public final class InMemoryDirectoryServerSnapshotTestCase
       ds.shutDown(true);
     }
   }
+
+
+
+  /**
+   * Ensures that equality indexes are kept consistent with the server content
+   * when restoring snapshots, and that snapshots are not affected by changes
+   * made after they were created.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSnapshotWithEqualityIndex()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setEqualityIndexAttributes("description");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+
+    ds.startListening();
+
+    try
+    {
+      final LDAPConnection conn = ds.getConnection();
+
+      conn.add(generateDomainEntry("example", "dc=com"));
+      conn.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+      for (int i=0; i < 100; i++)
+      {
+        conn.add(generateUserEntry("user." + i, "ou=People,dc=example,dc=com",
+             "User", String.valueOf(i), "password",
+             new Attribute("description", "original " + (i % 10))));
+      }
+
+      final InMemoryDirectoryServerSnapshot snapshot = ds.createSnapshot();
+      assertEquals(snapshot.getEntryMap().size(), 102);
+      assertEquals(countMatches(conn, "original 3"), 10);
+
+      // Make a number of changes, including modifications, deletes, and adds.
+      for (int i=0; i < 100; i += 10)
+      {
+        conn.modify("uid=user." + i + ",ou=People,dc=example,dc=com",
+             new Modification(ModificationType.REPLACE, "description",
+                  "changed"));
+      }
+      conn.delete("uid=user.3,ou=People,dc=example,dc=com");
+      conn.add(generateUserEntry("new.user", "ou=People,dc=example,dc=com",
+           "New", "User", "password",
+           new Attribute("description", "original 3")));
+
+      assertEquals(countMatches(conn, "original 0"), 0);
+      assertEquals(countMatches(conn, "changed"), 10);
+      assertEquals(countMatches(conn, "original 3"), 10);
+      assertEquals(ds.countEntries(), 102);
+
+      // The snapshot must not reflect the changes.
+      assertEquals(snapshot.getEntryMap().size(), 102);
+      assertNotNull(snapshot.getEntryMap().get(
+           new DN("uid=user.3,ou=People,dc=example,dc=com")));
+      assertNull(snapshot.getEntryMap().get(
+           new DN("uid=new.user,ou=People,dc=example,dc=com")));
+
+      // Restore the snapshot and verify that the indexes were updated.
+      ds.restoreSnapshot(snapshot);
+      assertEquals(ds.countEntries(), 102);
+      assertEquals(countMatches(conn, "original 0"), 10);
+      assertEquals(countMatches(conn, "changed"), 0);
+      assertEquals(countMatches(conn, "original 3"), 10);
+      ds.assertEntryExists("uid=user.3,ou=People,dc=example,dc=com");
+      ds.assertEntryMissing("uid=new.user,ou=People,dc=example,dc=com");
+
+      // Restoring the same snapshot again should not have any effect.
+      ds.restoreSnapshot(snapshot);
+      assertEquals(ds.countEntries(), 102);
+      assertEquals(countMatches(conn, "original 0"), 10);
+
+      conn.close();
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of entries with the given description value.
+   *
+   * @param  conn         The connection to use to perform the search.
+   * @param  description  The description value for which to search.
+   *
+   * @return  The number of entries with the given description value.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static int countMatches(final LDAPConnection conn,
+                                  final String description)
+          throws Exception
+  {
+    final SearchResult searchResult = conn.search("dc=example,dc=com",
+         SearchScope.SUB, Filter.createEqualityFilter("description",
+              description));
+    return searchResult.getEntryCount();
+  }
 }
@@ -5855,4 +5855,78 @@ public final class InMemoryDirectoryServerTestCase
 
     ds.shutDown(true);
   }
+
+
+
+  /**
+   * Tests the behavior of the server when it is configured to hold entries
+   * using compact storage.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCompactEntryStorage()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.setUseCompactEntryStorage(true);
+    cfg.setEqualityIndexAttributes("uid");
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.add(getTestDS(true, true).getEntry("dc=example,dc=com"));
+    ds.add(getTestDS(true, true).getEntry("ou=People,dc=example,dc=com"));
+    for (int i=0; i < 100; i++)
+    {
+      ds.add(generateUserEntry("user." + i, "ou=People,dc=example,dc=com",
+           "User", String.valueOf(i), "password"));
+    }
+
+    assertEquals(ds.countEntries(), 102);
+    final InMemoryDirectoryServerSnapshot snapshot = ds.createSnapshot();
+
+    // Test indexed and unindexed searches.
+    assertEquals(ds.search("dc=example,dc=com", SearchScope.SUB,
+         "(uid=user.42)").getEntryCount(), 1);
+    assertEquals(ds.search("dc=example,dc=com", SearchScope.SUB,
+         "(sn=4*)").getEntryCount(), 11);
+    assertEquals(ds.search("dc=example,dc=com", SearchScope.ONE,
+         "(objectClass=*)").getEntryCount(), 1);
+
+    final Entry e = ds.getEntry("uid=user.42,ou=People,dc=example,dc=com");
+    assertNotNull(e);
+    assertTrue(e.hasAttributeValue("objectClass", "inetOrgPerson"));
+    assertTrue(e.hasAttributeValue("sn", "42"));
+    ds.bind("uid=user.42,ou=People,dc=example,dc=com", "password");
+
+    // Test modify, modify DN, and delete operations.
+    ds.modify("uid=user.42,ou=People,dc=example,dc=com",
+         new Modification(ModificationType.REPLACE, "description", "foo"));
+    ds.assertValueExists("uid=user.42,ou=People,dc=example,dc=com",
+         "description", "foo");
+
+    ds.modifyDN("uid=user.43,ou=People,dc=example,dc=com", "uid=renamed",
+         true);
+    ds.assertEntryMissing("uid=user.43,ou=People,dc=example,dc=com");
+    ds.assertEntryExists("uid=renamed,ou=People,dc=example,dc=com");
+
+    ds.delete("uid=user.44,ou=People,dc=example,dc=com");
+    assertEquals(ds.countEntries(), 101);
+
+    // Restore the snapshot and ensure that the changes are reverted.
+    ds.restoreSnapshot(snapshot);
+    assertEquals(ds.countEntries(), 102);
+    ds.assertAttributeMissing("uid=user.42,ou=People,dc=example,dc=com",
+         "description");
+    ds.assertEntryExists("uid=user.43,ou=People,dc=example,dc=com");
+    ds.assertEntryExists("uid=user.44,ou=People,dc=example,dc=com");
+    assertEquals(ds.search("dc=example,dc=com", SearchScope.SUB,
+         "(uid=renamed)").getEntryCount(), 0);
+    assertEquals(ds.search("dc=example,dc=com", SearchScope.SUB,
+         "(uid=user.43)").getEntryCount(), 1);
+
+    // Ensure that an LDIF export includes all of the entries.
+    assertEquals(ds.exportToLDIF(createTempFile().getAbsolutePath(), false,
+         true), 102);
+  }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.matchingrules.CaseExactStringMatchingRule;
+import com.unboundid.ldap.matchingrules.CaseIgnoreStringMatchingRule;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+
+
+
+/**
+ * This class provides a set of test cases for the in-memory entry dictionary.
+ */
+public final class InMemoryEntryDictionaryTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of the methods for attribute descriptors.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDescriptors()
+         throws Exception
+  {
+    final InMemoryEntryDictionary d = new InMemoryEntryDictionary();
+    assertEquals(d.getNumDescriptors(), 0);
+
+    final int ocID = d.getDescriptorID(new Attribute("objectClass", "top"));
+    assertEquals(d.getAttributeName(ocID), "objectClass");
+    assertTrue(d.sharesValues(ocID));
+    assertEquals(d.getNumDescriptors(), 1);
+
+    assertEquals(d.getDescriptorID(new Attribute("objectClass", "person")),
+         ocID);
+    assertEquals(d.getNumDescriptors(), 1);
+
+    final int ocOptionID =
+         d.getDescriptorID(new Attribute("OBJECTCLASS;x-option"));
+    assertFalse(ocOptionID == ocID);
+    assertTrue(d.sharesValues(ocOptionID));
+
+    final int cnID = d.getDescriptorID(new Attribute("cn",
+         CaseIgnoreStringMatchingRule.getInstance(), "foo"));
+    assertFalse(d.sharesValues(cnID));
+    assertEquals(d.getMatchingRule(cnID),
+         CaseIgnoreStringMatchingRule.getInstance());
+
+    final int cnExactID = d.getDescriptorID(new Attribute("cn",
+         CaseExactStringMatchingRule.getInstance(), "foo"));
+    assertFalse(cnExactID == cnID);
+    assertEquals(d.getMatchingRule(cnExactID),
+         CaseExactStringMatchingRule.getInstance());
+
+    for (int i=0; i < 100; i++)
+    {
+      final int id = d.getDescriptorID(new Attribute("attr" + i));
+      assertEquals(d.getAttributeName(id), "attr" + i);
+    }
+
+    assertEquals(d.getNumDescriptors(), 104);
+  }
+
+
+
+  /**
+   * Tests the behavior of the methods for shared values.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSharedValues()
+         throws Exception
+  {
+    final InMemoryEntryDictionary d = new InMemoryEntryDictionary();
+    assertEquals(d.getNumSharedValues(), 0);
+
+    final int topID = d.getSharedValueID(new ASN1OctetString("top"));
+    assertEquals(d.getSharedValue(topID).stringValue(), "top");
+    assertEquals(d.getSharedValueID(new ASN1OctetString("top")), topID);
+    assertFalse(d.getSharedValueID(new ASN1OctetString("TOP")) == topID);
+    assertEquals(d.getNumSharedValues(), 2);
+
+    final byte[] sliceSource = { 'x', 'p', 'e', 'r', 's', 'o', 'n', 'x' };
+    final int personID =
+         d.getSharedValueID(new ASN1OctetString(sliceSource, 1, 6));
+    assertEquals(d.getSharedValue(personID).stringValue(), "person");
+    assertEquals(d.getSharedValue(personID).getValue().length, 6);
+
+    final StringBuilder buffer = new StringBuilder();
+    while (buffer.length() <= InMemoryEntryDictionary.MAX_SHARED_VALUE_LENGTH)
+    {
+      buffer.append("long");
+    }
+    assertEquals(d.getSharedValueID(new ASN1OctetString(buffer.toString())),
+         -1);
+
+    for (int i=d.getNumSharedValues();
+         i < InMemoryEntryDictionary.MAX_SHARED_VALUES; i++)
+    {
+      assertEquals(d.getSharedValueID(new ASN1OctetString("value" + i)), i);
+    }
+
+    assertEquals(d.getSharedValueID(new ASN1OctetString("oneTooMany")), -1);
+    assertEquals(d.getSharedValueID(new ASN1OctetString("top")), topID);
+    assertEquals(d.getNumSharedValues(),
+         InMemoryEntryDictionary.MAX_SHARED_VALUES);
+  }
+}
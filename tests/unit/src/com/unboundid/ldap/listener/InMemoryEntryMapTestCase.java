@@ -0,0 +1,416 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.schema.Schema;
+
+
+
+/**
+ * This class provides a set of test cases for the in-memory entry map.
+ */
+public final class InMemoryEntryMapTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Retrieves the storage modes with which to test the map.
+   *
+   * @return  The storage modes with which to test the map.
+   */
+  @DataProvider(name="storageModes")
+  public Object[][] getStorageModes()
+  {
+    return new Object[][]
+    {
+      new Object[] { false },
+      new Object[] { true }
+    };
+  }
+
+
+
+  /**
+   * Tests the behavior of an empty map.
+   *
+   * @param  useCompactStorage  Indicates whether to use compact storage.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="storageModes")
+  public void testEmptyMap(final boolean useCompactStorage)
+         throws Exception
+  {
+    final InMemoryEntryMap m = new InMemoryEntryMap(useCompactStorage);
+    assertTrue(m.isEmpty());
+    assertEquals(m.size(), 0);
+    assertNull(m.get(new DN("dc=example,dc=com")));
+    assertNull(m.get("dc=example,dc=com"));
+    assertFalse(m.containsKey(new DN("dc=example,dc=com")));
+    assertNull(m.remove(new DN("dc=example,dc=com")));
+    assertFalse(m.entrySet().iterator().hasNext());
+    assertTrue(m.snapshot().isEmpty());
+  }
+
+
+
+  /**
+   * Performs a series of random operations on a map and ensures that it
+   * behaves in the same way as a tree map, and that snapshots are unaffected
+   * by subsequent changes.
+   *
+   * @param  useCompactStorage  Indicates whether to use compact storage.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="storageModes")
+  public void testRandomOperations(final boolean useCompactStorage)
+         throws Exception
+  {
+    final Random random = new Random(1234L);
+    final InMemoryEntryMap m = new InMemoryEntryMap(useCompactStorage);
+    final TreeMap<DN,ReadOnlyEntry> expected = new TreeMap<DN,ReadOnlyEntry>();
+
+    InMemoryEntryMap snapshot = m.snapshot();
+    TreeMap<DN,ReadOnlyEntry> expectedSnapshot =
+         new TreeMap<DN,ReadOnlyEntry>();
+
+    for (int i=0; i < 5000; i++)
+    {
+      final ReadOnlyEntry e = createEntry(random.nextInt(500), i);
+      if (random.nextInt(3) == 0)
+      {
+        assertEquals(m.remove(e.getParsedDN()),
+             expected.remove(e.getParsedDN()));
+      }
+      else
+      {
+        assertEquals(m.put(e.getParsedDN(), e),
+             expected.put(e.getParsedDN(), e));
+      }
+
+      if ((i % 500) == 0)
+      {
+        assertMapsEqual(snapshot, expectedSnapshot);
+        snapshot = m.snapshot();
+        expectedSnapshot = new TreeMap<DN,ReadOnlyEntry>(expected);
+      }
+    }
+
+    assertMapsEqual(m, expected);
+    assertMapsEqual(snapshot, expectedSnapshot);
+  }
+
+
+
+  /**
+   * Tests the ability to identify the differences between two versions of a
+   * map and to restore an earlier version.
+   *
+   * @param  useCompactStorage  Indicates whether to use compact storage.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="storageModes")
+  public void testDifferencesAndRestore(final boolean useCompactStorage)
+         throws Exception
+  {
+    final InMemoryEntryMap m = new InMemoryEntryMap(useCompactStorage);
+    for (int i=0; i < 1000; i++)
+    {
+      final ReadOnlyEntry e = createEntry(i, 0);
+      m.put(e.getParsedDN(), e);
+    }
+
+    final InMemoryEntryMap snapshot = m.snapshot();
+
+    ArrayList<ReadOnlyEntry> removed = new ArrayList<ReadOnlyEntry>();
+    ArrayList<ReadOnlyEntry> added = new ArrayList<ReadOnlyEntry>();
+    m.getDifferences(snapshot, removed, added);
+    assertTrue(removed.isEmpty());
+    assertTrue(added.isEmpty());
+
+    final ReadOnlyEntry replacement = createEntry(10, 1);
+    m.put(replacement.getParsedDN(), replacement);
+    m.remove(createEntry(20, 0).getParsedDN());
+    final ReadOnlyEntry newEntry = createEntry(5000, 0);
+    m.put(newEntry.getParsedDN(), newEntry);
+    assertEquals(m.size(), 1000);
+
+    m.getDifferences(snapshot, removed, added);
+    assertEquals(removed.size(), 2);
+    assertTrue(removed.contains(replacement));
+    assertTrue(removed.contains(newEntry));
+    assertEquals(added.size(), 2);
+    assertTrue(added.contains(createEntry(10, 0)));
+    assertTrue(added.contains(createEntry(20, 0)));
+
+    removed = new ArrayList<ReadOnlyEntry>();
+    added = new ArrayList<ReadOnlyEntry>();
+    snapshot.getDifferences(m, removed, added);
+    assertEquals(removed.size(), 2);
+    assertEquals(added.size(), 2);
+
+    m.restore(snapshot);
+    assertEquals(m.size(), 1000);
+    assertNotNull(m.get(createEntry(20, 0).getParsedDN()));
+    assertNull(m.get(newEntry.getParsedDN()));
+    assertEquals(m.get(replacement.getParsedDN()), createEntry(10, 0));
+
+    removed = new ArrayList<ReadOnlyEntry>();
+    added = new ArrayList<ReadOnlyEntry>();
+    m.getDifferences(snapshot, removed, added);
+    assertTrue(removed.isEmpty());
+    assertTrue(added.isEmpty());
+  }
+
+
+
+  /**
+   * Tests the behavior when removing entries with an iterator, and when
+   * altering the map while it is being iterated.
+   *
+   * @param  useCompactStorage  Indicates whether to use compact storage.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="storageModes")
+  public void testIteratorRemove(final boolean useCompactStorage)
+         throws Exception
+  {
+    final InMemoryEntryMap m = new InMemoryEntryMap(useCompactStorage);
+    for (int i=0; i < 100; i++)
+    {
+      final ReadOnlyEntry e = createEntry(i, 0);
+      m.put(e.getParsedDN(), e);
+    }
+
+    int count = 0;
+    final Iterator<Map.Entry<DN,ReadOnlyEntry>> iterator =
+         m.entrySet().iterator();
+    while (iterator.hasNext())
+    {
+      final Map.Entry<DN,ReadOnlyEntry> e = iterator.next();
+      count++;
+      if ((count % 2) == 0)
+      {
+        iterator.remove();
+      }
+      else
+      {
+        m.put(e.getKey(), createEntry(count, 1));
+      }
+    }
+
+    assertEquals(count, 100);
+    assertEquals(m.size(), 50);
+    assertEquals(m.entrySet().size(), 50);
+
+    try
+    {
+      iterator.remove();
+      fail("Expected an exception when calling remove twice");
+    }
+    catch (final IllegalStateException ise)
+    {
+      // This was expected.
+    }
+  }
+
+
+
+  /**
+   * Ensures that snapshots cannot be altered.
+   *
+   * @param  useCompactStorage  Indicates whether to use compact storage.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="storageModes",
+        expectedExceptions = { UnsupportedOperationException.class })
+  public void testSnapshotNotModifiable(final boolean useCompactStorage)
+         throws Exception
+  {
+    final InMemoryEntryMap m = new InMemoryEntryMap(useCompactStorage);
+    final ReadOnlyEntry e = createEntry(1, 0);
+    m.snapshot().put(e.getParsedDN(), e);
+  }
+
+
+
+  /**
+   * Ensures that a snapshot can be serialized and deserialized.
+   *
+   * @param  useCompactStorage  Indicates whether to use compact storage.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="storageModes")
+  public void testSerialization(final boolean useCompactStorage)
+         throws Exception
+  {
+    final InMemoryEntryMap m = new InMemoryEntryMap(useCompactStorage);
+    final TreeMap<DN,ReadOnlyEntry> expected = new TreeMap<DN,ReadOnlyEntry>();
+    for (int i=0; i < 100; i++)
+    {
+      final ReadOnlyEntry e = createEntry(i, 0);
+      m.put(e.getParsedDN(), e);
+      expected.put(e.getParsedDN(), e);
+    }
+
+    final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    final ObjectOutputStream outputStream = new ObjectOutputStream(byteStream);
+    outputStream.writeObject(m.snapshot());
+    outputStream.close();
+
+    final ObjectInputStream inputStream = new ObjectInputStream(
+         new ByteArrayInputStream(byteStream.toByteArray()));
+    final InMemoryEntryMap decoded =
+         (InMemoryEntryMap) inputStream.readObject();
+    inputStream.close();
+
+    assertMapsEqual(decoded, expected);
+  }
+
+
+
+  /**
+   * Tests the behavior of a map that uses compact storage with entries whose
+   * content cannot be reproduced from their attribute names and values alone.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCompactStorageFidelity()
+         throws Exception
+  {
+    final InMemoryEntryMap m = new InMemoryEntryMap(true);
+    assertTrue(m.usesCompactStorage());
+    assertFalse(new InMemoryEntryMap().usesCompactStorage());
+
+    final Schema schema = Schema.getDefaultStandardSchema();
+    final ReadOnlyEntry e = new ReadOnlyEntry(
+         "UID=Test.User, OU=People, DC=Example, DC=Com", schema,
+         new Attribute("objectClass", schema, "top", "person",
+              "inetOrgPerson"),
+         new Attribute("UID", schema, "Test.User"),
+         new Attribute("cn;lang-en", schema, "Test User"),
+         new Attribute("jpegPhoto", new byte[] { 0x00, (byte) 0xFF, 0x7F }),
+         new Attribute("description", schema, ""));
+    final DN dn = new DN("uid=test.user,ou=people,dc=example,dc=com");
+
+    assertNull(m.put(dn, e));
+    assertTrue(m.containsKey(dn));
+
+    final ReadOnlyEntry decoded = m.get(dn);
+    assertNotSame(decoded, e);
+    assertEquals(decoded, e);
+    assertEquals(decoded.getDN(), e.getDN());
+    assertEquals(decoded.getParsedDN(), dn);
+    assertEquals(decoded.getAttribute("uid").getName(), "UID");
+    assertEquals(decoded.getAttribute("cn;lang-en").getValue(), "Test User");
+    assertEquals(decoded.getAttribute("jpegPhoto").getValueByteArray(),
+         new byte[] { 0x00, (byte) 0xFF, 0x7F });
+    assertSame(decoded.getAttribute("uid").getMatchingRule(),
+         e.getAttribute("uid").getMatchingRule());
+    assertTrue(decoded.hasAttributeValue("uid", "test.user"));
+    assertNotNull(decoded.getAttribute("0.9.2342.19200300.100.1.1"));
+
+    final ReadOnlyEntry replacement =
+         new ReadOnlyEntry(dn, new Attribute("objectClass", "top"));
+    assertEquals(m.put(dn, replacement), e);
+    assertEquals(m.remove(dn), replacement);
+    assertTrue(m.isEmpty());
+
+
+    // Ensure that a map that does not use compact storage can be restored
+    // from one that does, and vice versa.
+    final InMemoryEntryMap uncompacted = new InMemoryEntryMap(false);
+    uncompacted.put(dn, e);
+    m.restore(uncompacted.snapshot());
+    assertSame(m.get(dn), e);
+    m.put(dn, replacement);
+    assertNotSame(m.get(dn), replacement);
+    assertEquals(m.get(dn), replacement);
+
+    uncompacted.restore(m.snapshot());
+    assertEquals(uncompacted.get(dn), replacement);
+  }
+
+
+
+  /**
+   * Creates a test entry.
+   *
+   * @param  id       The identifier to use for the entry DN.
+   * @param  version  A value to include in the entry content.
+   *
+   * @return  The test entry that was created.
+   */
+  private static ReadOnlyEntry createEntry(final int id, final int version)
+  {
+    return new ReadOnlyEntry("uid=user." + id + ",ou=People,dc=example,dc=com",
+         new Attribute("objectClass", "top", "person"),
+         new Attribute("uid", "user." + id),
+         new Attribute("description", String.valueOf(version)));
+  }
+
+
+
+  /**
+   * Ensures that the provided maps have the same content in the same order.
+   *
+   * @param  m         The entry map to examine.
+   * @param  expected  The map with the expected content.
+   */
+  private static void assertMapsEqual(final InMemoryEntryMap m,
+                                      final TreeMap<DN,ReadOnlyEntry> expected)
+  {
+    assertEquals(m.size(), expected.size());
+    assertEquals(m, expected);
+    assertEquals(new ArrayList<DN>(m.keySet()),
+         new ArrayList<DN>(expected.keySet()));
+
+    for (final Map.Entry<DN,ReadOnlyEntry> e : expected.entrySet())
+    {
+      assertTrue(m.containsKey(e.getKey()));
+      assertEquals(m.get(e.getKey()), e.getValue());
+    }
+  }
+}
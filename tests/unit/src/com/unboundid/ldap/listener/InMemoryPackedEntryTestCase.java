@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.schema.Schema;
+
+
+
+/**
+ * This class provides a set of test cases for the in-memory packed entry.
+ */
+public final class InMemoryPackedEntryTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the ability to pack and unpack a typical entry.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPackAndUnpack()
+         throws Exception
+  {
+    final InMemoryEntryDictionary dictionary = new InMemoryEntryDictionary();
+    final Schema schema = Schema.getDefaultStandardSchema();
+
+    final ReadOnlyEntry e = new ReadOnlyEntry(
+         "uid=test.user,ou=People,dc=example,dc=com", schema,
+         new Attribute("objectClass", schema, "top", "person",
+              "organizationalPerson", "inetOrgPerson"),
+         new Attribute("uid", schema, "test.user"),
+         new Attribute("givenName", schema, "Test"),
+         new Attribute("sn", schema, "User"),
+         new Attribute("cn", schema, "Test User"),
+         new Attribute("description", schema, new String(new char[300])));
+
+    final InMemoryPackedEntry p =
+         InMemoryPackedEntry.pack(e.getParsedDN(), e, dictionary);
+    assertEquals(dictionary.getNumDescriptors(), 6);
+    assertEquals(dictionary.getNumSharedValues(), 4);
+
+    final ReadOnlyEntry decoded = p.toEntry(e.getParsedDN());
+    assertEquals(decoded, e);
+    assertEquals(decoded.getDN(), e.getDN());
+    assertSame(decoded.getParsedDN(), e.getParsedDN());
+    assertNotNull(decoded.getAttribute("2.5.4.3"));
+
+    // A second entry with the same attributes should not require any new
+    // dictionary content, and should be smaller because the object class
+    // values are shared.
+    final ReadOnlyEntry e2 = new ReadOnlyEntry(
+         "uid=another.user,ou=People,dc=example,dc=com", schema,
+         new Attribute("objectClass", schema, "top", "person",
+              "organizationalPerson", "inetOrgPerson"),
+         new Attribute("uid", schema, "another.user"));
+    final InMemoryPackedEntry p2 =
+         InMemoryPackedEntry.pack(e2.getParsedDN(), e2, dictionary);
+    assertEquals(dictionary.getNumDescriptors(), 6);
+    assertEquals(dictionary.getNumSharedValues(), 4);
+    assertTrue(p2.getPackedLength() < 30);
+    assertEquals(p2.toEntry(e2.getParsedDN()), e2);
+
+    assertSame(
+         decoded.getAttribute("objectClass").getRawValues()[0],
+         p2.toEntry(e2.getParsedDN()).getAttribute(
+              "objectClass").getRawValues()[0]);
+  }
+
+
+
+  /**
+   * Tests the behavior when packing an entry whose DN string differs from the
+   * string representation of the DN with which it is held.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDifferentDNString()
+         throws Exception
+  {
+    final InMemoryEntryDictionary dictionary = new InMemoryEntryDictionary();
+    final ReadOnlyEntry e = new ReadOnlyEntry("O=Example Corp",
+         new Attribute("objectClass", "top", "organization"),
+         new Attribute("o", "Example Corp"));
+    final DN dn = new DN("o=example corp");
+
+    final InMemoryPackedEntry p = InMemoryPackedEntry.pack(dn, e, dictionary);
+    final ReadOnlyEntry decoded = p.toEntry(dn);
+    assertEquals(decoded.getDN(), "O=Example Corp");
+    assertEquals(decoded, e);
+  }
+
+
+
+  /**
+   * Tests the behavior when packing an entry without any attributes and with
+   * values large enough to require multi-byte lengths.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEdgeCases()
+         throws Exception
+  {
+    final InMemoryEntryDictionary dictionary = new InMemoryEntryDictionary();
+
+    final ReadOnlyEntry empty = new ReadOnlyEntry("", new Attribute[0]);
+    final InMemoryPackedEntry p =
+         InMemoryPackedEntry.pack(DN.NULL_DN, empty, dictionary);
+    assertEquals(p.toEntry(DN.NULL_DN), empty);
+
+    final byte[] largeValue = new byte[100000];
+    for (int i=0; i < largeValue.length; i++)
+    {
+      largeValue[i] = (byte) i;
+    }
+
+    final ReadOnlyEntry large = new ReadOnlyEntry("cn=large",
+         new Attribute("objectClass", largeValue),
+         new Attribute("userCertificate;binary", largeValue, new byte[0]));
+    final DN dn = new DN("cn=large");
+    final ReadOnlyEntry decoded =
+         InMemoryPackedEntry.pack(dn, large, dictionary).toEntry(dn);
+    assertEquals(decoded, large);
+    assertEquals(decoded.getAttribute("objectClass").getValueByteArray(),
+         largeValue);
+    assertEquals(dictionary.getNumSharedValues(), 0);
+  }
+}
@@ -418,6 +418,21 @@ public final class ReadOnlyInMemoryDirectoryServerConfigTestCase
     }
 
 
+    // Test methods related to the use of compact entry storage.
+    assertFalse(readOnlyConfig.useCompactEntryStorage());
+
+    try
+    {
+      readOnlyConfig.setUseCompactEntryStorage(true);
+      fail("Expected an exception when trying to call " +
+           "setUseCompactEntryStorage");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected.
+    }
+
+
     // Test methods related to changelog entries.
     assertEquals(readOnlyConfig.getMaxChangeLogEntries(), 0);
 
@@ -561,6 +576,7 @@ public final class ReadOnlyInMemoryDirectoryServerConfigTestCase
     config.addExtendedOperationHandler(new TestExtendedOperationHandler());
     config.addSASLBindHandler(new TestSASLBindHandler());
     config.setGenerateOperationalAttributes(false);
+    config.setUseCompactEntryStorage(true);
     config.setMaxChangeLogEntries(100);
     config.setEqualityIndexAttributes("uid", "cn");
     config.setReferentialIntegrityAttributes("member", "uniqueMember", "owner",
@@ -933,6 +949,21 @@ public final class ReadOnlyInMemoryDirectoryServerConfigTestCase
     }
 
 
+    // Test methods related to the use of compact entry storage.
+    assertTrue(readOnlyConfig.useCompactEntryStorage());
+
+    try
+    {
+      readOnlyConfig.setUseCompactEntryStorage(false);
+      fail("Expected an exception when trying to call " +
+           "setUseCompactEntryStorage");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected.
+    }
+
+
     // Test methods related to changelog entries.
     assertEquals(readOnlyConfig.getMaxChangeLogEntries(), 100);
 
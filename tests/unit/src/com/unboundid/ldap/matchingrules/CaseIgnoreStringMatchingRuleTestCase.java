@@ -511,6 +511,87 @@ public class CaseIgnoreStringMatchingRuleTestCase
 
 
 
+  /**
+   * Tests the behavior when comparing values of different lengths, which will
+   * be compared without creating normalized copies of the values unless they
+   * contain non-ASCII characters.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testValuesMatchDifferentLengths()
+         throws Exception
+  {
+    CaseIgnoreStringMatchingRule mr =
+         CaseIgnoreStringMatchingRule.getInstance();
+
+    assertTrue(mr.valuesMatch(new ASN1OctetString("  Foo   Bar  "),
+         new ASN1OctetString("foo bar")));
+    assertTrue(mr.valuesMatch(new ASN1OctetString("foo bar"),
+         new ASN1OctetString(" FOO  BAR")));
+    assertTrue(mr.valuesMatch(new ASN1OctetString(" "),
+         new ASN1OctetString("     ")));
+    assertTrue(mr.valuesMatch(new ASN1OctetString("  \u00C9t\u00E9  "),
+         new ASN1OctetString("\u00E9T\u00C9")));
+
+    assertFalse(mr.valuesMatch(new ASN1OctetString(""),
+         new ASN1OctetString("  ")));
+    assertFalse(mr.valuesMatch(new ASN1OctetString("  "),
+         new ASN1OctetString("")));
+    assertFalse(mr.valuesMatch(new ASN1OctetString("   "),
+         new ASN1OctetString("a")));
+    assertFalse(mr.valuesMatch(new ASN1OctetString("foo bar"),
+         new ASN1OctetString("foobar ")));
+    assertFalse(mr.valuesMatch(new ASN1OctetString("foo bar"),
+         new ASN1OctetString("foo  bar baz")));
+    assertFalse(mr.valuesMatch(new ASN1OctetString("foo bar "),
+         new ASN1OctetString("foo barr")));
+    assertFalse(mr.valuesMatch(new ASN1OctetString("\u00E9t\u00E9"),
+         new ASN1OctetString(" ete ")));
+  }
+
+
+
+  /**
+   * Tests to ensure that normalizing a value that is already in normalized
+   * form does not create a new value.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNormalizeAlreadyNormalized()
+         throws Exception
+  {
+    CaseIgnoreStringMatchingRule mr =
+         CaseIgnoreStringMatchingRule.getInstance();
+
+    ASN1OctetString value = new ASN1OctetString("foo bar");
+    assertSame(mr.normalize(value), value);
+
+    value = new ASN1OctetString("Foo bar");
+    assertNotSame(mr.normalize(value), value);
+    assertEquals(mr.normalize(value), new ASN1OctetString("foo bar"));
+
+    value = new ASN1OctetString("foo  bar");
+    assertNotSame(mr.normalize(value), value);
+    assertEquals(mr.normalize(value), new ASN1OctetString("foo bar"));
+
+    value = new ASN1OctetString(" foo bar");
+    assertNotSame(mr.normalize(value), value);
+    assertEquals(mr.normalize(value), new ASN1OctetString("foo bar"));
+
+    value = new ASN1OctetString((byte) 0x80, "foo bar");
+    assertEquals(mr.normalize(value), new ASN1OctetString("foo bar"));
+
+    value = new ASN1OctetString(" foo ");
+    assertSame(mr.normalizeSubstring(value,
+         MatchingRule.SUBSTRING_TYPE_SUBANY), value);
+    assertEquals(mr.normalizeSubstring(value,
+         MatchingRule.SUBSTRING_TYPE_SUBINITIAL), new ASN1OctetString("foo "));
+  }
+
+
+
   /**
    * Provides test coverage for the methods used to retrieve the names and OIDs
    * for the matching rules.
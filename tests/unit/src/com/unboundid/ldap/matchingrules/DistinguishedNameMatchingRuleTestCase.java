@@ -26,8 +26,10 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.DNTestCase;
 import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.util.StaticUtils;
 
 
 
@@ -276,6 +278,104 @@ public class DistinguishedNameMatchingRuleTestCase
 
 
 
+  /**
+   * Tests the single-pass normalization used for simple DNs to ensure that it
+   * generates the same result as parsing the DN, and that it declines to
+   * handle DNs that require full parsing.
+   *
+   * @param  rawDN         The DN to normalize.
+   * @param  handleSimple  Indicates whether the DN should be handled by the
+   *                       single-pass normalization.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="testSimpleDNs")
+  public void testNormalizeSimpleDN(String rawDN, boolean handleSimple)
+         throws Exception
+  {
+    final byte[] normalized =
+         DistinguishedNameMatchingRule.normalizeSimpleDN(
+              StaticUtils.getBytes(rawDN));
+    if (handleSimple)
+    {
+      assertNotNull(normalized);
+      assertEquals(StaticUtils.toUTF8String(normalized),
+           new DN(rawDN).toNormalizedString());
+    }
+    else
+    {
+      assertNull(normalized);
+    }
+
+    DistinguishedNameMatchingRule mr =
+         DistinguishedNameMatchingRule.getInstance();
+    final ASN1OctetString value = new ASN1OctetString(rawDN);
+    assertEquals(mr.normalize(value).stringValue(),
+         new DN(rawDN).toNormalizedString());
+    assertTrue(mr.valuesMatch(value,
+         new ASN1OctetString(new DN(rawDN).toNormalizedString())));
+    assertTrue(mr.matchesAnyValue(
+         new ASN1OctetString(new DN(rawDN).toNormalizedString()),
+         new ASN1OctetString[] { value }));
+  }
+
+
+
+  /**
+   * Tests to ensure that normalizing a DN that is already in normalized form
+   * does not create a new value.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNormalizeAlreadyNormalized()
+         throws Exception
+  {
+    DistinguishedNameMatchingRule mr =
+         DistinguishedNameMatchingRule.getInstance();
+
+    ASN1OctetString value = new ASN1OctetString("ou=people,dc=example,dc=com");
+    assertSame(mr.normalize(value), value);
+
+    value = new ASN1OctetString("ou=People,dc=example,dc=com");
+    assertNotSame(mr.normalize(value), value);
+    assertEquals(mr.normalize(value),
+         new ASN1OctetString("ou=people,dc=example,dc=com"));
+  }
+
+
+
+  /**
+   * Retrieves a set of DNs that may be used to test the single-pass
+   * normalization for simple DNs.
+   *
+   * @return  A set of DNs that may be used to test the single-pass
+   *          normalization for simple DNs.
+   */
+  @DataProvider(name = "testSimpleDNs")
+  public Object[][] getTestSimpleDNs()
+  {
+    return new Object[][]
+    {
+      new Object[] { "dc=com", true },
+      new Object[] { "ou=People,dc=example,dc=com", true },
+      new Object[] { "  OU = People  ,  DC = Example , DC = COM  ", true },
+      new Object[] { "cn=John   Q.   Doe,o=Example Corp.", true },
+      new Object[] { "uid=jdoe,ou=People (West),dc=example,dc=com", true },
+      new Object[] { "x-attr-1=value*/:_", true },
+      new Object[] { "", false },
+      new Object[] { "1.2.3.4=foo", false },
+      new Object[] { "cn=foo+sn=bar,dc=com", false },
+      new Object[] { "cn=foo\\,bar,dc=com", false },
+      new Object[] { "cn=\"foo\",dc=com", false },
+      new Object[] { "cn=#0403616263", false },
+      new Object[] { "cn=foo;dc=com", false },
+      new Object[] { "cn=Caf\u00E9,dc=com", false }
+    };
+  }
+
+
+
   /**
    * Provides test coverage for the methods used to retrieve the names and OIDs
    * for the matching rules.
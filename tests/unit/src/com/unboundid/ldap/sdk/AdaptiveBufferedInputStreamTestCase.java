@@ -0,0 +1,383 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1Element;
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.util.ByteStringBuffer;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code AdaptiveBufferedInputStream} class.
+ */
+public final class AdaptiveBufferedInputStreamTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when reading data one byte at a time and in chunks.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadData()
+         throws Exception
+  {
+    final byte[] data = createData(10_000);
+    final LDAPConnectionStatistics stats = new LDAPConnectionStatistics();
+    final AdaptiveBufferedInputStream inputStream =
+         new AdaptiveBufferedInputStream(new ByteArrayInputStream(data),
+              65_536, stats);
+
+    assertEquals(inputStream.getBufferSize(),
+         AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE);
+    assertEquals(inputStream.getMaxBufferSize(), 65_536);
+    assertEquals(inputStream.available(), data.length);
+
+    assertEquals(inputStream.read(), (data[0] & 0xFF));
+    assertEquals(inputStream.read(), (data[1] & 0xFF));
+    assertEquals(stats.getNumReads(), 1L);
+    assertEquals(stats.getNumBytesRead(),
+         AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE);
+    assertEquals(inputStream.available(), (data.length - 2));
+
+    final byte[] readBuffer = new byte[100];
+    assertEquals(inputStream.read(readBuffer, 0, 0), 0);
+    assertEquals(inputStream.read(readBuffer), 100);
+    for (int i=0; i < 100; i++)
+    {
+      assertEquals(readBuffer[i], data[i+2]);
+    }
+
+    assertEquals(inputStream.skip(0L), 0L);
+    assertEquals(inputStream.skip(98L), 98L);
+
+    int pos = 200;
+    while (true)
+    {
+      final int bytesRead = inputStream.read(readBuffer, 0, readBuffer.length);
+      if (bytesRead < 0)
+      {
+        break;
+      }
+
+      for (int i=0; i < bytesRead; i++)
+      {
+        assertEquals(readBuffer[i], data[pos++]);
+      }
+    }
+
+    assertEquals(pos, data.length);
+    assertEquals(inputStream.read(), -1);
+    assertEquals(inputStream.skip(1L), 0L);
+    assertEquals(stats.getNumBytesRead(), data.length);
+    assertEquals(stats.getNumReads(), 3L);
+
+    inputStream.close();
+  }
+
+
+
+  /**
+   * Tests that a read into an array at least as large as the buffer will
+   * bypass the buffer.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testLargeReadBypassesBuffer()
+         throws Exception
+  {
+    final byte[] data = createData(20_000);
+    final LDAPConnectionStatistics stats = new LDAPConnectionStatistics();
+    final AdaptiveBufferedInputStream inputStream =
+         new AdaptiveBufferedInputStream(new ByteArrayInputStream(data),
+              65_536, stats);
+
+    final byte[] readBuffer = new byte[data.length];
+    assertEquals(inputStream.read(readBuffer, 0, readBuffer.length),
+         data.length);
+    assertEquals(readBuffer, data);
+    assertEquals(stats.getNumReads(), 1L);
+    assertEquals(stats.getNumBytesRead(), data.length);
+    assertEquals(inputStream.read(readBuffer), -1);
+  }
+
+
+
+  /**
+   * Tests that the buffer grows when large messages are read, that it will not
+   * grow beyond the maximum size, and that it shrinks again once the messages
+   * become small.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBufferResizing()
+         throws Exception
+  {
+    final byte[] data = createData(1_000_000);
+    final LDAPConnectionStatistics stats = new LDAPConnectionStatistics();
+    final AdaptiveBufferedInputStream inputStream =
+         new AdaptiveBufferedInputStream(new ByteArrayInputStream(data),
+              32_768, stats);
+
+    // Small messages should not cause the buffer to grow.
+    for (int i=0; i < 10; i++)
+    {
+      readMessage(inputStream, 100);
+    }
+    assertEquals(inputStream.getTargetBufferSize(),
+         AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE);
+    assertEquals(stats.getNumMessagesRead(), 10L);
+
+    // A single larger message should not be enough to cause the buffer to
+    // grow, but a series of them should.
+    readMessage(inputStream, 5000);
+    assertEquals(inputStream.getTargetBufferSize(),
+         AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE);
+
+    for (int i=0; i < 10; i++)
+    {
+      readMessage(inputStream, 5000);
+    }
+    assertTrue(inputStream.getTargetBufferSize() >
+         AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE);
+    assertTrue(inputStream.getTargetBufferSize() < 32_768);
+
+    // Larger messages should cause the buffer to grow to the maximum size.
+    for (int i=0; i < 20; i++)
+    {
+      readMessage(inputStream, 20_000);
+    }
+    assertEquals(inputStream.getTargetBufferSize(), 32_768);
+
+    readMessage(inputStream, 10);
+    assertEquals(inputStream.getBufferSize(), 32_768);
+
+    // Small messages should eventually cause the buffer to shrink.
+    for (int i=0; i < 100; i++)
+    {
+      readMessage(inputStream, 10);
+    }
+    assertEquals(inputStream.getTargetBufferSize(),
+         AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE);
+
+    readMessage(inputStream, 32_768);
+    assertEquals(stats.getNumMessagesRead(), 143L);
+    assertTrue(stats.getAverageMessageSize() > 0.0d);
+  }
+
+
+
+  /**
+   * Tests that the buffer will not grow if the maximum size is less than the
+   * initial size.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSmallMaxBufferSize()
+         throws Exception
+  {
+    final byte[] data = createData(100_000);
+    final AdaptiveBufferedInputStream inputStream =
+         new AdaptiveBufferedInputStream(new ByteArrayInputStream(data), 0,
+              null);
+    assertEquals(inputStream.getMaxBufferSize(),
+         AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE);
+
+    for (int i=0; i < 5; i++)
+    {
+      readMessage(inputStream, 10_000);
+    }
+
+    assertEquals(inputStream.getTargetBufferSize(),
+         AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE);
+    assertEquals(inputStream.getBufferSize(),
+         AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE);
+  }
+
+
+
+  /**
+   * Tests the behavior of the mark and reset methods, including when the mark
+   * must be retained across a buffer fill.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMarkAndReset()
+         throws Exception
+  {
+    final byte[] data = createData(10_000);
+    final AdaptiveBufferedInputStream inputStream =
+         new AdaptiveBufferedInputStream(new ByteArrayInputStream(data),
+              65_536, null);
+    assertTrue(inputStream.markSupported());
+
+    try
+    {
+      inputStream.reset();
+      fail("Expected an exception when resetting without a mark");
+    }
+    catch (final IOException ioe)
+    {
+      // This was expected.
+    }
+
+    // Mark at the very end of the buffered data, as is done when peeking at
+    // the start of a new message, and ensure that the mark is retained when
+    // the buffer is refilled.
+    final int bufferSize = AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE;
+    assertEquals(inputStream.skip(bufferSize), (long) bufferSize);
+    inputStream.mark(1);
+    assertEquals(inputStream.read(), (data[bufferSize] & 0xFF));
+    inputStream.reset();
+    assertEquals(inputStream.read(), (data[bufferSize] & 0xFF));
+
+    // Mark partway through the buffer and read past the end of it.
+    assertEquals(inputStream.skip(4000L), 4000L);
+    final int markedPos = bufferSize + 4001;
+    inputStream.mark(1000);
+    final byte[] readBuffer = new byte[500];
+    int totalRead = 0;
+    while (totalRead < readBuffer.length)
+    {
+      totalRead += inputStream.read(readBuffer, totalRead,
+           (readBuffer.length - totalRead));
+    }
+
+    inputStream.reset();
+    for (int i=0; i < 500; i++)
+    {
+      assertEquals(inputStream.read(), (data[markedPos + i] & 0xFF));
+    }
+
+    // A large read should not bypass the buffer while there is a mark, since
+    // the data would then not be available after a reset.
+    inputStream.mark(data.length);
+    final byte[] largeBuffer = new byte[bufferSize];
+    assertTrue(inputStream.read(largeBuffer) > 0);
+    inputStream.reset();
+    assertEquals(inputStream.read(), (data[markedPos + 500] & 0xFF));
+  }
+
+
+
+  /**
+   * Tests to ensure that an ASN.1 stream reader will use the adaptive stream
+   * directly rather than wrapping it in another buffered stream, and that the
+   * size of each message is determined correctly when the reader peeks at the
+   * start of each element.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testUsedDirectlyByASN1StreamReader()
+         throws Exception
+  {
+    // Each element will be 128 bytes so that some of them will end exactly at
+    // the end of the buffer.
+    final ByteStringBuffer encoded = new ByteStringBuffer();
+    for (int i=0; i < 100; i++)
+    {
+      new ASN1OctetString(createData(126)).encodeTo(encoded);
+    }
+    assertEquals(encoded.length(), 12_800);
+
+    final AdaptiveBufferedInputStream inputStream =
+         new AdaptiveBufferedInputStream(
+              new ByteArrayInputStream(encoded.toByteArray()), 65_536, null);
+    final ASN1StreamReader reader = new ASN1StreamReader(inputStream, 0);
+
+    final Field f = ASN1StreamReader.class.getDeclaredField("inputStream");
+    f.setAccessible(true);
+    assertSame(f.get(reader), inputStream);
+
+    for (int i=0; i < 100; i++)
+    {
+      assertEquals(reader.peek(), 0x04);
+      final ASN1Element element = reader.readElement();
+      assertNotNull(element);
+      assertEquals(element.getValueLength(), 126);
+
+      inputStream.messageRead();
+      assertEquals(inputStream.getAverageMessageSize(), 128L);
+    }
+
+    assertEquals(reader.peek(), -1);
+    reader.close();
+  }
+
+
+
+  /**
+   * Reads a simulated message of the specified size from the provided input
+   * stream, one byte at a time, and indicates that the message has been read.
+   *
+   * @param  inputStream  The input stream from which to read the message.
+   * @param  size         The number of bytes in the message.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void readMessage(final AdaptiveBufferedInputStream inputStream,
+                                  final int size)
+          throws Exception
+  {
+    for (int i=0; i < size; i++)
+    {
+      assertTrue(inputStream.read() >= 0);
+    }
+
+    inputStream.messageRead();
+  }
+
+
+
+  /**
+   * Creates an array of the specified size with non-repeating content.
+   *
+   * @param  size  The size of the array to create.
+   *
+   * @return  The array that was created.
+   */
+  private static byte[] createData(final int size)
+  {
+    final byte[] data = new byte[size];
+    for (int i=0; i < size; i++)
+    {
+      data[i] = (byte) (i % 251);
+    }
+
+    return data;
+  }
+}
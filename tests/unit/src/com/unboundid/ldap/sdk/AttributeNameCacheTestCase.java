@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code AttributeNameCache}
+ * class.
+ */
+public final class AttributeNameCacheTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of the intern method.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIntern()
+         throws Exception
+  {
+    final String first = AttributeNameCache.intern(new String("givenName"));
+    assertEquals(first, "givenName");
+
+    final String second = AttributeNameCache.intern(new String("givenName"));
+    assertSame(second, first);
+
+    assertEquals(AttributeNameCache.intern("GivenName"), "GivenName");
+  }
+
+
+
+  /**
+   * Tests the behavior of the toLowerCase method.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testToLowerCase()
+         throws Exception
+  {
+    final String lower1 = AttributeNameCache.toLowerCase("displayName;Lang-EN");
+    assertEquals(lower1, "displayname;lang-en");
+
+    final String lower2 =
+         AttributeNameCache.toLowerCase(new String("displayName;Lang-EN"));
+    assertSame(lower2, lower1);
+
+    final String lower3 = AttributeNameCache.toLowerCase("DISPLAYNAME;LANG-EN");
+    assertSame(lower3, lower1);
+
+    assertEquals(AttributeNameCache.toLowerCase("cn"), "cn");
+    assertEquals(AttributeNameCache.toLowerCase(""), "");
+  }
+
+
+
+  /**
+   * Tests the behavior of the toLowerCase and intern methods for a name that
+   * is too long to be cached.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testLongName()
+         throws Exception
+  {
+    final StringBuilder buffer = new StringBuilder();
+    while (buffer.length() <= 200)
+    {
+      buffer.append("LongAttributeName");
+    }
+
+    final String name = buffer.toString();
+    assertSame(AttributeNameCache.intern(name), name);
+    assertEquals(AttributeNameCache.toLowerCase(name),
+         name.toLowerCase());
+  }
+
+
+
+  /**
+   * Tests to ensure that the caches remain usable after they have filled up
+   * and been cleared.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCacheOverflow()
+         throws Exception
+  {
+    for (int i=0; i < (AttributeNameCache.MAX_CACHED_NAMES * 3); i++)
+    {
+      final String name = "Attr-" + i;
+      assertEquals(AttributeNameCache.toLowerCase(name), "attr-" + i);
+      assertEquals(AttributeNameCache.intern(name), name);
+    }
+
+    assertEquals(AttributeNameCache.toLowerCase("objectClass"),
+         "objectclass");
+  }
+}
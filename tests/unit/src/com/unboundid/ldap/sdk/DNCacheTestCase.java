@@ -0,0 +1,217 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.LDAPSDKUsageException;
+
+
+
+/**
+ * This class provides a set of test cases for the DNCache class.
+ */
+public final class DNCacheTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior of the cache.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testGetDN()
+         throws Exception
+  {
+    final DNCache cache = new DNCache(100);
+    assertEquals(cache.getMaxSize(), 100);
+    assertEquals(cache.size(), 0);
+    assertNotNull(cache.toString());
+
+    final DN dn1 = cache.getDN("uid=user.1, ou=People, dc=example, dc=com");
+    assertEquals(dn1.toString(), "uid=user.1, ou=People, dc=example, dc=com");
+    assertEquals(dn1, new DN("uid=user.1,ou=people,dc=example,dc=com"));
+    assertEquals(dn1.getRDNs().length, 4);
+    assertEquals(dn1.getParent().toString(),
+         new DN("uid=user.1, ou=People, dc=example, dc=com").getParentString());
+    assertEquals(cache.size(), 4);
+    assertEquals(cache.getCacheHits(), 0L);
+    assertEquals(cache.getCacheMisses(), 1L);
+
+    assertSame(cache.getDN("uid=user.1, ou=People, dc=example, dc=com"), dn1);
+    assertEquals(cache.getCacheHits(), 1L);
+
+    final DN dn2 = cache.getDN("uid=user.2,ou=People,dc=example,dc=com");
+    assertSame(dn2.getParent(), dn1.getParent());
+    assertSame(dn2.getParent().getParent(), dn1.getParent().getParent());
+    assertSame(dn2.getRDNs()[1], dn1.getRDNs()[1]);
+    assertEquals(cache.size(), 5);
+
+    // The parent DN should be available from the cache by its own string
+    // representation.
+    assertSame(cache.getDN("ou=People,dc=example,dc=com"), dn1.getParent());
+
+    final DN baseDN = cache.getDN("dc=example,dc=com");
+    assertTrue(dn1.isDescendantOf(baseDN, false));
+    assertTrue(dn2.matchesBaseAndScope(baseDN, SearchScope.SUB));
+    assertTrue(dn2.matchesBaseAndScope(dn1.getParent(), SearchScope.ONE));
+    assertFalse(dn2.matchesBaseAndScope(dn1, SearchScope.BASE));
+
+    cache.clear();
+    assertEquals(cache.size(), 0);
+    assertNotSame(cache.getDN("uid=user.1, ou=People, dc=example, dc=com"),
+         dn1);
+  }
+
+
+
+  /**
+   * Tests to ensure that DNs with equivalent but differently-formatted parent
+   * DNs do not share parent DN instances.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDifferentlyFormattedParents()
+         throws Exception
+  {
+    final DNCache cache = new DNCache(100);
+
+    final DN dn1 = cache.getDN("uid=user.1,ou=People,dc=example,dc=com");
+    final DN dn2 = cache.getDN("uid=user.2,OU=PEOPLE,DC=EXAMPLE,DC=COM");
+
+    assertNotSame(dn2.getParent(), dn1.getParent());
+    assertEquals(dn2.getParent(), dn1.getParent());
+    assertEquals(dn2.getParent().toString(), "OU=PEOPLE,DC=EXAMPLE,DC=COM");
+    assertEquals(dn2.getRDNs()[1].toString(), "OU=PEOPLE");
+    assertTrue(dn2.isDescendantOf(dn1.getParent(), false));
+  }
+
+
+
+  /**
+   * Tests the behavior for the null DN and DNs with a single RDN.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testShortDNs()
+         throws Exception
+  {
+    final DNCache cache = new DNCache(100);
+
+    final DN nullDN = cache.getDN("");
+    assertTrue(nullDN.isNullDN());
+    assertNull(nullDN.getParent());
+    assertSame(cache.getDN(""), nullDN);
+
+    final DN dn = cache.getDN("dc=com");
+    assertEquals(dn, new DN("dc=com"));
+    assertNull(dn.getParent());
+    assertSame(cache.getDN("dc=com"), dn);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to parse malformed DNs.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMalformedDN()
+         throws Exception
+  {
+    final DNCache cache = new DNCache(100);
+
+    try
+    {
+      cache.getDN("malformed");
+      fail("Expected an exception when parsing a malformed DN");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.INVALID_DN_SYNTAX);
+    }
+
+    assertEquals(cache.size(), 0);
+    assertEquals(cache.getCacheMisses(), 1L);
+  }
+
+
+
+  /**
+   * Tests to ensure that the cache is cleared when it becomes full.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCacheFull()
+         throws Exception
+  {
+    final DNCache cache = new DNCache(10);
+    for (int i=0; i < 100; i++)
+    {
+      final DN dn = cache.getDN("uid=user." + i + ",dc=example,dc=com");
+      assertEquals(dn, new DN("uid=user." + i + ",dc=example,dc=com"));
+      assertNotNull(dn.getParent());
+      assertTrue(cache.size() <= 10);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when using a schema.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWithSchema()
+         throws Exception
+  {
+    final Schema schema = Schema.getDefaultStandardSchema();
+    final DNCache cache = new DNCache(100, schema);
+
+    final DN dn = cache.getDN("2.5.4.3=test,dc=example,dc=com");
+    assertEquals(dn.toNormalizedString(),
+         new DN("2.5.4.3=test,dc=example,dc=com", schema).toNormalizedString());
+    assertEquals(dn, new DN("cn=test,dc=example,dc=com", schema));
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create a cache with an invalid maximum
+   * size.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidMaxSize()
+         throws Exception
+  {
+    new DNCache(0);
+  }
+}
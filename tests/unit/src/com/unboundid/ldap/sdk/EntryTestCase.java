@@ -3977,6 +3977,81 @@ public class EntryTestCase
 
 
 
+  /**
+   * Provides test coverage for the hasAttribute and getAttribute methods that
+   * take a schema when the entry holds attributes referenced by alternate
+   * names, including names with attribute options.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testGetAttributeWithSchemaAlternateNames()
+         throws Exception
+  {
+    final Schema schema = new Schema(new Entry(
+         "dn: cn=schema",
+         "objectClass: top",
+         "objectClass: ldapSubentry",
+         "objectClass: subschema",
+         "attributeTypes: ( 0.9.2342.19200300.100.1.1 " +
+              "NAME ( 'uid' 'userid' ) " +
+              "EQUALITY caseIgnoreMatch " +
+              "SYNTAX 1.3.6.1.4.1.1466.115.121.1.15 )",
+         "attributeTypes: ( 2.5.4.4 NAME ( 'sn' 'surname' ) " +
+              "EQUALITY caseIgnoreMatch " +
+              "SYNTAX 1.3.6.1.4.1.1466.115.121.1.15 )"));
+
+    final Entry e = new Entry(
+         "dn: uid=test.user,ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: person",
+         "userID: test.user",
+         "SURNAME;LANG-EN: User",
+         "2.5.4.4;lang-es: Usuario",
+         "cn: Test User");
+
+    assertTrue(e.hasAttribute("uid", schema));
+    assertEquals(e.getAttribute("uid", schema).getName(), "userID");
+    assertEquals(e.getAttribute("UID", schema).getValue(), "test.user");
+    assertNull(e.getAttribute("uid;lang-en", schema));
+    assertFalse(e.hasAttribute("uid;lang-en", schema));
+
+    assertTrue(e.hasAttribute("sn;lang-en", schema));
+    assertEquals(e.getAttribute("sn;Lang-En", schema).getValue(), "User");
+    assertEquals(e.getAttribute("surname;lang-es", schema).getValue(),
+         "Usuario");
+    assertFalse(e.hasAttribute("sn", schema));
+    assertNull(e.getAttribute("sn;lang-fr", schema));
+    assertNull(e.getAttribute("sn;lang-en;binary", schema));
+
+    assertFalse(e.hasAttribute("undefinedAttr", schema));
+
+
+    // When an attribute type is present under more than one name, the
+    // attribute referenced by OID should be preferred, followed by the one
+    // referenced by the earliest name in the attribute type definition.
+    final Entry e2 = new Entry(
+         "dn: uid=test.user,ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: person",
+         "surname: bySurname",
+         "sn: bySN",
+         "userid: byUserID",
+         "0.9.2342.19200300.100.1.1: byOID");
+
+    assertEquals(e2.getAttribute("UID", schema).getValue(), "byOID");
+    assertEquals(e2.getAttribute("uid", schema).getValue(), "byOID");
+
+    e2.removeAttribute("0.9.2342.19200300.100.1.1");
+    assertEquals(e2.getAttribute("UID", schema).getValue(), "byUserID");
+
+    assertEquals(e2.getAttribute("2.5.4.4", schema).getValue(), "bySN");
+    e2.removeAttribute("sn");
+    assertEquals(e2.getAttribute("2.5.4.4", schema).getValue(), "bySurname");
+  }
+
+
+
   /**
    * Provides test coverage for the {@code mergeEntries} method.
    *
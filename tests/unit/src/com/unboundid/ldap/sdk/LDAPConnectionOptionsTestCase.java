@@ -96,6 +96,7 @@ public class LDAPConnectionOptionsTestCase
     assertTrue(opts.useLinger());
     assertEquals(opts.getLingerTimeoutSeconds(), 5);
     assertTrue(opts.useReuseAddress());
+    assertFalse(opts.useMessageBufferDecoding());
     assertFalse(opts.useSynchronousMode());
     assertTrue(opts.useTCPNoDelay());
     assertEquals(opts.getConnectTimeoutMillis(), 10_000L);
@@ -190,6 +191,7 @@ public class LDAPConnectionOptionsTestCase
     opts.setConnectTimeoutMillis(1234);
     opts.setFollowReferrals(true);
     opts.setMaxMessageSize(1234);
+    opts.setMaxReadBufferSize(12345);
     opts.setReferralHopLimit(10);
     opts.setReferralConnector(new TestReferralConnector());
     opts.setResponseTimeoutMillis(1234L);
@@ -203,6 +205,7 @@ public class LDAPConnectionOptionsTestCase
     opts.setUseTCPNoDelay(false);
     opts.setReceiveBufferSize(1234);
     opts.setSendBufferSize(1234);
+    opts.setUseMessageBufferDecoding(true);
     opts.setUseSynchronousMode(true);
     opts.setUseSchema(true);
     opts.setAllowConcurrentSocketFactoryUse(false);
@@ -220,6 +223,7 @@ public class LDAPConnectionOptionsTestCase
     assertEquals(dup.getReferralHopLimit(), opts.getReferralHopLimit());
     assertNotNull(dup.getReferralConnector());
     assertEquals(dup.getMaxMessageSize(), opts.getMaxMessageSize());
+    assertEquals(dup.getMaxReadBufferSize(), 12345);
     assertEquals(dup.getResponseTimeoutMillis(),
                  opts.getResponseTimeoutMillis());
     assertEquals(dup.abandonOnTimeout(), opts.abandonOnTimeout());
@@ -233,6 +237,8 @@ public class LDAPConnectionOptionsTestCase
     assertEquals(dup.useTCPNoDelay(), opts.useTCPNoDelay());
     assertEquals(dup.getReceiveBufferSize(), 1234);
     assertEquals(dup.getSendBufferSize(), 1234);
+    assertEquals(dup.useMessageBufferDecoding(),
+         opts.useMessageBufferDecoding());
     assertEquals(dup.useSynchronousMode(), opts.useSynchronousMode());
     assertEquals(dup.useSchema(), opts.useSchema());
     assertEquals(dup.usePooledSchema(), opts.usePooledSchema());
@@ -878,6 +884,32 @@ public class LDAPConnectionOptionsTestCase
 
 
 
+  /**
+   * Tests maximum read buffer size functionality.
+   */
+  @Test()
+  public void testMaxReadBufferSize()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertEquals(opts.getMaxReadBufferSize(), 262_144);
+    assertNotNull(opts.toString());
+
+    opts.setMaxReadBufferSize(0);
+    assertEquals(opts.getMaxReadBufferSize(), 0);
+    assertNotNull(opts.toString());
+
+    opts.setMaxReadBufferSize(1_048_576);
+    assertEquals(opts.getMaxReadBufferSize(), 1_048_576);
+    assertTrue(opts.toString().contains("maxReadBufferSizeBytes=1048576"));
+
+    opts.setMaxReadBufferSize(-1);
+    assertEquals(opts.getMaxReadBufferSize(), 0);
+    assertNotNull(opts.toString());
+  }
+
+
+
   /**
    * Tests disconnect handler functionality.
    */
@@ -984,6 +1016,59 @@ public class LDAPConnectionOptionsTestCase
 
 
 
+  /**
+   * Tests the ability to get and set the flag that controls whether to read
+   * each response into a single buffer before decoding it, and the behavior
+   * when reading search result entries with that option enabled.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testUseMessageBufferDecoding()
+         throws Exception
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.useMessageBufferDecoding());
+    assertNotNull(opts.toString());
+
+    opts.setUseMessageBufferDecoding(true);
+    assertTrue(opts.useMessageBufferDecoding());
+    assertNotNull(opts.toString());
+
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    for (final boolean synchronousMode : new boolean[] { false, true })
+    {
+      opts.setUseSynchronousMode(synchronousMode);
+
+      final LDAPConnection conn = new LDAPConnection(opts, "localhost",
+           ds.getListenPort());
+      try
+      {
+        final SearchResult searchResult = conn.search("dc=example,dc=com",
+             SearchScope.SUB, "(objectClass=*)");
+        assertResultCodeEquals(searchResult, ResultCode.SUCCESS);
+        assertEquals(searchResult.getEntryCount(), 3);
+
+        final SearchResultEntry entry = conn.getEntry("dc=example,dc=com");
+        assertNotNull(entry);
+        assertEquals(entry.getDN(), "dc=example,dc=com");
+        assertTrue(entry.hasAttributeValue("dc", "example"));
+        assertTrue(entry.hasAttributeValue("objectClass", "domain"));
+      }
+      finally
+      {
+        conn.close();
+      }
+    }
+
+    opts.setUseMessageBufferDecoding(false);
+    assertFalse(opts.useMessageBufferDecoding());
+    assertNotNull(opts.toString());
+  }
+
+
+
   /**
    * Tests the ability to get and set the flag that controls whether to use
    * schema information when reading data from the server.
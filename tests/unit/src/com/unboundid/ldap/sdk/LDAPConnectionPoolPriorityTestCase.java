@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the connection pool priority
+ * enum.
+ */
+public final class LDAPConnectionPoolPriorityTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Provides basic functionality for the connection pool priority enum.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBasic()
+         throws Exception
+  {
+    assertNotNull(LDAPConnectionPoolPriority.values());
+    assertEquals(LDAPConnectionPoolPriority.values().length, 3);
+    for (final LDAPConnectionPoolPriority p :
+         LDAPConnectionPoolPriority.values())
+    {
+      assertNotNull(p);
+      assertEquals(LDAPConnectionPoolPriority.valueOf(p.name()), p);
+    }
+
+    assertTrue(LDAPConnectionPoolPriority.HIGH.ordinal() <
+         LDAPConnectionPoolPriority.NORMAL.ordinal());
+    assertTrue(LDAPConnectionPoolPriority.NORMAL.ordinal() <
+         LDAPConnectionPoolPriority.LOW.ordinal());
+  }
+
+
+
+  /**
+   * Tests the {@code forName} method.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testForName()
+         throws Exception
+  {
+    for (final LDAPConnectionPoolPriority p :
+         LDAPConnectionPoolPriority.values())
+    {
+      assertEquals(LDAPConnectionPoolPriority.forName(p.name()), p);
+      assertEquals(
+           LDAPConnectionPoolPriority.forName(p.name().toLowerCase()), p);
+    }
+
+    assertNull(LDAPConnectionPoolPriority.forName("some undefined name"));
+  }
+}
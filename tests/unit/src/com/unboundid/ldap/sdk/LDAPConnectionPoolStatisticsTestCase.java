@@ -145,6 +145,56 @@ public class LDAPConnectionPoolStatisticsTestCase
     stats.incrementNumReleasedValid();
     assertEquals(stats.getNumReleasedValid(), 1L);
 
+    assertEquals(stats.getNumConnectionsCreatedInBackground(), 0L);
+    stats.incrementNumConnectionsCreatedInBackground();
+    assertEquals(stats.getNumConnectionsCreatedInBackground(), 1L);
+
+    assertEquals(stats.getNumAdaptiveGoalIncreases(), 0L);
+    stats.incrementNumAdaptiveGoalIncreases();
+    assertEquals(stats.getNumAdaptiveGoalIncreases(), 1L);
+
+    assertEquals(stats.getNumAdaptiveGoalDecreases(), 0L);
+    stats.incrementNumAdaptiveGoalDecreases();
+    assertEquals(stats.getNumAdaptiveGoalDecreases(), 1L);
+
+    assertEquals(stats.getNumCheckoutWaits(), 0L);
+    assertEquals(stats.getTotalCheckoutWaitTimeMillis(), 0L);
+    assertEquals(stats.getAverageCheckoutWaitTimeMillis(), 0.0d);
+    stats.recordCheckoutWait(4000000L);
+    stats.recordCheckoutWait(2000000L);
+    assertEquals(stats.getNumCheckoutWaits(), 2L);
+    assertEquals(stats.getTotalCheckoutWaitTimeMillis(), 6L);
+    assertEquals(stats.getAverageCheckoutWaitTimeMillis(), 3.0d);
+
+    for (final LDAPConnectionPoolPriority p :
+         LDAPConnectionPoolPriority.values())
+    {
+      assertEquals(stats.getNumCheckoutWaits(p), 0L);
+      assertEquals(stats.getTotalCheckoutWaitTimeMillis(p), 0L);
+      assertEquals(stats.getAverageCheckoutWaitTimeMillis(p), 0.0d);
+    }
+
+    stats.recordCheckoutWait(LDAPConnectionPoolPriority.HIGH, 1000000L);
+    stats.recordCheckoutWait(LDAPConnectionPoolPriority.LOW, 8000000L);
+    stats.recordCheckoutWait(LDAPConnectionPoolPriority.LOW, 2000000L);
+    assertEquals(stats.getNumCheckoutWaits(LDAPConnectionPoolPriority.HIGH),
+         1L);
+    assertEquals(
+         stats.getTotalCheckoutWaitTimeMillis(LDAPConnectionPoolPriority.HIGH),
+         1L);
+    assertEquals(stats.getNumCheckoutWaits(LDAPConnectionPoolPriority.NORMAL),
+         0L);
+    assertEquals(stats.getNumCheckoutWaits(LDAPConnectionPoolPriority.LOW),
+         2L);
+    assertEquals(
+         stats.getTotalCheckoutWaitTimeMillis(LDAPConnectionPoolPriority.LOW),
+         10L);
+    assertEquals(
+         stats.getAverageCheckoutWaitTimeMillis(LDAPConnectionPoolPriority.LOW),
+         5.0d);
+    assertEquals(stats.getNumCheckoutWaits(), 5L);
+    assertEquals(stats.getTotalCheckoutWaitTimeMillis(), 17L);
+
 
     stats.reset();
 
@@ -160,6 +210,18 @@ public class LDAPConnectionPoolStatisticsTestCase
     assertEquals(stats.getNumFailedCheckouts(), 0L);
 
     assertEquals(stats.getNumReleasedValid(), 0L);
+
+    assertEquals(stats.getNumConnectionsCreatedInBackground(), 0L);
+    assertEquals(stats.getNumAdaptiveGoalIncreases(), 0L);
+    assertEquals(stats.getNumAdaptiveGoalDecreases(), 0L);
+    assertEquals(stats.getNumCheckoutWaits(), 0L);
+    assertEquals(stats.getTotalCheckoutWaitTimeMillis(), 0L);
+    for (final LDAPConnectionPoolPriority p :
+         LDAPConnectionPoolPriority.values())
+    {
+      assertEquals(stats.getNumCheckoutWaits(p), 0L);
+      assertEquals(stats.getTotalCheckoutWaitTimeMillis(p), 0L);
+    }
   }
 
 
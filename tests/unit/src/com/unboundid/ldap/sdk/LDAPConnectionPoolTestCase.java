@@ -1843,6 +1843,235 @@ public class LDAPConnectionPoolTestCase
 
 
 
+  /**
+   * Tests the behavior of a connection pool operating in adaptive sizing mode.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAdaptiveSizing()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 1, 5);
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+
+    assertFalse(pool.adaptiveSizingEnabled());
+    assertEquals(pool.getAdaptiveAvailableConnectionGoal(), 0);
+    assertEquals(pool.getAdaptiveSizingIntervalMillis(), 1000L);
+
+    // Use a long interval at first so that the load won't be evaluated until
+    // we're ready.
+    pool.setAdaptiveSizingIntervalMillis(3600000L);
+    assertEquals(pool.getAdaptiveSizingIntervalMillis(), 3600000L);
+
+    pool.setAdaptiveSizingEnabled(true);
+    assertTrue(pool.adaptiveSizingEnabled());
+    assertEquals(pool.getAdaptiveAvailableConnectionGoal(), 1);
+
+    // Check out more connections than are available so that new connections
+    // have to be created, which should cause the pool to raise its goal and
+    // create connections in the background.
+    final LDAPConnection c1 = pool.getConnection();
+    final LDAPConnection c2 = pool.getConnection();
+    final LDAPConnection c3 = pool.getConnection();
+    assertTrue(stats.getNumSuccessfulCheckoutsNewConnection() >= 1L);
+
+    pool.setAdaptiveSizingIntervalMillis(10L);
+    assertEquals(pool.getAdaptiveSizingIntervalMillis(), 10L);
+
+    final long stopWaitingTime = System.currentTimeMillis() + 30000L;
+    while ((pool.getAdaptiveAvailableConnectionGoal() <= 1) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+    {
+      Thread.sleep(1L);
+    }
+    assertTrue(pool.getAdaptiveAvailableConnectionGoal() > 1);
+    assertTrue(stats.getNumAdaptiveGoalIncreases() >= 1L);
+
+    while ((stats.getNumConnectionsCreatedInBackground() == 0L) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+    {
+      Thread.sleep(1L);
+    }
+    assertTrue(stats.getNumConnectionsCreatedInBackground() > 0L);
+
+    pool.releaseConnection(c1);
+    pool.releaseConnection(c2);
+
+    // A connection released as defunct should be replaced in the background.
+    final long createdBeforeDefunct =
+         stats.getNumConnectionsCreatedInBackground();
+    pool.releaseDefunctConnection(c3);
+    while ((stats.getNumConnectionsCreatedInBackground() ==
+                 createdBeforeDefunct) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+    {
+      Thread.sleep(1L);
+    }
+    assertTrue(stats.getNumConnectionsCreatedInBackground() >
+         createdBeforeDefunct);
+
+    // Without any further load, the pool should eventually shrink back down
+    // to its minimum goal.
+    while ((pool.getAdaptiveAvailableConnectionGoal() > 1) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+    {
+      Thread.sleep(1L);
+    }
+    assertEquals(pool.getAdaptiveAvailableConnectionGoal(), 1);
+    assertTrue(stats.getNumAdaptiveGoalDecreases() >= 1L);
+
+    assertNotNull(pool.getRootDSE());
+
+    pool.setAdaptiveSizingEnabled(false);
+    assertFalse(pool.adaptiveSizingEnabled());
+    assertEquals(pool.getAdaptiveAvailableConnectionGoal(), 0);
+
+    pool.setAdaptiveSizingEnabled(true);
+    assertTrue(pool.adaptiveSizingEnabled());
+
+    pool.close();
+    assertFalse(pool.adaptiveSizingEnabled());
+  }
+
+
+
+  /**
+   * Tests to ensure that when operating in adaptive sizing mode, a replacement
+   * for a defunct connection is created by the background thread rather than
+   * by a thread checking out a connection.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAdaptiveSizingBackgroundReplacement()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 2, 2);
+    pool.setCreateIfNecessary(false);
+    pool.setMaxWaitTimeMillis(0L);
+    pool.setAdaptiveSizingIntervalMillis(3600000L);
+    pool.setAdaptiveSizingEnabled(true);
+
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+
+    final LDAPConnection c1 = pool.getConnection();
+    final LDAPConnection c2 = pool.getConnection();
+    pool.releaseDefunctConnection(c1);
+
+    // The checkout must not create the replacement itself.  It may either
+    // fail or get the connection created in the background.
+    try
+    {
+      pool.releaseConnection(pool.getConnection());
+    }
+    catch (final LDAPException le)
+    {
+      // This is acceptable if the replacement isn't ready yet.
+    }
+    assertEquals(stats.getNumSuccessfulCheckoutsNewConnection(), 0L);
+
+    final long stopWaitingTime = System.currentTimeMillis() + 30000L;
+    while ((stats.getNumConnectionsCreatedInBackground() == 0L) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+    {
+      Thread.sleep(1L);
+    }
+    assertEquals(stats.getNumConnectionsCreatedInBackground(), 1L);
+    assertEquals(pool.getCurrentAvailableConnections(), 1);
+
+    pool.releaseConnection(c2);
+    assertEquals(pool.getCurrentAvailableConnections(), 2);
+    assertEquals(stats.getNumSuccessfulCheckoutsNewConnection(), 0L);
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests the ability to perform health checking with multiple threads, and to
+   * skip health checking for recently-used connections.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testParallelHealthCheck()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 10, 10);
+
+    assertEquals(pool.getHealthCheckThreads(), 1);
+    pool.setHealthCheckThreads(4);
+    assertEquals(pool.getHealthCheckThreads(), 4);
+
+    LDAPConnectionPoolHealthCheckResult result =
+         pool.invokeHealthCheck(null, false);
+    assertEquals(result.getNumExamined(), 10);
+    assertEquals(result.getNumDefunct(), 0);
+    assertEquals(pool.getCurrentAvailableConnections(), 10);
+
+    final TestLDAPConnectionPoolHealthCheck failingHealthCheck =
+         new TestLDAPConnectionPoolHealthCheck(null, null, null, null,
+              new LDAPException(ResultCode.SERVER_DOWN), null);
+
+    // Every connection should be found defunct and replaced, and each
+    // replacement should not be examined a second time.
+    result = pool.invokeHealthCheck(failingHealthCheck, false);
+    assertEquals(result.getNumExamined(), 10);
+    assertEquals(result.getNumDefunct(), 10);
+    assertEquals(pool.getCurrentAvailableConnections(), 10);
+
+    // The worker threads should be retained for subsequent health checks, and
+    // they should be named daemon threads.
+    int numWorkers = 0;
+    for (final Thread t : Thread.getAllStackTraces().keySet())
+    {
+      if (t.getName().startsWith(
+           "LDAPConnectionPool Parallel Health Check Worker"))
+      {
+        assertTrue(t.isDaemon());
+        numWorkers++;
+      }
+    }
+    assertTrue(numWorkers > 0);
+
+    // When skipping recently-used connections, none of the connections should
+    // be subjected to the failing health check because they were all just
+    // established.
+    assertFalse(pool.skipHealthCheckForRecentlyUsedConnections());
+    pool.setSkipHealthCheckForRecentlyUsedConnections(true);
+    assertTrue(pool.skipHealthCheckForRecentlyUsedConnections());
+
+    result = pool.invokeHealthCheck(failingHealthCheck, false);
+    assertEquals(result.getNumExamined(), 10);
+    assertEquals(result.getNumDefunct(), 0);
+    assertEquals(pool.getCurrentAvailableConnections(), 10);
+
+    pool.setSkipHealthCheckForRecentlyUsedConnections(false);
+    pool.setHealthCheckThreads(1);
+    result = pool.invokeHealthCheck(failingHealthCheck, false);
+    assertEquals(result.getNumExamined(), 10);
+    assertEquals(result.getNumDefunct(), 10);
+
+    // Health checks should still be possible after the pool has been closed,
+    // even though the worker threads will no longer be available.
+    pool.setHealthCheckThreads(4);
+    pool.close();
+    result = pool.invokeHealthCheck(null, false);
+    assertEquals(result.getNumExamined(), 0);
+  }
+
+
+
   /**
    * Tests the ability to establish connections in parallel when provided with
    * an initial connection.
@@ -3262,4 +3491,462 @@ public class LDAPConnectionPoolTestCase
     pool.close();
     ds.shutDown(true);
   }
+
+
+
+  /**
+   * Tests the methods used to configure checkout priorities for a connection
+   * pool.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCheckoutPriorityConfiguration()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 2, 2);
+
+    for (final OperationType t : OperationType.values())
+    {
+      assertEquals(pool.getCheckoutPriority(t),
+           LDAPConnectionPoolPriority.NORMAL);
+    }
+
+    for (final LDAPConnectionPoolPriority p :
+         LDAPConnectionPoolPriority.values())
+    {
+      assertEquals(pool.getReservedConnections(p), 0);
+      assertEquals(pool.getNumWaitingCheckouts(p), 0);
+    }
+
+    pool.setCheckoutPriority(OperationType.BIND,
+         LDAPConnectionPoolPriority.HIGH);
+    pool.setCheckoutPriority(OperationType.SEARCH,
+         LDAPConnectionPoolPriority.LOW);
+    assertEquals(pool.getCheckoutPriority(OperationType.BIND),
+         LDAPConnectionPoolPriority.HIGH);
+    assertEquals(pool.getCheckoutPriority(OperationType.SEARCH),
+         LDAPConnectionPoolPriority.LOW);
+    assertEquals(pool.getCheckoutPriority(OperationType.ADD),
+         LDAPConnectionPoolPriority.NORMAL);
+
+    pool.setCheckoutPriority(OperationType.SEARCH, null);
+    assertEquals(pool.getCheckoutPriority(OperationType.SEARCH),
+         LDAPConnectionPoolPriority.NORMAL);
+
+    pool.setReservedConnections(LDAPConnectionPoolPriority.HIGH, 1);
+    assertEquals(pool.getReservedConnections(LDAPConnectionPoolPriority.HIGH),
+         1);
+
+    pool.setReservedConnections(LDAPConnectionPoolPriority.HIGH, -1);
+    assertEquals(pool.getReservedConnections(LDAPConnectionPoolPriority.HIGH),
+         0);
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that connections reserved for higher priorities cannot be
+   * checked out with a lower priority.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReservedConnections()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 4, 4);
+    pool.setCreateIfNecessary(false);
+    pool.setMaxWaitTimeMillis(0L);
+    pool.setReservedConnections(LDAPConnectionPoolPriority.HIGH, 2);
+    pool.setReservedConnections(LDAPConnectionPoolPriority.NORMAL, 1);
+
+    // A low-priority checkout may only take a connection while more than three
+    // remain available.
+    final LDAPConnection lowConn =
+         pool.getConnection(LDAPConnectionPoolPriority.LOW);
+    assertNotNull(lowConn);
+
+    try
+    {
+      pool.getConnection(LDAPConnectionPoolPriority.LOW);
+      fail("Expected an exception when trying to take a connection reserved " +
+           "for higher priorities");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    // A normal-priority checkout may only take a connection while more than
+    // two remain available.
+    final LDAPConnection normalConn = pool.getConnection();
+    assertNotNull(normalConn);
+
+    try
+    {
+      pool.getConnection();
+      fail("Expected an exception when trying to take a connection reserved " +
+           "for the high priority");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    // The operation methods should use the configured priority for each
+    // operation type.
+    pool.setCheckoutPriority(OperationType.SEARCH,
+         LDAPConnectionPoolPriority.LOW);
+    try
+    {
+      pool.getRootDSE();
+      fail("Expected an exception when trying to search with a low priority");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    pool.setCheckoutPriority(OperationType.SEARCH,
+         LDAPConnectionPoolPriority.HIGH);
+    assertNotNull(pool.getRootDSE());
+
+    // A high-priority checkout may take all of the remaining connections.
+    final LDAPConnection highConn1 =
+         pool.getConnection(LDAPConnectionPoolPriority.HIGH);
+    assertNotNull(highConn1);
+    final LDAPConnection highConn2 =
+         pool.getConnection(LDAPConnectionPoolPriority.HIGH);
+    assertNotNull(highConn2);
+    assertEquals(pool.getCurrentAvailableConnections(), 0);
+
+    try
+    {
+      pool.getConnection(LDAPConnectionPoolPriority.HIGH);
+      fail("Expected an exception when trying to check out a connection " +
+           "when all connections are currently checked out");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    // Releasing a single connection should not make it available to a
+    // normal-priority checkout.
+    pool.releaseConnection(lowConn);
+    try
+    {
+      pool.getConnection();
+      fail("Expected an exception when trying to take a connection reserved " +
+           "for the high priority");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    pool.releaseConnection(normalConn);
+    pool.releaseConnection(highConn1);
+    pool.releaseConnection(highConn2);
+    assertEquals(pool.getCurrentAvailableConnections(), 4);
+
+    pool.setReservedConnections(LDAPConnectionPoolPriority.HIGH, 0);
+    pool.setReservedConnections(LDAPConnectionPoolPriority.NORMAL, 0);
+
+    final ArrayList<LDAPConnection> conns = new ArrayList<LDAPConnection>(4);
+    for (int i=0; i < 4; i++)
+    {
+      conns.add(pool.getConnection(LDAPConnectionPoolPriority.LOW));
+    }
+
+    for (final LDAPConnection c : conns)
+    {
+      pool.releaseConnection(c);
+    }
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that a checkout refused because of a reservation will not
+   * create a connection outside of the pool when the pool is using its default
+   * settings.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReservedConnectionsWithDefaultSettings()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 2, 2);
+    assertTrue(pool.getCreateIfNecessary());
+    assertEquals(pool.getMaxWaitTimeMillis(), 0L);
+    pool.setReservedConnections(LDAPConnectionPoolPriority.HIGH, 2);
+
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+    for (int i=0; i < 5; i++)
+    {
+      try
+      {
+        pool.getConnection(LDAPConnectionPoolPriority.LOW);
+        fail("Expected an exception when trying to take a connection " +
+             "reserved for the high priority");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.CONNECT_ERROR);
+      }
+    }
+
+    assertEquals(stats.getNumSuccessfulCheckoutsNewConnection(), 0L);
+    assertEquals(stats.getNumConnectionsClosedUnneeded(), 0L);
+    assertEquals(stats.getNumFailedCheckouts(), 5L);
+    assertEquals(pool.getCurrentAvailableConnections(), 2);
+
+    // A refused checkout should wait for a connection if a maximum wait time
+    // is configured, and then fail without creating a connection.
+    pool.setMaxWaitTimeMillis(50L);
+    try
+    {
+      pool.getConnection(LDAPConnectionPoolPriority.LOW);
+      fail("Expected an exception when trying to take a connection reserved " +
+           "for the high priority");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.CONNECT_ERROR);
+    }
+
+    assertEquals(stats.getNumCheckoutWaits(LDAPConnectionPoolPriority.LOW),
+         1L);
+    assertEquals(stats.getNumSuccessfulCheckoutsNewConnection(), 0L);
+    assertEquals(pool.getCurrentAvailableConnections(), 2);
+
+    // A high-priority checkout should still be able to create a connection
+    // outside of the pool when all of the pooled connections are in use.
+    pool.setMaxWaitTimeMillis(0L);
+    final LDAPConnection c1 =
+         pool.getConnection(LDAPConnectionPoolPriority.HIGH);
+    final LDAPConnection c2 =
+         pool.getConnection(LDAPConnectionPoolPriority.HIGH);
+    final LDAPConnection c3 =
+         pool.getConnection(LDAPConnectionPoolPriority.HIGH);
+    assertEquals(stats.getNumSuccessfulCheckoutsNewConnection(), 1L);
+
+    pool.releaseConnection(c1);
+    pool.releaseConnection(c2);
+    pool.releaseConnection(c3);
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that a lower-priority checkout that encounters a defunct
+   * connection will not take a reserved connection while looking for a valid
+   * one.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReservedConnectionsWithDefunctConnection()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 3, 3);
+    pool.setReservedConnections(LDAPConnectionPoolPriority.HIGH, 2);
+    assertEquals(pool.getCurrentAvailableConnections(), 3);
+
+    // Every connection will be considered invalid for checkout, and it won't
+    // be possible to create replacements.
+    pool.setHealthCheck(new TestLDAPConnectionPoolHealthCheck(
+         new LDAPException(ResultCode.SERVER_DOWN), null,
+         new LDAPException(ResultCode.SERVER_DOWN), null, null, null));
+
+    try
+    {
+      pool.getConnection(LDAPConnectionPoolPriority.LOW);
+      fail("Expected an exception when trying to check out a connection " +
+           "with an invalid health check");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    // Only the one connection that the low-priority checkout was allowed to
+    // take should have been examined.
+    assertEquals(pool.getCurrentAvailableConnections(), 2);
+    assertEquals(
+         pool.getConnectionPoolStatistics().getNumConnectionsClosedDefunct(),
+         1L);
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that threads waiting for a connection are served in
+   * priority order and that wait statistics are maintained for each priority.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPriorityOrderedWaiting()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 1, 1);
+    pool.setCreateIfNecessary(false);
+    pool.setMaxWaitTimeMillis(30000L);
+
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+    final LDAPConnection conn = pool.getConnection();
+
+    final PriorityCheckoutThread lowThread = new PriorityCheckoutThread(pool,
+         LDAPConnectionPoolPriority.LOW);
+    lowThread.start();
+    waitForWaitingCheckout(pool, LDAPConnectionPoolPriority.LOW);
+
+    final PriorityCheckoutThread highThread = new PriorityCheckoutThread(pool,
+         LDAPConnectionPoolPriority.HIGH);
+    highThread.start();
+    waitForWaitingCheckout(pool, LDAPConnectionPoolPriority.HIGH);
+
+    // Give the low-priority thread a chance to notice that it should yield.
+    Thread.sleep(100L);
+
+    pool.releaseConnection(conn);
+    highThread.join(10000L);
+    assertFalse(highThread.isAlive());
+    assertNull(highThread.exception);
+    assertNotNull(highThread.connection);
+
+    assertTrue(lowThread.isAlive());
+    assertNull(lowThread.connection);
+    assertEquals(pool.getNumWaitingCheckouts(LDAPConnectionPoolPriority.LOW),
+         1);
+
+    pool.releaseConnection(highThread.connection);
+    lowThread.join(10000L);
+    assertFalse(lowThread.isAlive());
+    assertNull(lowThread.exception);
+    assertNotNull(lowThread.connection);
+    pool.releaseConnection(lowThread.connection);
+
+    assertEquals(
+         stats.getNumCheckoutWaits(LDAPConnectionPoolPriority.HIGH), 1L);
+    assertEquals(
+         stats.getNumCheckoutWaits(LDAPConnectionPoolPriority.NORMAL), 0L);
+    assertEquals(
+         stats.getNumCheckoutWaits(LDAPConnectionPoolPriority.LOW), 1L);
+    assertEquals(stats.getNumCheckoutWaits(), 2L);
+    assertTrue(
+         stats.getTotalCheckoutWaitTimeMillis(LDAPConnectionPoolPriority.LOW) >=
+         stats.getTotalCheckoutWaitTimeMillis(LDAPConnectionPoolPriority.HIGH));
+    assertTrue(stats.toString().contains("numCheckoutWaits.HIGH=1"));
+    assertTrue(stats.toString().contains("numCheckoutWaits.LOW=1"));
+    assertFalse(stats.toString().contains("numCheckoutWaits.NORMAL="));
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Waits for a thread to begin waiting for a connection with the specified
+   * priority.
+   *
+   * @param  pool      The connection pool to examine.
+   * @param  priority  The priority for which to wait.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void waitForWaitingCheckout(final LDAPConnectionPool pool,
+                           final LDAPConnectionPoolPriority priority)
+          throws Exception
+  {
+    final long stopTime = System.currentTimeMillis() + 10000L;
+    while (pool.getNumWaitingCheckouts(priority) == 0)
+    {
+      assertTrue(System.currentTimeMillis() < stopTime,
+           "Timed out waiting for a " + priority + " checkout to wait");
+      Thread.sleep(1L);
+    }
+  }
+
+
+
+  /**
+   * This class provides a thread that will attempt to check out a connection
+   * from a pool with a given priority.
+   */
+  private static final class PriorityCheckoutThread
+          extends Thread
+  {
+    // The connection that was checked out.
+    private volatile LDAPConnection connection;
+
+    // The exception caught while trying to check out a connection.
+    private volatile LDAPException exception;
+
+    // The connection pool from which to check out the connection.
+    private final LDAPConnectionPool pool;
+
+    // The priority to use for the checkout.
+    private final LDAPConnectionPoolPriority priority;
+
+
+
+    /**
+     * Creates a new instance of this thread.
+     *
+     * @param  pool      The connection pool from which to check out the
+     *                   connection.
+     * @param  priority  The priority to use for the checkout.
+     */
+    private PriorityCheckoutThread(final LDAPConnectionPool pool,
+                                   final LDAPConnectionPoolPriority priority)
+    {
+      setName("Priority Checkout Thread " + priority);
+      setDaemon(true);
+
+      this.pool     = pool;
+      this.priority = priority;
+    }
+
+
+
+    /**
+     * Attempts to check out a connection.
+     */
+    @Override()
+    public void run()
+    {
+      try
+      {
+        connection = pool.getConnection(priority);
+      }
+      catch (final LDAPException le)
+      {
+        exception = le;
+      }
+    }
+  }
 }
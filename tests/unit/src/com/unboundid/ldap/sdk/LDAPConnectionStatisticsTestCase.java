@@ -24,8 +24,11 @@ package com.unboundid.ldap.sdk;
 
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+
 
 
 /**
@@ -97,6 +100,12 @@ public class LDAPConnectionStatisticsTestCase
     assertEquals(stats.getNumConnects(), 0L);
     assertEquals(stats.getNumDisconnects(), 0L);
 
+    assertEquals(stats.getNumReads(), 0L);
+    assertEquals(stats.getNumBytesRead(), 0L);
+    assertEquals(stats.getAverageBytesPerRead(), Double.NaN);
+    assertEquals(stats.getNumMessagesRead(), 0L);
+    assertEquals(stats.getAverageMessageSize(), Double.NaN);
+
     assertEquals(stats.getNumAbandonRequests(), 0L);
 
     assertEquals(stats.getNumAddRequests(), 0L);
@@ -830,4 +839,88 @@ public class LDAPConnectionStatisticsTestCase
 
     conn.close();
   }
+
+
+
+  /**
+   * Tests to ensure that connection statistics are properly maintained for the
+   * data read from the server, and that the buffer used to read that data
+   * grows to accommodate large messages.
+   *
+   * @param  synchronousMode  Indicates whether to use synchronous mode.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider = "testReadStatisticsData")
+  public void testReadStatistics(final boolean synchronousMode)
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final byte[] photoBytes = new byte[100_000];
+    for (int i=0; i < photoBytes.length; i++)
+    {
+      photoBytes[i] = (byte) i;
+    }
+
+    ds.modify(new ModifyRequest("uid=test.user,ou=People,dc=example,dc=com",
+         new Modification(ModificationType.REPLACE, "jpegPhoto",
+              photoBytes)));
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSynchronousMode(synchronousMode);
+
+    final LDAPConnection conn = new LDAPConnection(options, "localhost",
+         ds.getListenPort());
+    final LDAPConnectionStatistics stats = conn.getConnectionStatistics();
+
+    try
+    {
+      for (int i=0; i < 5; i++)
+      {
+        final SearchResultEntry e = conn.getEntry(
+             "uid=test.user,ou=People,dc=example,dc=com", "jpegPhoto");
+        assertNotNull(e);
+        assertEquals(e.getAttributeValueBytes("jpegPhoto"), photoBytes);
+      }
+
+      // Each search returns an entry and a search result done message.
+      assertEquals(stats.getNumMessagesRead(), 10L);
+      assertTrue(stats.getNumBytesRead() > (5L * photoBytes.length));
+      assertTrue(stats.getNumReads() > 0L);
+      assertTrue(stats.getNumReads() <= stats.getNumBytesRead());
+      assertTrue(stats.getAverageBytesPerRead() >= 1.0d);
+      assertTrue(stats.getAverageMessageSize() > (photoBytes.length / 2.0d));
+      assertTrue(stats.toString().contains("averageMessageSizeBytes="));
+
+      final AdaptiveBufferedInputStream inputStream =
+           conn.getConnectionInternals(true).getConnectionReader().
+                getInputStream();
+      assertTrue(inputStream.getTargetBufferSize() >
+           AdaptiveBufferedInputStream.INITIAL_BUFFER_SIZE);
+      assertTrue(inputStream.getTargetBufferSize() <=
+           options.getMaxReadBufferSize());
+    }
+    finally
+    {
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the data to use for the {@code testReadStatistics} method.
+   *
+   * @return  The data to use for the {@code testReadStatistics} method.
+   */
+  @DataProvider(name = "testReadStatisticsData")
+  public Object[][] getTestReadStatisticsData()
+  {
+    return new Object[][]
+    {
+      new Object[] { false },
+      new Object[] { true }
+    };
+  }
 }
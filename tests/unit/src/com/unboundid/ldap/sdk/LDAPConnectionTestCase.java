@@ -5212,6 +5212,76 @@ public class LDAPConnectionTestCase
 
 
 
+  /**
+   * Tests the behavior when a large number of threads concurrently send
+   * requests over the same connection, each of which needs to borrow a buffer
+   * to encode its request.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentRequestsFromManyThreads()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnection conn = ds.getConnection();
+
+    final int numThreads = 50;
+    final int requestsPerThread = 20;
+    final ArrayList<Thread> threads = new ArrayList<Thread>(numThreads);
+    final ArrayList<Throwable> failures = new ArrayList<Throwable>();
+    for (int i=0; i < numThreads; i++)
+    {
+      final String value = "value-" + i;
+      threads.add(new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            for (int j=0; j < requestsPerThread; j++)
+            {
+              final SearchResult searchResult = conn.search(
+                   "dc=example,dc=com", SearchScope.SUB,
+                   Filter.createEqualityFilter("description", value));
+              assertResultCodeEquals(searchResult, ResultCode.SUCCESS);
+              assertEquals(searchResult.getEntryCount(), 0);
+
+              final Entry e = conn.getEntry(
+                   "uid=test.user,ou=People,dc=example,dc=com");
+              assertNotNull(e);
+              assertTrue(e.hasAttributeValue("uid", "test.user"));
+            }
+          }
+          catch (final Throwable t)
+          {
+            synchronized (failures)
+            {
+              failures.add(t);
+            }
+          }
+        }
+      });
+    }
+
+    for (final Thread t : threads)
+    {
+      t.start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    conn.close();
+
+    assertTrue(failures.isEmpty(), String.valueOf(failures));
+  }
+
+
+
   /**
    * Ensures that the last communication time for the provided connection has
    * been updated since the last value.
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.protocol.LDAPResponse;
+
+
+
+/**
+ * This class provides a set of test cases for the ResponseAcceptorRegistry
+ * class.
+ */
+public class ResponseAcceptorRegistryTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior of the registry when every acceptor can be held
+   * in its own slot.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSlotsOnly()
+         throws Exception
+  {
+    final ResponseAcceptorRegistry registry = new ResponseAcceptorRegistry();
+    assertEquals(registry.size(), 0);
+    assertNull(registry.get(1));
+    assertNull(registry.remove(1));
+
+    final TestAcceptor a1 = new TestAcceptor();
+    final TestAcceptor a2 = new TestAcceptor();
+    assertNull(registry.putIfAbsent(1, a1));
+    assertNull(registry.putIfAbsent(2, a2));
+    assertEquals(registry.size(), 2);
+
+    assertSame(registry.get(1), a1);
+    assertSame(registry.get(2), a2);
+    assertNull(registry.get(3));
+
+    assertSame(registry.putIfAbsent(1, new TestAcceptor()), a1);
+    assertEquals(registry.size(), 2);
+
+    assertSame(registry.remove(1), a1);
+    assertNull(registry.get(1));
+    assertNull(registry.remove(1));
+    assertEquals(registry.size(), 1);
+
+    assertSame(registry.remove(2), a2);
+    assertEquals(registry.size(), 0);
+  }
+
+
+
+  /**
+   * Tests the behavior of the registry when acceptors need to be held in the
+   * overflow map because their slots are already in use, or because their
+   * message IDs are not positive.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testOverflow()
+         throws Exception
+  {
+    final ResponseAcceptorRegistry registry = new ResponseAcceptorRegistry(4);
+
+    final TestAcceptor a1 = new TestAcceptor();
+    final TestAcceptor a5 = new TestAcceptor();
+    final TestAcceptor a9 = new TestAcceptor();
+    final TestAcceptor a0 = new TestAcceptor();
+    assertNull(registry.putIfAbsent(1, a1));
+    assertNull(registry.putIfAbsent(5, a5));
+    assertNull(registry.putIfAbsent(9, a9));
+    assertNull(registry.putIfAbsent(0, a0));
+    assertEquals(registry.size(), 4);
+
+    assertSame(registry.get(1), a1);
+    assertSame(registry.get(5), a5);
+    assertSame(registry.get(9), a9);
+    assertSame(registry.get(0), a0);
+    assertNull(registry.get(13));
+
+    assertSame(registry.putIfAbsent(5, new TestAcceptor()), a5);
+
+    // Removing the acceptor from the slot must not allow a duplicate
+    // registration for a message ID that is held in the overflow map.
+    assertSame(registry.remove(1), a1);
+    assertSame(registry.putIfAbsent(5, new TestAcceptor()), a5);
+    assertEquals(registry.size(), 3);
+
+    assertSame(registry.remove(5), a5);
+    assertSame(registry.remove(0), a0);
+    assertSame(registry.remove(9), a9);
+    assertEquals(registry.size(), 0);
+  }
+
+
+
+  /**
+   * Tests the behavior of the removeAll method.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRemoveAll()
+         throws Exception
+  {
+    final ResponseAcceptorRegistry registry = new ResponseAcceptorRegistry(8);
+    assertTrue(registry.removeAll().isEmpty());
+
+    final HashSet<ResponseAcceptor> expected = new HashSet<ResponseAcceptor>();
+    for (int i=1; i <= 20; i++)
+    {
+      final TestAcceptor a = new TestAcceptor();
+      assertNull(registry.putIfAbsent(i, a));
+      expected.add(a);
+    }
+    assertEquals(registry.size(), 20);
+
+    final List<ResponseAcceptor> removed = registry.removeAll();
+    assertEquals(removed.size(), 20);
+    assertTrue(expected.containsAll(removed));
+    assertTrue(removed.containsAll(expected));
+    assertEquals(registry.size(), 0);
+
+    for (int i=1; i <= 20; i++)
+    {
+      assertNull(registry.get(i));
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of the registry when it is accessed concurrently by
+   * multiple threads.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentAccess()
+         throws Exception
+  {
+    final ResponseAcceptorRegistry registry = new ResponseAcceptorRegistry(16);
+    final List<Throwable> failures = new ArrayList<Throwable>();
+
+    final int numThreads = 8;
+    final Thread[] threads = new Thread[numThreads];
+    for (int i=0; i < numThreads; i++)
+    {
+      final int threadNum = i;
+      threads[i] = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            for (int j=0; j < 10000; j++)
+            {
+              final int messageID = (j * numThreads) + threadNum + 1;
+              final TestAcceptor a = new TestAcceptor();
+              assertNull(registry.putIfAbsent(messageID, a));
+              assertSame(registry.get(messageID), a);
+              assertSame(registry.remove(messageID), a);
+              assertNull(registry.get(messageID));
+            }
+          }
+          catch (final Throwable t)
+          {
+            synchronized (failures)
+            {
+              failures.add(t);
+            }
+          }
+        }
+      };
+      threads[i].start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertTrue(failures.isEmpty(), String.valueOf(failures));
+    assertEquals(registry.size(), 0);
+  }
+
+
+
+  /**
+   * A response acceptor that can be used for testing purposes.
+   */
+  private static final class TestAcceptor
+          implements ResponseAcceptor
+  {
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void responseReceived(final LDAPResponse response)
+    {
+      // No implementation is required.
+    }
+  }
+}
@@ -0,0 +1,545 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.security.sasl.Sasl;
+import javax.security.sasl.SaslClient;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.asn1.InternalASN1Helper;
+import com.unboundid.util.ByteStringBuffer;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code SASLSecurityLayerWriter} class.
+ */
+public class SASLSecurityLayerWriterTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when writing a single message at a time.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSequentialWrites()
+         throws Exception
+  {
+    final XORSASLClient saslClient = new XORSASLClient(null);
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    final SASLSecurityLayerWriter writer =
+         new SASLSecurityLayerWriter(saslClient, outputStream);
+
+    for (int i=0; i < 10; i++)
+    {
+      writer.write(encode("message " + i));
+    }
+
+    assertEquals(writer.getNumWraps(), 10L);
+
+    final ASN1StreamReader reader = createReader(outputStream, saslClient);
+    for (int i=0; i < 10; i++)
+    {
+      assertEquals(reader.readString(), "message " + i);
+    }
+    assertNull(reader.readString());
+  }
+
+
+
+  /**
+   * Tests the behavior when writing messages from multiple threads at the same
+   * time, in which case multiple messages may be wrapped together.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentWrites()
+         throws Exception
+  {
+    final XORSASLClient saslClient = new XORSASLClient(null);
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    final SASLSecurityLayerWriter writer =
+         new SASLSecurityLayerWriter(saslClient, outputStream);
+
+    final int numThreads = 8;
+    final int messagesPerThread = 250;
+    final CyclicBarrier barrier = new CyclicBarrier(numThreads);
+    final AtomicReference<Exception> failure =
+         new AtomicReference<Exception>();
+    final ArrayList<Thread> threads = new ArrayList<Thread>(numThreads);
+    for (int i=0; i < numThreads; i++)
+    {
+      final int threadNumber = i;
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            barrier.await();
+            for (int j=0; j < messagesPerThread; j++)
+            {
+              writer.write(encode(threadNumber + ":" + j));
+            }
+          }
+          catch (final Exception e)
+          {
+            failure.compareAndSet(null, e);
+          }
+        }
+      };
+      threads.add(t);
+      t.start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertNull(failure.get());
+    assertTrue(writer.getNumWraps() <= (numThreads * messagesPerThread));
+
+    // Make sure that all of the messages were written, and that the messages
+    // from each thread were written in the order they were sent.
+    final int[] nextMessage = new int[numThreads];
+    final ASN1StreamReader reader = createReader(outputStream, saslClient);
+    for (int i=0; i < (numThreads * messagesPerThread); i++)
+    {
+      final String s = reader.readString();
+      assertNotNull(s);
+
+      final int colonPos = s.indexOf(':');
+      final int threadNumber = Integer.parseInt(s.substring(0, colonPos));
+      assertEquals(Integer.parseInt(s.substring(colonPos + 1)),
+           nextMessage[threadNumber]);
+      nextMessage[threadNumber]++;
+    }
+    assertNull(reader.readString());
+  }
+
+
+
+  /**
+   * Tests to ensure that no more than the negotiated raw send size will be
+   * included in a single wrap.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMaxRawSendSize()
+         throws Exception
+  {
+    final XORSASLClient saslClient = new XORSASLClient("10");
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    final SASLSecurityLayerWriter writer =
+         new SASLSecurityLayerWriter(saslClient, outputStream);
+
+    final StringBuilder value = new StringBuilder();
+    for (int i=0; i < 100; i++)
+    {
+      value.append('x');
+    }
+
+    writer.write(encode(value.toString()));
+    assertEquals(writer.getNumWraps(), 11L);
+
+    final byte[] writtenBytes = outputStream.toByteArray();
+    int pos = 0;
+    int numBlocks = 0;
+    while (pos < writtenBytes.length)
+    {
+      final int blockLength = ((writtenBytes[pos] & 0xFF) << 24) |
+           ((writtenBytes[pos+1] & 0xFF) << 16) |
+           ((writtenBytes[pos+2] & 0xFF) << 8) |
+           (writtenBytes[pos+3] & 0xFF);
+      assertTrue(blockLength <= 10);
+      pos += (4 + blockLength);
+      numBlocks++;
+    }
+    assertEquals(numBlocks, 11);
+
+    final ASN1StreamReader reader = createReader(outputStream, saslClient);
+    assertEquals(reader.readString(), value.toString());
+    assertNull(reader.readString());
+  }
+
+
+
+  /**
+   * Tests to ensure that once a write has failed, all subsequent writes will
+   * also fail.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteFailure()
+         throws Exception
+  {
+    final OutputStream outputStream = new OutputStream()
+    {
+      @Override()
+      public void write(final int b)
+             throws IOException
+      {
+        throw new IOException("write failed");
+      }
+    };
+
+    final SASLSecurityLayerWriter writer =
+         new SASLSecurityLayerWriter(new XORSASLClient(null), outputStream);
+
+    for (int i=0; i < 2; i++)
+    {
+      try
+      {
+        writer.write(encode("message"));
+        fail("Expected an exception when writing to a failed stream");
+      }
+      catch (final IOException ioe)
+      {
+        // This was expected.
+      }
+    }
+
+    assertEquals(writer.getNumWraps(), 1L);
+  }
+
+
+
+  /**
+   * Tests to ensure that if a direct write fails while another thread is
+   * waiting to write a message that it appended to the pending buffer, then
+   * the pending message will not be wrapped or written, and its clear-text
+   * data will be wiped from the pending buffer.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteFailureWithPendingData()
+         throws Exception
+  {
+    final CountDownLatch writeStarted = new CountDownLatch(1);
+    final CountDownLatch failWrite = new CountDownLatch(1);
+    final OutputStream outputStream = new OutputStream()
+    {
+      @Override()
+      public void write(final int b)
+             throws IOException
+      {
+        writeStarted.countDown();
+        try
+        {
+          failWrite.await();
+        }
+        catch (final InterruptedException ie)
+        {
+          Thread.currentThread().interrupt();
+        }
+
+        throw new IOException("write failed");
+      }
+    };
+
+    final SASLSecurityLayerWriter writer =
+         new SASLSecurityLayerWriter(new XORSASLClient(null), outputStream);
+
+    final AtomicReference<Exception> directFailure =
+         new AtomicReference<Exception>();
+    final Thread directThread = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          writer.write(encode("direct"));
+        }
+        catch (final Exception e)
+        {
+          directFailure.set(e);
+        }
+      }
+    };
+    directThread.start();
+    writeStarted.await();
+
+    final AtomicReference<Exception> pendingFailure =
+         new AtomicReference<Exception>();
+    final Thread pendingThread = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          writer.write(encode("pending"));
+        }
+        catch (final Exception e)
+        {
+          pendingFailure.set(e);
+        }
+      }
+    };
+    pendingThread.start();
+
+    // Wait until the second thread has appended its message and is blocked
+    // waiting for the write lock.
+    while (pendingThread.getState() != Thread.State.WAITING)
+    {
+      Thread.sleep(1L);
+    }
+
+    failWrite.countDown();
+    directThread.join();
+    pendingThread.join();
+
+    assertNotNull(directFailure.get());
+    assertTrue(directFailure.get() instanceof IOException);
+    assertNotNull(pendingFailure.get());
+    assertTrue(pendingFailure.get() instanceof IOException);
+    assertEquals(writer.getNumWraps(), 1L);
+
+    final Field pendingField =
+         SASLSecurityLayerWriter.class.getDeclaredField("pending");
+    pendingField.setAccessible(true);
+    final ByteStringBuffer pending =
+         (ByteStringBuffer) pendingField.get(writer);
+    assertEquals(pending.length(), 0);
+    for (final byte b : pending.getBackingArray())
+    {
+      assertEquals(b, (byte) 0x00);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that the contents of the pending buffer are zeroed after
+   * they have been written.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPendingDataZeroedAfterWrite()
+         throws Exception
+  {
+    final XORSASLClient saslClient = new XORSASLClient(null);
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    final SASLSecurityLayerWriter writer =
+         new SASLSecurityLayerWriter(saslClient, outputStream);
+
+    final Field pendingField =
+         SASLSecurityLayerWriter.class.getDeclaredField("pending");
+    pendingField.setAccessible(true);
+    final ByteStringBuffer pending =
+         (ByteStringBuffer) pendingField.get(writer);
+    final ASN1Buffer first = encode("first");
+    pending.append(first.asByteBuffer().array(), 0, first.length());
+
+    // Since there is pending data, this write will go through the pending
+    // buffer, which will be swapped out and then zeroed.
+    writer.write(encode("second"));
+    assertEquals(writer.getNumWraps(), 1L);
+
+    final ASN1StreamReader reader = createReader(outputStream, saslClient);
+    assertEquals(reader.readString(), "first");
+    assertEquals(reader.readString(), "second");
+    assertNull(reader.readString());
+
+    assertEquals(pending.length(), 0);
+    for (final byte b : pending.getBackingArray())
+    {
+      assertEquals(b, (byte) 0x00);
+    }
+  }
+
+
+
+  /**
+   * Encodes the provided string as an ASN.1 octet string.
+   *
+   * @param  s  The string to encode.
+   *
+   * @return  The buffer containing the encoded string.
+   */
+  private static ASN1Buffer encode(final String s)
+  {
+    final ASN1Buffer buffer = new ASN1Buffer();
+    buffer.addOctetString(s);
+    return buffer;
+  }
+
+
+
+  /**
+   * Creates an ASN.1 stream reader that may be used to read the data written
+   * to the provided output stream.
+   *
+   * @param  outputStream  The output stream to which the data was written.
+   * @param  saslClient    The SASL client to use to unwrap the data.
+   *
+   * @return  The ASN.1 stream reader that was created.
+   */
+  private static ASN1StreamReader createReader(
+                                       final ByteArrayOutputStream outputStream,
+                                       final SaslClient saslClient)
+  {
+    final ASN1StreamReader reader = new ASN1StreamReader(
+         new ByteArrayInputStream(outputStream.toByteArray()));
+    InternalASN1Helper.setSASLClient(reader, saslClient);
+    return reader;
+  }
+
+
+
+  /**
+   * A SASL client that wraps and unwraps data by inverting each byte.
+   */
+  private static final class XORSASLClient
+          implements SaslClient
+  {
+    // The value to return for the raw send size property.
+    private final String rawSendSize;
+
+
+
+    /**
+     * Creates a new instance of this SASL client.
+     *
+     * @param  rawSendSize  The value to return for the raw send size property.
+     *                      It may be {@code null} if there is no limit.
+     */
+    private XORSASLClient(final String rawSendSize)
+    {
+      this.rawSendSize = rawSendSize;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getMechanismName()
+    {
+      return "XOR";
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean hasInitialResponse()
+    {
+      return false;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public byte[] evaluateChallenge(final byte[] challenge)
+    {
+      return null;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isComplete()
+    {
+      return true;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public byte[] wrap(final byte[] outgoing, final int offset, final int len)
+    {
+      final byte[] b = new byte[len];
+      for (int i=0; i < len; i++)
+      {
+        b[i] = (byte) (outgoing[offset+i] ^ 0xFF);
+      }
+      return b;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public byte[] unwrap(final byte[] incoming, final int offset,
+                         final int len)
+    {
+      return wrap(incoming, offset, len);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object getNegotiatedProperty(final String propName)
+    {
+      if (propName.equals(Sasl.RAW_SEND_SIZE))
+      {
+        return rawSendSize;
+      }
+
+      return null;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    public void dispose()
+    {
+      // No implementation required.
+    }
+  }
+}
@@ -24,13 +24,18 @@ package com.unboundid.ldap.sdk.examples;
 
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
 import com.unboundid.ldap.sdk.LDAPConnection;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
 import com.unboundid.ldap.sdk.ResultCode;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 
 /**
@@ -991,4 +996,111 @@ public class AuthRateTestCase
     assertEquals(AuthRate.main(args, null, null),
          ResultCode.SUCCESS);
   }
+
+
+
+  /**
+   * Tests the behavior when operating in asynchronous mode, in which the binds
+   * are processed on a separate set of bind connections.
+   *
+   * @param  bindOnly  Indicates whether to only perform binds without the
+   *                   initial searches.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider = "asyncBindOnly")
+  public void testAsynchronous(final boolean bindOnly)
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    for (int i=1; i <= 10; i++)
+    {
+      ds.add("dn: uid=user." + i + ",ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: person",
+           "objectClass: organizationalPerson",
+           "objectClass: inetOrgPerson",
+           "uid: user." + i,
+           "givenName: User",
+           "sn: " + i,
+           "cn: User " + i,
+           "userPassword: password");
+    }
+
+    final ArrayList<String> argList = new ArrayList<String>(30);
+    argList.addAll(Arrays.asList(
+         "--hostname", "localhost",
+         "--port", String.valueOf(ds.getListenPort()),
+         "--baseDN", "ou=People,dc=example,dc=com",
+         "--scope", "sub",
+         "--filter", "(uid=user.[1-10])",
+         "--attribute", "1.1",
+         "--credentials", "password",
+         "--numThreads", "2",
+         "--intervalDuration", "1",
+         "--numIntervals", "2",
+         "--asynchronous",
+         "--maxOutstandingRequests", "10",
+         "--numBindConnections", "3"));
+    if (bindOnly)
+    {
+      argList.set(5, "uid=user.[1-10],ou=People,dc=example,dc=com");
+      argList.add("--bindOnly");
+    }
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final String[] args = argList.toArray(new String[argList.size()]);
+    assertEquals(AuthRate.main(args, out, out), ResultCode.SUCCESS,
+         out.toString("UTF-8"));
+
+    final String output = out.toString("UTF-8");
+    assertTrue(output.contains("Srch Dur ms"), output);
+    assertTrue(output.contains("Bind Dur ms"), output);
+    assertTrue(output.contains(" bind connections "), output);
+  }
+
+
+
+  /**
+   * Retrieves the values to use for the bindOnly argument when testing in
+   * asynchronous mode.
+   *
+   * @return  The values to use for the bindOnly argument.
+   */
+  @DataProvider(name = "asyncBindOnly")
+  public Object[][] getAsyncBindOnly()
+  {
+    return new Object[][]
+    {
+      new Object[] { false },
+      new Object[] { true }
+    };
+  }
+
+
+
+  /**
+   * Tests to ensure that asynchronous mode requires a limit on the number of
+   * outstanding authentications.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAsynchronousWithoutLimit()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final String[] args =
+    {
+      "--hostname", "localhost",
+      "--port", String.valueOf(ds.getListenPort()),
+      "--baseDN", "ou=People,dc=example,dc=com",
+      "--filter", "(uid=test.user)",
+      "--credentials", "password",
+      "--numIntervals", "1",
+      "--asynchronous"
+    };
+    assertEquals(AuthRate.main(args, null, null), ResultCode.PARAM_ERROR);
+  }
 }
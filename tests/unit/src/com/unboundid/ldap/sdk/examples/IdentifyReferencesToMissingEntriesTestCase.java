@@ -24,6 +24,7 @@ package com.unboundid.ldap.sdk.examples;
 
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.unboundid.ldap.listener.InMemoryDirectoryServer;
@@ -438,4 +439,125 @@ public final class IdentifyReferencesToMissingEntriesTestCase
 
     ds.shutDown(true);
   }
+
+
+
+  /**
+   * Retrieves sets of additional arguments that control how references are
+   * checked.
+   *
+   * @return  Sets of additional arguments that control how references are
+   *          checked.
+   */
+  @DataProvider(name="referenceCheckArgs")
+  public Object[][] getReferenceCheckArgs()
+  {
+    return new Object[][]
+    {
+      new Object[] { new String[] { "--numThreads", "4" } },
+      new Object[] { new String[] { "--numThreads", "4",
+           "--maxCachedReferences", "0" } },
+      new Object[] { new String[] { "--maxCachedReferences", "2" } },
+      new Object[] { new String[] { "--preloadEntryDNs" } },
+      new Object[] { new String[] { "--preloadEntryDNs", "--numThreads", "2",
+           "--simplePageSize", "7" } },
+    };
+  }
+
+
+
+  /**
+   * Tests that references are correctly identified when using multiple
+   * threads, the reference cache, and preloaded entry DNs.
+   *
+   * @param  additionalArgs  The additional arguments to provide to the tool.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="referenceCheckArgs")
+  public void testReferenceCheckModes(final String[] additionalArgs)
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com",
+              "o=example.com");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+
+    final LDAPConnection conn = ds.getConnection();
+
+    conn.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+
+    conn.add(
+         "dn: o=example.com",
+         "objectClass: top",
+         "objectClass: organization",
+         "o: example.com");
+
+    conn.add(
+         "dn: ou=People,o=example.com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+
+    // Create 20 groups that each reference the same 10 users, where users 0
+    // through 7 exist below a base DN that will not be searched, and users 8
+    // and 9 do not exist.  Each group also references one user below the
+    // searched base DN that does not exist.
+    final String[] memberDNs = new String[11];
+    for (int i=0; i < 10; i++)
+    {
+      memberDNs[i] = "uid=user." + i + ",ou=People,o=example.com";
+      if (i < 8)
+      {
+        conn.add(
+             "dn: " + memberDNs[i],
+             "objectClass: top",
+             "objectClass: person",
+             "objectClass: organizationalPerson",
+             "objectClass: inetOrgPerson",
+             "uid: user." + i,
+             "givenName: User",
+             "sn: " + i,
+             "cn: User " + i);
+      }
+    }
+    memberDNs[10] = "uid=missing,dc=example,dc=com";
+
+    for (int i=0; i < 20; i++)
+    {
+      final AddRequest addRequest = new AddRequest(
+           "dn: cn=Group " + i + ",dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: groupOfNames",
+           "cn: Group " + i);
+      addRequest.addAttribute("member", memberDNs);
+      addRequest.addAttribute("member", "cn=Group 0,dc=example,dc=com");
+      conn.add(addRequest);
+    }
+
+    final String[] baseArgs =
+    {
+      "--port", String.valueOf(ds.getListenPort()),
+      "--baseDN", "dc=example,dc=com",
+      "--attribute", "member"
+    };
+    final String[] args = new String[baseArgs.length + additionalArgs.length];
+    System.arraycopy(baseArgs, 0, args, 0, baseArgs.length);
+    System.arraycopy(additionalArgs, 0, args, baseArgs.length,
+         additionalArgs.length);
+
+    final IdentifyReferencesToMissingEntries tool =
+         new IdentifyReferencesToMissingEntries(null, null);
+    final ResultCode resultCode = tool.runTool(args);
+    assertEquals(resultCode, ResultCode.CONSTRAINT_VIOLATION);
+    assertEquals(tool.getMissingReferenceCounts().get("member").get(), 60L);
+
+    conn.close();
+    ds.shutDown(true);
+  }
 }
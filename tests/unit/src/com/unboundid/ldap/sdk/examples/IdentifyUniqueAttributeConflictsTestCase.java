@@ -22,8 +22,13 @@ package com.unboundid.ldap.sdk.examples;
 
 
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.unboundid.ldap.listener.InMemoryDirectoryServer;
@@ -693,4 +698,182 @@ public final class IdentifyUniqueAttributeConflictsTestCase
     conn.close();
     ds.shutDown(true);
   }
+
+
+
+  /**
+   * Retrieves a set of attribute lists and multiple attribute behaviors to use
+   * when testing the value hash mode.
+   *
+   * @return  A set of attribute lists and multiple attribute behaviors to use
+   *          when testing the value hash mode.
+   */
+  @DataProvider(name="valueHashTestData")
+  public Object[][] getValueHashTestData()
+  {
+    return new Object[][]
+    {
+      new Object[]
+      {
+        new String[] { "uid" },
+        "unique-within-each-attribute"
+      },
+
+      new Object[]
+      {
+        new String[] { "cn", "displayName" },
+        "unique-within-each-attribute"
+      },
+
+      new Object[]
+      {
+        new String[] { "cn", "displayName" },
+        "unique-across-all-attributes-except-in-same-entry"
+      },
+
+      new Object[]
+      {
+        new String[] { "cn", "displayName" },
+        "unique-across-all-attributes-including-in-same-entry"
+      },
+
+      new Object[]
+      {
+        new String[] { "givenName", "sn" },
+        "unique-in-combination"
+      }
+    };
+  }
+
+
+
+  /**
+   * Tests to ensure that the value hash mode identifies the same conflicts as
+   * the default mode that searches for each value.
+   *
+   * @param  attributes  The names of the unique attributes.
+   * @param  behavior    The multiple attribute behavior to use.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="valueHashTestData")
+  public void testValueHashes(final String[] attributes, final String behavior)
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com",
+              "o=example.com");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+
+    final LDAPConnection conn = ds.getConnection();
+
+    conn.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+
+    conn.add(
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+
+    conn.add(
+         "dn: o=example.com",
+         "objectClass: top",
+         "objectClass: organization",
+         "o: example.com");
+
+    conn.add(
+         "dn: ou=People,o=example.com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+
+
+    // Add a set of entries that will be used for checking for conflicts both
+    // with each other and within the same entry.
+    for (int i=0; i < 20; i++)
+    {
+      conn.add(
+           "dn: uid=user." + i + ",ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: person",
+           "objectClass: organizationalPerson",
+           "objectClass: inetOrgPerson",
+           "uid: user." + i,
+           "givenName: User",
+           "sn: " + i,
+           "cn: User " + i,
+           "displayName: " + ((i < 10) ? "User " : "Display ") + i);
+    }
+
+
+    // Add a set of entries in the other branch that conflict with some of the
+    // existing entries in ways that differ only in capitalization.
+    for (int i=0; i < 5; i++)
+    {
+      conn.add(
+           "dn: uid=other." + i + ",ou=People,o=example.com",
+           "objectClass: top",
+           "objectClass: person",
+           "objectClass: organizationalPerson",
+           "objectClass: inetOrgPerson",
+           "uid: USER." + (i * 3),
+           "givenName: " + ((i % 2) == 0 ? "user" : "Other"),
+           "givenName: Someone",
+           "sn: " + (i * 3),
+           "cn: Other " + i,
+           "displayName: display " + (i * 4));
+    }
+
+
+    // Run the tool with and without value hashes and make sure that the
+    // results are the same.
+    final List<String> args = new ArrayList<>(20);
+    args.addAll(Arrays.asList(
+         "--port", String.valueOf(ds.getListenPort()),
+         "--baseDN", "dc=example,dc=com",
+         "--baseDN", "o=example.com",
+         "--simplePageSize", "7",
+         "--multipleAttributeBehavior", behavior));
+    for (final String attribute : attributes)
+    {
+      args.add("--attribute");
+      args.add(attribute);
+    }
+
+    final IdentifyUniqueAttributeConflicts searchTool =
+         new IdentifyUniqueAttributeConflicts(null, null);
+    final ResultCode searchResultCode =
+         searchTool.runTool(args.toArray(new String[args.size()]));
+    assertEquals(searchResultCode, ResultCode.CONSTRAINT_VIOLATION);
+
+    args.add("--useValueHashes");
+    args.add("--numThreads");
+    args.add("2");
+
+    final IdentifyUniqueAttributeConflicts hashTool =
+         new IdentifyUniqueAttributeConflicts(null, null);
+    final ResultCode hashResultCode =
+         hashTool.runTool(args.toArray(new String[args.size()]));
+    assertEquals(hashResultCode, searchResultCode);
+
+    assertEquals(hashTool.getCombinationConflictCounts(),
+         searchTool.getCombinationConflictCounts());
+
+    final Map<String,AtomicLong> searchCounts = searchTool.getConflictCounts();
+    final Map<String,AtomicLong> hashCounts = hashTool.getConflictCounts();
+    assertEquals(hashCounts.keySet(), searchCounts.keySet());
+    for (final Map.Entry<String,AtomicLong> e : searchCounts.entrySet())
+    {
+      assertEquals(hashCounts.get(e.getKey()).get(), e.getValue().get(),
+           e.getKey());
+    }
+
+    conn.close();
+    ds.shutDown(true);
+  }
 }
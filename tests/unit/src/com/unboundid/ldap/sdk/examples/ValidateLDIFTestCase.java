@@ -37,6 +37,7 @@ import com.unboundid.ldap.sdk.Entry;
 import com.unboundid.ldap.sdk.LDAPConnection;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
 import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.schema.Schema;
 import com.unboundid.ldif.LDIFWriter;
 import com.unboundid.util.PassphraseEncryptedOutputStream;
 import com.unboundid.util.PasswordReader;
@@ -773,4 +774,133 @@ public class ValidateLDIFTestCase
     assertEquals(entryValidator
             .getEntriesWithMultipleStructuralObjectClasses(), 2);
   }
+
+
+
+  /**
+   * Tests to ensure that the counts from all of the threads used to validate
+   * entries are combined when processing is complete.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMultipleThreadsCombineCounts()
+         throws Exception
+  {
+    final File standardSchemaDir = createTempFile();
+    standardSchemaDir.delete();
+    standardSchemaDir.mkdir();
+
+    final File schemaFile = new File(standardSchemaDir, "00-all.ldif");
+    final LDIFWriter schemaWriter = new LDIFWriter(schemaFile);
+    schemaWriter.writeEntry(Schema.getDefaultStandardSchema().getSchemaEntry());
+    schemaWriter.close();
+
+    final File ldifFile = createTempFile();
+    final LDIFWriter ldifWriter = new LDIFWriter(ldifFile);
+    for (int i=0; i < 1000; i++)
+    {
+      if ((i % 2) == 0)
+      {
+        ldifWriter.writeEntry(new Entry(
+             "dn: uid=user." + i + ",dc=example,dc=com",
+             "objectClass: top",
+             "objectClass: person",
+             "objectClass: organizationalPerson",
+             "objectClass: inetOrgPerson",
+             "uid: user." + i,
+             "givenName: Test",
+             "sn: User",
+             "cn: Test User"));
+      }
+      else
+      {
+        ldifWriter.writeEntry(new Entry(
+             "dn: uid=user." + i + ",dc=example,dc=com",
+             "objectClass: top",
+             "objectClass: person",
+             "objectClass: undefined",
+             "uid: user." + i,
+             "cn: Test User"));
+      }
+    }
+    ldifWriter.close();
+
+    final ValidateLDIF validateLDIF = new ValidateLDIF(null, null);
+    assertEquals(
+         validateLDIF.runTool(
+              "--schemaDirectory", standardSchemaDir.getAbsolutePath(),
+              "--ldifFile", ldifFile.getAbsolutePath(),
+              "--numThreads", "4"),
+         ResultCode.OBJECT_CLASS_VIOLATION);
+
+    final EntryValidator entryValidator = validateLDIF.getEntryValidator();
+    assertEquals(entryValidator.getEntriesExamined(), 1000L);
+    assertEquals(entryValidator.getInvalidEntries(), 500L);
+    assertEquals(entryValidator.getTotalUndefinedObjectClasses(), 500L);
+    assertEquals(entryValidator.getUndefinedObjectClasses().get("undefined"),
+         Long.valueOf(500L));
+
+    schemaFile.delete();
+    standardSchemaDir.delete();
+  }
+
+
+
+  /**
+   * Tests to ensure that the counts from the threads used to validate entries
+   * are still combined when processing is aborted because of an LDIF parsing
+   * error from which it is not possible to recover.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAbortedProcessingCombinesCounts()
+         throws Exception
+  {
+    final File standardSchemaDir = createTempFile();
+    standardSchemaDir.delete();
+    standardSchemaDir.mkdir();
+
+    final File schemaFile = new File(standardSchemaDir, "00-all.ldif");
+    final LDIFWriter schemaWriter = new LDIFWriter(schemaFile);
+    schemaWriter.writeEntry(Schema.getDefaultStandardSchema().getSchemaEntry());
+    schemaWriter.close();
+
+    final File ldifFile = createTempFile(
+         "dn: uid=user.1,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: person",
+         "objectClass: undefined",
+         "uid: user.1",
+         "cn: Test User",
+         "",
+         "dn: uid=user.2,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: person",
+         "objectClass: undefined",
+         "uid: user.2",
+         "cn: Test User",
+         "",
+         " This record starts with a continuation line.");
+
+    final File rejectFile = createTempFile();
+    rejectFile.delete();
+
+    final ValidateLDIF validateLDIF = new ValidateLDIF(null, null);
+    assertEquals(
+         validateLDIF.runTool(
+              "--schemaDirectory", standardSchemaDir.getAbsolutePath(),
+              "--ldifFile", ldifFile.getAbsolutePath(),
+              "--rejectFile", rejectFile.getAbsolutePath()),
+         ResultCode.LOCAL_ERROR);
+
+    final EntryValidator entryValidator = validateLDIF.getEntryValidator();
+    assertEquals(entryValidator.getEntriesExamined(), 2L);
+    assertEquals(entryValidator.getInvalidEntries(), 2L);
+
+    rejectFile.delete();
+    schemaFile.delete();
+    standardSchemaDir.delete();
+  }
 }
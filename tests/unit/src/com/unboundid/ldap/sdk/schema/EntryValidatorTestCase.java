@@ -1772,6 +1772,143 @@ public class EntryValidatorTestCase
 
 
 
+  /**
+   * Tests to ensure that validating multiple entries with the same set of
+   * object classes yields the same results and counts for each entry, and that
+   * changing the configuration is reflected in subsequent results.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRepeatedValidationWithSameObjectClasses()
+         throws Exception
+  {
+    final EntryValidator validator = new EntryValidator(testSchema);
+
+    LinkedList<String> firstReasons1 = null;
+    LinkedList<String> firstReasons2 = null;
+    for (int i=1; i <= 5; i++)
+    {
+      final Entry e1 = new Entry(
+           "dn: a1=" + i + ",dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: o1",
+           "objectClass: o5",
+           "a1: " + i,
+           "a5: foo",
+           "a6: 9");
+
+      final LinkedList<String> invalidReasons1 = new LinkedList<String>();
+      assertFalse(validator.entryIsValid(e1, invalidReasons1));
+      assertFalse(invalidReasons1.isEmpty());
+      if (firstReasons1 == null)
+      {
+        firstReasons1 = invalidReasons1;
+      }
+      else
+      {
+        assertEquals(invalidReasons1, firstReasons1);
+      }
+
+      final Entry e2 = new Entry(
+           "dn: a1=" + i + ",dc=example,dc=com",
+           "objectClass: o1",
+           "objectClass: undefined",
+           "a1: " + i);
+
+      final LinkedList<String> invalidReasons2 = new LinkedList<String>();
+      assertFalse(validator.entryIsValid(e2, invalidReasons2));
+      assertFalse(invalidReasons2.isEmpty());
+      if (firstReasons2 == null)
+      {
+        firstReasons2 = invalidReasons2;
+      }
+      else
+      {
+        assertEquals(invalidReasons2, firstReasons2);
+      }
+
+      assertEquals(validator.getEntriesExamined(), (long) (2 * i));
+      assertEquals(validator.getInvalidEntries(), (long) (2 * i));
+      assertEquals(validator.getTotalProhibitedObjectClasses(), (long) i);
+      assertEquals(validator.getEntriesWithMissingSuperiorObjectClasses(),
+           (long) i);
+      assertEquals(validator.getTotalUndefinedObjectClasses(), (long) i);
+    }
+
+    final Entry e = new Entry(
+         "dn: a1=6,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: o1",
+         "objectClass: o5",
+         "a1: 6",
+         "a5: baz",
+         "a6: 0");
+
+    validator.resetCounts();
+    validator.setCheckProhibitedObjectClasses(false);
+
+    final LinkedList<String> invalidReasons = new LinkedList<String>();
+    assertFalse(validator.entryIsValid(e, invalidReasons));
+    assertEquals(invalidReasons.size(), 2, listToString(invalidReasons));
+    assertEquals(validator.getTotalProhibitedObjectClasses(), 0L);
+    assertEquals(validator.getTotalAttributesViolatingSyntax(), 2L);
+
+    validator.setCheckAttributeSyntax(false);
+    assertTrue(validator.entryIsValid(e, null));
+  }
+
+
+
+  /**
+   * Tests the ability to duplicate an entry validator and to merge the counts
+   * from one validator into another.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDuplicateAndMergeCounts()
+         throws Exception
+  {
+    final EntryValidator validator = new EntryValidator(testSchema);
+    validator.setCheckAttributeSyntax(false);
+    validator.setCheckNameForms(false);
+
+    final EntryValidator duplicate = validator.duplicate();
+    assertFalse(duplicate.checkAttributeSyntax());
+    assertFalse(duplicate.checkNameForms());
+    assertTrue(duplicate.checkUndefinedObjectClasses());
+    assertEquals(duplicate.getEntriesExamined(), 0L);
+
+    final Entry e = new Entry(
+         "dn: a1=1,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: o1",
+         "objectClass: undefined",
+         "a1: 1");
+
+    assertFalse(validator.entryIsValid(e, null));
+    assertEquals(validator.getEntriesExamined(), 1L);
+    assertEquals(duplicate.getEntriesExamined(), 0L);
+
+    assertFalse(duplicate.entryIsValid(e, null));
+    assertFalse(duplicate.entryIsValid(e, null));
+    assertEquals(duplicate.getEntriesExamined(), 2L);
+    assertEquals(validator.getEntriesExamined(), 1L);
+
+    validator.mergeCounts(duplicate);
+    assertEquals(validator.getEntriesExamined(), 3L);
+    assertEquals(validator.getInvalidEntries(), 3L);
+    assertEquals(validator.getTotalUndefinedObjectClasses(), 3L);
+    assertEquals(validator.getUndefinedObjectClasses().get("undefined"),
+         Long.valueOf(3L));
+
+    assertEquals(duplicate.getEntriesExamined(), 2L);
+    assertEquals(duplicate.getTotalUndefinedObjectClasses(), 2L);
+  }
+
+
+
   /**
    * Creates a single string from the provided list of strings.
    *
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.schema;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.matchingrules.BooleanMatchingRule;
+import com.unboundid.ldap.matchingrules.CaseIgnoreStringMatchingRule;
+import com.unboundid.ldap.matchingrules.DistinguishedNameMatchingRule;
+import com.unboundid.ldap.matchingrules.IntegerMatchingRule;
+import com.unboundid.ldap.matchingrules.MatchingRule;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+
+
+
+/**
+ * This class provides a set of test cases for the ResolvedAttributeType class.
+ */
+public class ResolvedAttributeTypeTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the resolved attribute types obtained from the default standard
+   * schema.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefaultStandardSchema()
+         throws Exception
+  {
+    final Schema schema = Schema.getDefaultStandardSchema();
+
+    final ResolvedAttributeType cn = schema.getResolvedAttributeType("cn");
+    assertNotNull(cn);
+    assertEquals(cn.getOID(), "2.5.4.3");
+    assertEquals(cn.getNameOrOID(), "cn");
+    assertTrue(Arrays.asList(cn.getNames()).contains("cn"));
+    assertSame(cn.getAttributeType(), schema.getAttributeType("cn"));
+    assertTrue(cn.getEqualityMatchingRule() instanceof
+         CaseIgnoreStringMatchingRule);
+    assertTrue(cn.getSubstringMatchingRule() instanceof
+         CaseIgnoreStringMatchingRule);
+    assertNotNull(cn.getOrderingMatchingRule());
+    assertNotNull(cn.toString());
+
+    // All names, the OID, and any capitalization should resolve to the same
+    // object.
+    assertSame(schema.getResolvedAttributeType("CN"), cn);
+    for (final String n : cn.getNames())
+    {
+      assertSame(schema.getResolvedAttributeType(n), cn);
+      assertSame(schema.getResolvedAttributeType(n.toUpperCase()), cn);
+    }
+    assertSame(schema.getResolvedAttributeType("2.5.4.3"), cn);
+    assertSame(schema.getResolvedAttributeType("cn"), cn);
+    assertSame(schema.getAttributeType("CN"), cn.getAttributeType());
+
+    // The name attribute type is the superior type for cn and should have the
+    // same matching rules.
+    final ResolvedAttributeType name = schema.getResolvedAttributeType("name");
+    assertNotNull(name);
+    assertSame(name.getEqualityMatchingRule(), cn.getEqualityMatchingRule());
+
+    final ResolvedAttributeType member =
+         schema.getResolvedAttributeType("member");
+    assertNotNull(member);
+    assertTrue(member.getEqualityMatchingRule() instanceof
+         DistinguishedNameMatchingRule);
+
+    assertNull(schema.getResolvedAttributeType("undefined"));
+    assertNull(schema.getResolvedAttributeType("cn;lang-en"));
+  }
+
+
+
+  /**
+   * Ensures that the matching rules held in resolved attribute types are the
+   * same as those that would be selected without them.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMatchingRulesConsistent()
+         throws Exception
+  {
+    final Schema schema = Schema.getDefaultStandardSchema();
+    for (final AttributeTypeDefinition d : schema.getAttributeTypes())
+    {
+      final ResolvedAttributeType r =
+           schema.getResolvedAttributeType(d.getOID());
+      assertNotNull(r);
+      assertSame(r.getAttributeType(), d);
+
+      assertSame(r.getEqualityMatchingRule(),
+           expectedRule(d, d.getEqualityMatchingRule(schema), schema, 0));
+      assertSame(r.getOrderingMatchingRule(),
+           expectedRule(d, d.getOrderingMatchingRule(schema), schema, 1));
+      assertSame(r.getSubstringMatchingRule(),
+           expectedRule(d, d.getSubstringMatchingRule(schema), schema, 2));
+
+      assertSame(MatchingRule.selectEqualityMatchingRule(d.getNameOrOID(),
+           schema), r.getEqualityMatchingRule());
+    }
+  }
+
+
+
+  /**
+   * Tests resolved attribute types for a custom schema in which attribute
+   * types inherit matching rules or rely on their syntax.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCustomSchema()
+         throws Exception
+  {
+    final Schema schema = new Schema(new Entry(
+         "dn: cn=schema",
+         "objectClass: top",
+         "objectClass: ldapSubentry",
+         "objectClass: subschema",
+         "attributeTypes: ( 1.2.3.1 NAME 'sup-int' " +
+              "EQUALITY integerMatch " +
+              "SYNTAX 1.3.6.1.4.1.1466.115.121.1.27 )",
+         "attributeTypes: ( 1.2.3.2 NAME ( 'sub-int' 'sub-int-alias' ) " +
+              "SUP sup-int )",
+         "attributeTypes: ( 1.2.3.3 NAME 'syntax-only' " +
+              "SYNTAX 1.3.6.1.4.1.1466.115.121.1.7 )",
+         "attributeTypes: ( 1.2.3.4 NAME 'nothing' )"));
+
+    final ResolvedAttributeType sub =
+         schema.getResolvedAttributeType("Sub-Int-Alias");
+    assertNotNull(sub);
+    assertEquals(sub.getOID(), "1.2.3.2");
+    assertTrue(sub.getEqualityMatchingRule() instanceof IntegerMatchingRule);
+
+    final ResolvedAttributeType syntaxOnly =
+         schema.getResolvedAttributeType("syntax-only");
+    assertNotNull(syntaxOnly);
+    assertTrue(syntaxOnly.getEqualityMatchingRule() instanceof
+         BooleanMatchingRule);
+
+    final ResolvedAttributeType nothing =
+         schema.getResolvedAttributeType("nothing");
+    assertNotNull(nothing);
+    assertSame(nothing.getEqualityMatchingRule(),
+         MatchingRule.getDefaultEqualityMatchingRule());
+
+    assertTrue(new Schema(new Entry("dn: cn=schema")).getAttributeTypes().
+         isEmpty());
+    assertNull(new Schema(new Entry("dn: cn=schema")).
+         getResolvedAttributeType("cn"));
+  }
+
+
+
+  /**
+   * Ensures that a schema can still provide resolved attribute types after it
+   * has been serialized and deserialized.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSerialization()
+         throws Exception
+  {
+    final Schema schema = Schema.getDefaultStandardSchema();
+    assertNotNull(schema.getResolvedAttributeType("cn"));
+
+    final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    final ObjectOutputStream outputStream = new ObjectOutputStream(byteStream);
+    outputStream.writeObject(schema);
+    outputStream.close();
+
+    final ObjectInputStream inputStream = new ObjectInputStream(
+         new ByteArrayInputStream(byteStream.toByteArray()));
+    final Schema decoded = (Schema) inputStream.readObject();
+    inputStream.close();
+
+    final ResolvedAttributeType cn = decoded.getResolvedAttributeType("CN");
+    assertNotNull(cn);
+    assertEquals(cn.getOID(), "2.5.4.3");
+    assertTrue(cn.getEqualityMatchingRule() instanceof
+         CaseIgnoreStringMatchingRule);
+  }
+
+
+
+  /**
+   * Selects the matching rule that would be expected for the provided
+   * attribute type without the use of resolved attribute types.
+   *
+   * @param  d       The attribute type definition.
+   * @param  mrName  The name of the matching rule from the definition.
+   * @param  schema  The schema in which the attribute type is defined.
+   * @param  type    The type of matching rule to select (0 for equality, 1 for
+   *                 ordering, and 2 for substring).
+   *
+   * @return  The expected matching rule.
+   */
+  private static MatchingRule expectedRule(final AttributeTypeDefinition d,
+                                           final String mrName,
+                                           final Schema schema,
+                                           final int type)
+  {
+    if (mrName != null)
+    {
+      switch (type)
+      {
+        case 0:
+          return MatchingRule.selectEqualityMatchingRule(mrName);
+        case 1:
+          return MatchingRule.selectOrderingMatchingRule(mrName);
+        default:
+          return MatchingRule.selectSubstringMatchingRule(mrName);
+      }
+    }
+
+    final String syntaxOID = d.getBaseSyntaxOID(schema);
+    if (syntaxOID != null)
+    {
+      return MatchingRule.selectMatchingRuleForSyntax(syntaxOID);
+    }
+
+    switch (type)
+    {
+      case 0:
+        return MatchingRule.getDefaultEqualityMatchingRule();
+      case 1:
+        return MatchingRule.getDefaultOrderingMatchingRule();
+      default:
+        return MatchingRule.getDefaultSubstringMatchingRule();
+    }
+  }
+}
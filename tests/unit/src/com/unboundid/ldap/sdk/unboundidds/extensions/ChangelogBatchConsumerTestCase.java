@@ -0,0 +1,483 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.unboundidds.extensions;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.sdk.IntermediateResponse;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code ChangelogBatchConsumer} class.
+ */
+public final class ChangelogBatchConsumerTestCase
+       extends LDAPSDKTestCase
+{
+  // The in-memory directory server that will simulate the changelog.
+  private InMemoryDirectoryServer ds;
+
+
+
+  /**
+   * Starts an in-memory directory server with a simulated changelog of 25
+   * changes to five different entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.addExtendedOperationHandler(
+         new TestChangelogBatchInMemoryExtendedOperationHandler(25, 5));
+
+    ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+  }
+
+
+
+  /**
+   * Shuts down the in-memory directory server.
+   */
+  @AfterClass()
+  public void tearDown()
+  {
+    ds.shutDown(true);
+  }
+
+
+
+  /**
+   * Tests the behavior when consuming all of the changes in the changelog with
+   * multiple worker threads.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConsumeAllChanges()
+         throws Exception
+  {
+    final LDAPConnection conn = ds.getConnection();
+    final TestProcessor processor = new TestProcessor(-1);
+
+    final ChangelogBatchConsumer consumer = new ChangelogBatchConsumer(conn,
+         new GetChangelogBatchExtendedRequest(
+              new BeginningOfChangelogStartingPoint(), 4, 0L),
+         processor, 3, 2);
+
+    assertNull(consumer.getCheckpointResumeToken());
+    assertTrue(consumer.getCheckpointStartingPoint() instanceof
+         BeginningOfChangelogStartingPoint);
+    assertEquals(consumer.getEstimatedChangesRemaining(), -1);
+    assertEquals(consumer.getProcessingLagMillis(), -1L);
+    assertEquals(consumer.getEntriesProcessedPerSecond(), 0.0d);
+
+    final GetChangelogBatchExtendedResult result = consumer.consume(7);
+    assertNotNull(result);
+    assertFalse(result.moreChangesAvailable());
+
+    assertEquals(consumer.getBatchesReceived(), 7L);
+    assertEquals(consumer.getEntriesReceived(), 25L);
+    assertEquals(consumer.getEntriesProcessed(), 25L);
+    assertEquals(consumer.getEntriesPending(), 0L);
+    assertEquals(consumer.getEstimatedChangesRemaining(), 0);
+    assertTrue(consumer.getProcessingLagMillis() > 0L);
+    assertTrue(consumer.getEntriesProcessedPerSecond() > 0.0d);
+    assertEquals(consumer.getCheckpointResumeToken().stringValue(), "25");
+
+    assertEquals(processor.changes.size(), 5);
+    for (final Map.Entry<String,List<Long>> e : processor.changes.entrySet())
+    {
+      final List<Long> changeNumbers = e.getValue();
+      assertEquals(changeNumbers.size(), 5);
+
+      final List<Long> sorted = new ArrayList<Long>(changeNumbers);
+      Collections.sort(sorted);
+      assertEquals(changeNumbers, sorted);
+    }
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when resuming processing from the checkpoint of a
+   * previous consumer.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testResumeFromCheckpoint()
+         throws Exception
+  {
+    final LDAPConnection conn = ds.getConnection();
+
+    final ChangelogBatchConsumer consumer1 = new ChangelogBatchConsumer(conn,
+         new GetChangelogBatchExtendedRequest(
+              new BeginningOfChangelogStartingPoint(), 10, 0L),
+         new TestProcessor(-1), 2, 5);
+    consumer1.consume(1);
+    assertEquals(consumer1.getEntriesProcessed(), 10L);
+    assertEquals(consumer1.getCheckpointResumeToken().stringValue(), "10");
+
+    final TestProcessor processor = new TestProcessor(-1);
+    final ChangelogBatchConsumer consumer2 = new ChangelogBatchConsumer(conn,
+         new GetChangelogBatchExtendedRequest(
+              consumer1.getCheckpointStartingPoint(), 10, 0L),
+         processor, 2, 5);
+    consumer2.consume(2);
+    assertEquals(consumer2.getEntriesProcessed(), 15L);
+    assertEquals(consumer2.getCheckpointResumeToken().stringValue(), "25");
+
+    for (final List<Long> changeNumbers : processor.changes.values())
+    {
+      for (final Long changeNumber : changeNumbers)
+      {
+        assertTrue(changeNumber > 10L);
+      }
+    }
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when an error occurs while processing a change.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testProcessingFailure()
+         throws Exception
+  {
+    final LDAPConnection conn = ds.getConnection();
+
+    final ChangelogBatchConsumer consumer = new ChangelogBatchConsumer(conn,
+         new GetChangelogBatchExtendedRequest(
+              new BeginningOfChangelogStartingPoint(), 4, 0L),
+         new TestProcessor(10L), 3, 2);
+
+    try
+    {
+      consumer.consume(0);
+      fail("Expected an exception when a change could not be processed");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    assertTrue(consumer.getBatchesReceived() < 7L);
+    assertTrue(consumer.getEntriesProcessed() < 25L);
+
+    final int checkpoint =
+         Integer.parseInt(consumer.getCheckpointResumeToken().stringValue());
+    assertTrue(checkpoint <= 9, "Checkpoint " + checkpoint);
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that processing can be resumed from the checkpoint after a
+   * change could not be processed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testResumeAfterProcessingFailure()
+         throws Exception
+  {
+    final LDAPConnection conn = ds.getConnection();
+
+    final TestProcessor processor = new TestProcessor(10L);
+    final ChangelogBatchConsumer consumer = new ChangelogBatchConsumer(conn,
+         new GetChangelogBatchExtendedRequest(
+              new BeginningOfChangelogStartingPoint(), 4, 0L),
+         processor, 3, 2);
+
+    try
+    {
+      consumer.consume(0);
+      fail("Expected an exception when a change could not be processed");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    assertEquals(consumer.getEntriesPending(), 0L);
+    final int checkpoint =
+         Integer.parseInt(consumer.getCheckpointResumeToken().stringValue());
+    assertTrue(checkpoint <= 9, "Checkpoint " + checkpoint);
+
+    processor.failChangeNumber = -1L;
+    GetChangelogBatchExtendedResult result = null;
+    for (int i=0; i < 7; i++)
+    {
+      result = consumer.consume(1);
+      if (! result.moreChangesAvailable())
+      {
+        break;
+      }
+    }
+    assertNotNull(result);
+    assertFalse(result.moreChangesAvailable());
+
+    assertEquals(consumer.getEntriesPending(), 0L);
+    assertEquals(consumer.getCheckpointResumeToken().stringValue(), "25");
+
+    // Every change after the checkpoint should have been processed, including
+    // the one that failed.
+    final boolean[] processed = new boolean[26];
+    for (final List<Long> changeNumbers : processor.changes.values())
+    {
+      for (final Long changeNumber : changeNumbers)
+      {
+        processed[changeNumber.intValue()] = true;
+      }
+    }
+
+    for (int i=checkpoint+1; i <= 25; i++)
+    {
+      assertTrue(processed[i], "Change " + i + " was not processed");
+    }
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that processing can be resumed after the consumer has been
+   * stopped, without skipping or repeating any changes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testResumeAfterStop()
+         throws Exception
+  {
+    final LDAPConnection conn = ds.getConnection();
+
+    final TestProcessor processor = new TestProcessor(-1L);
+    final ChangelogBatchConsumer consumer = new ChangelogBatchConsumer(conn,
+         new GetChangelogBatchExtendedRequest(
+              new BeginningOfChangelogStartingPoint(), 4, 0L),
+         processor, 3, 2);
+    processor.consumerToStop = consumer;
+    processor.stopChangeNumber = 6L;
+
+    // The batch containing the change that stops the consumer will be
+    // processed in its entirety, but no more batches will be requested.
+    GetChangelogBatchExtendedResult result = consumer.consume(0);
+    assertNotNull(result);
+    assertTrue(result.moreChangesAvailable());
+    assertEquals(consumer.getBatchesReceived(), 2L);
+    assertEquals(consumer.getEntriesProcessed(), 8L);
+    assertEquals(consumer.getCheckpointResumeToken().stringValue(), "8");
+
+    processor.consumerToStop = null;
+    for (int i=0; i < 7; i++)
+    {
+      result = consumer.consume(1);
+      assertNotNull(result);
+      if (! result.moreChangesAvailable())
+      {
+        break;
+      }
+    }
+    assertFalse(result.moreChangesAvailable());
+
+    assertEquals(consumer.getEntriesReceived(), 25L);
+    assertEquals(consumer.getEntriesProcessed(), 25L);
+    assertEquals(consumer.getCheckpointResumeToken().stringValue(), "25");
+
+    // Every change should have been processed exactly once.
+    final int[] timesProcessed = new int[26];
+    for (final List<Long> changeNumbers : processor.changes.values())
+    {
+      for (final Long changeNumber : changeNumbers)
+      {
+        timesProcessed[changeNumber.intValue()]++;
+      }
+    }
+
+    for (int i=1; i <= 25; i++)
+    {
+      assertEquals(timesProcessed[i], 1,
+           "Change " + i + " was processed " + timesProcessed[i] + " times");
+    }
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when the server does not support the get changelog
+   * batch extended operation.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testUnsupportedOperation()
+         throws Exception
+  {
+    final InMemoryDirectoryServer unsupportedDS =
+         new InMemoryDirectoryServer("dc=example,dc=com");
+    unsupportedDS.startListening();
+
+    final LDAPConnection conn = unsupportedDS.getConnection();
+    try
+    {
+      final ChangelogBatchConsumer consumer = new ChangelogBatchConsumer(conn,
+           new GetChangelogBatchExtendedRequest(
+                new BeginningOfChangelogStartingPoint(), 4, 0L),
+           new TestProcessor(-1L), 1, 1);
+      consumer.consume(1);
+    }
+    finally
+    {
+      conn.close();
+      unsupportedDS.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * A changelog entry listener that records the change numbers processed for
+   * each target DN, optionally failing for a specified change.
+   */
+  private static final class TestProcessor
+          implements ChangelogEntryListener
+  {
+    // The change numbers processed for each target DN.
+    private final ConcurrentHashMap<String,List<Long>> changes =
+         new ConcurrentHashMap<String,List<Long>>();
+
+    // The change number for which processing should fail.
+    private volatile long failChangeNumber;
+
+    // The consumer to stop after processing the change with the stop change
+    // number, if any.
+    private volatile ChangelogBatchConsumer consumerToStop;
+
+    // The change number after which the consumer should be stopped.
+    private volatile long stopChangeNumber = -1L;
+
+
+
+    /**
+     * Creates a new test processor.
+     *
+     * @param  failChangeNumber  The change number for which processing should
+     *                           fail, or -1 if all changes should succeed.
+     */
+    private TestProcessor(final long failChangeNumber)
+    {
+      this.failChangeNumber = failChangeNumber;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void handleChangelogEntry(
+                     final ChangelogEntryIntermediateResponse ir)
+    {
+      final long changeNumber = ir.getChangeLogEntry().getChangeNumber();
+      if (changeNumber == failChangeNumber)
+      {
+        throw new RuntimeException("Failed change " + changeNumber);
+      }
+
+      final String targetDN = ir.getChangeLogEntry().getTargetDN();
+      List<Long> l = changes.get(targetDN);
+      if (l == null)
+      {
+        l = Collections.synchronizedList(new ArrayList<Long>());
+        final List<Long> existing = changes.putIfAbsent(targetDN, l);
+        if (existing != null)
+        {
+          l = existing;
+        }
+      }
+
+      l.add(changeNumber);
+
+      final ChangelogBatchConsumer consumer = consumerToStop;
+      if ((consumer != null) && (changeNumber == stopChangeNumber))
+      {
+        consumer.stop();
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void handleMissingChangelogEntries(
+                     final MissingChangelogEntriesIntermediateResponse ir)
+    {
+      // No implementation required.
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void handleOtherIntermediateResponse(final IntermediateResponse ir)
+    {
+      // No implementation required.
+    }
+  }
+}
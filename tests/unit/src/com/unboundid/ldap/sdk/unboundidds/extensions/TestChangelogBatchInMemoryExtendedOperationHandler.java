@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.unboundidds.extensions;
+
+
+
+import java.util.Collections;
+import java.util.List;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.listener.InMemoryExtendedOperationHandler;
+import com.unboundid.ldap.listener.InMemoryRequestHandler;
+import com.unboundid.ldap.protocol.IntermediateResponseProtocolOp;
+import com.unboundid.ldap.sdk.ChangeLogEntry;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.ExtendedRequest;
+import com.unboundid.ldap.sdk.ExtendedResult;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPResult;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldif.LDIFException;
+
+
+
+/**
+ * This class provides an in-memory extended operation handler that simulates
+ * a changelog with a fixed set of changes for get changelog batch extended
+ * requests.  Change {@code i} targets entry {@code "dc=entry" + (i % numDNs)}
+ * and has a resume token with the string representation of {@code i+1}.
+ */
+public final class TestChangelogBatchInMemoryExtendedOperationHandler
+       extends InMemoryExtendedOperationHandler
+{
+  // The number of distinct target DNs to use.
+  private final int numDNs;
+
+  // The total number of changes in the simulated changelog.
+  private final int numChanges;
+
+
+
+  /**
+   * Creates a new instance of this extended operation handler with the provided
+   * information.
+   *
+   * @param  numChanges  The total number of changes in the simulated
+   *                     changelog.
+   * @param  numDNs      The number of distinct target DNs to use.
+   */
+  public TestChangelogBatchInMemoryExtendedOperationHandler(
+              final int numChanges, final int numDNs)
+  {
+    this.numChanges = numChanges;
+    this.numDNs     = numDNs;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public String getExtendedOperationHandlerName()
+  {
+    return "Test Get Changelog Batch";
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public List<String> getSupportedExtendedRequestOIDs()
+  {
+    return Collections.singletonList(
+         GetChangelogBatchExtendedRequest.GET_CHANGELOG_BATCH_REQUEST_OID);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public ExtendedResult processExtendedOperation(
+                             final InMemoryRequestHandler handler,
+                             final int messageID,
+                             final ExtendedRequest request)
+  {
+    try
+    {
+      final GetChangelogBatchExtendedRequest r =
+           new GetChangelogBatchExtendedRequest(request);
+
+      int pos = 0;
+      final ChangelogBatchStartingPoint startingPoint = r.getStartingPoint();
+      if (startingPoint instanceof ResumeWithTokenStartingPoint)
+      {
+        pos = Integer.parseInt(((ResumeWithTokenStartingPoint) startingPoint).
+             getResumeToken().stringValue());
+      }
+
+      int count = 0;
+      while ((pos < numChanges) && (count < r.getMaxChanges()))
+      {
+        final ChangeLogEntry e = new ChangeLogEntry(new Entry(
+             "dn: changeNumber=" + (pos+1) + ",cn=changelog",
+             "objectClass: top",
+             "objectClass: changeLogEntry",
+             "changeNumber: " + (pos+1),
+             "targetDN: dc=entry" + (pos % numDNs) + ",dc=example,dc=com",
+             "changeType: delete",
+             "changeTime: 20180101000000Z"));
+        pos++;
+        count++;
+
+        final ChangelogEntryIntermediateResponse ir =
+             new ChangelogEntryIntermediateResponse(e, "server",
+                  new ASN1OctetString(String.valueOf(pos)));
+        handler.getClientConnection().sendIntermediateResponse(messageID,
+             new IntermediateResponseProtocolOp(ir));
+      }
+
+      return new GetChangelogBatchExtendedResult(
+           new LDAPResult(messageID, ResultCode.SUCCESS), count,
+           new ASN1OctetString(String.valueOf(pos)), (pos < numChanges),
+           (numChanges - pos), false, null);
+    }
+    catch (final LDAPException le)
+    {
+      return new ExtendedResult(messageID, le.getResultCode(),
+           le.getMessage(), null, null, null, null, null);
+    }
+    catch (final LDIFException le)
+    {
+      return new ExtendedResult(messageID, ResultCode.OTHER,
+           le.getMessage(), null, null, null, null, null);
+    }
+  }
+}
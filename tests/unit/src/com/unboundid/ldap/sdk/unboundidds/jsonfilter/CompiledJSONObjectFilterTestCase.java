@@ -0,0 +1,207 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.unboundidds.jsonfilter;
+
+
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.util.json.JSONObject;
+import com.unboundid.util.json.JSONString;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code CompiledJSONObjectFilter} class.
+ */
+public final class CompiledJSONObjectFilterTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior of a compiled filter.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBasics()
+         throws Exception
+  {
+    final EqualsJSONObjectFilter filter =
+         new EqualsJSONObjectFilter("name", "Alice");
+    final CompiledJSONObjectFilter compiled =
+         new CompiledJSONObjectFilter(filter);
+
+    assertEquals(compiled.toJSONObject(), filter.toJSONObject());
+    assertEquals(compiled.toString(), filter.toString());
+    assertEquals(compiled.hashCode(), filter.hashCode());
+
+    assertTrue(compiled.matchesJSONObject(
+         new JSONObject("{ \"name\": \"alice\" }")));
+    assertFalse(compiled.matchesJSONObject(
+         new JSONObject("{ \"name\": \"bob\" }")));
+
+    assertTrue(compiled.matchesValue(
+         new ASN1OctetString("{ \"name\": \"ALICE\" }")));
+    assertFalse(compiled.matchesValue(
+         new ASN1OctetString("{ \"other\": \"alice\" }")));
+    assertFalse(compiled.matchesValue(
+         new ASN1OctetString("not a valid json object")));
+
+    assertTrue(compiled.matchesAnyValue(
+         new ASN1OctetString("{ \"name\": \"bob\" }"),
+         new ASN1OctetString("{ \"name\": \"alice\" }")));
+    assertFalse(compiled.matchesAnyValue(
+         new ASN1OctetString("{ \"name\": \"bob\" }")));
+    assertFalse(compiled.matchesAnyValue());
+
+    // Changes to the original filter must not affect the compiled filter.
+    final int hashCode = compiled.hashCode();
+    filter.setValue("Bob");
+    assertEquals(compiled.hashCode(), hashCode);
+    assertTrue(compiled.matchesValue(
+         new ASN1OctetString("{ \"name\": \"alice\" }")));
+    assertFalse(compiled.matchesValue(
+         new ASN1OctetString("{ \"name\": \"bob\" }")));
+  }
+
+
+
+  /**
+   * Tests the equals method.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEquals()
+         throws Exception
+  {
+    final CompiledJSONObjectFilter c1 = new CompiledJSONObjectFilter(
+         new EqualsJSONObjectFilter("name", "Alice"));
+    final CompiledJSONObjectFilter c2 = new CompiledJSONObjectFilter(
+         new EqualsJSONObjectFilter("name", "Alice"));
+    final CompiledJSONObjectFilter c3 = new CompiledJSONObjectFilter(
+         new EqualsJSONObjectFilter("name", "Bob"));
+
+    assertTrue(c1.equals(c1));
+    assertTrue(c1.equals(c2));
+    assertEquals(c1.hashCode(), c2.hashCode());
+    assertFalse(c1.equals(c3));
+    assertFalse(c1.equals(null));
+    assertFalse(c1.equals("foo"));
+  }
+
+
+
+  /**
+   * Tests the field names that are required for various types of filters.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRequiredFieldNames()
+         throws Exception
+  {
+    final LinkedHashSet<String> names = new LinkedHashSet<String>(10);
+    new ANDJSONObjectFilter(
+         new EqualsJSONObjectFilter(Arrays.asList("a", "b"),
+              new JSONString("x")),
+         new ContainsFieldJSONObjectFilter("c"),
+         new ObjectMatchesJSONObjectFilter("d",
+              new SubstringJSONObjectFilter("e", "x", null, null)),
+         new ORJSONObjectFilter(new ContainsFieldJSONObjectFilter("f")),
+         new NegateJSONObjectFilter(new ContainsFieldJSONObjectFilter("g"))
+    ).addFieldNamesRequiredForMatch(names);
+
+    assertEquals(names,
+         new LinkedHashSet<String>(Arrays.asList("a", "b", "c", "d", "e")));
+  }
+
+
+
+  /**
+   * Tests to ensure that the compiled filter produces the same results as the
+   * original filter for a variety of filters and values, including values
+   * that can be rejected without being parsed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConsistentWithFilter()
+         throws Exception
+  {
+    final JSONObjectFilter[] filters =
+    {
+      new EqualsJSONObjectFilter("name", "Alice"),
+      new ContainsFieldJSONObjectFilter("nested", "inner"),
+      new ANDJSONObjectFilter(
+           new ContainsFieldJSONObjectFilter("name"),
+           new ContainsFieldJSONObjectFilter("missing")),
+      new ORJSONObjectFilter(
+           new ContainsFieldJSONObjectFilter("name"),
+           new ContainsFieldJSONObjectFilter("missing")),
+      new NegateJSONObjectFilter(new ContainsFieldJSONObjectFilter("missing")),
+      new ObjectMatchesJSONObjectFilter("nested",
+           new EqualsJSONObjectFilter("inner", "value")),
+      new ContainsFieldJSONObjectFilter("quote\"name"),
+      new ANDJSONObjectFilter()
+    };
+
+    final String[] values =
+    {
+      "{ \"name\": \"Alice\" }",
+      "{ \"n\\u0061me\": \"Alice\" }",
+      "{ \"nested\": { \"inner\": \"value\" } }",
+      "{ \"nested\": [ { \"inner\": \"VALUE\" }, 5 ] }",
+      "{ \"name\": \"Bob\", \"missing\": null }",
+      "{ \"quote\\\"name\": true }",
+      "{ \"other\": \"name\" }",
+      "{ }",
+      "malformed"
+    };
+
+    for (final JSONObjectFilter filter : filters)
+    {
+      final CompiledJSONObjectFilter compiled =
+           new CompiledJSONObjectFilter(filter);
+      for (final String value : values)
+      {
+        boolean expected;
+        try
+        {
+          expected = filter.matchesJSONObject(new JSONObject(value));
+        }
+        catch (final Exception e)
+        {
+          expected = false;
+        }
+
+        assertEquals(compiled.matchesValue(new ASN1OctetString(value)),
+             expected, "Filter " + filter + " with value " + value);
+      }
+    }
+  }
+}
@@ -147,4 +147,52 @@ public final class JSONObjectExactMatchingRuleTestCase
       // This was expected.
     }
   }
+
+
+
+  /**
+   * Tests the behavior of the caches of parsed and normalized values.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testValueCaches()
+         throws Exception
+  {
+    final JSONObjectExactMatchingRule mr =
+         JSONObjectExactMatchingRule.getInstance();
+
+    final ASN1OctetString value =
+         new ASN1OctetString("{ \"b\": \"Foo\", \"a\": 1 }");
+    final ASN1OctetString normalized = mr.normalize(value);
+    assertEquals(normalized.stringValue(),
+         new JSONObject(value.stringValue()).toNormalizedString());
+    assertSame(mr.normalize(new ASN1OctetString(value.stringValue())),
+         normalized);
+
+    final JSONObject o = JSONObjectExactMatchingRule.getJSONObject(value);
+    assertEquals(o, new JSONObject(value.stringValue()));
+    assertSame(JSONObjectExactMatchingRule.getJSONObject(value), o);
+
+    // Make sure that the caches remain usable after they have been filled.
+    for (int i=0;
+         i < (JSONObjectExactMatchingRule.MAX_CACHED_VALUES + 10); i++)
+    {
+      final ASN1OctetString v =
+           new ASN1OctetString("{ \"i\": " + i + " }");
+      assertTrue(mr.valuesMatch(v, mr.normalize(v)));
+    }
+
+    assertEquals(mr.normalize(value), normalized);
+
+    try
+    {
+      mr.normalize(new ASN1OctetString("malformed"));
+      fail("Expected an exception when normalizing a malformed value");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+  }
 }
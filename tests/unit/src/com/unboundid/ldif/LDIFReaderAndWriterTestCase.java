@@ -9318,6 +9318,171 @@ public class LDIFReaderAndWriterTestCase
 
 
 
+  /**
+   * Tests the behavior when writing individual records asynchronously with
+   * multiple threads, ensuring that the output is identical to that generated
+   * when writing the same records synchronously.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteIndividualRecordsAsynchronously()
+         throws Exception
+  {
+    final ByteArrayOutputStream syncOutput = new ByteArrayOutputStream();
+    writeIndividualRecords(
+         new LDIFWriter(syncOutput, 0, 0, this, this));
+
+    final ByteArrayOutputStream asyncOutput = new ByteArrayOutputStream();
+    writeIndividualRecords(
+         new LDIFWriter(asyncOutput, 4, 10, this, this));
+
+    assertTrue(syncOutput.size() > 0);
+    assertEquals(asyncOutput.toByteArray(), syncOutput.toByteArray());
+
+    final LDIFReader r = new LDIFReader(
+         new ByteArrayInputStream(asyncOutput.toByteArray()));
+    for (int i=0; i < 500; i++)
+    {
+      if ((i % 50) == 7)
+      {
+        continue;
+      }
+
+      assertEquals(r.readEntry().getDN(), "dc=entry" + i + ",dc=com");
+      if ((i % 100) == 0)
+      {
+        assertEquals(r.readChangeRecord().getDN(), "dc=entry" + i + ",dc=com");
+      }
+    }
+
+    assertNull(r.readEntry());
+    r.close();
+  }
+
+
+
+  /**
+   * Writes a set of entries, change records, and comments to the provided
+   * writer using the per-record write methods, and then closes it.
+   *
+   * @param  w  The writer to which the records should be written.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void writeIndividualRecords(final LDIFWriter w)
+          throws Exception
+  {
+    w.setWrapColumn(40);
+    w.writeVersionHeader();
+
+    for (int i=0; i < 500; i++)
+    {
+      final String description;
+      if ((i % 50) == 7)
+      {
+        description = "suppress";
+      }
+      else
+      {
+        description = "a description value that is long enough to wrap";
+      }
+
+      final Entry e = new Entry(
+           "dn: dc=entry" + i + ",dc=com",
+           "objectClass: top",
+           "objectClass: domain",
+           "dc: entry" + i,
+           "description: " + description);
+      if ((i % 3) == 0)
+      {
+        w.writeEntry(e, "comment for entry " + i);
+      }
+      else if ((i % 3) == 1)
+      {
+        w.writeLDIFRecord(e);
+      }
+      else
+      {
+        w.writeEntry(e);
+      }
+
+      if ((i % 100) == 0)
+      {
+        w.writeChangeRecord(new LDIFDeleteChangeRecord(e.getDN()),
+             "a comment with\nmultiple lines");
+        w.writeComment("an interleaved comment", true, true);
+      }
+
+      if ((i % 250) == 0)
+      {
+        w.flush();
+      }
+    }
+
+    w.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when an error occurs while encoding a record that is to
+   * be written asynchronously.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteIndividualRecordsAsynchronouslyError()
+         throws Exception
+  {
+    final LDIFWriterEntryTranslator translator =
+         new LDIFWriterEntryTranslator()
+         {
+           public Entry translateEntryToWrite(final Entry original)
+           {
+             if (original.hasAttributeValue("description", "fail"))
+             {
+               throw new IllegalStateException("translation failed");
+             }
+
+             return original;
+           }
+         };
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final LDIFWriter w = new LDIFWriter(output, 2, 5, translator, null);
+
+    w.writeEntry(new Entry(
+         "dn: dc=one,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: one"));
+    w.writeEntry(new Entry(
+         "dn: dc=two,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: two",
+         "description: fail"));
+
+    try
+    {
+      w.close();
+      fail("Expected an exception when closing a writer with a failed record");
+    }
+    catch (final IllegalStateException e)
+    {
+      // This was expected.
+    }
+
+    final LDIFReader r =
+         new LDIFReader(new ByteArrayInputStream(output.toByteArray()));
+    assertEquals(r.readEntry().getDN(), "dc=one,dc=com");
+    assertNull(r.readEntry());
+    r.close();
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -27,6 +27,7 @@ import java.io.File;
 import org.testng.annotations.Test;
 
 import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.DNCache;
 import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
 import com.unboundid.ldap.sdk.ResultCode;
@@ -328,4 +329,53 @@ public final class DNFileReaderTestCase
     assertNull(r.readDN());
     r.close();
   }
+
+
+
+  /**
+   * Tests the behavior when reading a file with a DN cache.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testFileWithDNCache()
+         throws Exception
+  {
+    final File f = createTempFile(
+         "uid=user.1,ou=People,dc=example,dc=com",
+         "dn: uid=user.2,ou=People,dc=example,dc=com",
+         "uid=user.1,ou=People,dc=example,dc=com",
+         "malformed");
+
+    final DNCache dnCache = new DNCache(100);
+    final DNFileReader r = new DNFileReader(f, dnCache);
+
+    final DN dn1 = r.readDN();
+    assertNotNull(dn1);
+    assertEquals(dn1.toString(), "uid=user.1,ou=People,dc=example,dc=com");
+
+    final DN dn2 = r.readDN();
+    assertNotNull(dn2);
+    assertEquals(dn2.toString(), "uid=user.2,ou=People,dc=example,dc=com");
+    assertSame(dn2.getParent(), dn1.getParent());
+
+    final DN dn3 = r.readDN();
+    assertSame(dn3, dn1);
+
+    try
+    {
+      r.readDN();
+      fail("Expected an exception when reading a malformed DN");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.INVALID_DN_SYNTAX);
+    }
+
+    assertNull(r.readDN());
+    r.close();
+
+    assertEquals(dnCache.getCacheHits(), 1L);
+    assertEquals(dnCache.getCacheMisses(), 3L);
+  }
 }
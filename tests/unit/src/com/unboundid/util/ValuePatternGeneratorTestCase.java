@@ -0,0 +1,295 @@
+/*
+ * Copyright 2018 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright (C) 2018 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.File;
+import java.text.DecimalFormat;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the ValuePatternGenerator class.
+ */
+public class ValuePatternGeneratorTestCase
+       extends UtilTestCase
+{
+  /**
+   * Tests the behavior of a generator that is not associated with a partition
+   * and therefore shares its state with the value pattern.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSharedGenerator()
+         throws Exception
+  {
+    final ValuePattern p =
+         new ValuePattern("uid=user.[1:10],dc=example,dc=com");
+
+    final ValuePatternGenerator g = p.newGenerator();
+    assertNotNull(g);
+    assertSame(g.getValuePattern(), p);
+    assertEquals(g.toString(), p.toString());
+
+    assertEquals(p.nextValue(), "uid=user.1,dc=example,dc=com");
+    assertEquals(g.nextValue(), "uid=user.2,dc=example,dc=com");
+    assertEquals(p.nextValue(), "uid=user.3,dc=example,dc=com");
+    assertEquals(g.nextValue(), "uid=user.4,dc=example,dc=com");
+  }
+
+
+
+  /**
+   * Retrieves a set of sequential value patterns that may be used to test
+   * partitioned generators.
+   *
+   * @return  A set of sequential value patterns that may be used to test
+   *          partitioned generators.
+   */
+  @DataProvider(name="sequentialPatterns")
+  public Object[][] getSequentialPatterns()
+  {
+    return new Object[][]
+    {
+      new Object[] { "static text" },
+      new Object[] { "[1:10]" },
+      new Object[] { "[10:1]" },
+      new Object[] { "[1:10x3]" },
+      new Object[] { "[10:1x3]" },
+      new Object[] { "[1:10x-1]" },
+      new Object[] { "u[1:10x-3]" },
+      new Object[] { "u[1:10x-4]" },
+      new Object[] { "[10:1x-1]" },
+      new Object[] { "[10:1x-4]" },
+      new Object[] { "[-3:7x-2]" },
+      new Object[] { "[5:5]" },
+      new Object[] { "[1:3x5]" },
+      new Object[] { "[-5:5x2%000]" },
+      new Object[] { "uid=user.[0:20x2%0000],ou=org[1:3],dc=example,dc=com" },
+      new Object[] { "[1:7]-[ref:1]-[[x]]-[1:2]" }
+    };
+  }
+
+
+
+  /**
+   * Tests to ensure that a set of partitioned generators used in round-robin
+   * order will generate the same values as the value pattern itself.
+   *
+   * @param  pattern  The pattern to test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="sequentialPatterns")
+  public void testPartitionedGenerators(final String pattern)
+         throws Exception
+  {
+    for (final int numPartitions : new int[] { 1, 2, 3, 4, 7, 25 })
+    {
+      final ValuePattern sharedPattern = new ValuePattern(pattern);
+      final ValuePattern partitionedPattern = new ValuePattern(pattern);
+
+      final ValuePatternGenerator[] generators =
+           new ValuePatternGenerator[numPartitions];
+      for (int i=0; i < numPartitions; i++)
+      {
+        generators[i] = partitionedPattern.newGenerator(i, numPartitions);
+      }
+
+      for (int i=0; i < 100; i++)
+      {
+        for (final ValuePatternGenerator g : generators)
+        {
+          assertEquals(g.nextValue(), sharedPattern.nextValue(),
+               "numPartitions=" + numPartitions);
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests partitioned generators with a sequential file component.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPartitionedSequentialFile()
+         throws Exception
+  {
+    final File f = createTempFile("a", "b", "c", "d", "e");
+    final String pattern = "[sequentialfile:" + f.getAbsolutePath() + ']';
+
+    final ValuePattern sharedPattern = new ValuePattern(pattern);
+    final ValuePattern partitionedPattern = new ValuePattern(pattern);
+
+    final ValuePatternGenerator g0 = partitionedPattern.newGenerator(0, 2);
+    final ValuePatternGenerator g1 = partitionedPattern.newGenerator(1, 2);
+    for (int i=0; i < 20; i++)
+    {
+      assertEquals(g0.nextValue(), sharedPattern.nextValue());
+      assertEquals(g1.nextValue(), sharedPattern.nextValue());
+    }
+  }
+
+
+
+  /**
+   * Tests partitioned generators with a pattern that includes random
+   * components, which will be shared by all of the generators.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPartitionedRandom()
+         throws Exception
+  {
+    final ValuePattern p = new ValuePattern("[1:5]-[1-5]-[random:5:abc]");
+    final ValuePatternGenerator g = p.newGenerator(1, 5);
+    for (int i=0; i < 10; i++)
+    {
+      final String value = g.nextValue();
+      assertTrue(value.startsWith("2-"), value);
+      assertEquals(value.length(), 9, value);
+    }
+  }
+
+
+
+  /**
+   * Tests the methods used to generate values as bytes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testGenerateBytes()
+         throws Exception
+  {
+    final ValuePatternGenerator g =
+         new ValuePattern("cn=user [1:3]").newGenerator(0, 1);
+
+    assertEquals(g.nextValueBytes(), StaticUtils.getBytes("cn=user 1"));
+    assertEquals(g.nextValueAsOctetString().stringValue(), "cn=user 2");
+
+    final ByteStringBuffer buffer = new ByteStringBuffer();
+    buffer.append("prefix ");
+    g.nextValue(buffer);
+    assertEquals(buffer.toString(), "prefix cn=user 3");
+
+
+    // Test with values that include non-ASCII characters.
+    final String nonASCII = "J\u00f6rg \u00dcberm\u00e4\u00dfig ";
+    final ValuePatternGenerator g2 =
+         new ValuePattern(nonASCII + "[1:3]").newGenerator();
+
+    assertEquals(g2.nextValueBytes(), StaticUtils.getBytes(nonASCII + '1'));
+    assertEquals(g2.nextValueAsOctetString().stringValue(), nonASCII + '2');
+
+    buffer.clear();
+    buffer.append("prefix ");
+    g2.nextValue(buffer);
+    assertEquals(buffer.toString(), "prefix " + nonASCII + '3');
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create a generator with an invalid
+   * partition.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInvalidPartitions()
+         throws Exception
+  {
+    final ValuePattern p = new ValuePattern("[1:10]");
+
+    final int[][] invalidPartitions =
+    {
+      new int[] { 0, 0 },
+      new int[] { -1, 1 },
+      new int[] { 1, 1 },
+      new int[] { 5, 3 }
+    };
+
+    for (final int[] partition : invalidPartitions)
+    {
+      try
+      {
+        p.newGenerator(partition[0], partition[1]);
+        fail("Expected an exception for partition " + partition[0] + " of " +
+             partition[1]);
+      }
+      catch (final LDAPSDKUsageException e)
+      {
+        // This was expected.
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that numbers formatted without a decimal format are the
+   * same as those formatted with a decimal format.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNumberFormatting()
+         throws Exception
+  {
+    assertEquals(ValuePatternComponent.getMinimumDigits(null), 1);
+    assertEquals(ValuePatternComponent.getMinimumDigits("0"), 1);
+    assertEquals(ValuePatternComponent.getMinimumDigits("000"), 3);
+    assertEquals(ValuePatternComponent.getMinimumDigits("##00"), 2);
+    assertEquals(ValuePatternComponent.getMinimumDigits("#"), -1);
+    assertEquals(ValuePatternComponent.getMinimumDigits("0#"), -1);
+    assertEquals(ValuePatternComponent.getMinimumDigits("#,##0"), -1);
+    assertEquals(ValuePatternComponent.getMinimumDigits("0.00"), -1);
+
+    final long[] values =
+    {
+      0L, 1L, -1L, 9L, 10L, -10L, 123L, 12345L, -12345L, 1234567890L,
+      Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1L
+    };
+
+    for (final String format : new String[] { "0", "00", "000", "#0000" })
+    {
+      final DecimalFormat f = new DecimalFormat(format);
+      final int minDigits = ValuePatternComponent.getMinimumDigits(format);
+      for (final long value : values)
+      {
+        final StringBuilder buffer = new StringBuilder("x");
+        ValuePatternComponent.appendNumber(buffer, value, minDigits);
+        assertEquals(buffer.toString(), 'x' + f.format(value),
+             "format=" + format + ", value=" + value);
+      }
+    }
+  }
+}
@@ -23,7 +23,13 @@ package com.unboundid.util.json;
 
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 
 import org.testng.annotations.DataProvider;
@@ -432,6 +438,218 @@ public final class JSONObjectReaderTestCase
 
 
 
+  /**
+   * Tests the ability to read objects that are larger than the read buffer from
+   * an input stream that only returns a few bytes at a time.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadLargeObjectsInSmallChunks()
+         throws Exception
+  {
+    final StringBuilder buffer = new StringBuilder();
+    final ArrayList<String> objectStrings = new ArrayList<String>(10);
+    for (int i=0; i < 10; i++)
+    {
+      final StringBuilder objectBuffer = new StringBuilder();
+      objectBuffer.append("{ \"id\":");
+      objectBuffer.append(i);
+      objectBuffer.append(", \"values\":[");
+      for (int j=0; j < 500; j++)
+      {
+        if (j > 0)
+        {
+          objectBuffer.append(',');
+        }
+
+        switch (j % 5)
+        {
+          case 0:
+            objectBuffer.append("\"ascii value ").append(j).append('"');
+            break;
+          case 1:
+            objectBuffer.append("\"escaped\\t\\u00e9 value\"");
+            break;
+          case 2:
+            objectBuffer.append("\"non-ascii \u00e9\u4e2d value\"");
+            break;
+          case 3:
+            objectBuffer.append(-1234567890123L * j);
+            break;
+          default:
+            objectBuffer.append("{ \"a\":1.5e3, \"b\":[true,false,null] }");
+            break;
+        }
+      }
+      objectBuffer.append("] }");
+
+      final String objectString = objectBuffer.toString();
+      objectStrings.add(objectString);
+      buffer.append(objectString);
+      buffer.append("\n# comment\n");
+    }
+
+    final JSONObjectReader reader = new JSONObjectReader(
+         new SmallChunkInputStream(new ByteArrayInputStream(
+              buffer.toString().getBytes("UTF-8"))));
+
+    for (final String objectString : objectStrings)
+    {
+      final JSONObject o = reader.readObject();
+      assertNotNull(o);
+      assertEquals(o, new JSONObject(objectString));
+      assertEquals(o.toString(), objectString);
+    }
+
+    assertNull(reader.readObject());
+    reader.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when reading numbers, including those that can and
+   * cannot be decoded without using their string representations.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadNumbers()
+         throws Exception
+  {
+    final String[] validNumbers =
+    {
+      "0", "-1", "1", "123456789012345678", "-123456789012345678",
+      "1234567890123456789", "12345678901234567890123", "1.5", "-0", "-0.0",
+      "1e5", "1E-5", "-2.5e+10"
+    };
+
+    for (final String n : validNumbers)
+    {
+      final JSONObjectReader reader = new JSONObjectReader(
+           new ByteArrayInputStream(("{\"n\":" + n + "}").getBytes("UTF-8")));
+      final JSONObject o = reader.readObject();
+      assertNotNull(o);
+      assertEquals(o.getField("n"), new JSONNumber(n));
+      assertEquals(o.getField("n").toString(), n);
+      reader.close();
+    }
+
+    final String[] invalidNumbers = { "-", "01", "-01", "1.", "1e", "1-2" };
+    for (final String n : invalidNumbers)
+    {
+      final JSONObjectReader reader = new JSONObjectReader(
+           new ByteArrayInputStream(("{\"n\":" + n + "}").getBytes("UTF-8")));
+      try
+      {
+        reader.readObject();
+        fail("Expected an exception when reading number " + n);
+      }
+      catch (final JSONException e)
+      {
+        // This was expected.
+      }
+      finally
+      {
+        reader.close();
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests the ability to read only selected fields from objects.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadObjectWithSelectedFields()
+         throws Exception
+  {
+    final String s =
+         "{ \"timestamp\":\"2018-01-01T00:00:00Z\", " +
+              "\"skipped-array\":[ 1, \"two\", [ 3 ], { \"four\":4 } ], " +
+              "\"message-id\":12, " +
+              "\"skipped-object\":{ \"a\":{ \"b\":[ ] }, \"c\":\"\\\"}\" }, " +
+              "\"request\":{ \"base\":\"dc=example,dc=com\" } }\n" +
+         "{ \"message-id\":13 }\n" +
+         "{ }\n";
+
+    final JSONObjectReader reader = new JSONObjectReader(
+         new ByteArrayInputStream(s.getBytes("UTF-8")));
+
+    final HashSet<String> fieldNames = new HashSet<String>(Arrays.asList(
+         "timestamp", "message-id", "request", "missing"));
+
+    JSONObject o = reader.readObject(fieldNames);
+    assertNotNull(o);
+    assertEquals(o.getFields().size(), 3);
+    assertEquals(o.getField("timestamp"),
+         new JSONString("2018-01-01T00:00:00Z"));
+    assertEquals(o.getField("message-id"), new JSONNumber(12));
+    assertEquals(o.getField("request"),
+         new JSONObject(new JSONField("base", "dc=example,dc=com")));
+    assertNull(o.getField("skipped-array"));
+    assertNull(o.getField("skipped-object"));
+
+    o = reader.readObject(fieldNames);
+    assertNotNull(o);
+    assertEquals(o, new JSONObject(new JSONField("message-id", 13)));
+
+    o = reader.readObject(Collections.<String>emptySet());
+    assertNotNull(o);
+    assertEquals(o, JSONObject.EMPTY_OBJECT);
+
+    assertNull(reader.readObject(fieldNames));
+    reader.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that reading selected fields will still reject invalid
+   * content in fields that are not selected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadObjectWithSelectedFieldsInvalidSkippedContent()
+         throws Exception
+  {
+    final String[] invalidStrings =
+    {
+      "{ \"a\":1, \"b\":[ 1, ] }",
+      "{ \"a\":1, \"b\":{ \"c\":1, \"c\":2 } }",
+      "{ \"a\":1, \"b\":2, \"b\":3 }",
+      "{ \"a\":1, \"b\":tru }",
+      "{ \"a\":1, \"b\":\"unterminated }"
+    };
+
+    final HashSet<String> fieldNames = new HashSet<String>(Arrays.asList("a"));
+    for (final String s : invalidStrings)
+    {
+      final JSONObjectReader reader = new JSONObjectReader(
+           new ByteArrayInputStream(s.getBytes("UTF-8")));
+      try
+      {
+        reader.readObject(fieldNames);
+        fail("Expected an exception when reading " + s);
+      }
+      catch (final JSONException e)
+      {
+        // This was expected.
+      }
+      finally
+      {
+        reader.close();
+      }
+    }
+  }
+
+
+
   /**
    * Retrieves a set of test data that can be used to test the ability to decode
    * valid JSON strings to their corresponding objects.
@@ -466,4 +684,35 @@ public final class JSONObjectReaderTestCase
   {
     return new JSONObjectTestCase().getInvalidObjectStrings();
   }
+
+
+
+  /**
+   * An input stream that returns at most a few bytes from each read.
+   */
+  private static final class SmallChunkInputStream
+          extends FilterInputStream
+  {
+    /**
+     * Creates a new small chunk input stream that wraps the provided stream.
+     *
+     * @param  in  The input stream to wrap.
+     */
+    private SmallChunkInputStream(final InputStream in)
+    {
+      super(in);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public int read(final byte[] b, final int off, final int len)
+           throws IOException
+    {
+      return super.read(b, off, Math.min(len, 7));
+    }
+  }
 }
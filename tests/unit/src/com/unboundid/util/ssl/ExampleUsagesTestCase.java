@@ -33,6 +33,7 @@ import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
 import com.unboundid.ldap.listener.InMemoryListenerConfig;
 import com.unboundid.ldap.sdk.ExtendedResult;
 import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPConnectionPool;
 import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
 import com.unboundid.ldap.sdk.ResultCode;
@@ -165,4 +166,54 @@ public final class ExampleUsagesTestCase
     ds.shutDown(true);
     assertNotNull(rootDSE);
   }
+
+
+
+  /**
+   * Tests the third example in the {@code SSLUtil} class.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSSLUtilExample3()
+         throws Exception
+  {
+    /* ----- BEGIN PRE-EXAMPLE SETUP ----- */
+    InMemoryDirectoryServer ds = getTestDSWithSSL();
+    final String serverAddress = "localhost";
+    final int serverSSLPort = ds.getListenPort();
+
+    final File resourceDir = new File(System.getProperty("unit.resource.dir"));
+    final String trustStorePath =
+         new File(resourceDir, "server.keystore").getAbsolutePath();
+
+
+    /* ----- BEGIN EXAMPLE CODE ----- */
+    // Create an SSLUtil instance with a shared cache of up to 100 sessions that
+    // may each be resumed for up to one hour.
+    SSLUtil sslUtil = new SSLUtil(new TrustStoreTrustManager(trustStorePath));
+    sslUtil.enableTLSSessionCache(100, 3600);
+
+    // Create a connection pool that uses a socket factory from that instance.
+    LDAPConnection connection =
+         new LDAPConnection(sslUtil.createSSLSocketFactory());
+    connection.connect(serverAddress, serverSSLPort);
+    LDAPConnectionPool connectionPool = new LDAPConnectionPool(connection, 10);
+
+    // Process operations using the pool....
+    RootDSE rootDSE = connectionPool.getRootDSE();
+
+    // Determine how many handshakes were able to resume a cached session.
+    TLSSessionCacheStatistics cacheStatistics =
+         sslUtil.getTLSSessionCacheStatistics();
+    long numResumedHandshakes = cacheStatistics.getNumResumedHandshakes();
+
+    connectionPool.close();
+    /* ----- END EXAMPLE CODE ----- */
+
+
+    /* ----- BEGIN POST-EXAMPLE CLEANUP ----- */
+    assertNotNull(rootDSE);
+    assertTrue(numResumedHandshakes >= 0L);
+  }
 }
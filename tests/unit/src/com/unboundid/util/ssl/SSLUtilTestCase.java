@@ -40,6 +40,7 @@ import com.unboundid.ldap.sdk.LDAPConnection;
 import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.ResultCode;
 import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
+import com.unboundid.util.LDAPSDKUsageException;
 
 
 
@@ -1135,4 +1136,171 @@ public class SSLUtilTestCase
       s.close();
     }
   }
+
+
+
+  /**
+   * Tests the methods used to enable and disable the shared TLS session cache.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEnableAndDisableTLSSessionCache()
+         throws Exception
+  {
+    final SSLUtil sslUtil = new SSLUtil(new TrustAllTrustManager());
+    assertFalse(sslUtil.isTLSSessionCacheEnabled());
+    assertNull(sslUtil.getTLSSessionCacheStatistics());
+    assertTrue(sslUtil.createSSLSocketFactory() instanceof
+         SetEnabledProtocolsSSLSocketFactory);
+
+    sslUtil.enableTLSSessionCache(10, 60);
+    assertTrue(sslUtil.isTLSSessionCacheEnabled());
+
+    final TLSSessionCacheStatistics statistics =
+         sslUtil.getTLSSessionCacheStatistics();
+    assertNotNull(statistics);
+    assertEquals(statistics.getNumHandshakes(), 0L);
+    assertEquals(statistics.getNumFullHandshakes(), 0L);
+    assertEquals(statistics.getNumResumedHandshakes(), 0L);
+    assertEquals(statistics.getResumptionHitPercent(), 0.0d);
+    assertNotNull(statistics.toString());
+
+    assertNotNull(sslUtil.createSSLSocketFactory());
+    assertNotNull(sslUtil.createSSLSocketFactory("TLSv1.2"));
+
+    sslUtil.disableTLSSessionCache();
+    assertFalse(sslUtil.isTLSSessionCacheEnabled());
+    assertNull(sslUtil.getTLSSessionCacheStatistics());
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to enable the shared TLS session cache with
+   * an invalid maximum number of cached sessions.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testEnableTLSSessionCacheInvalidSize()
+         throws Exception
+  {
+    new SSLUtil().enableTLSSessionCache(0, 60);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to enable the shared TLS session cache with
+   * an invalid session timeout.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testEnableTLSSessionCacheInvalidTimeout()
+         throws Exception
+  {
+    new SSLUtil().enableTLSSessionCache(10, 0);
+  }
+
+
+
+  /**
+   * Tests that connections created with different socket factories from the
+   * same {@code SSLUtil} instance are able to resume a session cached by the
+   * shared TLS session cache, and that the resumed handshakes are reflected in
+   * the statistics.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testTLSSessionCacheResumption()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDSWithSSL();
+
+    final SSLUtil sslUtil = new SSLUtil(new TrustAllTrustManager());
+    sslUtil.enableTLSSessionCache(100, 3600);
+
+    final TLSSessionCacheStatistics statistics =
+         sslUtil.getTLSSessionCacheStatistics();
+    for (int i=0; i < 5; i++)
+    {
+      final LDAPConnection conn = new LDAPConnection(
+           sslUtil.createSSLSocketFactory(), "localhost", ds.getListenPort());
+      assertNotNull(conn.getRootDSE());
+      conn.close();
+
+      // Handshake completed listeners are notified asynchronously, so wait
+      // for the statistics to be updated before creating the next connection.
+      waitForHandshakes(statistics, (i+1));
+    }
+
+    assertEquals(statistics.getNumHandshakes(), 5L);
+    assertEquals(statistics.getNumFullHandshakes(), 1L);
+    assertEquals(statistics.getNumResumedHandshakes(), 4L);
+    assertEquals(statistics.getResumptionHitPercent(), 80.0d);
+
+    statistics.reset();
+    assertEquals(statistics.getNumHandshakes(), 0L);
+  }
+
+
+
+  /**
+   * Tests that replacing the shared TLS session cache prevents new connections
+   * from resuming sessions established with the previous cache.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReplaceTLSSessionCache()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDSWithSSL();
+
+    final SSLUtil sslUtil = new SSLUtil(new TrustAllTrustManager());
+    for (int i=1; i <= 2; i++)
+    {
+      sslUtil.enableTLSSessionCache(100, 3600);
+      final TLSSessionCacheStatistics statistics =
+           sslUtil.getTLSSessionCacheStatistics();
+
+      final LDAPConnection conn = new LDAPConnection(
+           sslUtil.createSSLSocketFactory(), "localhost", ds.getListenPort());
+      assertNotNull(conn.getRootDSE());
+      conn.close();
+
+      waitForHandshakes(statistics, 1);
+      assertEquals(statistics.getNumFullHandshakes(), 1L);
+      assertEquals(statistics.getNumResumedHandshakes(), 0L);
+    }
+  }
+
+
+
+  /**
+   * Waits for the provided statistics to reflect at least the specified
+   * number of completed handshakes.
+   *
+   * @param  statistics     The statistics to examine.
+   * @param  numHandshakes  The number of handshakes to wait for.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void waitForHandshakes(
+                           final TLSSessionCacheStatistics statistics,
+                           final int numHandshakes)
+          throws Exception
+  {
+    final long stopWaitingTime = System.currentTimeMillis() + 10000L;
+    while ((statistics.getNumHandshakes() < numHandshakes) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+    {
+      Thread.sleep(1L);
+    }
+
+    assertEquals(statistics.getNumHandshakes(), numHandshakes);
+  }
 }